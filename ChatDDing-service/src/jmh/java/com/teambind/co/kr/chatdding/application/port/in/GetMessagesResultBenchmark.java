@@ -0,0 +1,63 @@
+package com.teambind.co.kr.chatdding.application.port.in;
+
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.Message;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 메시지 목록 응답 변환 (메시지별 읽음 수 계산 포함)
+ */
+@State(Scope.Benchmark)
+public class GetMessagesResultBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"2", "100"})
+    private int participantCount;
+
+    private ChatRoom chatRoom;
+    private List<Message> messages;
+    private UserId requesterId;
+
+    @Setup
+    public void setUp() {
+        RoomId roomId = RoomId.of(1L);
+        requesterId = UserId.of(1L);
+        List<UserId> memberIds = LongStream.rangeClosed(2, participantCount)
+                .mapToObj(UserId::of)
+                .toList();
+        chatRoom = participantCount == 2
+                ? ChatRoom.createDm(roomId, requesterId, memberIds.get(0))
+                : ChatRoom.createGroup(roomId, requesterId, memberIds, "benchmark");
+
+        messages = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            UserId senderId = i % 2 == 0 ? requesterId : memberIds.get(i % memberIds.size());
+            messages.add(Message.create(MessageId.of(1_000L - i), roomId, senderId, "benchmark message " + i));
+        }
+
+        // 참여자 절반은 페이지 중간까지 읽은 상태
+        MessageId watermark = messages.get(PAGE_SIZE / 2).getId();
+        LocalDateTime now = LocalDateTime.now();
+        chatRoom.getParticipants().stream()
+                .limit(participantCount / 2)
+                .forEach(p -> p.advanceReadWatermark(watermark, now));
+    }
+
+    @Benchmark
+    public GetMessagesResult of() {
+        return GetMessagesResult.of(messages, chatRoom, requesterId, PAGE_SIZE);
+    }
+}
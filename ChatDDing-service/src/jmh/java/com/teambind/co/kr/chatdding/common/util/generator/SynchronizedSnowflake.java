@@ -0,0 +1,54 @@
+package com.teambind.co.kr.chatdding.common.util.generator;
+
+/**
+ * 비교 기준용 기존 synchronized 구현 (lock-free 전환 이전)
+ */
+class SynchronizedSnowflake {
+
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final int NODE_ID_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
+    private static final long CUSTOM_EPOCH = 1704067200000L;
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    SynchronizedSnowflake(long nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    synchronized long nextId() {
+        long currentTimestamp = System.currentTimeMillis();
+
+        if (currentTimestamp < lastTimestamp) {
+            currentTimestamp = waitNextMillis(lastTimestamp);
+        }
+
+        if (currentTimestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                currentTimestamp = waitNextMillis(currentTimestamp);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = currentTimestamp;
+
+        return ((currentTimestamp - CUSTOM_EPOCH) << TIMESTAMP_SHIFT)
+                | (nodeId << NODE_ID_SHIFT)
+                | sequence;
+    }
+
+    private long waitNextMillis(long lastTimestamp) {
+        long timestamp = System.currentTimeMillis();
+        while (timestamp <= lastTimestamp) {
+            Thread.yield();
+            timestamp = System.currentTimeMillis();
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,71 @@
+package com.teambind.co.kr.chatdding.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 블로킹 요청 경로 처리량 - Platform Thread 풀 vs Virtual Thread ({@code spring.threads.virtual.enabled})
+ *
+ * <p>메시지 전송 한 건을 MongoDB 저장, Redis 갱신, Kafka ack 대기의 블로킹 지연({@code ioLatencyMs})으로 모사하고,
+ * 호출당 {@value #BURST}건을 동시에 제출해 모두 끝날 때까지 기다린다. 결과는 요청당 처리량(ops/ms)</p>
+ * <ul>
+ *   <li>{@code platform}: Tomcat 기본 {@code server.tomcat.threads.max}와 같은 {@value #PLATFORM_POOL_SIZE}개 스레드 풀.
+ *       동시 처리 수가 풀 크기로 제한된다</li>
+ *   <li>{@code virtual}: 요청마다 Virtual Thread. 블로킹 중에는 carrier에서 분리되어 동시 처리 수가 burst까지 늘어난다</li>
+ * </ul>
+ * <p>동시 처리 수와 요청당 메모리는 {@link RequestThreadingLoadTest}로 측정한다</p>
+ */
+@State(Scope.Benchmark)
+public class RequestThreadingBenchmark {
+
+    static final int BURST = 2_000;
+    static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"5", "20"})
+    private int ioLatencyMs;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void sendBurst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BURST);
+        for (int i = 0; i < BURST; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(ioLatencyMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+}
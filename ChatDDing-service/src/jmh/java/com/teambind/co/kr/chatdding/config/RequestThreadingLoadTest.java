@@ -0,0 +1,100 @@
+package com.teambind.co.kr.chatdding.config;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 블로킹 요청 경로 부하 테스트 - 최대 동시 처리 수와 처리 중 요청당 힙 사용량
+ *
+ * <p>burst건을 한꺼번에 제출하고 모든 요청을 블로킹 지점(게이트)에 붙잡은 상태에서 동시 처리 수와 힙 증가량을 잰다.
+ * 처리량 비교는 {@link RequestThreadingBenchmark}로 한다. 각 요청은 {@code stackDepth}만큼 호출 스택을 쌓은 뒤 블로킹해
+ * 컨트롤러 → UseCase → Adapter로 이어지는 실제 요청 스택을 흉내 낸다</p>
+ * <p>Virtual Thread의 스택은 힙에 저장되므로 힙 증가량에 포함된다. Platform Thread 스택은 힙 밖에
+ * 스레드당 {@code -Xss}(기본 1MB)만큼 예약되므로 출력의 live threads × Xss를 별도로 더해서 본다.
+ * Platform 모드의 힙 증가량에는 풀에 들어가지 못하고 큐에서 기다리는 요청도 포함된다</p>
+ *
+ * <pre>
+ * ./gradlew jmhJar
+ * java -cp build/libs/*-jmh.jar com.teambind.co.kr.chatdding.config.RequestThreadingLoadTest [burst] [stackDepth]
+ * </pre>
+ */
+public final class RequestThreadingLoadTest {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private RequestThreadingLoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int burst = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int stackDepth = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+
+        System.out.printf("burst=%d, stackDepth=%d%n", burst, stackDepth);
+        System.out.printf("%-8s | %12s | %12s | %20s%n", "mode", "in-flight", "live threads", "heap bytes/in-flight");
+
+        run("platform", Executors.newFixedThreadPool(RequestThreadingBenchmark.PLATFORM_POOL_SIZE),
+                Math.min(burst, RequestThreadingBenchmark.PLATFORM_POOL_SIZE), burst, stackDepth);
+        run("virtual", Executors.newVirtualThreadPerTaskExecutor(), burst, burst, stackDepth);
+    }
+
+    private static void run(String mode, ExecutorService executor, int expectedInFlight,
+                            int burst, int stackDepth) throws InterruptedException {
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(burst);
+        AtomicInteger inFlight = new AtomicInteger();
+
+        long heapBefore = usedHeapAfterGc();
+        for (int i = 0; i < burst; i++) {
+            executor.execute(() -> {
+                try {
+                    descend(stackDepth, () -> {
+                        inFlight.incrementAndGet();
+                        gate.await();
+                    });
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        while (inFlight.get() < expectedInFlight) {
+            Thread.sleep(1);
+        }
+        int peakInFlight = inFlight.get();
+        long heapPerInFlight = (usedHeapAfterGc() - heapBefore) / peakInFlight;
+        int liveThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        gate.countDown();
+        done.await();
+        executor.shutdown();
+
+        System.out.printf("%-8s | %12d | %12d | %20d%n", mode, peakInFlight, liveThreads, heapPerInFlight);
+    }
+
+    private static void descend(int depth, BlockingCall call) throws InterruptedException {
+        if (depth == 0) {
+            call.run();
+            return;
+        }
+        descend(depth - 1, call);
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 2; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+
+    @FunctionalInterface
+    private interface BlockingCall {
+        void run() throws InterruptedException;
+    }
+}
@@ -0,0 +1,57 @@
+package com.teambind.co.kr.chatdding.domain.chatroom;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 참여자 조회 경로 (메시지 전송/조회마다 호출)
+ *
+ * <p>participants 수는 DM(2) ~ GROUP 최대(100)</p>
+ */
+@State(Scope.Benchmark)
+public class ChatRoomBenchmark {
+
+    @Param({"2", "100"})
+    private int participantCount;
+
+    private ChatRoom chatRoom;
+    private UserId lastParticipant;
+    private UserId stranger;
+
+    @Setup
+    public void setUp() {
+        UserId ownerId = UserId.of(1L);
+        if (participantCount == 2) {
+            chatRoom = ChatRoom.createDm(RoomId.of(1L), ownerId, UserId.of(2L));
+        } else {
+            List<UserId> memberIds = LongStream.rangeClosed(2, participantCount)
+                    .mapToObj(UserId::of)
+                    .toList();
+            chatRoom = ChatRoom.createGroup(RoomId.of(1L), ownerId, memberIds, "benchmark");
+        }
+        lastParticipant = UserId.of((long) participantCount);
+        stranger = UserId.of(Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public boolean isParticipant_hit() {
+        return chatRoom.isParticipant(lastParticipant);
+    }
+
+    @Benchmark
+    public boolean isParticipant_miss() {
+        return chatRoom.isParticipant(stranger);
+    }
+
+    @Benchmark
+    public List<Long> getSortedParticipantIdValues() {
+        return chatRoom.getSortedParticipantIdValues();
+    }
+}
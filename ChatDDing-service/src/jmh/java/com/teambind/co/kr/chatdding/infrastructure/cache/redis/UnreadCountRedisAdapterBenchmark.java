@@ -0,0 +1,81 @@
+package com.teambind.co.kr.chatdding.infrastructure.cache.redis;
+
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 그룹 메시지 1건당 안읽은 수 증가 지연 (수신자별 INCR+EXPIRE vs 파이프라인)
+ *
+ * <p>실제 Redis가 필요하다 (기본 localhost:6379, {@code -Dredis.host}/{@code -Dredis.port}로 변경).
+ * SampleTime 모드로 실행하여 JSON 결과에 p99가 포함된다</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UnreadCountRedisAdapterBenchmark {
+
+    @Param({"1", "10", "99"})
+    private int recipientCount;
+
+    private LettuceConnectionFactory connectionFactory;
+    private UnreadCountRedisAdapter adapter;
+    private RoomId roomId;
+    private List<UserId> recipientIds;
+
+    @Setup
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("redis.host", "localhost"),
+                Integer.getInteger("redis.port", 6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        adapter = new UnreadCountRedisAdapter(redisTemplate, new SimpleMeterRegistry());
+        roomId = RoomId.of(Long.MAX_VALUE);
+        recipientIds = LongStream.rangeClosed(1, recipientCount)
+                .mapToObj(UserId::of)
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public void perRecipient() {
+        for (UserId recipientId : recipientIds) {
+            adapter.incrementUnreadCount(roomId, recipientId);
+        }
+    }
+
+    @Benchmark
+    public void pipelined() {
+        adapter.incrementUnreadCounts(roomId, recipientIds);
+    }
+}
@@ -0,0 +1,71 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teambind.co.kr.chatdding.domain.event.MessageSentEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+/**
+ * 이벤트 발행 경로의 직렬화 비용 (브로커 전송 제외)
+ *
+ * <p>KafkaTemplate.send를 즉시 완료되는 Future로 대체하여 topic/key 결정 + JSON 직렬화만 측정</p>
+ */
+@State(Scope.Benchmark)
+public class KafkaEventPublisherBenchmark {
+
+    private ObjectMapper objectMapper;
+    private KafkaEventPublisher publisher;
+    private MessageSentEvent dmEvent;
+    private MessageSentEvent groupEvent;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        KafkaTemplate<String, byte[]> kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(Map.of())) {
+            @Override
+            public CompletableFuture<SendResult<String, byte[]>> send(String topic, String key, byte[] data) {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        publisher = new KafkaEventPublisher(kafkaTemplate, objectMapper, new SimpleMeterRegistry());
+
+        String content = "안녕하세요, 예약 관련해서 문의드립니다. ".repeat(5);
+        dmEvent = new MessageSentEvent("1000", "1", 1L, content, content.substring(0, 50),
+                List.of(2L), LocalDateTime.now());
+        groupEvent = new MessageSentEvent("1000", "1", 1L, content, content.substring(0, 50),
+                LongStream.rangeClosed(2, 100).boxed().toList(), LocalDateTime.now());
+    }
+
+    @Benchmark
+    public void publishDm() {
+        publisher.publish(dmEvent);
+    }
+
+    @Benchmark
+    public void publishGroup() {
+        publisher.publish(groupEvent);
+    }
+
+    @Benchmark
+    public void serializeGroup(Blackhole blackhole) throws Exception {
+        blackhole.consume(objectMapper.writeValueAsBytes(groupEvent));
+    }
+}
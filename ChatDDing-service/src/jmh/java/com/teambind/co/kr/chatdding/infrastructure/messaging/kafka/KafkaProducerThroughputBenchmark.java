@@ -0,0 +1,110 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teambind.co.kr.chatdding.domain.event.MessageSentEvent;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+/**
+ * 임베디드 Kafka 브로커 대상 Producer 처리량 (직렬화 + 배치 + 압축 + ack 포함)
+ *
+ * <p>호출당 {@value #BATCH}건을 전송하고 모든 ack를 기다린다. 결과는 건당 처리량(ops/s)</p>
+ * <ul>
+ *   <li>{@code string}: 기존 경로 - writeValueAsString 후 JsonSerializer로 한 번 더 인코딩</li>
+ *   <li>{@code bytes}: KafkaConfig 경로 - writeValueAsBytes 결과를 ByteArraySerializer로 그대로 전송</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class KafkaProducerThroughputBenchmark {
+
+    private static final int BATCH = 1_000;
+    private static final String TOPIC = "chat-message-sent";
+
+    @Param({"string", "bytes"})
+    private String encoding;
+
+    @Param({"none", "lz4", "zstd"})
+    private String compressionType;
+
+    @Param({"0", "10"})
+    private int lingerMs;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private DefaultKafkaProducerFactory<String, ?> producerFactory;
+    private KafkaTemplate<String, String> stringTemplate;
+    private KafkaTemplate<String, byte[]> bytesTemplate;
+    private ObjectMapper objectMapper;
+    private MessageSentEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+
+        KafkaProducerProfile profile = new KafkaProducerProfile("all", true, compressionType, lingerMs,
+                65_536, 67_108_864L, 5, 5_000L, 10_000, 30_000);
+        Map<String, Object> properties = new HashMap<>(profile.toProducerProperties());
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+
+        if ("bytes".equals(encoding)) {
+            DefaultKafkaProducerFactory<String, byte[]> factory =
+                    new DefaultKafkaProducerFactory<>(properties, new StringSerializer(), new ByteArraySerializer());
+            producerFactory = factory;
+            bytesTemplate = new KafkaTemplate<>(factory);
+        } else {
+            DefaultKafkaProducerFactory<String, String> factory =
+                    new DefaultKafkaProducerFactory<>(properties, new StringSerializer(), new JsonSerializer<>());
+            producerFactory = factory;
+            stringTemplate = new KafkaTemplate<>(factory);
+        }
+
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        String content = "안녕하세요, 예약 관련해서 문의드립니다. ".repeat(5);
+        event = new MessageSentEvent("1000", "1", 1L, content, content.substring(0, 50),
+                LongStream.rangeClosed(2, 20).boxed().toList(), LocalDateTime.now());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        producerFactory.destroy();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void sendBatch() throws Exception {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            String key = String.valueOf(i % 64);
+            futures[i] = "bytes".equals(encoding)
+                    ? bytesTemplate.send(TOPIC, key, objectMapper.writeValueAsBytes(event))
+                    : stringTemplate.send(TOPIC, key, objectMapper.writeValueAsString(event));
+        }
+        CompletableFuture.allOf(futures).get();
+    }
+}
@@ -0,0 +1,70 @@
+package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document;
+
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage;
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.Message;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Domain ↔ MongoDB Document 변환
+ */
+@State(Scope.Benchmark)
+public class DocumentMappingBenchmark {
+
+    @Param({"2", "100"})
+    private int participantCount;
+
+    private Message message;
+    private MessageDocument messageDocument;
+    private ChatRoom chatRoom;
+    private ChatRoomDocument chatRoomDocument;
+
+    @Setup
+    public void setUp() {
+        RoomId roomId = RoomId.of(1L);
+        UserId ownerId = UserId.of(1L);
+        List<UserId> memberIds = LongStream.rangeClosed(2, participantCount)
+                .mapToObj(UserId::of)
+                .toList();
+
+        message = Message.create(MessageId.of(1_000L), roomId, ownerId, "benchmark message");
+        message.deleteFor(memberIds.get(0));
+        messageDocument = MessageDocument.from(message);
+
+        chatRoom = participantCount == 2
+                ? ChatRoom.createDm(roomId, ownerId, memberIds.get(0))
+                : ChatRoom.createGroup(roomId, ownerId, memberIds, "benchmark");
+        chatRoom.updateLastMessage(LastMessage.from(message));
+        chatRoomDocument = ChatRoomDocument.from(chatRoom);
+    }
+
+    @Benchmark
+    public MessageDocument messageFrom() {
+        return MessageDocument.from(message);
+    }
+
+    @Benchmark
+    public Message messageToDomain() {
+        return messageDocument.toDomain();
+    }
+
+    @Benchmark
+    public ChatRoomDocument chatRoomFrom() {
+        return ChatRoomDocument.from(chatRoom);
+    }
+
+    @Benchmark
+    public ChatRoom chatRoomToDomain() {
+        return chatRoomDocument.toDomain();
+    }
+}
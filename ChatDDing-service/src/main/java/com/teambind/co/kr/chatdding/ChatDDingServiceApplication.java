@@ -3,8 +3,10 @@ package com.teambind.co.kr.chatdding;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 @EnableMongoRepositories(basePackages = "com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository")
 public class ChatDDingServiceApplication {
 	
@@ -7,6 +7,7 @@ import com.teambind.co.kr.chatdding.adapter.in.web.dto.response.CreateDmResponse
 import com.teambind.co.kr.chatdding.adapter.in.web.dto.response.CreateGroupResponse;
 import com.teambind.co.kr.chatdding.adapter.in.web.dto.response.GetChatRoomDetailResponse;
 import com.teambind.co.kr.chatdding.adapter.in.web.dto.response.GetChatRoomsResponse;
+import com.teambind.co.kr.chatdding.adapter.in.web.dto.response.GetUnreadBadgeResponse;
 import com.teambind.co.kr.chatdding.application.port.in.CreateDmResult;
 import com.teambind.co.kr.chatdding.application.port.in.CreateDmUseCase;
 import com.teambind.co.kr.chatdding.application.port.in.CreateGroupResult;
@@ -17,6 +18,9 @@ import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomDetailUseCase
 import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomsQuery;
 import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomsResult;
 import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomsUseCase;
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeQuery;
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeResult;
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeUseCase;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -44,6 +48,7 @@ public class ChatRoomController {
     private final GetChatRoomDetailUseCase getChatRoomDetailUseCase;
     private final CreateDmUseCase createDmUseCase;
     private final CreateGroupUseCase createGroupUseCase;
+    private final GetUnreadBadgeUseCase getUnreadBadgeUseCase;
 
     /**
      * 채팅방 목록 조회
@@ -51,19 +56,38 @@ public class ChatRoomController {
      * GET /api/v1/rooms
      * GET /api/v1/rooms?type=DM
      * GET /api/v1/rooms?type=PLACE_INQUIRY
+     * GET /api/v1/rooms?cursor={nextCursor}&limit=20
      */
     @GetMapping
     public ResponseEntity<ApiResponse<GetChatRoomsResponse>> getChatRooms(
             @RequestHeader("X-User-Id") Long userId,
-            @RequestParam(required = false) ChatRoomType type
+            @RequestParam(required = false) ChatRoomType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ) {
         GetChatRoomsResult result = getChatRoomsUseCase.execute(
-                GetChatRoomsQuery.of(userId, type)
+                GetChatRoomsQuery.of(userId, type, cursor, limit)
         );
 
         return ResponseEntity.ok(ApiResponse.success(GetChatRoomsResponse.from(result)));
     }
 
+    /**
+     * 전체 안읽은 메시지 수 조회 (앱 뱃지)
+     *
+     * GET /api/v1/rooms/unread-count
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<GetUnreadBadgeResponse>> getUnreadBadge(
+            @RequestHeader("X-User-Id") Long userId
+    ) {
+        GetUnreadBadgeResult result = getUnreadBadgeUseCase.execute(
+                GetUnreadBadgeQuery.of(userId)
+        );
+
+        return ResponseEntity.ok(ApiResponse.success(GetUnreadBadgeResponse.from(result)));
+    }
+
     /**
      * 채팅방 상세 조회
      *
@@ -0,0 +1,42 @@
+package com.teambind.co.kr.chatdding.adapter.in.web.controller;
+
+import com.teambind.co.kr.chatdding.adapter.in.web.dto.ApiResponse;
+import com.teambind.co.kr.chatdding.adapter.in.web.dto.response.ReplayDeadLetterResponse;
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterCommand;
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterResult;
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Dead Letter 운영 API Controller (Web Adapter)
+ */
+@RestController
+@RequestMapping("/api/v1/chat/admin/dead-letters")
+@RequiredArgsConstructor
+public class DeadLetterController {
+
+    private final ReplayDeadLetterUseCase replayDeadLetterUseCase;
+
+    /**
+     * DLT 이벤트를 원본 토픽으로 재발행
+     *
+     * POST /api/v1/chat/admin/dead-letters/{topic}/replay?limit=100
+     */
+    @PostMapping("/{topic}/replay")
+    public ResponseEntity<ApiResponse<ReplayDeadLetterResponse>> replay(
+            @PathVariable String topic,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        ReplayDeadLetterResult result = replayDeadLetterUseCase.execute(
+                ReplayDeadLetterCommand.of(topic, limit)
+        );
+
+        return ResponseEntity.ok(ApiResponse.success(ReplayDeadLetterResponse.from(result)));
+    }
+}
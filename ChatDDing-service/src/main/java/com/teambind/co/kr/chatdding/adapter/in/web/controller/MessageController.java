@@ -66,19 +66,21 @@ public class MessageController {
     }
 
     /**
-     * 메시지 목록 조회 (커서 기반 페이징)
+     * 메시지 목록 조회 (커서 기반 페이징 / since 기반 델타 동기화)
      *
      * GET /api/v1/rooms/{roomId}/messages
+     * GET /api/v1/rooms/{roomId}/messages?since={messageId}
      */
     @GetMapping
     public ResponseEntity<ApiResponse<GetMessagesResponse>> getMessages(
             @PathVariable String roomId,
             @RequestHeader("X-User-Id") Long userId,
             @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String since,
             @RequestParam(defaultValue = "50") Integer limit
     ) {
         GetMessagesResult result = getMessagesUseCase.execute(
-                GetMessagesQuery.of(roomId, userId, cursor, limit)
+                GetMessagesQuery.of(roomId, userId, cursor, since, limit)
         );
 
         return ResponseEntity.ok(ApiResponse.success(GetMessagesResponse.from(result)));
@@ -10,7 +10,9 @@ import java.util.List;
  * 채팅방 목록 조회 API 응답 DTO
  */
 public record GetChatRoomsResponse(
-        List<ChatRoomItem> chatRooms
+        List<ChatRoomItem> chatRooms,
+        String nextCursor,
+        boolean hasMore
 ) {
 
     public static GetChatRoomsResponse from(GetChatRoomsResult result) {
@@ -27,7 +29,7 @@ public record GetChatRoomsResponse(
                 ))
                 .toList();
 
-        return new GetChatRoomsResponse(items);
+        return new GetChatRoomsResponse(items, result.nextCursor(), result.hasMore());
     }
 
     public record ChatRoomItem(
@@ -11,7 +11,8 @@ import java.util.List;
 public record GetMessagesResponse(
         List<MessageItem> messages,
         String nextCursor,
-        boolean hasMore
+        boolean hasMore,
+        boolean resyncRequired
 ) {
 
     public static GetMessagesResponse from(GetMessagesResult result) {
@@ -27,7 +28,7 @@ public record GetMessagesResponse(
                 ))
                 .toList();
 
-        return new GetMessagesResponse(items, result.nextCursor(), result.hasMore());
+        return new GetMessagesResponse(items, result.nextCursor(), result.hasMore(), result.resyncRequired());
     }
 
     public record MessageItem(
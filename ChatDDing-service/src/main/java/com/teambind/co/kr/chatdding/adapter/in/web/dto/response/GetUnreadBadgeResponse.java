@@ -0,0 +1,15 @@
+package com.teambind.co.kr.chatdding.adapter.in.web.dto.response;
+
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeResult;
+
+/**
+ * 전체 안읽은 메시지 수(앱 뱃지) API 응답 DTO
+ */
+public record GetUnreadBadgeResponse(
+        long totalUnreadCount
+) {
+
+    public static GetUnreadBadgeResponse from(GetUnreadBadgeResult result) {
+        return new GetUnreadBadgeResponse(result.totalUnreadCount());
+    }
+}
@@ -0,0 +1,19 @@
+package com.teambind.co.kr.chatdding.adapter.in.web.dto.response;
+
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterResult;
+
+/**
+ * Dead Letter 재처리 Response DTO
+ */
+public record ReplayDeadLetterResponse(
+        String topic,
+        int replayed
+) {
+
+    public static ReplayDeadLetterResponse from(ReplayDeadLetterResult result) {
+        return new ReplayDeadLetterResponse(
+                result.topic(),
+                result.replayed()
+        );
+    }
+}
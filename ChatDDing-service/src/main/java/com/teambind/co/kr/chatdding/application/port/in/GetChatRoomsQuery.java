@@ -1,5 +1,6 @@
 package com.teambind.co.kr.chatdding.application.port.in;
 
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomCursor;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
 
@@ -8,23 +9,49 @@ import com.teambind.co.kr.chatdding.domain.common.UserId;
  *
  * @param userId 요청자 ID
  * @param type   채팅방 타입 (nullable, null이면 전체 조회)
+ * @param cursor 이전 페이지 마지막 위치 (nullable, null이면 최신부터)
+ * @param limit  조회 개수
  */
 public record GetChatRoomsQuery(
         UserId userId,
-        ChatRoomType type
+        ChatRoomType type,
+        ChatRoomCursor cursor,
+        int limit
 ) {
 
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
     public GetChatRoomsQuery {
         if (userId == null) {
             throw new IllegalArgumentException("userId cannot be null");
         }
+        if (limit <= 0) {
+            limit = DEFAULT_LIMIT;
+        }
+        if (limit > MAX_LIMIT) {
+            limit = MAX_LIMIT;
+        }
     }
 
     public static GetChatRoomsQuery of(Long userId) {
-        return new GetChatRoomsQuery(UserId.of(userId), null);
+        return new GetChatRoomsQuery(UserId.of(userId), null, null, DEFAULT_LIMIT);
     }
 
     public static GetChatRoomsQuery of(Long userId, ChatRoomType type) {
-        return new GetChatRoomsQuery(UserId.of(userId), type);
+        return new GetChatRoomsQuery(UserId.of(userId), type, null, DEFAULT_LIMIT);
+    }
+
+    public static GetChatRoomsQuery of(Long userId, ChatRoomType type, String cursor, Integer limit) {
+        return new GetChatRoomsQuery(
+                UserId.of(userId),
+                type,
+                cursor != null && !cursor.isBlank() ? ChatRoomCursor.fromString(cursor) : null,
+                limit != null ? limit : DEFAULT_LIMIT
+        );
+    }
+
+    public boolean hasCursor() {
+        return cursor != null;
     }
 }
@@ -3,7 +3,7 @@ package com.teambind.co.kr.chatdding.application.port.in;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomContext;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType;
-import com.teambind.co.kr.chatdding.domain.message.Message;
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,7 +12,9 @@ import java.util.List;
  * 채팅방 목록 조회 결과 DTO
  */
 public record GetChatRoomsResult(
-        List<ChatRoomItem> chatRooms
+        List<ChatRoomItem> chatRooms,
+        String nextCursor,
+        boolean hasMore
 ) {
 
     public record ChatRoomItem(
@@ -25,11 +27,13 @@ public record GetChatRoomsResult(
             long unreadCount,
             ContextDto context
     ) {
-        public static ChatRoomItem from(ChatRoom chatRoom, Message lastMessage, long unreadCount) {
+        public static ChatRoomItem from(ChatRoom chatRoom, long unreadCount) {
             List<Long> participantIds = chatRoom.getParticipantIds().stream()
                     .map(id -> id.getValue())
                     .toList();
 
+            LastMessage lastMessage = chatRoom.getLastMessage();
+
             ContextDto contextDto = null;
             if (chatRoom.getContext() != null) {
                 ChatRoomContext ctx = chatRoom.getContext();
@@ -45,7 +49,7 @@ public record GetChatRoomsResult(
                     chatRoom.getType(),
                     chatRoom.getName(),
                     participantIds,
-                    lastMessage != null ? lastMessage.getContentPreview() : null,
+                    lastMessage != null ? lastMessage.preview() : null,
                     chatRoom.getLastMessageAt(),
                     unreadCount,
                     contextDto
@@ -53,6 +57,10 @@ public record GetChatRoomsResult(
         }
     }
 
+    public static GetChatRoomsResult of(List<ChatRoomItem> chatRooms, String nextCursor, boolean hasMore) {
+        return new GetChatRoomsResult(chatRooms, nextCursor, hasMore);
+    }
+
     public record ContextDto(
             String contextType,
             Long contextId,
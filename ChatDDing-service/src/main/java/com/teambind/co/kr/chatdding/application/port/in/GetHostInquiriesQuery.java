@@ -1,5 +1,6 @@
 package com.teambind.co.kr.chatdding.application.port.in;
 
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomCursor;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
 
 /**
@@ -7,13 +8,13 @@ import com.teambind.co.kr.chatdding.domain.common.UserId;
  *
  * @param hostId  호스트 ID
  * @param placeId 공간 ID (선택, 필터링용)
- * @param cursor  페이지네이션 커서 (선택)
+ * @param cursor  이전 페이지 마지막 위치 (선택)
  * @param limit   조회 개수
  */
 public record GetHostInquiriesQuery(
         UserId hostId,
         Long placeId,
-        String cursor,
+        ChatRoomCursor cursor,
         int limit
 ) {
 
@@ -35,7 +36,12 @@ public record GetHostInquiriesQuery(
     }
 
     public static GetHostInquiriesQuery of(Long hostId, Long placeId, String cursor, int limit) {
-        return new GetHostInquiriesQuery(UserId.of(hostId), placeId, cursor, limit);
+        return new GetHostInquiriesQuery(
+                UserId.of(hostId),
+                placeId,
+                cursor != null && !cursor.isBlank() ? ChatRoomCursor.fromString(cursor) : null,
+                limit
+        );
     }
 
     public boolean hasPlaceIdFilter() {
@@ -43,6 +49,6 @@ public record GetHostInquiriesQuery(
     }
 
     public boolean hasCursor() {
-        return cursor != null && !cursor.isBlank();
+        return cursor != null;
     }
 }
@@ -7,15 +7,20 @@ import com.teambind.co.kr.chatdding.domain.message.MessageId;
 /**
  * 메시지 조회 Query DTO
  *
+ * <p>sinceId를 지정하면 델타 동기화 모드로 해당 메시지 이후의 메시지만 오름차순으로 조회하며,
+ * limit을 넘는 경우 메시지 대신 재동기화 신호를 반환한다</p>
+ *
  * @param roomId   채팅방 ID
  * @param userId   요청자 ID (권한 검증용)
  * @param cursorId 커서 메시지 ID (이 메시지 이전 것들을 조회, null이면 최신부터)
- * @param limit    조회할 메시지 수
+ * @param sinceId  델타 동기화 기준 메시지 ID (이 메시지 이후 것들을 조회, cursorId와 함께 지정 불가)
+ * @param limit    조회할 메시지 수 (델타 동기화에서는 재동기화 임계값)
  */
 public record GetMessagesQuery(
         RoomId roomId,
         UserId userId,
         MessageId cursorId,
+        MessageId sinceId,
         int limit
 ) {
 
@@ -29,6 +34,9 @@ public record GetMessagesQuery(
         if (userId == null) {
             throw new IllegalArgumentException("userId cannot be null");
         }
+        if (cursorId != null && sinceId != null) {
+            throw new IllegalArgumentException("cursor and since cannot be used together");
+        }
         if (limit <= 0) {
             limit = DEFAULT_LIMIT;
         }
@@ -37,16 +45,25 @@ public record GetMessagesQuery(
         }
     }
 
-    public static GetMessagesQuery of(String roomId, Long userId, String cursorId, Integer limit) {
+    public static GetMessagesQuery of(String roomId, Long userId, String cursorId, String sinceId, Integer limit) {
         return new GetMessagesQuery(
                 RoomId.fromString(roomId),
                 UserId.of(userId),
-                cursorId != null && !cursorId.isBlank() ? MessageId.fromString(cursorId) : null,
+                toMessageId(cursorId),
+                toMessageId(sinceId),
                 limit != null ? limit : DEFAULT_LIMIT
         );
     }
 
+    private static MessageId toMessageId(String value) {
+        return value != null && !value.isBlank() ? MessageId.fromString(value) : null;
+    }
+
     public boolean hasCursor() {
         return cursorId != null;
     }
+
+    public boolean isDeltaSync() {
+        return sinceId != null;
+    }
 }
@@ -1,5 +1,6 @@
 package com.teambind.co.kr.chatdding.application.port.in;
 
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
 import com.teambind.co.kr.chatdding.domain.message.Message;
 
@@ -8,18 +9,22 @@ import java.util.List;
 
 /**
  * 메시지 조회 결과 DTO
+ *
+ * @param resyncRequired 델타 동기화 대상이 임계값을 넘어 클라이언트가 첫 페이지부터 다시 조회해야 함 (messages는 비어 있음)
  */
 public record GetMessagesResult(
         List<MessageItem> messages,
         String nextCursor,
-        boolean hasMore
+        boolean hasMore,
+        boolean resyncRequired
 ) {
 
     private static final String DELETED_MESSAGE_CONTENT = "삭제된 메시지입니다";
 
-    public static GetMessagesResult of(List<Message> messages, UserId requesterId, int requestedLimit) {
+    public static GetMessagesResult of(List<Message> messages, ChatRoom chatRoom,
+                                       UserId requesterId, int requestedLimit) {
         List<MessageItem> items = messages.stream()
-                .map(message -> MessageItem.from(message, requesterId))
+                .map(message -> MessageItem.from(message, chatRoom, requesterId))
                 .toList();
 
         boolean hasMore = messages.size() >= requestedLimit;
@@ -27,7 +32,25 @@ public record GetMessagesResult(
                 ? messages.get(messages.size() - 1).getId().toStringValue()
                 : null;
 
-        return new GetMessagesResult(items, nextCursor, hasMore);
+        return new GetMessagesResult(items, nextCursor, hasMore, false);
+    }
+
+    /**
+     * 델타 동기화 결과 (오름차순, 다음 페이지 없음)
+     */
+    public static GetMessagesResult since(List<Message> messages, ChatRoom chatRoom, UserId requesterId) {
+        List<MessageItem> items = messages.stream()
+                .map(message -> MessageItem.from(message, chatRoom, requesterId))
+                .toList();
+
+        return new GetMessagesResult(items, null, false, false);
+    }
+
+    /**
+     * 델타 동기화 재동기화 신호
+     */
+    public static GetMessagesResult resync() {
+        return new GetMessagesResult(List.of(), null, false, true);
     }
 
     public record MessageItem(
@@ -39,7 +62,10 @@ public record GetMessagesResult(
             boolean deleted,
             LocalDateTime createdAt
     ) {
-        public static MessageItem from(Message message, UserId requesterId) {
+        /**
+         * readCount는 참여자 읽음 워터마크 기준으로 계산
+         */
+        public static MessageItem from(Message message, ChatRoom chatRoom, UserId requesterId) {
             boolean isDeleted = message.isDeletedFor(requesterId);
             String displayContent = isDeleted ? DELETED_MESSAGE_CONTENT : message.getContent();
 
@@ -48,7 +74,7 @@ public record GetMessagesResult(
                     message.getRoomId().toStringValue(),
                     message.getSenderId().getValue(),
                     displayContent,
-                    message.getReadCount(),
+                    chatRoom.countReadersOf(message),
                     isDeleted,
                     message.getCreatedAt()
             );
@@ -0,0 +1,23 @@
+package com.teambind.co.kr.chatdding.application.port.in;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+
+/**
+ * 전체 안읽은 메시지 수(앱 뱃지) 조회 Query DTO
+ *
+ * @param userId 요청자 ID
+ */
+public record GetUnreadBadgeQuery(
+        UserId userId
+) {
+
+    public GetUnreadBadgeQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId cannot be null");
+        }
+    }
+
+    public static GetUnreadBadgeQuery of(Long userId) {
+        return new GetUnreadBadgeQuery(UserId.of(userId));
+    }
+}
@@ -0,0 +1,11 @@
+package com.teambind.co.kr.chatdding.application.port.in;
+
+/**
+ * 전체 안읽은 메시지 수(앱 뱃지) 조회 결과 DTO
+ *
+ * @param totalUnreadCount 모든 활성 채팅방의 안읽은 메시지 수 합계
+ */
+public record GetUnreadBadgeResult(
+        long totalUnreadCount
+) {
+}
@@ -0,0 +1,15 @@
+package com.teambind.co.kr.chatdding.application.port.in;
+
+/**
+ * 전체 안읽은 메시지 수(앱 뱃지) 조회 UseCase Port
+ */
+public interface GetUnreadBadgeUseCase {
+
+    /**
+     * 전체 안읽은 메시지 수 조회
+     *
+     * @param query 조회 쿼리
+     * @return 앱 뱃지 결과
+     */
+    GetUnreadBadgeResult execute(GetUnreadBadgeQuery query);
+}
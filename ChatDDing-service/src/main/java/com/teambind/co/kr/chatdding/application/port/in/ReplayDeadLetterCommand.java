@@ -0,0 +1,28 @@
+package com.teambind.co.kr.chatdding.application.port.in;
+
+/**
+ * Dead Letter 재처리 Command DTO
+ *
+ * @param topic 원본 토픽 (DLT는 {@code {topic}.DLT})
+ * @param limit 최대 재처리 건수
+ */
+public record ReplayDeadLetterCommand(
+        String topic,
+        int limit
+) {
+
+    private static final int MAX_LIMIT = 10_000;
+
+    public ReplayDeadLetterCommand {
+        if (topic == null || topic.isBlank()) {
+            throw new IllegalArgumentException("topic cannot be blank");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    public static ReplayDeadLetterCommand of(String topic, int limit) {
+        return new ReplayDeadLetterCommand(topic, limit);
+    }
+}
@@ -0,0 +1,17 @@
+package com.teambind.co.kr.chatdding.application.port.in;
+
+/**
+ * Dead Letter 재처리 Result DTO
+ *
+ * @param topic    원본 토픽
+ * @param replayed 원본 토픽으로 재발행한 건수
+ */
+public record ReplayDeadLetterResult(
+        String topic,
+        int replayed
+) {
+
+    public static ReplayDeadLetterResult of(String topic, int replayed) {
+        return new ReplayDeadLetterResult(topic, replayed);
+    }
+}
@@ -0,0 +1,15 @@
+package com.teambind.co.kr.chatdding.application.port.in;
+
+/**
+ * Dead Letter 재처리 UseCase
+ */
+public interface ReplayDeadLetterUseCase {
+
+    /**
+     * DLT에 쌓인 이벤트를 원본 토픽으로 재발행합니다.
+     *
+     * @param command 재처리 요청
+     * @return 재처리 결과
+     */
+    ReplayDeadLetterResult execute(ReplayDeadLetterCommand command);
+}
@@ -0,0 +1,30 @@
+package com.teambind.co.kr.chatdding.application.port.out;
+
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomMembership;
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
+
+import java.util.Optional;
+
+/**
+ * 채팅방 멤버십 조회 Port (Outbound)
+ *
+ * <p>Hexagonal Architecture의 Outbound Port</p>
+ * <p>Hot Path 권한 검사용으로 채팅방 문서 전체 대신 캐시된 멤버십 스냅샷을 제공한다</p>
+ */
+public interface ChatRoomMembershipPort {
+
+    /**
+     * 채팅방 멤버십 조회 (캐시 미스 시 저장소에서 적재)
+     *
+     * @param roomId 채팅방 ID
+     * @return 멤버십 (채팅방이 없으면 Optional.empty())
+     */
+    Optional<ChatRoomMembership> findMembership(RoomId roomId);
+
+    /**
+     * 멤버십 캐시 무효화 (참여자/상태 변경 시)
+     *
+     * @param roomId 채팅방 ID
+     */
+    void evict(RoomId roomId);
+}
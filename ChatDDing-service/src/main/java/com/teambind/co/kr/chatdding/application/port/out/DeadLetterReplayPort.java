@@ -0,0 +1,27 @@
+package com.teambind.co.kr.chatdding.application.port.out;
+
+/**
+ * Dead Letter 재처리 Port (Outbound)
+ *
+ * <p>재시도를 모두 소진해 DLT로 보내진 이벤트를 원본 토픽으로 되돌린다</p>
+ */
+public interface DeadLetterReplayPort {
+
+    /**
+     * 재처리를 지원하는 토픽인지 확인
+     *
+     * @param topic 원본 토픽
+     */
+    boolean isReplayable(String topic);
+
+    /**
+     * DLT의 이벤트를 최대 limit건 원본 토픽으로 재발행
+     *
+     * <p>재발행 ack를 받은 위치까지만 DLT offset을 커밋하므로 다음 호출은 이어서 처리한다</p>
+     *
+     * @param topic 원본 토픽
+     * @param limit 최대 재처리 건수
+     * @return 재발행한 건수
+     */
+    int replay(String topic, int limit);
+}
@@ -0,0 +1,70 @@
+package com.teambind.co.kr.chatdding.application.port.out;
+
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
+import com.teambind.co.kr.chatdding.domain.message.Message;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채팅방 최근 메시지 캐시 Port (Outbound)
+ *
+ * <p>Hexagonal Architecture의 Outbound Port</p>
+ * <p>채팅방별 최신 메시지 N개(capacity)를 보관해 메시지 목록 첫 페이지를 저장소 조회 없이 제공한다.
+ * 사용자별 삭제 여부는 캐시에 보관된 deletedBy로 조회 시점에 판단한다</p>
+ */
+public interface MessageTailCachePort {
+
+    long UNKNOWN_GENERATION = -1L;
+
+    /**
+     * 최신 메시지 조회 (최신순)
+     *
+     * @param roomId 채팅방 ID
+     * @param headId 채팅방의 마지막 메시지 ID - 캐시의 최신 메시지와 다르면 오래된 캐시로 보고 미스 처리
+     * @param limit  조회 개수
+     * @return 최신 메시지 목록 (미스 또는 limit만큼 채울 수 없으면 Optional.empty())
+     */
+    Optional<List<Message>> findLatest(RoomId roomId, MessageId headId, int limit);
+
+    /**
+     * 캐시 세대 조회 - 저장소에서 적재하기 전에 읽어 {@link #store}에 전달한다
+     *
+     * @param roomId 채팅방 ID
+     * @return 현재 세대 (무효화될 때마다 증가, 조회 실패 시 {@link #UNKNOWN_GENERATION})
+     */
+    long generation(RoomId roomId);
+
+    /**
+     * 저장소에서 적재한 최신 메시지로 캐시 교체 (capacity 초과분은 버림)
+     *
+     * <p>적재 도중 무효화되어 세대가 바뀌었으면 쓰지 않는다 (삭제 전 상태가 다시 캐시되지 않도록)</p>
+     *
+     * @param roomId     채팅방 ID
+     * @param generation 적재 전에 조회한 세대
+     * @param messages   최신순 메시지 목록
+     */
+    void store(RoomId roomId, long generation, List<Message> messages);
+
+    /**
+     * 새 메시지 추가 (캐시가 적재된 채팅방만 반영)
+     *
+     * @param message 저장된 메시지
+     */
+    void append(Message message);
+
+    /**
+     * 채팅방 캐시 무효화 (메시지 삭제 시) - 세대를 증가시킨다
+     *
+     * <p>삭제가 커밋된 뒤 호출해야 한다</p>
+     *
+     * @param roomId 채팅방 ID
+     */
+    void evict(RoomId roomId);
+
+    /**
+     * 채팅방별 보관 메시지 수
+     */
+    int capacity();
+}
@@ -0,0 +1,25 @@
+package com.teambind.co.kr.chatdding.application.port.out;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.event.ChatEvent;
+
+import java.util.Collection;
+
+/**
+ * 실시간 Push Port (Outbound)
+ *
+ * <p>Hexagonal Architecture의 Outbound Port</p>
+ * <p>접속 중인 사용자에게 채팅 이벤트를 즉시 전달 (WebSocket)</p>
+ */
+public interface RealtimePushPort {
+
+    /**
+     * 사용자들에게 이벤트 Push
+     *
+     * <p>호출 스레드에서 소켓 전송을 하지 않으며, 접속하지 않은 사용자는 무시한다</p>
+     *
+     * @param recipientIds 수신자 ID 목록
+     * @param event        전달할 이벤트
+     */
+    void push(Collection<UserId> recipientIds, ChatEvent event);
+}
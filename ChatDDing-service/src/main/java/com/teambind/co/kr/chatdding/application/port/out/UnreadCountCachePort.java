@@ -3,6 +3,7 @@ package com.teambind.co.kr.chatdding.application.port.out;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,6 +13,7 @@ import java.util.Optional;
  *
  * <p>Hexagonal Architecture의 Outbound Port</p>
  * <p>Redis 캐시를 통한 안읽은 메시지 수 관리</p>
+ * <p>사용자의 모든 활성 채팅방이 반영된 경우({@link #replaceUnreadCounts}) 전체 합계(앱 뱃지)도 함께 유지한다</p>
  */
 public interface UnreadCountCachePort {
 
@@ -33,6 +35,16 @@ public interface UnreadCountCachePort {
      */
     void setUnreadCount(RoomId roomId, UserId userId, int count);
 
+    /**
+     * 여러 채팅방의 안읽은 메시지 수 일괄 설정
+     *
+     * <p>캐시 미스 일괄 반영 용. 채팅방 수와 무관하게 한 번의 왕복으로 처리한다</p>
+     *
+     * @param userId 사용자 ID
+     * @param counts 채팅방 ID와 안읽은 메시지 수 맵
+     */
+    void setUnreadCounts(UserId userId, Map<RoomId, Integer> counts);
+
     /**
      * 안읽은 메시지 수 증가 (+1)
      *
@@ -41,6 +53,16 @@ public interface UnreadCountCachePort {
      */
     void incrementUnreadCount(RoomId roomId, UserId userId);
 
+    /**
+     * 여러 사용자의 안읽은 메시지 수 일괄 증가 (+1)
+     *
+     * <p>그룹 채팅 Fan-out 용. 수신자 수와 무관하게 한 번의 왕복으로 처리한다</p>
+     *
+     * @param roomId  채팅방 ID
+     * @param userIds 사용자 ID 목록
+     */
+    void incrementUnreadCounts(RoomId roomId, Collection<UserId> userIds);
+
     /**
      * 안읽은 메시지 수 초기화 (읽음 처리)
      *
@@ -57,4 +79,20 @@ public interface UnreadCountCachePort {
      * @return 채팅방 ID와 안읽은 메시지 수 맵 (캐시 히트된 항목만 포함)
      */
     Map<RoomId, Integer> getUnreadCounts(List<RoomId> roomIds, UserId userId);
+
+    /**
+     * 전체 안읽은 메시지 수 조회 (앱 뱃지)
+     *
+     * @param userId 사용자 ID
+     * @return 전체 합계 (모든 활성 채팅방이 캐시되지 않은 경우 Optional.empty())
+     */
+    Optional<Integer> getTotalUnreadCount(UserId userId);
+
+    /**
+     * 사용자의 모든 활성 채팅방 안읽은 수로 캐시를 교체하고 전체 합계를 초기화
+     *
+     * @param userId 사용자 ID
+     * @param counts 모든 활성 채팅방의 안읽은 메시지 수
+     */
+    void replaceUnreadCounts(UserId userId, Map<RoomId, Integer> counts);
 }
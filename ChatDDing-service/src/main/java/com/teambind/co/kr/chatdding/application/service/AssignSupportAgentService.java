@@ -3,13 +3,17 @@ package com.teambind.co.kr.chatdding.application.service;
 import com.teambind.co.kr.chatdding.application.port.in.AssignSupportAgentCommand;
 import com.teambind.co.kr.chatdding.application.port.in.AssignSupportAgentResult;
 import com.teambind.co.kr.chatdding.application.port.in.AssignSupportAgentUseCase;
+import com.teambind.co.kr.chatdding.application.port.out.ChatRoomMembershipPort;
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher;
 import com.teambind.co.kr.chatdding.common.exception.ChatException;
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode;
+import com.teambind.co.kr.chatdding.common.util.transaction.AfterCommit;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType;
+import com.teambind.co.kr.chatdding.domain.chatroom.Participant;
 import com.teambind.co.kr.chatdding.domain.event.SupportAgentAssignedEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,14 +22,19 @@ import java.time.LocalDateTime;
 
 /**
  * 상담원 배정 UseCase 구현
+ *
+ * <p>상담원은 채팅방 전체를 다시 쓰지 않고 참여자 목록에 원자적으로 추가한다.
+ * 동시 배정 요청 중 하나만 성공하며 나머지는 AGENT_ALREADY_ASSIGNED로 실패한다</p>
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional
 public class AssignSupportAgentService implements AssignSupportAgentUseCase {
 
     private final ChatRoomRepository chatRoomRepository;
     private final EventPublisher eventPublisher;
+    private final ChatRoomMembershipPort chatRoomMembershipPort;
 
     @Override
     public AssignSupportAgentResult execute(AssignSupportAgentCommand command) {
@@ -33,7 +42,9 @@ public class AssignSupportAgentService implements AssignSupportAgentUseCase {
 
         LocalDateTime assignedAt = LocalDateTime.now();
         chatRoom.assignAgent(command.agentId());
-        chatRoomRepository.save(chatRoom);
+        addAgent(chatRoom, command);
+        // 커밋 전에 지우면 그 사이의 조회가 변경 전 멤버십을 다시 캐시한다
+        AfterCommit.run(() -> chatRoomMembershipPort.evict(chatRoom.getId()));
 
         publishSupportAgentAssignedEvent(chatRoom, command);
 
@@ -55,6 +66,15 @@ public class AssignSupportAgentService implements AssignSupportAgentUseCase {
         return chatRoom;
     }
 
+    private void addAgent(ChatRoom chatRoom, AssignSupportAgentCommand command) {
+        Participant agent = chatRoom.findParticipant(command.agentId())
+                .orElseThrow(() -> new IllegalStateException("Assigned agent not found in participants"));
+
+        if (!chatRoomRepository.addParticipant(chatRoom.getId(), agent, ChatRoomType.SUPPORT.getMaxParticipants())) {
+            throw ChatException.of(ErrorCode.AGENT_ALREADY_ASSIGNED);
+        }
+    }
+
     private void publishSupportAgentAssignedEvent(ChatRoom chatRoom, AssignSupportAgentCommand command) {
         SupportAgentAssignedEvent event = SupportAgentAssignedEvent.from(chatRoom, command.agentId());
         eventPublisher.publish(event);
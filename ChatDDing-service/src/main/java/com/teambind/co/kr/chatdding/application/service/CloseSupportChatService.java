@@ -3,13 +3,18 @@ package com.teambind.co.kr.chatdding.application.service;
 import com.teambind.co.kr.chatdding.application.port.in.CloseSupportChatCommand;
 import com.teambind.co.kr.chatdding.application.port.in.CloseSupportChatResult;
 import com.teambind.co.kr.chatdding.application.port.in.CloseSupportChatUseCase;
+import com.teambind.co.kr.chatdding.application.port.out.ChatRoomMembershipPort;
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher;
+import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort;
 import com.teambind.co.kr.chatdding.common.exception.ChatException;
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode;
+import com.teambind.co.kr.chatdding.common.util.transaction.AfterCommit;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType;
 import com.teambind.co.kr.chatdding.domain.event.SupportChatClosedEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,14 +23,19 @@ import java.time.LocalDateTime;
 
 /**
  * 상담 종료 UseCase 구현
+ *
+ * <p>채팅방 전체를 다시 쓰지 않고 상태만 ACTIVE → CLOSED로 조건부 변경한다 (동시 종료 요청 중 하나만 성공)</p>
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional
 public class CloseSupportChatService implements CloseSupportChatUseCase {
 
     private final ChatRoomRepository chatRoomRepository;
     private final EventPublisher eventPublisher;
+    private final ChatRoomMembershipPort chatRoomMembershipPort;
+    private final UnreadCountCachePort unreadCountCachePort;
 
     @Override
     public CloseSupportChatResult execute(CloseSupportChatCommand command) {
@@ -33,7 +43,15 @@ public class CloseSupportChatService implements CloseSupportChatUseCase {
 
         LocalDateTime closedAt = LocalDateTime.now();
         chatRoom.close();
-        chatRoomRepository.save(chatRoom);
+        if (!chatRoomRepository.updateStatus(chatRoom.getId(), ChatRoomStatus.ACTIVE, ChatRoomStatus.CLOSED)) {
+            throw ChatException.of(ErrorCode.ROOM_ALREADY_CLOSED);
+        }
+        // 커밋 전에 지우면 그 사이의 조회가 변경 전 멤버십을 다시 캐시한다
+        AfterCommit.run(() -> chatRoomMembershipPort.evict(chatRoom.getId()));
+
+        // 종료된 채팅방은 목록/뱃지 집계 대상이 아니므로 커밋 이후 캐시 합계에서 제외
+        AfterCommit.run(() -> chatRoom.getParticipantIds()
+                .forEach(userId -> unreadCountCachePort.resetUnreadCount(chatRoom.getId(), userId)));
 
         publishSupportChatClosedEvent(chatRoom);
 
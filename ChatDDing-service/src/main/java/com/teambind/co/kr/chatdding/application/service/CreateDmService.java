@@ -11,6 +11,7 @@ import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.event.DmCreatedEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +24,7 @@ import java.util.stream.Stream;
  * DM 채팅방 생성 UseCase 구현
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional
 public class CreateDmService implements CreateDmUseCase {
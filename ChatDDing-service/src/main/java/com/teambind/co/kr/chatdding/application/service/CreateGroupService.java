@@ -11,6 +11,7 @@ import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.event.GroupCreatedEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
  * 그룹 채팅방 생성 UseCase 구현
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional
 public class CreateGroupService implements CreateGroupUseCase {
@@ -12,6 +12,7 @@ import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomContext;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.event.InquiryCreatedEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
  * 공간 문의 생성 UseCase 구현
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional
 public class CreatePlaceInquiryService implements CreatePlaceInquiryUseCase {
@@ -3,50 +3,69 @@ package com.teambind.co.kr.chatdding.application.service;
 import com.teambind.co.kr.chatdding.application.port.in.DeleteMessageCommand;
 import com.teambind.co.kr.chatdding.application.port.in.DeleteMessageResult;
 import com.teambind.co.kr.chatdding.application.port.in.DeleteMessageUseCase;
+import com.teambind.co.kr.chatdding.application.port.out.ChatRoomMembershipPort;
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher;
+import com.teambind.co.kr.chatdding.application.port.out.MessageTailCachePort;
+import com.teambind.co.kr.chatdding.application.port.out.RealtimePushPort;
 import com.teambind.co.kr.chatdding.common.exception.ChatException;
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode;
+import com.teambind.co.kr.chatdding.common.util.transaction.AfterCommit;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomMembership;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage;
 import com.teambind.co.kr.chatdding.domain.event.MessageDeletedEvent;
 import com.teambind.co.kr.chatdding.domain.message.Message;
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 메시지 삭제 UseCase 구현
+ *
+ * <p>권한 검사는 캐시된 채팅방 멤버십으로 수행하고, 마지막 메시지 스냅샷 확인이 필요한 물리 삭제에서만 채팅방을 조회한다</p>
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional
 public class DeleteMessageService implements DeleteMessageUseCase {
 
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembershipPort chatRoomMembershipPort;
     private final MessageRepository messageRepository;
+    private final MessageTailCachePort messageTailCachePort;
     private final EventPublisher eventPublisher;
+    private final RealtimePushPort realtimePushPort;
 
     @Override
     public DeleteMessageResult execute(DeleteMessageCommand command) {
-        ChatRoom chatRoom = validateAndGetChatRoom(command);
+        ChatRoomMembership membership = validateAndGetMembership(command);
         Message message = validateAndGetMessage(command);
 
         // Soft Delete
         message.deleteFor(command.userId());
 
         // Hard Delete 조건 체크
-        int participantCount = chatRoom.getParticipants().size();
+        int participantCount = membership.participantIds().size();
         boolean shouldHardDelete = message.shouldHardDelete(participantCount);
 
         if (shouldHardDelete) {
             messageRepository.deleteById(command.messageId());
+            refreshLastMessageIfDeleted(command);
         } else {
             messageRepository.save(message);
         }
 
+        // 최근 메시지 캐시는 deletedBy를 포함하므로 소프트/물리 삭제 모두 커밋 이후 무효화
+        AfterCommit.run(() -> messageTailCachePort.evict(command.roomId()));
+
         // 이벤트 발행
-        publishEvent(command, shouldHardDelete);
+        publishEvent(membership, command, shouldHardDelete);
 
         return DeleteMessageResult.of(
                 command.messageId().toStringValue(),
@@ -54,15 +73,15 @@ public class DeleteMessageService implements DeleteMessageUseCase {
         );
     }
 
-    private ChatRoom validateAndGetChatRoom(DeleteMessageCommand command) {
-        ChatRoom chatRoom = chatRoomRepository.findById(command.roomId())
+    private ChatRoomMembership validateAndGetMembership(DeleteMessageCommand command) {
+        ChatRoomMembership membership = chatRoomMembershipPort.findMembership(command.roomId())
                 .orElseThrow(() -> ChatException.of(ErrorCode.ROOM_NOT_FOUND));
 
-        if (!chatRoom.isParticipant(command.userId())) {
+        if (!membership.isParticipant(command.userId())) {
             throw ChatException.of(ErrorCode.NOT_PARTICIPANT);
         }
 
-        return chatRoom;
+        return membership;
     }
 
     private Message validateAndGetMessage(DeleteMessageCommand command) {
@@ -76,7 +95,25 @@ public class DeleteMessageService implements DeleteMessageUseCase {
         return message;
     }
 
-    private void publishEvent(DeleteMessageCommand command, boolean hardDeleted) {
+    /**
+     * 물리 삭제된 메시지가 채팅방의 마지막 메시지 스냅샷이면 다음 최신 메시지로 교체
+     */
+    private void refreshLastMessageIfDeleted(DeleteMessageCommand command) {
+        LastMessage lastMessage = chatRoomRepository.findById(command.roomId())
+                .map(ChatRoom::getLastMessage)
+                .orElse(null);
+        if (lastMessage == null || !lastMessage.messageId().equals(command.messageId())) {
+            return;
+        }
+
+        LastMessage replacement = messageRepository.findLatestByRoomId(command.roomId())
+                .map(LastMessage::from)
+                .orElse(null);
+
+        chatRoomRepository.replaceLastMessage(command.roomId(), command.messageId(), replacement);
+    }
+
+    private void publishEvent(ChatRoomMembership membership, DeleteMessageCommand command, boolean hardDeleted) {
         MessageDeletedEvent event = MessageDeletedEvent.of(
                 command.messageId().toStringValue(),
                 command.roomId().toStringValue(),
@@ -84,5 +121,11 @@ public class DeleteMessageService implements DeleteMessageUseCase {
                 hardDeleted
         );
         eventPublisher.publish(event);
+
+        // 소프트 삭제는 삭제한 사용자에게만, 물리 삭제는 참여자 전원에게 Push (커밋 이후)
+        AfterCommit.run(() -> realtimePushPort.push(
+                hardDeleted ? membership.participantIds() : List.of(command.userId()),
+                event
+        ));
     }
 }
@@ -8,6 +8,7 @@ import com.teambind.co.kr.chatdding.common.exception.ErrorCode;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
  * 채팅방 상세 조회 UseCase 구현
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GetChatRoomDetailService implements GetChatRoomDetailUseCase {
@@ -30,9 +32,10 @@ public class GetChatRoomDetailService implements GetChatRoomDetailUseCase {
 
         validateAccess(chatRoom, query);
 
-        long unreadCount = messageRepository.countUnreadByRoomIdAndUserId(
+        long unreadCount = messageRepository.countUnread(
                 query.roomId(),
-                query.userId()
+                query.userId(),
+                chatRoom.findLastReadMessageId(query.userId())
         );
 
         return GetChatRoomDetailResult.from(chatRoom, unreadCount);
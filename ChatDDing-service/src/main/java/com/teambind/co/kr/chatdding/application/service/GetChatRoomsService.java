@@ -5,22 +5,31 @@ import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomsResult;
 import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomsUseCase;
 import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomCursor;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
-import com.teambind.co.kr.chatdding.domain.message.Message;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * 채팅방 목록 조회 UseCase 구현
+ *
+ * <p>마지막 메시지는 채팅방에 비정규화된 스냅샷을 사용하여 채팅방별 메시지 조회(N+1)를 하지 않는다</p>
+ * <p>(lastMessageAt, roomId) Keyset 페이지네이션으로 채팅방 수와 무관하게 한 페이지만 조회한다</p>
+ * <p>안읽은 수 캐시 미스는 한 번의 집계로 계산하고 한 번의 파이프라인으로 캐시에 반영한다</p>
+ * <p>유형 필터 없이 한 페이지에 전체 목록이 담긴 경우 캐시 미스가 있으면 전체 채팅방 값으로 캐시를 한 번에 교체하여 뱃지 합계도 초기화한다</p>
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GetChatRoomsService implements GetChatRoomsUseCase {
@@ -31,50 +40,75 @@ public class GetChatRoomsService implements GetChatRoomsUseCase {
 
     @Override
     public GetChatRoomsResult execute(GetChatRoomsQuery query) {
-        List<ChatRoom> chatRooms = fetchChatRooms(query);
+        List<ChatRoom> fetched = chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(
+                query.userId(), query.type(), query.cursor(), query.limit() + 1);
+
+        boolean hasMore = fetched.size() > query.limit();
+        List<ChatRoom> chatRooms = hasMore ? fetched.subList(0, query.limit()) : fetched;
 
         List<RoomId> roomIds = chatRooms.stream()
                 .map(ChatRoom::getId)
                 .toList();
 
         Map<RoomId, Integer> cachedUnreadCounts = unreadCountCachePort.getUnreadCounts(roomIds, query.userId());
+        Map<RoomId, Integer> loadedUnreadCounts = loadUnreadCounts(chatRooms, query.userId(), cachedUnreadCounts);
 
         List<GetChatRoomsResult.ChatRoomItem> items = chatRooms.stream()
-                .map(chatRoom -> buildChatRoomItem(chatRoom, query, cachedUnreadCounts))
+                .map(chatRoom -> GetChatRoomsResult.ChatRoomItem.from(chatRoom, unreadCountOf(
+                        chatRoom.getId(), cachedUnreadCounts, loadedUnreadCounts)))
                 .toList();
 
-        return new GetChatRoomsResult(items);
-    }
+        boolean completeList = query.type() == null && !query.hasCursor() && !hasMore;
+        cacheLoadedUnreadCounts(query.userId(), completeList, cachedUnreadCounts, loadedUnreadCounts);
 
-    private List<ChatRoom> fetchChatRooms(GetChatRoomsQuery query) {
-        if (query.type() != null) {
-            return chatRoomRepository
-                    .findActiveByParticipantUserIdAndTypeOrderByLastMessageAtDesc(query.userId(), query.type());
-        }
-        return chatRoomRepository
-                .findActiveByParticipantUserIdOrderByLastMessageAtDesc(query.userId());
+        String nextCursor = hasMore
+                ? ChatRoomCursor.from(chatRooms.get(chatRooms.size() - 1)).toString()
+                : null;
+
+        return GetChatRoomsResult.of(items, nextCursor, hasMore);
     }
 
-    private GetChatRoomsResult.ChatRoomItem buildChatRoomItem(
-            ChatRoom chatRoom,
-            GetChatRoomsQuery query,
-            Map<RoomId, Integer> cachedUnreadCounts
-    ) {
-        Message lastMessage = messageRepository.findLatestByRoomId(chatRoom.getId())
-                .orElse(null);
+    /**
+     * 캐시 미스된 채팅방의 안읽은 수를 한 번의 집계로 계산
+     */
+    private Map<RoomId, Integer> loadUnreadCounts(List<ChatRoom> chatRooms, UserId userId,
+                                                  Map<RoomId, Integer> cachedCounts) {
+        Map<RoomId, MessageId> missedWatermarks = new HashMap<>();
+        chatRooms.stream()
+                .filter(chatRoom -> !cachedCounts.containsKey(chatRoom.getId()))
+                .forEach(chatRoom -> missedWatermarks.put(chatRoom.getId(), chatRoom.findLastReadMessageId(userId)));
+
+        Map<RoomId, Integer> loadedCounts = new HashMap<>();
+        if (missedWatermarks.isEmpty()) {
+            return loadedCounts;
+        }
 
-        long unreadCount = getUnreadCountWithCacheAside(chatRoom.getId(), query.userId(), cachedUnreadCounts);
+        messageRepository.countUnreadByRoomIds(userId, missedWatermarks)
+                .forEach((roomId, count) -> loadedCounts.put(roomId, count.intValue()));
+        return loadedCounts;
+    }
 
-        return GetChatRoomsResult.ChatRoomItem.from(chatRoom, lastMessage, unreadCount);
+    private long unreadCountOf(RoomId roomId, Map<RoomId, Integer> cachedCounts, Map<RoomId, Integer> loadedCounts) {
+        Integer cached = cachedCounts.get(roomId);
+        if (cached != null) {
+            return cached;
+        }
+        return loadedCounts.getOrDefault(roomId, 0);
     }
 
-    private long getUnreadCountWithCacheAside(RoomId roomId, UserId userId, Map<RoomId, Integer> cachedCounts) {
-        if (cachedCounts.containsKey(roomId)) {
-            return cachedCounts.get(roomId);
+    private void cacheLoadedUnreadCounts(UserId userId, boolean completeList,
+                                         Map<RoomId, Integer> cachedCounts, Map<RoomId, Integer> loadedCounts) {
+        if (loadedCounts.isEmpty()) {
+            return;
+        }
+
+        if (completeList) {
+            Map<RoomId, Integer> allCounts = new HashMap<>(cachedCounts);
+            allCounts.putAll(loadedCounts);
+            unreadCountCachePort.replaceUnreadCounts(userId, allCounts);
+            return;
         }
 
-        long count = messageRepository.countUnreadByRoomIdAndUserId(roomId, userId);
-        unreadCountCachePort.setUnreadCount(roomId, userId, (int) count);
-        return count;
+        unreadCountCachePort.setUnreadCounts(userId, loadedCounts);
     }
 }
@@ -4,63 +4,101 @@ import com.teambind.co.kr.chatdding.application.port.in.GetHostInquiriesQuery;
 import com.teambind.co.kr.chatdding.application.port.in.GetHostInquiriesResult;
 import com.teambind.co.kr.chatdding.application.port.in.GetHostInquiriesResult.InquiryItem;
 import com.teambind.co.kr.chatdding.application.port.in.GetHostInquiriesUseCase;
+import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomCursor;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 호스트 문의 목록 조회 UseCase 구현
+ *
+ * <p>커서와 limit+1을 Mongo 쿼리에 그대로 전달하여 한 페이지만 조회하고,
+ * 안읽은 수는 반환할 페이지의 채팅방에 대해서만 캐시 일괄 조회 후 미스만 한 번의 집계로 계산한다</p>
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GetHostInquiriesService implements GetHostInquiriesUseCase {
 
     private final ChatRoomRepository chatRoomRepository;
     private final MessageRepository messageRepository;
+    private final UnreadCountCachePort unreadCountCachePort;
 
     @Override
     public GetHostInquiriesResult execute(GetHostInquiriesQuery query) {
-        List<ChatRoom> inquiries = chatRoomRepository.findPlaceInquiriesByHostId(
+        List<ChatRoom> fetched = chatRoomRepository.findPlaceInquiriesByHostIdBeforeCursor(
                 query.hostId(),
-                query.placeId()
+                query.placeId(),
+                query.cursor(),
+                query.limit() + 1
         );
 
-        if (inquiries.isEmpty()) {
+        if (fetched.isEmpty()) {
             return GetHostInquiriesResult.empty();
         }
 
+        boolean hasMore = fetched.size() > query.limit();
+        List<ChatRoom> inquiries = hasMore ? fetched.subList(0, query.limit()) : fetched;
+
+        List<RoomId> roomIds = inquiries.stream()
+                .map(ChatRoom::getId)
+                .toList();
+        Map<RoomId, Integer> unreadCounts = new HashMap<>(
+                unreadCountCachePort.getUnreadCounts(roomIds, query.hostId()));
+        loadMissedUnreadCounts(inquiries, query.hostId(), unreadCounts);
+
         List<InquiryItem> items = inquiries.stream()
-                .map(chatRoom -> toInquiryItem(chatRoom, query.hostId()))
-                .limit(query.limit())
+                .map(chatRoom -> toInquiryItem(chatRoom, query.hostId(), unreadCounts))
                 .toList();
 
-        boolean hasMore = inquiries.size() > query.limit();
-        String nextCursor = hasMore && !items.isEmpty()
-                ? items.get(items.size() - 1).roomId()
+        String nextCursor = hasMore
+                ? ChatRoomCursor.from(inquiries.get(inquiries.size() - 1)).toString()
                 : null;
 
         return GetHostInquiriesResult.of(items, nextCursor, hasMore);
     }
 
-    private InquiryItem toInquiryItem(ChatRoom chatRoom, UserId hostId) {
+    /**
+     * 캐시 미스된 채팅방의 안읽은 수를 한 번의 집계로 계산하여 캐시에 일괄 반영
+     */
+    private void loadMissedUnreadCounts(List<ChatRoom> inquiries, UserId hostId, Map<RoomId, Integer> unreadCounts) {
+        Map<RoomId, MessageId> missedWatermarks = new HashMap<>();
+        inquiries.stream()
+                .filter(chatRoom -> !unreadCounts.containsKey(chatRoom.getId()))
+                .forEach(chatRoom -> missedWatermarks.put(chatRoom.getId(), chatRoom.findLastReadMessageId(hostId)));
+
+        if (missedWatermarks.isEmpty()) {
+            return;
+        }
+
+        Map<RoomId, Integer> loadedCounts = new HashMap<>();
+        messageRepository.countUnreadByRoomIds(hostId, missedWatermarks)
+                .forEach((roomId, count) -> loadedCounts.put(roomId, count.intValue()));
+
+        unreadCountCachePort.setUnreadCounts(hostId, loadedCounts);
+        unreadCounts.putAll(loadedCounts);
+    }
+
+    private InquiryItem toInquiryItem(ChatRoom chatRoom, UserId hostId, Map<RoomId, Integer> unreadCounts) {
         Long guestId = chatRoom.getParticipantIds().stream()
                 .filter(userId -> !userId.equals(hostId))
                 .findFirst()
                 .map(UserId::getValue)
                 .orElse(null);
 
-        int unreadCount = (int) messageRepository.countUnreadByRoomIdAndUserId(
-                chatRoom.getId(),
-                hostId
-        );
-
-        return InquiryItem.from(chatRoom, guestId, unreadCount);
+        return InquiryItem.from(chatRoom, guestId, unreadCounts.getOrDefault(chatRoom.getId(), 0));
     }
 }
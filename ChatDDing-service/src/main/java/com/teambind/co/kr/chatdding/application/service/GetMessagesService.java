@@ -4,16 +4,21 @@ import com.teambind.co.kr.chatdding.application.port.in.GetMessagesQuery;
 import com.teambind.co.kr.chatdding.application.port.in.GetMessagesResult;
 import com.teambind.co.kr.chatdding.application.port.in.GetMessagesUseCase;
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher;
+import com.teambind.co.kr.chatdding.application.port.out.MessageTailCachePort;
+import com.teambind.co.kr.chatdding.application.port.out.RealtimePushPort;
 import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort;
 import com.teambind.co.kr.chatdding.common.exception.ChatException;
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode;
+import com.teambind.co.kr.chatdding.common.util.transaction.AfterCommit;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
 import com.teambind.co.kr.chatdding.domain.event.MessageReadEvent;
 import com.teambind.co.kr.chatdding.domain.message.Message;
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,64 +28,82 @@ import java.util.Optional;
 
 /**
  * 메시지 조회 UseCase 구현
+ *
+ * <p>커서 없는 첫 페이지는 채팅방별 최근 메시지 캐시에서 제공하고, 미스 시 캐시 용량만큼 적재해 저장한다</p>
+ * <p>since(델타 동기화)는 기준 메시지 이후만 오름차순으로 반환하고, limit을 넘으면 재동기화 신호를 반환한다</p>
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GetMessagesService implements GetMessagesUseCase {
 
     private final ChatRoomRepository chatRoomRepository;
     private final MessageRepository messageRepository;
+    private final MessageTailCachePort messageTailCachePort;
     private final UnreadCountCachePort unreadCountCachePort;
     private final EventPublisher eventPublisher;
+    private final RealtimePushPort realtimePushPort;
 
     @Override
     public GetMessagesResult execute(GetMessagesQuery query) {
-        validateAccess(query);
+        ChatRoom chatRoom = validateAccess(query);
 
-        List<Message> messages = fetchMessages(query);
+        GetMessagesResult result = query.isDeltaSync()
+                ? fetchSince(query, chatRoom)
+                : GetMessagesResult.of(
+                        fetchMessages(query, chatRoom.getLastMessage()), chatRoom, query.userId(), query.limit());
 
         // 자동 읽음 처리 트리거 (최적화 포함)
-        triggerAutoReadMarking(query.roomId(), query.userId());
+        triggerAutoReadMarking(chatRoom, query.userId());
 
-        return GetMessagesResult.of(messages, query.userId(), query.limit());
+        return result;
     }
 
     /**
      * 자동 읽음 처리 트리거
      *
      * <p>캐시에서 unreadCount를 확인하여 0이면 스킵 (polling 최적화)</p>
-     * <p>0이 아니면 캐시 리셋 후 이벤트 발행 (비동기 DB 업데이트)</p>
+     * <p>0이 아니면 이벤트 발행 후 커밋 이후에 캐시 리셋 (비동기 워터마크 갱신, 조회 시점의 마지막 메시지까지)</p>
      */
-    private void triggerAutoReadMarking(RoomId roomId, UserId userId) {
+    private void triggerAutoReadMarking(ChatRoom chatRoom, UserId userId) {
+        RoomId roomId = chatRoom.getId();
         // 캐시에서 unreadCount 확인 - 0이면 스킵 (polling 최적화)
         Optional<Integer> cached = unreadCountCachePort.getUnreadCount(roomId, userId);
         if (cached.isPresent() && cached.get() == 0) {
             return;
         }
 
-        // 1. 캐시 즉시 리셋 (동기)
-        unreadCountCachePort.resetUnreadCount(roomId, userId);
-
-        // 2. 이벤트 발행 (비동기 DB 업데이트용)
+        // 1. 이벤트 발행 (비동기 DB 업데이트용)
+        LastMessage lastMessage = chatRoom.getLastMessage();
         MessageReadEvent event = MessageReadEvent.of(
                 roomId.toStringValue(),
                 userId.getValue(),
+                lastMessage != null ? lastMessage.messageId().toStringValue() : null,
                 0
         );
         eventPublisher.publish(event);
+
+        AfterCommit.run(() -> {
+            // 2. 캐시 리셋 (커밋 이후, 동기)
+            unreadCountCachePort.resetUnreadCount(roomId, userId);
+
+            // 3. 참여자에게 읽음 상태 Push (실시간 읽음 표시)
+            realtimePushPort.push(chatRoom.getParticipantIds(), event);
+        });
     }
 
-    private void validateAccess(GetMessagesQuery query) {
+    private ChatRoom validateAccess(GetMessagesQuery query) {
         ChatRoom chatRoom = chatRoomRepository.findById(query.roomId())
                 .orElseThrow(() -> ChatException.of(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
         if (!chatRoom.isParticipant(query.userId())) {
             throw ChatException.of(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
+        return chatRoom;
     }
 
-    private List<Message> fetchMessages(GetMessagesQuery query) {
+    private List<Message> fetchMessages(GetMessagesQuery query, LastMessage lastMessage) {
         if (query.hasCursor()) {
             return messageRepository.findByRoomIdBeforeCursor(
                     query.roomId(),
@@ -89,11 +112,64 @@ public class GetMessagesService implements GetMessagesUseCase {
             );
         }
 
-        return messageRepository.findByRoomIdOrderByCreatedAtDesc(
+        if (lastMessage == null) {
+            return messageRepository.findByRoomIdOrderByCreatedAtDesc(
+                    query.roomId(),
+                    query.limit(),
+                    0
+            );
+        }
+
+        return fetchLatestMessages(query, lastMessage);
+    }
+
+    /**
+     * 델타 동기화 - sinceId 이후 메시지를 오름차순으로 조회
+     *
+     * <p>채팅방의 마지막 메시지가 sinceId 이하이면 저장소를 조회하지 않는다.
+     * limit + 1개를 조회해 limit을 넘으면 메시지 없이 재동기화 신호만 반환한다</p>
+     */
+    private GetMessagesResult fetchSince(GetMessagesQuery query, ChatRoom chatRoom) {
+        LastMessage lastMessage = chatRoom.getLastMessage();
+        if (lastMessage != null && lastMessage.messageId().getValue() <= query.sinceId().getValue()) {
+            return GetMessagesResult.since(List.of(), chatRoom, query.userId());
+        }
+
+        List<Message> messages = messageRepository.findByRoomIdAfterId(
                 query.roomId(),
-                query.limit(),
+                query.sinceId(),
+                query.limit() + 1
+        );
+        if (messages.size() > query.limit()) {
+            return GetMessagesResult.resync();
+        }
+
+        return GetMessagesResult.since(messages, chatRoom, query.userId());
+    }
+
+    /**
+     * 첫 페이지 조회 - 캐시의 최신 메시지가 채팅방의 마지막 메시지와 일치할 때만 캐시 사용
+     */
+    private List<Message> fetchLatestMessages(GetMessagesQuery query, LastMessage lastMessage) {
+        Optional<List<Message>> cached = messageTailCachePort.findLatest(
+                query.roomId(),
+                lastMessage.messageId(),
+                query.limit()
+        );
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // 적재 전에 세대를 읽어 두어야 조회 중 삭제가 무효화한 경우 저장이 거부된다
+        long generation = messageTailCachePort.generation(query.roomId());
+        List<Message> latest = messageRepository.findByRoomIdOrderByCreatedAtDesc(
+                query.roomId(),
+                Math.max(query.limit(), messageTailCachePort.capacity()),
                 0
         );
+        messageTailCachePort.store(query.roomId(), generation, latest);
+
+        return latest.size() > query.limit() ? latest.subList(0, query.limit()) : latest;
     }
 
 }
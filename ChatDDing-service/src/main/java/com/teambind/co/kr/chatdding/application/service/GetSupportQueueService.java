@@ -6,6 +6,7 @@ import com.teambind.co.kr.chatdding.application.port.in.GetSupportQueueResult.Su
 import com.teambind.co.kr.chatdding.application.port.in.GetSupportQueueUseCase;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +17,7 @@ import java.util.List;
  * 상담 대기열 조회 UseCase 구현
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GetSupportQueueService implements GetSupportQueueUseCase {
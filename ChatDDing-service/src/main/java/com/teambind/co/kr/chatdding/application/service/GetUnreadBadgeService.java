@@ -0,0 +1,79 @@
+package com.teambind.co.kr.chatdding.application.service;
+
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeQuery;
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeResult;
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeUseCase;
+import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
+import com.teambind.co.kr.chatdding.domain.message.MessageRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 전체 안읽은 메시지 수(앱 뱃지) 조회 UseCase 구현
+ *
+ * <p>캐시 히트 시 Redis 단일 조회(O(1))로 응답하고, 미스 시 모든 활성 채팅방을 계산하여 캐시를 초기화한다</p>
+ * <p>미스 시에는 채팅방 전체 대신 채팅방 ID와 읽음 워터마크만 읽고,
+ * 캐시 조회와 안읽은 수 집계는 {@value #COUNT_CHUNK_SIZE}개 채팅방씩 나누어 한 번의 HMGET/$or 크기를 제한한다</p>
+ */
+@Service
+@Timed("chat.usecase")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetUnreadBadgeService implements GetUnreadBadgeUseCase {
+
+    private static final int COUNT_CHUNK_SIZE = 200;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final MessageRepository messageRepository;
+    private final UnreadCountCachePort unreadCountCachePort;
+
+    @Override
+    public GetUnreadBadgeResult execute(GetUnreadBadgeQuery query) {
+        Optional<Integer> cachedTotal = unreadCountCachePort.getTotalUnreadCount(query.userId());
+        if (cachedTotal.isPresent()) {
+            return new GetUnreadBadgeResult(cachedTotal.get());
+        }
+
+        Map<RoomId, Integer> unreadCounts = loadAllUnreadCounts(query.userId());
+        unreadCountCachePort.replaceUnreadCounts(query.userId(), unreadCounts);
+
+        long total = unreadCounts.values().stream()
+                .mapToLong(Integer::longValue)
+                .sum();
+        return new GetUnreadBadgeResult(total);
+    }
+
+    private Map<RoomId, Integer> loadAllUnreadCounts(UserId userId) {
+        Map<RoomId, MessageId> watermarks = chatRoomRepository.findActiveReadWatermarksByParticipantUserId(userId);
+        List<RoomId> roomIds = List.copyOf(watermarks.keySet());
+
+        Map<RoomId, Integer> unreadCounts = new HashMap<>();
+        for (int from = 0; from < roomIds.size(); from += COUNT_CHUNK_SIZE) {
+            List<RoomId> chunk = roomIds.subList(from, Math.min(from + COUNT_CHUNK_SIZE, roomIds.size()));
+            Map<RoomId, Integer> cached = unreadCountCachePort.getUnreadCounts(chunk, userId);
+            unreadCounts.putAll(cached);
+
+            Map<RoomId, MessageId> missedWatermarks = new HashMap<>();
+            chunk.stream()
+                    .filter(roomId -> !cached.containsKey(roomId))
+                    .forEach(roomId -> missedWatermarks.put(roomId, watermarks.get(roomId)));
+
+            if (!missedWatermarks.isEmpty()) {
+                messageRepository.countUnreadByRoomIds(userId, missedWatermarks)
+                        .forEach((roomId, count) -> unreadCounts.put(roomId, count.intValue()));
+            }
+        }
+        return unreadCounts;
+    }
+}
@@ -3,25 +3,36 @@ package com.teambind.co.kr.chatdding.application.service;
 import com.teambind.co.kr.chatdding.application.port.in.MarkAsReadCommand;
 import com.teambind.co.kr.chatdding.application.port.in.MarkAsReadResult;
 import com.teambind.co.kr.chatdding.application.port.in.MarkAsReadUseCase;
+import com.teambind.co.kr.chatdding.application.port.out.RealtimePushPort;
 import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort;
 import com.teambind.co.kr.chatdding.common.exception.ChatException;
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode;
+import com.teambind.co.kr.chatdding.common.util.transaction.AfterCommit;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
-import com.teambind.co.kr.chatdding.domain.chatroom.Participant;
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage;
+import com.teambind.co.kr.chatdding.domain.event.MessageReadEvent;
 import com.teambind.co.kr.chatdding.domain.message.Message;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * 읽음 처리 UseCase 구현
+ *
+ * <p>참여자의 읽음 워터마크(lastReadMessageId)를 positional update 한 번으로 전진시킨다.
+ * 메시지 문서는 갱신하지 않으며, 호환 모드({@code chat.read-receipt.legacy-read-by-enabled=true})에서만
+ * 레거시 readBy를 ID 범위 updateMulti로 함께 갱신한다</p>
+ * <p>안읽은 수 캐시와 읽음 Push는 커밋 이후에 반영한다 ({@link AfterCommit})</p>
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional
 public class MarkAsReadService implements MarkAsReadUseCase {
@@ -29,17 +40,30 @@ public class MarkAsReadService implements MarkAsReadUseCase {
     private final ChatRoomRepository chatRoomRepository;
     private final MessageRepository messageRepository;
     private final UnreadCountCachePort unreadCountCachePort;
+    private final RealtimePushPort realtimePushPort;
+
+    @Value("${chat.read-receipt.legacy-read-by-enabled:false}")
+    private boolean legacyReadByEnabled;
 
     @Override
     public MarkAsReadResult execute(MarkAsReadCommand command) {
-        ChatRoom chatRoom = validateAndGetChatRoom(command);
+        ChatRoom chatRoom = validateChatRoom(command);
+        validateLastMessage(command);
         LocalDateTime readAt = LocalDateTime.now();
 
-        List<Message> unreadMessages = getUnreadMessages(command);
-        int readCount = markMessagesAsRead(unreadMessages, command, readAt);
+        MessageId upToId = resolveUpToId(command, chatRoom);
+        MessageId previousWatermark = chatRoom.findLastReadMessageId(command.userId());
+        int readCount = countNewlyRead(command, previousWatermark, upToId);
 
-        updateParticipantLastReadAt(chatRoom, command, readAt);
-        resetUnreadCountCache(command);
+        chatRoomRepository.updateParticipantReadWatermark(command.roomId(), command.userId(), upToId, readAt);
+        if (legacyReadByEnabled) {
+            messageRepository.markAsReadUpTo(command.roomId(), command.userId(), upToId, readAt);
+        }
+        MessageId watermark = latestOf(previousWatermark, upToId);
+        AfterCommit.run(() -> {
+            refreshUnreadCountCache(command, chatRoom, watermark);
+            pushReadReceipt(chatRoom, command, upToId, readCount);
+        });
 
         return MarkAsReadResult.of(
                 command.roomId().toStringValue(),
@@ -49,56 +73,100 @@ public class MarkAsReadService implements MarkAsReadUseCase {
         );
     }
 
-    private ChatRoom validateAndGetChatRoom(MarkAsReadCommand command) {
+    private ChatRoom validateChatRoom(MarkAsReadCommand command) {
         ChatRoom chatRoom = chatRoomRepository.findById(command.roomId())
                 .orElseThrow(() -> ChatException.of(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
         if (!chatRoom.isParticipant(command.userId())) {
             throw ChatException.of(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
-
         return chatRoom;
     }
 
-    private List<Message> getUnreadMessages(MarkAsReadCommand command) {
-        if (command.lastMessageId() != null) {
-            Message lastMessage = messageRepository.findById(command.lastMessageId())
-                    .orElseThrow(() -> ChatException.of(ErrorCode.MESSAGE_NOT_FOUND));
+    private void validateLastMessage(MarkAsReadCommand command) {
+        if (command.lastMessageId() == null) {
+            return;
+        }
+
+        Message lastMessage = messageRepository.findById(command.lastMessageId())
+                .orElseThrow(() -> ChatException.of(ErrorCode.MESSAGE_NOT_FOUND));
 
-            return messageRepository.findByRoomIdAndCreatedAtAfter(
-                    command.roomId(),
-                    lastMessage.getCreatedAt().minusSeconds(1)
-            );
+        if (!lastMessage.getRoomId().equals(command.roomId())) {
+            throw ChatException.of(ErrorCode.MESSAGE_NOT_FOUND);
         }
+    }
+
+    /**
+     * 워터마크로 반영할 메시지 ID (요청값이 없으면 채팅방 마지막 메시지)
+     */
+    private MessageId resolveUpToId(MarkAsReadCommand command, ChatRoom chatRoom) {
+        if (command.lastMessageId() != null) {
+            return command.lastMessageId();
+        }
+        return findLatestMessageId(command, chatRoom);
+    }
 
-        return messageRepository.findByRoomIdOrderByCreatedAtDesc(
+    private int countNewlyRead(MarkAsReadCommand command, MessageId previousWatermark, MessageId upToId) {
+        if (upToId == null || (previousWatermark != null && previousWatermark.getValue() >= upToId.getValue())) {
+            return 0;
+        }
+        return (int) messageRepository.countUnreadUpTo(
                 command.roomId(),
-                100,
-                0
+                command.userId(),
+                previousWatermark,
+                upToId
         );
     }
 
-    private int markMessagesAsRead(List<Message> messages, MarkAsReadCommand command, LocalDateTime readAt) {
-        int count = 0;
-        for (Message message : messages) {
-            if (!message.isReadBy(command.userId())) {
-                message.markAsReadAt(command.userId(), readAt);
-                messageRepository.save(message);
-                count++;
-            }
+    private void pushReadReceipt(ChatRoom chatRoom, MarkAsReadCommand command, MessageId upToId, int readCount) {
+        if (upToId == null) {
+            return;
         }
-        return count;
+
+        MessageReadEvent event = MessageReadEvent.of(
+                command.roomId().toStringValue(),
+                command.userId().getValue(),
+                upToId.toStringValue(),
+                readCount
+        );
+        realtimePushPort.push(chatRoom.getParticipantIds(), event);
+    }
+
+    /**
+     * 워터마크가 채팅방 마지막 메시지에 도달했으면 0으로, 중간까지만 읽었으면 남은 안읽은 수로 캐시를 맞춘다
+     */
+    private void refreshUnreadCountCache(MarkAsReadCommand command, ChatRoom chatRoom, MessageId watermark) {
+        // 요청 값이 없으면 이미 마지막 메시지까지 전진했다
+        MessageId latestId = command.lastMessageId() == null ? watermark : findLatestMessageId(command, chatRoom);
+        if (watermark == null || latestId == null || watermark.getValue() >= latestId.getValue()) {
+            unreadCountCachePort.resetUnreadCount(command.roomId(), command.userId());
+            return;
+        }
+
+        long remaining = messageRepository.countUnread(command.roomId(), command.userId(), watermark);
+        unreadCountCachePort.setUnreadCount(command.roomId(), command.userId(), (int) remaining);
     }
 
-    private void updateParticipantLastReadAt(ChatRoom chatRoom, MarkAsReadCommand command, LocalDateTime readAt) {
-        chatRoom.findParticipant(command.userId())
-                .ifPresent(participant -> {
-                    participant.updateLastReadAt(readAt);
-                    chatRoomRepository.save(chatRoom);
-                });
+    private MessageId findLatestMessageId(MarkAsReadCommand command, ChatRoom chatRoom) {
+        LastMessage lastMessage = chatRoom.getLastMessage();
+        if (lastMessage != null) {
+            return lastMessage.messageId();
+        }
+        return messageRepository.findLatestByRoomId(command.roomId())
+                .map(Message::getId)
+                .orElse(null);
     }
 
-    private void resetUnreadCountCache(MarkAsReadCommand command) {
-        unreadCountCachePort.resetUnreadCount(command.roomId(), command.userId());
+    /**
+     * 워터마크는 뒤로 가지 않으므로 기존 값과 요청 값 중 앞선 쪽이 반영 후 워터마크다
+     */
+    private static MessageId latestOf(MessageId previousWatermark, MessageId upToId) {
+        if (previousWatermark == null) {
+            return upToId;
+        }
+        if (upToId == null) {
+            return previousWatermark;
+        }
+        return previousWatermark.getValue() >= upToId.getValue() ? previousWatermark : upToId;
     }
 }
@@ -0,0 +1,36 @@
+package com.teambind.co.kr.chatdding.application.service;
+
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterCommand;
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterResult;
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterUseCase;
+import com.teambind.co.kr.chatdding.application.port.out.DeadLetterReplayPort;
+import com.teambind.co.kr.chatdding.common.exception.ChatException;
+import com.teambind.co.kr.chatdding.common.exception.ErrorCode;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Dead Letter 재처리 UseCase 구현
+ */
+@Slf4j
+@Service
+@Timed("chat.usecase")
+@RequiredArgsConstructor
+public class ReplayDeadLetterService implements ReplayDeadLetterUseCase {
+
+    private final DeadLetterReplayPort deadLetterReplayPort;
+
+    @Override
+    public ReplayDeadLetterResult execute(ReplayDeadLetterCommand command) {
+        if (!deadLetterReplayPort.isReplayable(command.topic())) {
+            throw ChatException.of(ErrorCode.DEAD_LETTER_NOT_REPLAYABLE);
+        }
+
+        int replayed = deadLetterReplayPort.replay(command.topic(), command.limit());
+        log.info("Dead letters replayed: topic={}, replayed={}", command.topic(), replayed);
+
+        return ReplayDeadLetterResult.of(command.topic(), replayed);
+    }
+}
@@ -3,63 +3,91 @@ package com.teambind.co.kr.chatdding.application.service;
 import com.teambind.co.kr.chatdding.application.port.in.SendMessageCommand;
 import com.teambind.co.kr.chatdding.application.port.in.SendMessageResult;
 import com.teambind.co.kr.chatdding.application.port.in.SendMessageUseCase;
+import com.teambind.co.kr.chatdding.application.port.out.ChatRoomMembershipPort;
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher;
+import com.teambind.co.kr.chatdding.application.port.out.MessageTailCachePort;
+import com.teambind.co.kr.chatdding.application.port.out.RealtimePushPort;
 import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort;
 import com.teambind.co.kr.chatdding.common.exception.ChatException;
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode;
+import com.teambind.co.kr.chatdding.common.util.concurrent.ParallelFanOut;
 import com.teambind.co.kr.chatdding.common.util.generator.PrimaryKeyGenerator;
-import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
+import com.teambind.co.kr.chatdding.common.util.transaction.AfterCommit;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomMembership;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
 import com.teambind.co.kr.chatdding.domain.event.MessageSentEvent;
 import com.teambind.co.kr.chatdding.domain.message.Message;
 import com.teambind.co.kr.chatdding.domain.message.MessageId;
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 메시지 전송 UseCase 구현
+ *
+ * <p>참여자 권한 검사와 수신자 결정은 캐시된 채팅방 멤버십으로 수행하며 채팅방 문서는 조회하지 않는다</p>
+ * <p>메시지 저장, 채팅방 갱신, 이벤트 발행은 요청 스레드에서 순서대로 수행한다 (Outbox 사용 시 요청 스레드에 묶인
+ * MongoDB 트랜잭션에 참여). 이 중 하나라도 실패하면 Redis 부수 작업은 시작하지 않는다</p>
+ * <p>Redis 부수 작업(최근 메시지 캐시, 안읽은 수, 실시간 Push)은 커밋 이후 {@link ParallelFanOut}으로 동시에 실행하며,
+ * 제한 시간 대기는 이 작업들에만 적용된다</p>
  */
 @Service
+@Timed("chat.usecase")
 @RequiredArgsConstructor
 @Transactional
 public class SendMessageService implements SendMessageUseCase {
 
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembershipPort chatRoomMembershipPort;
     private final MessageRepository messageRepository;
+    private final MessageTailCachePort messageTailCachePort;
     private final PrimaryKeyGenerator primaryKeyGenerator;
     private final EventPublisher eventPublisher;
     private final UnreadCountCachePort unreadCountCachePort;
+    private final RealtimePushPort realtimePushPort;
+    private final ParallelFanOut parallelFanOut;
 
     @Override
     public SendMessageResult execute(SendMessageCommand command) {
-        ChatRoom chatRoom = findChatRoom(command);
-        validateParticipant(chatRoom, command);
+        ChatRoomMembership membership = findMembership(command);
+        validateParticipant(membership, command);
 
         Message message = createAndSaveMessage(command);
-        updateChatRoomLastMessageAt(chatRoom, message);
+        MessageSentEvent event = createMessageSentEvent(membership, message, command.senderId());
 
-        publishMessageSentEvent(chatRoom, message, command);
-        incrementUnreadCountsForRecipients(chatRoom, command.senderId());
+        Map<String, Runnable> sideEffects = new LinkedHashMap<>();
+        sideEffects.put("message-tail", () -> messageTailCachePort.append(message));
+        sideEffects.put("unread-count", () -> incrementUnreadCountsForRecipients(membership, command.senderId()));
+        // 발신자의 다른 기기도 동기화되도록 참여자 전원에게 Push
+        sideEffects.put("realtime-push", () -> realtimePushPort.push(membership.participantIds(), event));
+
+        updateChatRoomLastMessage(command, message);
+        eventPublisher.publish(event);
+
+        AfterCommit.run(() -> parallelFanOut.runAll(sideEffects));
 
         return SendMessageResult.from(message);
     }
 
-    private ChatRoom findChatRoom(SendMessageCommand command) {
-        return chatRoomRepository.findById(command.roomId())
+    private ChatRoomMembership findMembership(SendMessageCommand command) {
+        return chatRoomMembershipPort.findMembership(command.roomId())
                 .orElseThrow(() -> ChatException.of(ErrorCode.CHAT_ROOM_NOT_FOUND));
     }
 
-    private void validateParticipant(ChatRoom chatRoom, SendMessageCommand command) {
-        if (!chatRoom.isParticipant(command.senderId())) {
+    private void validateParticipant(ChatRoomMembership membership, SendMessageCommand command) {
+        if (!membership.isParticipant(command.senderId())) {
             throw ChatException.of(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
 
-        if (!chatRoom.isActive()) {
+        if (!membership.isActive()) {
             throw ChatException.of(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
     }
@@ -77,24 +105,24 @@ public class SendMessageService implements SendMessageUseCase {
         return messageRepository.save(message);
     }
 
-    private void updateChatRoomLastMessageAt(ChatRoom chatRoom, Message message) {
-        chatRoom.updateLastMessageAt(message.getCreatedAt());
-        chatRoomRepository.save(chatRoom);
+    private void updateChatRoomLastMessage(SendMessageCommand command, Message message) {
+        chatRoomRepository.updateLastMessage(command.roomId(), LastMessage.from(message));
     }
 
-    private void publishMessageSentEvent(ChatRoom chatRoom, Message message, SendMessageCommand command) {
-        List<Long> recipientIds = chatRoom.getParticipantIds().stream()
-                .filter(userId -> !userId.equals(command.senderId()))
+    private MessageSentEvent createMessageSentEvent(ChatRoomMembership membership, Message message, UserId senderId) {
+        List<Long> recipientIds = membership.participantIds().stream()
+                .filter(userId -> !userId.equals(senderId))
                 .map(UserId::getValue)
                 .toList();
 
-        MessageSentEvent event = MessageSentEvent.from(message, recipientIds);
-        eventPublisher.publish(event);
+        return MessageSentEvent.from(message, recipientIds);
     }
 
-    private void incrementUnreadCountsForRecipients(ChatRoom chatRoom, UserId senderId) {
-        chatRoom.getParticipantIds().stream()
+    private void incrementUnreadCountsForRecipients(ChatRoomMembership membership, UserId senderId) {
+        List<UserId> recipientIds = membership.participantIds().stream()
                 .filter(userId -> !userId.equals(senderId))
-                .forEach(userId -> unreadCountCachePort.incrementUnreadCount(chatRoom.getId(), userId));
+                .toList();
+
+        unreadCountCachePort.incrementUnreadCounts(membership.roomId(), recipientIds);
     }
 }
@@ -34,6 +34,9 @@ public enum ErrorCode {
     // Inquiry Errors
     DUPLICATE_INQUIRY("CHAT_011", HttpStatus.CONFLICT, "해당 공간에 이미 문의 채팅방이 존재합니다"),
 
+    // Dead Letter Errors
+    DEAD_LETTER_NOT_REPLAYABLE("CHAT_015", HttpStatus.BAD_REQUEST, "재처리를 지원하지 않는 토픽입니다"),
+
     // Internal Errors
     INTERNAL_SERVER_ERROR("CHAT_500", HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다");
 
@@ -0,0 +1,90 @@
+package com.teambind.co.kr.chatdding.common.util.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 서로 독립적인 부수 작업(캐시 갱신, Push 등)을 동시에 실행하고 제한 시간까지만 기다린다
+ *
+ * <p>작업의 실패나 지연은 호출자에게 전파하지 않는다. 제한 시간을 넘긴 작업은 취소하지 않고 백그라운드에서 마저 실행되며,
+ * 응답 지연은 작업 지연의 합이 아니라 가장 느린 작업(최대 timeout)으로 제한된다</p>
+ * <p>실행기가 작업을 거부하면 호출 스레드에서 바로 실행한다</p>
+ * <p>Metrics: {@code chat.fan-out{task, result=success|failure|timeout}}</p>
+ */
+@Slf4j
+public class ParallelFanOut {
+
+    private static final String METRIC_FAN_OUT = "chat.fan-out";
+
+    private final Executor executor;
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+
+    public ParallelFanOut(Executor executor, Duration timeout, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.timeout = timeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 작업을 모두 시작하고 제한 시간까지 작업 완료를 기다린다
+     *
+     * <p>작업은 호출자의 트랜잭션 밖에서 실행되므로 커밋 이후에 호출해야 한다</p>
+     *
+     * @param tasks 작업 이름 → 작업 (이름은 로그와 메트릭 태그로 사용)
+     */
+    public void runAll(Map<String, Runnable> tasks) {
+        List<Map.Entry<String, CompletableFuture<Void>>> futures = new ArrayList<>(tasks.size());
+        tasks.forEach((name, task) -> futures.add(Map.entry(name, start(task))));
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Map.Entry<String, CompletableFuture<Void>> entry : futures) {
+            await(entry.getKey(), entry.getValue(), deadline);
+        }
+    }
+
+    private CompletableFuture<Void> start(Runnable task) {
+        try {
+            return CompletableFuture.runAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            try {
+                task.run();
+                return CompletableFuture.completedFuture(null);
+            } catch (Exception ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+    }
+
+    private void await(String name, CompletableFuture<Void> future, long deadline) {
+        try {
+            future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            recordResult(name, "success");
+        } catch (TimeoutException e) {
+            log.warn("Fan-out task timed out, continuing in background. task={}, timeoutMs={}",
+                    name, timeout.toMillis());
+            recordResult(name, "timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordResult(name, "timeout");
+        } catch (ExecutionException e) {
+            log.warn("Fan-out task failed. task={}, error={}", name, e.getCause().getMessage());
+            recordResult(name, "failure");
+        }
+    }
+
+    private void recordResult(String name, String result) {
+        meterRegistry.counter(METRIC_FAN_OUT, "task", name, "result", result).increment();
+    }
+}
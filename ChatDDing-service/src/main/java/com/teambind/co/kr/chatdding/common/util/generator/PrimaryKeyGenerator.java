@@ -7,6 +7,11 @@ public interface PrimaryKeyGenerator {
 
     Long generateLongKey();
 
+    /**
+     * 연속된 키 블록 생성 (Bulk Insert 용)
+     */
+    long[] generateLongKeys(int count);
+
     @Deprecated(since = "1.1", forRemoval = false)
     String generateKey();
 }
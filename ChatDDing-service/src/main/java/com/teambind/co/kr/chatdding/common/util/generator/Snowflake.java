@@ -1,28 +1,33 @@
 package com.teambind.co.kr.chatdding.common.util.generator;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Primary;
-import org.springframework.stereotype.Component;
-
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake ID Generator - Time-ordered 64-bit unique ID
  *
  * <p>Custom epoch 기반의 분산 환경 고유 ID 생성기</p>
+ * <p>(timestamp, sequence)를 하나의 AtomicLong에 packing하여 CAS로 갱신한다 (lock-free).
+ * packing 값을 1 증가시키면 sequence 소진 시 자연스럽게 다음 millisecond로 넘어가므로
+ * 대기(spin) 없이 논리 시계가 벽시계보다 잠시 앞서 나가고, 부하가 줄면 벽시계가 다시 따라잡는다.
+ * 시계 역행 시에도 논리 시계를 유지하여 ID 단조 증가를 보장한다</p>
+ * <p>nodeId는 인스턴스 간 충돌을 막기 위해 설정 또는 Redis Lease로 결정론적으로 할당한다 ({@code SnowflakeConfig})</p>
+ * <p>Lease로 할당된 nodeId는 유효 기한을 함께 가지며, 기한이 지나거나 Lease를 잃으면 새 Lease를 받을 때까지
+ * ID 발급을 거부한다 (다른 인스턴스가 같은 nodeId로 발급하는 PK 충돌 방지)</p>
  */
-@Component
-@Primary
-@RequiredArgsConstructor
 public class Snowflake implements PrimaryKeyGenerator {
 
     // ===== Bit Allocation =====
     private static final int NODE_ID_BITS = 10;
     private static final int SEQUENCE_BITS = 12;
 
-    private static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
     private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
 
+    /**
+     * 한 번에 예약 가능한 최대 ID 수 (논리 시계가 최대 1ms만 앞서도록 제한)
+     */
+    public static final int MAX_BLOCK_SIZE = 1 << SEQUENCE_BITS;
+
     private static final int NODE_ID_SHIFT = SEQUENCE_BITS;
     private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
 
@@ -30,48 +35,114 @@ public class Snowflake implements PrimaryKeyGenerator {
     private static final long CUSTOM_EPOCH = 1704067200000L;
 
     // ===== Instance Variables =====
-    private final long nodeId = ThreadLocalRandom.current().nextLong(MAX_NODE_ID + 1);
-    private long lastTimestamp = -1L;
-    private long sequence = 0L;
+    /**
+     * 발급에 사용하는 nodeId와 유효 기한 (발급 시 한 번만 읽어 nodeId와 기한 검사가 어긋나지 않게 한다)
+     */
+    private volatile NodeLease nodeLease;
+
+    /**
+     * 마지막으로 발급한 (timestamp - epoch) << SEQUENCE_BITS | sequence
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    public Snowflake(long nodeId) {
+        validateNodeId(nodeId);
+        this.nodeLease = NodeLease.permanent(nodeId);
+    }
+
+    /**
+     * Lease로 할당된 nodeId와 유효 기한 갱신 (nodeId가 바뀌어도 논리 시계는 이어지므로 ID는 계속 단조 증가한다)
+     *
+     * @param deadlineNanos {@link System#nanoTime()} 기준 유효 기한
+     */
+    public void lease(long nodeId, long deadlineNanos) {
+        validateNodeId(nodeId);
+        this.nodeLease = NodeLease.until(nodeId, deadlineNanos);
+    }
+
+    /**
+     * Lease 상실 - 다음 {@link #lease(long, long)} 전까지 ID 발급을 거부한다
+     */
+    public void revokeLease() {
+        this.nodeLease = NodeLease.until(nodeLease.nodeId(), System.nanoTime());
+    }
 
     /**
      * Generate next unique ID
      */
-    public synchronized long nextId() {
-        long currentTimestamp = currentTime();
+    public long nextId() {
+        long nodeId = issuingNodeId();
+        return toId(nodeId, state.updateAndGet(last -> Math.max(currentTick() << SEQUENCE_BITS, last + 1)));
+    }
 
-        // Clock rollback handling
-        if (currentTimestamp < lastTimestamp) {
-            currentTimestamp = waitNextMillis(lastTimestamp);
+    /**
+     * 연속된 ID 블록을 한 번의 CAS로 예약 (Bulk Insert 용)
+     *
+     * @param count 예약할 ID 수 (1 ~ {@link #MAX_BLOCK_SIZE})
+     * @return 오름차순 ID 배열
+     */
+    public long[] nextIds(int count) {
+        if (count < 1 || count > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_BLOCK_SIZE + ": " + count);
         }
 
-        if (currentTimestamp == lastTimestamp) {
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            if (sequence == 0) {
-                currentTimestamp = waitNextMillis(currentTimestamp);
-            }
-        } else {
-            sequence = 0;
+        long nodeId = issuingNodeId();
+        long end = state.updateAndGet(last -> Math.max(currentTick() << SEQUENCE_BITS, last + 1) + count - 1);
+        long start = end - count + 1;
+
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = toId(nodeId, start + i);
         }
+        return ids;
+    }
 
-        lastTimestamp = currentTimestamp;
+    public long getNodeId() {
+        return nodeLease.nodeId();
+    }
 
-        return ((currentTimestamp - CUSTOM_EPOCH) << TIMESTAMP_SHIFT)
-                | (nodeId << NODE_ID_SHIFT)
-                | sequence;
+    /**
+     * ID에 기록된 발급 시각 (epoch millis)
+     *
+     * <p>논리 시계가 벽시계보다 앞서 나간 구간에서는 실제 발급 시각보다 최대 1ms 늦을 수 있다</p>
+     */
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + CUSTOM_EPOCH;
     }
 
-    private long waitNextMillis(long lastTimestamp) {
-        long timestamp = currentTime();
-        while (timestamp <= lastTimestamp) {
-            Thread.yield();
-            timestamp = currentTime();
+    /**
+     * 해당 시각(epoch millis) 이후에 발급된 ID의 하한
+     */
+    public static long minIdAt(long epochMillis) {
+        return (epochMillis - CUSTOM_EPOCH) << TIMESTAMP_SHIFT;
+    }
+
+    /**
+     * @throws IllegalStateException nodeId Lease가 만료되었거나 상실된 경우
+     */
+    private long issuingNodeId() {
+        NodeLease current = nodeLease;
+        if (!current.isValid()) {
+            throw new IllegalStateException("Snowflake nodeId lease expired or lost, refusing to issue ids: nodeId="
+                    + current.nodeId());
         }
-        return timestamp;
+        return current.nodeId();
+    }
+
+    private static void validateNodeId(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+    }
+
+    private static long toId(long nodeId, long packed) {
+        return ((packed >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT)
+                | (nodeId << NODE_ID_SHIFT)
+                | (packed & MAX_SEQUENCE);
     }
 
-    private long currentTime() {
-        return System.currentTimeMillis();
+    private long currentTick() {
+        return System.currentTimeMillis() - CUSTOM_EPOCH;
     }
 
     @Override
@@ -79,9 +150,32 @@ public class Snowflake implements PrimaryKeyGenerator {
         return nextId();
     }
 
+    @Override
+    public long[] generateLongKeys(int count) {
+        return nextIds(count);
+    }
+
     @Override
     @Deprecated(since = "1.1", forRemoval = false)
     public String generateKey() {
         return String.valueOf(nextId());
     }
+
+    /**
+     * @param expiring false면 기한 없음 (설정으로 고정한 nodeId)
+     */
+    private record NodeLease(long nodeId, boolean expiring, long deadlineNanos) {
+
+        static NodeLease permanent(long nodeId) {
+            return new NodeLease(nodeId, false, 0L);
+        }
+
+        static NodeLease until(long nodeId, long deadlineNanos) {
+            return new NodeLease(nodeId, true, deadlineNanos);
+        }
+
+        boolean isValid() {
+            return !expiring || System.nanoTime() - deadlineNanos < 0;
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.teambind.co.kr.chatdding.common.util.transaction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행할 부수 작업 (캐시 갱신/무효화, 실시간 Push 등)
+ *
+ * <p>트랜잭션 안에서 호출하면 커밋 직후 같은 스레드에서 실행하고, 롤백되면 실행하지 않는다.
+ * 트랜잭션이 없으면(Outbox 비활성화 시 트랜잭션 매니저 없음) 바로 실행한다</p>
+ * <p>커밋 이후의 실패는 이미 커밋된 요청을 실패로 만들지 않도록 로그만 남긴다</p>
+ */
+@Slf4j
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.warn("After-commit task failed. error={}", e.getMessage(), e);
+                }
+            }
+        });
+    }
+}
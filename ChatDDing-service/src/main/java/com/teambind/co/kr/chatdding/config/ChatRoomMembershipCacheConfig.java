@@ -0,0 +1,44 @@
+package com.teambind.co.kr.chatdding.config;
+
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
+import com.teambind.co.kr.chatdding.infrastructure.cache.redis.ChatRoomMembershipCacheAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+@Configuration
+public class ChatRoomMembershipCacheConfig {
+
+    @Value("${chat.cache.membership.ttl-seconds:1800}")
+    private long ttlSeconds;
+
+    @Value("${chat.cache.membership.near-ttl-seconds:30}")
+    private long nearTtlSeconds;
+
+    @Value("${chat.cache.membership.near-max-size:10000}")
+    private long nearMaxSize;
+
+    @Bean
+    public ChatRoomMembershipCacheAdapter chatRoomMembershipCacheAdapter(StringRedisTemplate stringRedisTemplate,
+                                                                         ChatRoomRepository chatRoomRepository,
+                                                                         MeterRegistry meterRegistry,
+                                                                         RedisMessageListenerContainer redisMessageListenerContainer) {
+        ChatRoomMembershipCacheAdapter adapter = new ChatRoomMembershipCacheAdapter(
+                stringRedisTemplate,
+                chatRoomRepository,
+                meterRegistry,
+                Duration.ofSeconds(ttlSeconds),
+                Duration.ofSeconds(nearTtlSeconds),
+                nearMaxSize
+        );
+        redisMessageListenerContainer.addMessageListener(adapter,
+                new ChannelTopic(ChatRoomMembershipCacheAdapter.INVALIDATION_CHANNEL));
+        return adapter;
+    }
+}
@@ -0,0 +1,60 @@
+package com.teambind.co.kr.chatdding.config;
+
+import com.teambind.co.kr.chatdding.common.util.concurrent.ParallelFanOut;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+
+/**
+ * UseCase 부수 작업 병렬 실행 설정
+ *
+ * <p>메시지 전송 후 캐시 갱신과 Push처럼 서로 독립적인 Redis 작업을 동시에 실행한다</p>
+ */
+@Configuration
+public class FanOutConfig {
+
+    @Value("${chat.fan-out.threads:16}")
+    private int threads;
+
+    @Value("${chat.fan-out.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${chat.fan-out.timeout-ms:300}")
+    private long timeoutMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    public ParallelFanOut parallelFanOut(MeterRegistry meterRegistry) {
+        return new ParallelFanOut(fanOutExecutor(), Duration.ofMillis(timeoutMs), meterRegistry);
+    }
+
+    /**
+     * 부수 작업 실행기
+     *
+     * <p>큐가 가득 차면 작업을 거부하고 {@link ParallelFanOut}이 호출 스레드에서 직접 실행한다</p>
+     */
+    @Bean
+    public AsyncTaskExecutor fanOutExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fan-out-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("fan-out-");
+        executor.initialize();
+        return executor;
+    }
+}
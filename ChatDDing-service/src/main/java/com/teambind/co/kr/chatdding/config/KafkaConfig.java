@@ -1,10 +1,189 @@
 package com.teambind.co.kr.chatdding.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.teambind.co.kr.chatdding.infrastructure.messaging.kafka.KafkaDeadLetterReplayAdapter;
+import com.teambind.co.kr.chatdding.infrastructure.messaging.kafka.KafkaProducerProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
 @Configuration
 @EnableKafka
 public class KafkaConfig {
 
+    @Value("${chat.kafka.producer.acks:all}")
+    private String acks;
+
+    @Value("${chat.kafka.producer.idempotence:true}")
+    private boolean idempotence;
+
+    @Value("${chat.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${chat.kafka.producer.linger-ms:10}")
+    private int lingerMs;
+
+    @Value("${chat.kafka.producer.batch-size-bytes:65536}")
+    private int batchSizeBytes;
+
+    @Value("${chat.kafka.producer.buffer-memory-bytes:67108864}")
+    private long bufferMemoryBytes;
+
+    @Value("${chat.kafka.producer.max-in-flight-requests:5}")
+    private int maxInFlightRequests;
+
+    @Value("${chat.kafka.producer.max-block-ms:5000}")
+    private long maxBlockMs;
+
+    @Value("${chat.kafka.producer.request-timeout-ms:10000}")
+    private int requestTimeoutMs;
+
+    @Value("${chat.kafka.producer.delivery-timeout-ms:30000}")
+    private int deliveryTimeoutMs;
+
+    @Value("${chat.kafka.consumer.retry.initial-interval-ms:500}")
+    private long retryInitialIntervalMs;
+
+    @Value("${chat.kafka.consumer.retry.multiplier:2.0}")
+    private double retryMultiplier;
+
+    @Value("${chat.kafka.consumer.retry.max-interval-ms:10000}")
+    private long retryMaxIntervalMs;
+
+    @Value("${chat.kafka.consumer.retry.max-retries:5}")
+    private int retryMaxRetries;
+
+    @Value("${chat.kafka.dead-letter.replayable-topics:chat-message-read}")
+    private List<String> replayableTopics;
+
+    @Value("${chat.kafka.dead-letter.replay-group-id:chatdding-dlt-replay-group}")
+    private String replayGroupId;
+
+    @Bean
+    public KafkaProducerProfile kafkaProducerProfile() {
+        KafkaProducerProfile profile = new KafkaProducerProfile(acks, idempotence, compressionType, lingerMs,
+                batchSizeBytes, bufferMemoryBytes, maxInFlightRequests, maxBlockMs, requestTimeoutMs, deliveryTimeoutMs);
+        log.info("Kafka producer profile: {}", profile);
+        return profile;
+    }
+
+    /**
+     * 이벤트는 ObjectMapper로 한 번만 JSON 직렬화한 byte[]를 그대로 전송한다
+     *
+     * <p>접속/보안 설정은 {@code spring.kafka.*}, 처리량 설정은 {@code chat.kafka.producer.*}를 따른다</p>
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> producerFactory(
+            KafkaProperties kafkaProperties,
+            SslBundles sslBundles,
+            KafkaProducerProfile kafkaProducerProfile,
+            ObjectProvider<DefaultKafkaProducerFactoryCustomizer> customizers) {
+        Map<String, Object> properties = new HashMap<>(kafkaProperties.buildProducerProperties(sslBundles));
+        properties.putAll(kafkaProducerProfile.toProducerProperties());
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory =
+                new DefaultKafkaProducerFactory<>(properties, new StringSerializer(), new ByteArraySerializer());
+        // Boot 기본 customizer(Micrometer kafka.producer.* 메트릭 등)를 직접 만든 factory에도 적용
+        customizers.orderedStream().forEach(customizer -> customizer.customize(producerFactory));
+        return producerFactory;
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * 재시도를 소진한 레코드를 {@code {topic}.DLT}로 보낸다 (파티션은 키 기준으로 재배정)
+     *
+     * <p>Metrics: {@code chat.kafka.dlt{topic}}</p>
+     */
+    @Bean
+    public ConsumerRecordRecoverer deadLetterRecoverer(KafkaTemplate<String, byte[]> kafkaTemplate,
+                                                       MeterRegistry meterRegistry) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(
+                        record.topic() + KafkaDeadLetterReplayAdapter.DEAD_LETTER_SUFFIX, -1));
+        return (record, exception) -> {
+            log.warn("Sending record to DLT: topic={}, partition={}, offset={}, error={}",
+                    record.topic(), record.partition(), record.offset(), exception.getMessage());
+            meterRegistry.counter("chat.kafka.dlt", "topic", record.topic()).increment();
+            recoverer.accept(record, exception);
+        };
+    }
+
+    /**
+     * 모든 {@code @KafkaListener}에 적용되는 에러 핸들러 (Boot가 Listener Container Factory에 등록)
+     *
+     * <p>지수 백오프로 재시도한 뒤 DLT로 보낸다. 역직렬화/파싱 오류는 재시도 없이 바로 DLT로 보낸다</p>
+     */
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(ConsumerRecordRecoverer deadLetterRecoverer) {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(retryMaxRetries);
+        backOff.setInitialInterval(retryInitialIntervalMs);
+        backOff.setMultiplier(retryMultiplier);
+        backOff.setMaxInterval(retryMaxIntervalMs);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(deadLetterRecoverer, backOff);
+        errorHandler.addNotRetryableExceptions(JsonProcessingException.class, IllegalArgumentException.class);
+        return errorHandler;
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics deadLetterTopics() {
+        return new KafkaAdmin.NewTopics(replayableTopics.stream()
+                .map(topic -> TopicBuilder.name(topic + KafkaDeadLetterReplayAdapter.DEAD_LETTER_SUFFIX).build())
+                .toArray(NewTopic[]::new));
+    }
+
+    @Bean
+    public KafkaDeadLetterReplayAdapter kafkaDeadLetterReplayAdapter(KafkaProperties kafkaProperties,
+                                                                     SslBundles sslBundles,
+                                                                     KafkaTemplate<String, byte[]> kafkaTemplate,
+                                                                     MeterRegistry meterRegistry) {
+        Map<String, Object> properties = new HashMap<>(kafkaProperties.buildConsumerProperties(sslBundles));
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        DefaultKafkaConsumerFactory<String, byte[]> consumerFactory =
+                new DefaultKafkaConsumerFactory<>(properties, new StringDeserializer(), new ByteArrayDeserializer());
+
+        return new KafkaDeadLetterReplayAdapter(
+                consumerFactory,
+                kafkaTemplate,
+                meterRegistry,
+                Set.copyOf(replayableTopics),
+                replayGroupId,
+                Duration.ofSeconds(10)
+        );
+    }
 }
@@ -0,0 +1,48 @@
+package com.teambind.co.kr.chatdding.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.co.kr.chatdding.infrastructure.cache.redis.MessageTailCacheAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+@Configuration
+public class MessageTailCacheConfig {
+
+    @Value("${chat.cache.message-tail.capacity:100}")
+    private int capacity;
+
+    @Value("${chat.cache.message-tail.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    @Value("${chat.cache.message-tail.near-ttl-seconds:5}")
+    private long nearTtlSeconds;
+
+    @Value("${chat.cache.message-tail.near-max-size:2000}")
+    private long nearMaxSize;
+
+    @Bean
+    public MessageTailCacheAdapter messageTailCacheAdapter(StringRedisTemplate stringRedisTemplate,
+                                                           ObjectMapper objectMapper,
+                                                           MeterRegistry meterRegistry,
+                                                           RedisMessageListenerContainer redisMessageListenerContainer) {
+        MessageTailCacheAdapter adapter = new MessageTailCacheAdapter(
+                stringRedisTemplate,
+                objectMapper,
+                meterRegistry,
+                capacity,
+                Duration.ofSeconds(ttlSeconds),
+                Duration.ofSeconds(nearTtlSeconds),
+                nearMaxSize
+        );
+        redisMessageListenerContainer.addMessageListener(adapter,
+                new ChannelTopic(MessageTailCacheAdapter.INVALIDATION_CHANNEL));
+        return adapter;
+    }
+}
@@ -0,0 +1,80 @@
+package com.teambind.co.kr.chatdding.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.co.kr.chatdding.common.util.generator.PrimaryKeyGenerator;
+import com.teambind.co.kr.chatdding.infrastructure.messaging.outbox.OutboxEventPublisher;
+import com.teambind.co.kr.chatdding.infrastructure.messaging.outbox.OutboxRelay;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository.OutboxEventMongoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+
+/**
+ * Transactional Outbox 설정
+ *
+ * <p>{@code chat.outbox.enabled=true}일 때만 활성화된다.
+ * MongoTransactionManager를 등록해 UseCase의 {@code @Transactional}을 MongoDB 트랜잭션으로 실행하므로
+ * MongoDB가 Replica Set(단일 노드 포함)이어야 한다</p>
+ * <p>UseCase의 Redis 캐시 갱신/무효화와 실시간 Push는 {@code AfterCommit}으로 커밋 이후에 실행되므로 롤백 시 반영되지 않는다</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chat.outbox", name = "enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Value("${chat.outbox.relay-interval-ms:200}")
+    private long relayIntervalMs;
+
+    @Value("${chat.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${chat.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${chat.outbox.leader-ttl-seconds:30}")
+    private long leaderTtlSeconds;
+
+    @Value("${chat.kafka.producer.legacy-string-payload:false}")
+    private boolean legacyStringPayload;
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory mongoDatabaseFactory) {
+        return new MongoTransactionManager(mongoDatabaseFactory);
+    }
+
+    @Bean
+    public OutboxEventPublisher outboxEventPublisher(OutboxEventMongoRepository outboxEventMongoRepository,
+                                                     PrimaryKeyGenerator primaryKeyGenerator,
+                                                     ObjectMapper objectMapper) {
+        return new OutboxEventPublisher(outboxEventMongoRepository, primaryKeyGenerator, objectMapper,
+                legacyStringPayload);
+    }
+
+    @Bean(initMethod = "start")
+    public OutboxRelay outboxRelay(OutboxEventMongoRepository outboxEventMongoRepository,
+                                   KafkaTemplate<String, byte[]> kafkaTemplate,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   MeterRegistry meterRegistry) {
+        return new OutboxRelay(
+                outboxEventMongoRepository,
+                kafkaTemplate,
+                stringRedisTemplate,
+                meterRegistry,
+                batchSize,
+                maxBatchesPerRun,
+                Duration.ofMillis(sendTimeoutMs),
+                Duration.ofSeconds(leaderTtlSeconds),
+                Duration.ofMillis(relayIntervalMs)
+        );
+    }
+}
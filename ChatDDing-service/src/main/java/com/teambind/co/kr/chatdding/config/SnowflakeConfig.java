@@ -0,0 +1,48 @@
+package com.teambind.co.kr.chatdding.config;
+
+import com.teambind.co.kr.chatdding.common.util.generator.Snowflake;
+import com.teambind.co.kr.chatdding.infrastructure.cache.redis.SnowflakeNodeIdLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class SnowflakeConfig {
+
+    /**
+     * 고정 nodeId (0 ~ 1023). 음수면 Redis Lease로 할당
+     */
+    @Value("${chat.snowflake.node-id:-1}")
+    private long nodeId;
+
+    @Value("${chat.snowflake.lease-ttl-seconds:30}")
+    private long leaseTtlSeconds;
+
+    @Value("${chat.snowflake.lease-renew-interval-ms:10000}")
+    private long leaseRenewIntervalMs;
+
+    @Bean
+    public SnowflakeNodeIdLease snowflakeNodeIdLease(StringRedisTemplate stringRedisTemplate) {
+        return new SnowflakeNodeIdLease(stringRedisTemplate,
+                Duration.ofSeconds(leaseTtlSeconds), Duration.ofMillis(leaseRenewIntervalMs));
+    }
+
+    @Bean
+    @Primary
+    public Snowflake snowflake(SnowflakeNodeIdLease snowflakeNodeIdLease) {
+        if (nodeId >= 0) {
+            log.info("Snowflake nodeId configured: nodeId={}", nodeId);
+            return new Snowflake(nodeId);
+        }
+        Snowflake snowflake = new Snowflake(snowflakeNodeIdLease.acquire());
+        snowflakeNodeIdLease.bind(snowflake);
+        snowflakeNodeIdLease.start();
+        return snowflake;
+    }
+}
@@ -0,0 +1,61 @@
+package com.teambind.co.kr.chatdding.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.WebSocketSessionRegistry;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.PresenceHeartbeat;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.PresenceRegistry;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.RedisNodeMessageBus;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.RedisPresenceRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Slf4j
+@Configuration
+public class WebSocketClusterConfig {
+
+    @Value("${chat.cluster.node-id:}")
+    private String nodeId;
+
+    @Value("${chat.cluster.presence-ttl-seconds:60}")
+    private long presenceTtlSeconds;
+
+    @Bean
+    public PresenceRegistry presenceRegistry(StringRedisTemplate stringRedisTemplate) {
+        return new RedisPresenceRegistry(stringRedisTemplate, resolveNodeId(), Duration.ofSeconds(presenceTtlSeconds));
+    }
+
+    @Bean
+    public RedisNodeMessageBus nodeMessageBus(StringRedisTemplate stringRedisTemplate,
+                                              ObjectMapper objectMapper,
+                                              WebSocketSessionRegistry webSocketSessionRegistry,
+                                              PresenceRegistry presenceRegistry,
+                                              RedisMessageListenerContainer redisMessageListenerContainer) {
+        RedisNodeMessageBus nodeMessageBus =
+                new RedisNodeMessageBus(stringRedisTemplate, objectMapper, webSocketSessionRegistry);
+        redisMessageListenerContainer.addMessageListener(nodeMessageBus,
+                new ChannelTopic(RedisNodeMessageBus.channelOf(presenceRegistry.localNodeId())));
+        return nodeMessageBus;
+    }
+
+    @Bean
+    public PresenceHeartbeat presenceHeartbeat(WebSocketSessionRegistry webSocketSessionRegistry,
+                                               PresenceRegistry presenceRegistry) {
+        return new PresenceHeartbeat(webSocketSessionRegistry, presenceRegistry);
+    }
+
+    private String resolveNodeId() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+            log.info("chat.cluster.node-id not configured, generated nodeId={}", nodeId);
+        }
+        return nodeId;
+    }
+}
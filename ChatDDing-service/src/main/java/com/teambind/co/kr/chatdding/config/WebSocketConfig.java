@@ -0,0 +1,102 @@
+package com.teambind.co.kr.chatdding.config;
+
+import com.teambind.co.kr.chatdding.infrastructure.websocket.ChatWebSocketHandler;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.UserIdHandshakeInterceptor;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.WebSocketSessionRegistry;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.PresenceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import java.time.Duration;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final PresenceRegistry presenceRegistry;
+
+    @Value("${chat.websocket.endpoint:/ws/chat}")
+    private String endpoint;
+
+    @Value("${chat.websocket.allowed-origin-patterns:*}")
+    private String[] allowedOriginPatterns;
+
+    @Value("${chat.websocket.send-queue-capacity:256}")
+    private int sendQueueCapacity;
+
+    @Value("${chat.websocket.send-time-limit-ms:10000}")
+    private long sendTimeLimitMs;
+
+    @Value("${chat.websocket.push-threads:8}")
+    private int pushThreads;
+
+    @Value("${chat.websocket.inbound-buffer-size:1024}")
+    private int inboundBufferSize;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(chatWebSocketHandler(), endpoint)
+                .addInterceptors(new UserIdHandshakeInterceptor())
+                .setAllowedOriginPatterns(allowedOriginPatterns);
+    }
+
+    @Bean
+    public ChatWebSocketHandler chatWebSocketHandler() {
+        return new ChatWebSocketHandler(webSocketSessionRegistry(), presenceRegistry);
+    }
+
+    @Bean
+    public WebSocketSessionRegistry webSocketSessionRegistry() {
+        return new WebSocketSessionRegistry(sendQueueCapacity, Duration.ofMillis(sendTimeLimitMs), webSocketPushExecutor());
+    }
+
+    /**
+     * 연결별 수신 버퍼 크기 축소
+     *
+     * <p>Tomcat은 WebSocket 세션마다 텍스트/바이너리 수신 버퍼(기본 8KB)를 미리 할당한다.
+     * 이 채널은 서버 → 클라이언트 단방향이라 수신 프레임이 없으므로 버퍼를 줄여 연결당 메모리를 낮춘다</p>
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> webSocketBufferCustomizer() {
+        return factory -> factory.addContextCustomizers(context -> {
+            context.addParameter("org.apache.tomcat.websocket.textBufferSize", String.valueOf(inboundBufferSize));
+            context.addParameter("org.apache.tomcat.websocket.binaryBufferSize", String.valueOf(inboundBufferSize));
+        });
+    }
+
+    /**
+     * 연결별 송신 drain 실행기
+     *
+     * <p>Virtual Thread 모드에서는 drain 작업마다 Virtual Thread를 만들어 느린 연결의 블로킹 전송이
+     * push-threads개 스레드를 점유하지 않도록 한다 (동시 drain 수는 송신 대기 중인 연결 수로 제한된다)</p>
+     */
+    @Bean
+    public AsyncTaskExecutor webSocketPushExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ws-push-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pushThreads);
+        executor.setMaxPoolSize(pushThreads);
+        executor.setThreadNamePrefix("ws-push-");
+        executor.initialize();
+        return executor;
+    }
+}
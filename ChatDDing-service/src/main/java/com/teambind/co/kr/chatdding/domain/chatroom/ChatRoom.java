@@ -3,6 +3,8 @@ package com.teambind.co.kr.chatdding.domain.chatroom;
 import com.teambind.co.kr.chatdding.common.exception.ChatException;
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.Message;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -28,11 +30,13 @@ public class ChatRoom {
     private final LocalDateTime createdAt;
     private LocalDateTime lastMessageAt;
     private final ChatRoomContext context;
+    private LastMessage lastMessage;
 
     private ChatRoom(RoomId id, ChatRoomType type, String name,
                      List<Participant> participants, UserId ownerId,
                      ChatRoomStatus status, LocalDateTime createdAt,
-                     LocalDateTime lastMessageAt, ChatRoomContext context) {
+                     LocalDateTime lastMessageAt, ChatRoomContext context,
+                     LastMessage lastMessage) {
         this.id = id;
         this.type = type;
         this.name = name;
@@ -42,6 +46,7 @@ public class ChatRoom {
         this.createdAt = createdAt;
         this.lastMessageAt = lastMessageAt;
         this.context = context;
+        this.lastMessage = lastMessage;
     }
 
     /**
@@ -67,6 +72,7 @@ public class ChatRoom {
                 ChatRoomStatus.ACTIVE,
                 now,
                 now,
+                null,
                 null
         );
     }
@@ -98,6 +104,7 @@ public class ChatRoom {
                 ChatRoomStatus.ACTIVE,
                 now,
                 now,
+                null,
                 null
         );
     }
@@ -121,6 +128,7 @@ public class ChatRoom {
                 ChatRoomStatus.ACTIVE,
                 now,
                 now,
+                null,
                 null
         );
     }
@@ -156,7 +164,8 @@ public class ChatRoom {
                 ChatRoomStatus.ACTIVE,
                 now,
                 now,
-                context
+                context,
+                null
         );
     }
 
@@ -167,7 +176,19 @@ public class ChatRoom {
                                     List<Participant> participants, UserId ownerId,
                                     ChatRoomStatus status, LocalDateTime createdAt,
                                     LocalDateTime lastMessageAt, ChatRoomContext context) {
-        return new ChatRoom(id, type, name, participants, ownerId, status, createdAt, lastMessageAt, context);
+        return restore(id, type, name, participants, ownerId, status, createdAt, lastMessageAt, context, null);
+    }
+
+    /**
+     * 기존 데이터로부터 ChatRoom 복원 - 마지막 메시지 스냅샷 포함 (Repository용)
+     */
+    public static ChatRoom restore(RoomId id, ChatRoomType type, String name,
+                                    List<Participant> participants, UserId ownerId,
+                                    ChatRoomStatus status, LocalDateTime createdAt,
+                                    LocalDateTime lastMessageAt, ChatRoomContext context,
+                                    LastMessage lastMessage) {
+        return new ChatRoom(id, type, name, participants, ownerId, status, createdAt, lastMessageAt, context,
+                lastMessage);
     }
 
     /**
@@ -213,6 +234,26 @@ public class ChatRoom {
                 .findFirst();
     }
 
+    /**
+     * 참여자의 읽음 워터마크 조회 (참여자가 아니거나 워터마크가 없으면 null)
+     */
+    public MessageId findLastReadMessageId(UserId userId) {
+        return findParticipant(userId)
+                .map(Participant::getLastReadMessageId)
+                .orElse(null);
+    }
+
+    /**
+     * 메시지를 읽은 참여자 수
+     *
+     * <p>발신자, 워터마크가 메시지 ID 이상인 참여자, 레거시 readBy에 기록된 참여자를 읽은 것으로 본다</p>
+     */
+    public int countReadersOf(Message message) {
+        return (int) participants.stream()
+                .filter(p -> p.hasRead(message.getId()) || message.isReadBy(p.getUserId()))
+                .count();
+    }
+
     /**
      * 마지막 메시지 시간 업데이트
      */
@@ -222,6 +263,19 @@ public class ChatRoom {
         }
     }
 
+    /**
+     * 마지막 메시지 스냅샷 갱신
+     *
+     * <p>더 최신 메시지인 경우에만 갱신하며 lastMessageAt도 함께 맞춘다</p>
+     */
+    public void updateLastMessage(LastMessage newLastMessage) {
+        if (newLastMessage == null || !newLastMessage.isNewerThan(lastMessage)) {
+            return;
+        }
+        this.lastMessage = newLastMessage;
+        updateLastMessageAt(newLastMessage.createdAt());
+    }
+
     /**
      * 채팅방 이름 변경 (GROUP만 가능)
      */
@@ -0,0 +1,61 @@
+package com.teambind.co.kr.chatdding.domain.chatroom;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 채팅방 목록 Keyset 페이지네이션 커서 Value Object
+ *
+ * <p>목록 정렬 키 (lastMessageAt DESC, roomId DESC) 의 마지막 값을 담으며,
+ * 다음 페이지는 이 위치보다 뒤에 있는 채팅방부터 조회한다</p>
+ * <p>API에서는 {@code {lastMessageAt epoch millis}_{roomId}} 형태의 문자열로 주고받는다</p>
+ *
+ * @param lastMessageAt 마지막 채팅방의 마지막 메시지 시각
+ * @param roomId        마지막 채팅방 ID (동일 시각 tie-breaker)
+ */
+public record ChatRoomCursor(LocalDateTime lastMessageAt, RoomId roomId) {
+
+    private static final String DELIMITER = "_";
+
+    public ChatRoomCursor {
+        if (lastMessageAt == null) {
+            throw new IllegalArgumentException("lastMessageAt cannot be null");
+        }
+        if (roomId == null) {
+            throw new IllegalArgumentException("roomId cannot be null");
+        }
+    }
+
+    /**
+     * 페이지의 마지막 채팅방으로 다음 페이지 커서 생성
+     */
+    public static ChatRoomCursor from(ChatRoom chatRoom) {
+        return new ChatRoomCursor(chatRoom.getLastMessageAt(), chatRoom.getId());
+    }
+
+    /**
+     * 커서 문자열 파싱 (API 요청 파싱용)
+     */
+    public static ChatRoomCursor fromString(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("cursor cannot be null or blank");
+        }
+
+        int index = value.indexOf(DELIMITER);
+        if (index <= 0 || index == value.length() - 1) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+
+        long epochMillis = Long.parseLong(value.substring(0, index));
+        return new ChatRoomCursor(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC),
+                RoomId.fromString(value.substring(index + 1))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return lastMessageAt.toInstant(ZoneOffset.UTC).toEpochMilli() + DELIMITER + roomId;
+    }
+}
@@ -0,0 +1,60 @@
+package com.teambind.co.kr.chatdding.domain.chatroom;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+
+import java.util.List;
+
+/**
+ * 채팅방 멤버십 Value Object
+ *
+ * <p>참여자 권한 검사와 Push 대상 결정에 필요한 채팅방 타입, 상태, 참여자 ID 목록만 담은 읽기 전용 스냅샷</p>
+ * <p>읽음 워터마크, 마지막 메시지처럼 메시지마다 바뀌는 값은 담지 않으므로 캐시에 보관할 수 있다</p>
+ *
+ * @param roomId         채팅방 ID
+ * @param type           채팅방 타입
+ * @param status         채팅방 상태
+ * @param participantIds 참여자 ID 목록 (참여 순서 유지)
+ */
+public record ChatRoomMembership(
+        RoomId roomId,
+        ChatRoomType type,
+        ChatRoomStatus status,
+        List<UserId> participantIds
+) {
+
+    public ChatRoomMembership {
+        if (roomId == null) {
+            throw new IllegalArgumentException("roomId cannot be null");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("type cannot be null");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("status cannot be null");
+        }
+        participantIds = participantIds == null ? List.of() : List.copyOf(participantIds);
+    }
+
+    public static ChatRoomMembership from(ChatRoom chatRoom) {
+        return new ChatRoomMembership(
+                chatRoom.getId(),
+                chatRoom.getType(),
+                chatRoom.getStatus(),
+                chatRoom.getParticipantIds()
+        );
+    }
+
+    /**
+     * 참여자 여부 확인
+     */
+    public boolean isParticipant(UserId userId) {
+        return participantIds.contains(userId);
+    }
+
+    /**
+     * 활성 상태 여부
+     */
+    public boolean isActive() {
+        return status.isActive();
+    }
+}
@@ -1,8 +1,11 @@
 package com.teambind.co.kr.chatdding.domain.chatroom;
 
 import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -33,6 +36,16 @@ public interface ChatRoomRepository {
      */
     List<ChatRoom> findActiveByParticipantUserIdOrderByLastMessageAtDesc(UserId userId);
 
+    /**
+     * 사용자가 참여중인 활성 채팅방의 읽음 워터마크 조회
+     *
+     * <p>채팅방 전체 대신 채팅방 ID와 해당 사용자의 lastReadMessageId만 읽는다 (전체 안읽은 수 재계산용)</p>
+     *
+     * @param userId 사용자 ID
+     * @return 채팅방 ID → 마지막으로 읽은 메시지 ID (값은 nullable, 워터마크 백필 이전 참여자)
+     */
+    Map<RoomId, MessageId> findActiveReadWatermarksByParticipantUserId(UserId userId);
+
     /**
      * 사용자가 참여중인 활성 채팅방 목록 조회 - 타입 필터링 (최근 메시지 순)
      *
@@ -41,6 +54,19 @@ public interface ChatRoomRepository {
      */
     List<ChatRoom> findActiveByParticipantUserIdAndTypeOrderByLastMessageAtDesc(UserId userId, ChatRoomType type);
 
+    /**
+     * 사용자가 참여중인 활성 채팅방 목록 Keyset 페이지 조회 (최근 메시지 순)
+     *
+     * <p>(lastMessageAt DESC, roomId DESC) 정렬에서 커서 이후의 채팅방을 최대 limit개 조회한다</p>
+     *
+     * @param userId 사용자 ID
+     * @param type   채팅방 타입 (nullable, null이면 전체)
+     * @param cursor 이전 페이지 마지막 위치 (nullable, null이면 처음부터)
+     * @param limit  조회 개수
+     */
+    List<ChatRoom> findActiveByParticipantUserIdBeforeCursor(UserId userId, ChatRoomType type,
+                                                             ChatRoomCursor cursor, int limit);
+
     /**
      * DM 중복 체크용: 동일한 참여자 조합의 DM이 존재하는지 확인
      *
@@ -68,13 +94,16 @@ public interface ChatRoomRepository {
     Optional<ChatRoom> findPlaceInquiryByPlaceIdAndGuestId(Long placeId, UserId guestId);
 
     /**
-     * 호스트의 공간 문의 목록 조회
+     * 호스트의 공간 문의 목록 Keyset 페이지 조회 (최근 메시지 순)
      *
      * @param hostId  호스트 ID
      * @param placeId 공간 ID (nullable, 필터링용)
+     * @param cursor  이전 페이지 마지막 위치 (nullable, null이면 처음부터)
+     * @param limit   조회 개수
      * @return 문의 채팅방 목록
      */
-    List<ChatRoom> findPlaceInquiriesByHostId(UserId hostId, Long placeId);
+    List<ChatRoom> findPlaceInquiriesByHostIdBeforeCursor(UserId hostId, Long placeId,
+                                                          ChatRoomCursor cursor, int limit);
 
     /**
      * 상담원 미배정 상담 채팅방 목록 조회 (대기열)
@@ -91,4 +120,74 @@ public interface ChatRoomRepository {
      * @return 대기 중인 상담 수
      */
     long countPendingSupportRooms();
+
+    /**
+     * 참여자 읽음 워터마크 원자적 갱신
+     *
+     * <p>채팅방 전체를 다시 쓰지 않고 해당 참여자의 lastReadMessageId, lastReadAt만 갱신하며, 역행하지 않는다</p>
+     *
+     * @param roomId            채팅방 ID
+     * @param userId            참여자 ID
+     * @param lastReadMessageId 마지막으로 읽은 메시지 ID (nullable, null이면 lastReadAt만 갱신)
+     * @param readAt            읽은 시각
+     */
+    void updateParticipantReadWatermark(RoomId roomId, UserId userId, MessageId lastReadMessageId,
+                                        LocalDateTime readAt);
+
+    /**
+     * 여러 참여자 읽음 워터마크 일괄 원자적 갱신
+     *
+     * <p>{@link #updateParticipantReadWatermark}와 같은 규칙(역행 없음)으로 한 번의 bulkWrite에 반영한다.
+     * lastReadMessageId가 null인 항목은 lastReadAt만 갱신한다</p>
+     *
+     * @param watermarks 갱신할 워터마크 목록
+     */
+    void updateParticipantReadWatermarks(List<ReadWatermark> watermarks);
+
+    /**
+     * 마지막 메시지 스냅샷 원자적 갱신
+     *
+     * <p>저장된 스냅샷보다 최신 메시지(Snowflake ID 기준)인 경우에만 갱신하며
+     * lastMessageAt은 역행하지 않는다</p>
+     *
+     * @param roomId      채팅방 ID
+     * @param lastMessage 새 마지막 메시지 스냅샷
+     */
+    void updateLastMessage(RoomId roomId, LastMessage lastMessage);
+
+    /**
+     * 참여자 원자적 추가
+     *
+     * <p>채팅방 전체를 다시 쓰지 않고 참여자 목록에만 추가하므로 동시에 갱신된 다른 참여자의 읽음 워터마크를 덮어쓰지 않는다.
+     * 채팅방이 활성 상태이고 아직 참여자가 아니며 참여자 수가 maxParticipants 미만일 때만 추가한다</p>
+     *
+     * @param roomId          채팅방 ID
+     * @param participant     추가할 참여자
+     * @param maxParticipants 최대 참여자 수
+     * @return 추가 여부 (조건을 만족하지 않으면 false)
+     */
+    boolean addParticipant(RoomId roomId, Participant participant, int maxParticipants);
+
+    /**
+     * 채팅방 상태 원자적 변경
+     *
+     * <p>현재 상태가 expected일 때만 변경한다 (동시 종료 요청 중 하나만 성공)</p>
+     *
+     * @param roomId   채팅방 ID
+     * @param expected 현재 상태
+     * @param status   변경할 상태
+     * @return 변경 여부
+     */
+    boolean updateStatus(RoomId roomId, ChatRoomStatus expected, ChatRoomStatus status);
+
+    /**
+     * 마지막 메시지 스냅샷 교체 (메시지 물리 삭제 시)
+     *
+     * <p>현재 스냅샷이 expectedMessageId를 가리킬 때만 교체한다</p>
+     *
+     * @param roomId            채팅방 ID
+     * @param expectedMessageId 삭제된 메시지 ID
+     * @param replacement       대체 스냅샷 (nullable, null이면 스냅샷 제거)
+     */
+    void replaceLastMessage(RoomId roomId, MessageId expectedMessageId, LastMessage replacement);
 }
@@ -0,0 +1,48 @@
+package com.teambind.co.kr.chatdding.domain.chatroom;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.Message;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 채팅방 마지막 메시지 스냅샷 Value Object
+ *
+ * <p>채팅방 목록 조회 시 메시지 컬렉션을 추가 조회하지 않도록 채팅방에 비정규화하여 저장</p>
+ *
+ * @param messageId 메시지 ID
+ * @param senderId  발신자 ID
+ * @param preview   메시지 미리보기
+ * @param createdAt 메시지 생성 시각
+ */
+public record LastMessage(
+        MessageId messageId,
+        UserId senderId,
+        String preview,
+        LocalDateTime createdAt
+) {
+
+    public LastMessage {
+        Objects.requireNonNull(messageId, "messageId must not be null");
+        Objects.requireNonNull(senderId, "senderId must not be null");
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+    }
+
+    public static LastMessage from(Message message) {
+        return new LastMessage(
+                message.getId(),
+                message.getSenderId(),
+                message.getContentPreview(),
+                message.getCreatedAt()
+        );
+    }
+
+    /**
+     * 주어진 스냅샷보다 최신 메시지인지 확인 (Snowflake ID 순서 기준)
+     */
+    public boolean isNewerThan(LastMessage other) {
+        return other == null || messageId.getValue() > other.messageId().getValue();
+    }
+}
@@ -1,6 +1,7 @@
 package com.teambind.co.kr.chatdding.domain.chatroom;
 
 import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -9,6 +10,8 @@ import java.time.LocalDateTime;
  * 채팅방 참여자 Value Object
  *
  * <p>채팅방 내 참여자의 설정 및 상태를 관리</p>
+ * <p>읽음 상태는 메시지별 readBy 대신 마지막으로 읽은 메시지 ID(워터마크)로 관리한다.
+ * Snowflake ID는 시간순이므로 워터마크 이하의 메시지는 모두 읽은 것으로 본다</p>
  */
 @Getter
 public class Participant {
@@ -16,24 +19,32 @@ public class Participant {
     private final UserId userId;
     private boolean notificationEnabled;
     private LocalDateTime lastReadAt;
+    private MessageId lastReadMessageId;
     private final LocalDateTime joinedAt;
 
     private Participant(UserId userId, boolean notificationEnabled,
-                        LocalDateTime lastReadAt, LocalDateTime joinedAt) {
+                        LocalDateTime lastReadAt, MessageId lastReadMessageId, LocalDateTime joinedAt) {
         this.userId = userId;
         this.notificationEnabled = notificationEnabled;
         this.lastReadAt = lastReadAt;
+        this.lastReadMessageId = lastReadMessageId;
         this.joinedAt = joinedAt;
     }
 
     public static Participant create(UserId userId) {
         LocalDateTime now = LocalDateTime.now();
-        return new Participant(userId, true, now, now);
+        return new Participant(userId, true, now, null, now);
     }
 
     public static Participant of(UserId userId, boolean notificationEnabled,
                                   LocalDateTime lastReadAt, LocalDateTime joinedAt) {
-        return new Participant(userId, notificationEnabled, lastReadAt, joinedAt);
+        return of(userId, notificationEnabled, lastReadAt, null, joinedAt);
+    }
+
+    public static Participant of(UserId userId, boolean notificationEnabled,
+                                  LocalDateTime lastReadAt, MessageId lastReadMessageId,
+                                  LocalDateTime joinedAt) {
+        return new Participant(userId, notificationEnabled, lastReadAt, lastReadMessageId, joinedAt);
     }
 
     public void updateLastReadAt(LocalDateTime readAt) {
@@ -42,6 +53,23 @@ public class Participant {
         }
     }
 
+    /**
+     * 읽음 워터마크 전진 (뒤로 되돌리지 않음)
+     */
+    public void advanceReadWatermark(MessageId messageId, LocalDateTime readAt) {
+        if (messageId != null && !hasRead(messageId)) {
+            this.lastReadMessageId = messageId;
+        }
+        updateLastReadAt(readAt);
+    }
+
+    /**
+     * 워터마크 기준으로 해당 메시지를 읽었는지 확인
+     */
+    public boolean hasRead(MessageId messageId) {
+        return lastReadMessageId != null && lastReadMessageId.getValue() >= messageId.getValue();
+    }
+
     public void enableNotification() {
         this.notificationEnabled = true;
     }
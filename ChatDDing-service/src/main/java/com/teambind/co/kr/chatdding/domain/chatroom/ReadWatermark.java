@@ -0,0 +1,72 @@
+package com.teambind.co.kr.chatdding.domain.chatroom;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 참여자 읽음 워터마크 갱신 요청 Value Object
+ *
+ * <p>같은 (roomId, userId)에 대한 여러 갱신은 더 앞선 워터마크 하나로 합칠 수 있다 (워터마크는 역행하지 않음)</p>
+ *
+ * @param roomId            채팅방 ID
+ * @param userId            참여자 ID
+ * @param lastReadMessageId 마지막으로 읽은 메시지 ID (nullable, null이면 반영 시점의 최신 메시지)
+ * @param readAt            읽은 시각
+ */
+public record ReadWatermark(
+        RoomId roomId,
+        UserId userId,
+        MessageId lastReadMessageId,
+        LocalDateTime readAt
+) {
+
+    public ReadWatermark {
+        Objects.requireNonNull(roomId, "roomId must not be null");
+        Objects.requireNonNull(userId, "userId must not be null");
+        Objects.requireNonNull(readAt, "readAt must not be null");
+    }
+
+    public static ReadWatermark of(RoomId roomId, UserId userId, MessageId lastReadMessageId, LocalDateTime readAt) {
+        return new ReadWatermark(roomId, userId, lastReadMessageId, readAt);
+    }
+
+    /**
+     * 같은 참여자의 두 워터마크를 합친다
+     *
+     * <p>메시지 ID와 읽은 시각은 각각 큰 쪽을 취하며, 한쪽이라도 최신 메시지(null)를 가리키면 null을 유지한다</p>
+     */
+    public ReadWatermark merge(ReadWatermark other) {
+        if (!roomId.equals(other.roomId) || !userId.equals(other.userId)) {
+            throw new IllegalArgumentException("Cannot merge watermarks of different participants");
+        }
+        MessageId mergedMessageId = lastReadMessageId == null || other.lastReadMessageId == null
+                ? null
+                : lastReadMessageId.getValue() >= other.lastReadMessageId.getValue()
+                        ? lastReadMessageId
+                        : other.lastReadMessageId;
+        LocalDateTime mergedReadAt = readAt.isAfter(other.readAt) ? readAt : other.readAt;
+        return new ReadWatermark(roomId, userId, mergedMessageId, mergedReadAt);
+    }
+
+    /**
+     * (roomId, userId)별로 하나만 남도록 합친다 (첫 등장 순서 유지)
+     */
+    public static List<ReadWatermark> coalesce(Collection<ReadWatermark> watermarks) {
+        Map<String, ReadWatermark> coalesced = new LinkedHashMap<>();
+        for (ReadWatermark watermark : watermarks) {
+            coalesced.merge(watermark.participantKey(), watermark, ReadWatermark::merge);
+        }
+        return List.copyOf(coalesced.values());
+    }
+
+    private String participantKey() {
+        return roomId.getValue() + ":" + userId.getValue();
+    }
+}
@@ -4,10 +4,13 @@ import java.time.LocalDateTime;
 
 /**
  * 메시지 읽음 이벤트
+ *
+ * @param lastReadMessageId 읽음 워터마크로 반영할 메시지 ID (nullable, 없으면 소비 시점의 최신 메시지)
  */
 public record MessageReadEvent(
         String roomId,
         Long userId,
+        String lastReadMessageId,
         int readCount,
         LocalDateTime occurredAt
 ) implements ChatEvent {
@@ -15,9 +18,14 @@ public record MessageReadEvent(
     public static final String EVENT_TYPE = "MESSAGE_READ";
 
     public static MessageReadEvent of(String roomId, Long userId, int readCount) {
+        return of(roomId, userId, null, readCount);
+    }
+
+    public static MessageReadEvent of(String roomId, Long userId, String lastReadMessageId, int readCount) {
         return new MessageReadEvent(
                 roomId,
                 userId,
+                lastReadMessageId,
                 readCount,
                 LocalDateTime.now()
         );
@@ -17,6 +17,8 @@ import java.util.Set;
  * 메시지 Aggregate Root
  *
  * <p>메시지의 생성, 읽음 처리, 삭제 등 핵심 비즈니스 로직을 캡슐화</p>
+ * <p>읽음 상태는 참여자별 워터마크({@code Participant.lastReadMessageId})로 관리하며,
+ * readBy는 워터마크 도입 이전 데이터와의 호환을 위한 레거시 정보다</p>
  */
 @Getter
 public class Message {
@@ -54,18 +56,14 @@ public class Message {
     public static Message create(MessageId id, RoomId roomId, UserId senderId, String content) {
         validateContent(content);
 
-        Map<UserId, LocalDateTime> readBy = new HashMap<>();
-        LocalDateTime now = LocalDateTime.now();
-        readBy.put(senderId, now);
-
         return new Message(
                 id,
                 roomId,
                 senderId,
                 content,
-                readBy,
+                new HashMap<>(),
                 new HashSet<>(),
-                now
+                LocalDateTime.now()
         );
     }
 
@@ -91,7 +89,7 @@ public class Message {
      * 읽음 처리
      */
     public void markAsRead(UserId userId) {
-        if (!readBy.containsKey(userId)) {
+        if (!isReadBy(userId)) {
             readBy.put(userId, LocalDateTime.now());
         }
     }
@@ -100,7 +98,7 @@ public class Message {
      * 특정 시간으로 읽음 처리 (배치 처리용)
      */
     public void markAsReadAt(UserId userId, LocalDateTime readAt) {
-        if (!readBy.containsKey(userId)) {
+        if (!isReadBy(userId)) {
             readBy.put(userId, readAt);
         }
     }
@@ -113,10 +111,10 @@ public class Message {
     }
 
     /**
-     * 특정 사용자가 이 메시지를 읽었는지 확인
+     * 특정 사용자가 이 메시지를 읽었는지 확인 (발신자 또는 레거시 readBy 기준)
      */
     public boolean isReadBy(UserId userId) {
-        return readBy.containsKey(userId);
+        return senderId.equals(userId) || readBy.containsKey(userId);
     }
 
     /**
@@ -158,10 +156,12 @@ public class Message {
     }
 
     /**
-     * 읽은 사용자 수
+     * 읽은 사용자 수 (발신자 + 레거시 readBy 기준)
+     *
+     * <p>참여자 워터마크까지 반영한 값은 {@code ChatRoom.countReadersOf(Message)}를 사용</p>
      */
     public int getReadCount() {
-        return readBy.size();
+        return readBy.containsKey(senderId) ? readBy.size() : readBy.size() + 1;
     }
 
     /**
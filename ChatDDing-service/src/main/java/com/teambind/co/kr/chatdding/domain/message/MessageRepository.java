@@ -5,6 +5,7 @@ import com.teambind.co.kr.chatdding.domain.common.UserId;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -43,15 +44,52 @@ public interface MessageRepository {
      */
     List<Message> findByRoomIdBeforeCursor(RoomId roomId, MessageId cursorId, int limit);
 
+    /**
+     * 특정 메시지 이후의 메시지 목록 조회 (델타 동기화, Snowflake ID 오름차순)
+     *
+     * @param roomId  채팅방 ID
+     * @param sinceId 기준 메시지 ID (이 메시지 이후 것들을 조회, 미포함)
+     * @param limit   조회할 메시지 수
+     */
+    List<Message> findByRoomIdAfterId(RoomId roomId, MessageId sinceId, int limit);
+
     /**
      * 특정 시간 이후의 메시지 목록 조회
      */
     List<Message> findByRoomIdAndCreatedAtAfter(RoomId roomId, LocalDateTime after);
 
     /**
-     * 사용자가 읽지 않은 메시지 수 조회
+     * 사용자가 읽지 않은 메시지 수 조회 (본인이 보낸 메시지 제외)
+     *
+     * <p>워터마크 이후의 메시지를 ID 범위로 센다. 워터마크가 없는 참여자(마이그레이션 이전 데이터)는
+     * 레거시 readBy 기준으로 계산한다</p>
+     *
+     * @param roomId            채팅방 ID
+     * @param userId            사용자 ID
+     * @param lastReadMessageId 사용자의 읽음 워터마크 (nullable)
+     */
+    long countUnread(RoomId roomId, UserId userId, MessageId lastReadMessageId);
+
+    /**
+     * 여러 채팅방의 안읽은 메시지 수 일괄 조회 (본인이 보낸 메시지 제외)
+     *
+     * <p>채팅방 수와 무관하게 한 번의 집계로 계산하며, 안읽은 메시지가 없는 채팅방은 0으로 채운다</p>
+     *
+     * @param userId             사용자 ID
+     * @param lastReadMessageIds 채팅방별 읽음 워터마크 (값 nullable, null이면 레거시 readBy 기준)
+     * @return 채팅방별 안읽은 메시지 수
      */
-    long countUnreadByRoomIdAndUserId(RoomId roomId, UserId userId);
+    Map<RoomId, Long> countUnreadByRoomIds(UserId userId, Map<RoomId, MessageId> lastReadMessageIds);
+
+    /**
+     * 워터마크를 upToId까지 전진시킬 때 새로 읽게 되는 메시지 수 조회 (본인이 보낸 메시지 제외)
+     *
+     * @param roomId            채팅방 ID
+     * @param userId            사용자 ID
+     * @param lastReadMessageId 현재 읽음 워터마크 (nullable)
+     * @param upToId            새 워터마크 (포함)
+     */
+    long countUnreadUpTo(RoomId roomId, UserId userId, MessageId lastReadMessageId, MessageId upToId);
 
     /**
      * 채팅방의 마지막 메시지 조회
@@ -69,7 +107,7 @@ public interface MessageRepository {
     void deleteAllByRoomId(RoomId roomId);
 
     /**
-     * 채팅방의 안 읽은 메시지를 일괄 읽음 처리
+     * 채팅방의 안 읽은 메시지를 레거시 readBy에 일괄 읽음 처리 (호환 모드용)
      *
      * @param roomId 채팅방 ID
      * @param userId 읽은 사용자 ID
@@ -77,4 +115,17 @@ public interface MessageRepository {
      * @return 업데이트된 메시지 수
      */
     int bulkMarkAsRead(RoomId roomId, UserId userId, LocalDateTime readAt);
+
+    /**
+     * 메시지 ID 범위를 레거시 readBy에 일괄 읽음 처리 (호환 모드용, 단일 updateMulti)
+     *
+     * <p>문서 전체를 다시 쓰지 않고 readBy.{userId} 필드만 설정한다</p>
+     *
+     * @param roomId  채팅방 ID
+     * @param userId  읽은 사용자 ID
+     * @param upToId  이 메시지 ID까지 읽음 처리 (포함, null이면 채팅방 전체)
+     * @param readAt  읽은 시각
+     * @return 업데이트된 메시지 수
+     */
+    int markAsReadUpTo(RoomId roomId, UserId userId, MessageId upToId, LocalDateTime readAt);
 }
@@ -0,0 +1,255 @@
+package com.teambind.co.kr.chatdding.infrastructure.cache.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teambind.co.kr.chatdding.application.port.out.ChatRoomMembershipPort;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomMembership;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType;
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 멤버십 2단계 캐시 Adapter (Near Cache + Redis)
+ *
+ * <p>메시지 전송/삭제의 참여자 권한 검사가 채팅방 문서 전체 조회와 도메인 매핑 없이 끝나도록
+ * 타입, 상태, 참여자 ID 목록만 캐시한다</p>
+ * <p>조회 순서: 노드 로컬 Caffeine → Redis {@code room:membership:{roomId}} → MongoDB (적재 후 두 단계에 저장)</p>
+ * <p>무효화: Redis 키를 삭제하고 {@code room:membership:invalidate} 채널로 발행해 모든 노드의 Near Cache에서 제거한다.
+ * Pub/Sub 유실 시 오래된 값은 Near Cache TTL 안에서만 보인다</p>
+ * <p>오래된 값 재적재 방지: 무효화마다 채팅방별 세대 {@code room:membership:gen:{roomId}}를 증가시키고,
+ * 미스 시에는 저장소 조회 전에 읽은 세대가 그대로일 때만 Redis에 쓴다. 무효화와 겹친 조회가 변경 전 문서를
+ * 읽었더라도 TTL 동안 캐시에 남지 않는다. Near Cache도 조회 중 무효화가 있었으면 저장하지 않는다</p>
+ * <p>Graceful Degradation: Redis 장애 시 MongoDB 조회로 대체</p>
+ * <p>Metrics: {@code chat.cache.membership{result=near|hit|miss|error}}</p>
+ */
+@Slf4j
+@Timed("chat.cache")
+public class ChatRoomMembershipCacheAdapter implements ChatRoomMembershipPort, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "room:membership:invalidate";
+
+    private static final String KEY_PREFIX = "room:membership:";
+    private static final String GENERATION_KEY_PREFIX = "room:membership:gen:";
+    private static final String FIELD_DELIMITER = "|";
+    private static final String ID_DELIMITER = ",";
+    private static final String METRIC_CACHE_RESULT = "chat.cache.membership";
+
+    /**
+     * KEYS[1]=membership, KEYS[2]=generation, ARGV[1]=ttl
+     */
+    private static final byte[] EVICT_SCRIPT = bytes("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """);
+
+    /**
+     * KEYS[1]=membership, KEYS[2]=generation, ARGV[1]=조회 전 세대, ARGV[2]=value, ARGV[3]=ttl
+     * <p>조회 이후 무효화되었으면(세대 변경) 쓰지 않고 0 반환</p>
+     */
+    private static final byte[] STORE_SCRIPT = bytes("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            return 1
+            """);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Cache<RoomId, ChatRoomMembership> nearCache;
+
+    /**
+     * 이 노드가 처리한 무효화 수 (조회 중 무효화가 있었는지 판단)
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ChatRoomMembershipCacheAdapter(StringRedisTemplate redisTemplate,
+                                          ChatRoomRepository chatRoomRepository,
+                                          MeterRegistry meterRegistry,
+                                          Duration ttl,
+                                          Duration nearTtl,
+                                          long nearMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.chatRoomRepository = chatRoomRepository;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.nearCache = Caffeine.newBuilder()
+                .expireAfterWrite(nearTtl)
+                .maximumSize(nearMaxSize)
+                .build();
+    }
+
+    @Override
+    public Optional<ChatRoomMembership> findMembership(RoomId roomId) {
+        ChatRoomMembership cached = nearCache.getIfPresent(roomId);
+        if (cached != null) {
+            recordResult("near");
+            return Optional.of(cached);
+        }
+
+        long observedInvalidations = invalidations.get();
+        Optional<ChatRoomMembership> membership = findInRedis(roomId)
+                .or(() -> loadFromRepository(roomId));
+        if (membership.isPresent() && invalidations.get() == observedInvalidations) {
+            nearCache.put(roomId, membership.get());
+        }
+        return membership;
+    }
+
+    /**
+     * 변경이 커밋된 뒤 호출해야 한다 (커밋 전에 지우면 그 사이의 조회가 변경 전 문서를 다시 적재한다)
+     */
+    @Override
+    public void evict(RoomId roomId) {
+        invalidateNear(roomId);
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                    EVICT_SCRIPT, ReturnType.INTEGER, 2,
+                    bytes(buildKey(roomId)), bytes(buildGenerationKey(roomId)), bytes(ttl.toSeconds())));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, roomId.toStringValue());
+            log.debug("Membership evicted: roomId={}", roomId.toStringValue());
+        } catch (Exception e) {
+            log.warn("Redis membership evict failed. roomId={}, error={}", roomId.toStringValue(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 발행 수신 - Near Cache에서만 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            invalidateNear(RoomId.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            log.warn("Invalid membership invalidation message. error={}", e.getMessage());
+        }
+    }
+
+    private Optional<ChatRoomMembership> findInRedis(RoomId roomId) {
+        try {
+            String value = redisTemplate.opsForValue().get(buildKey(roomId));
+            if (value == null) {
+                return Optional.empty();
+            }
+            recordResult("hit");
+            return Optional.of(decode(roomId, value));
+        } catch (Exception e) {
+            log.warn("Redis membership get failed, falling back to DB. roomId={}, error={}",
+                    roomId.toStringValue(), e.getMessage());
+            recordResult("error");
+            return Optional.empty();
+        }
+    }
+
+    private void invalidateNear(RoomId roomId) {
+        invalidations.incrementAndGet();
+        nearCache.invalidate(roomId);
+    }
+
+    /**
+     * 세대를 먼저 읽고 저장소를 조회한다 - 조회 도중 커밋된 변경의 무효화는 세대를 바꿔 저장을 막는다
+     */
+    private Optional<ChatRoomMembership> loadFromRepository(RoomId roomId) {
+        recordResult("miss");
+        String generation = readGeneration(roomId);
+        Optional<ChatRoomMembership> membership = chatRoomRepository.findById(roomId)
+                .map(ChatRoomMembership::from);
+        if (generation != null) {
+            membership.ifPresent(m -> writeToRedis(m, generation));
+        }
+        return membership;
+    }
+
+    /**
+     * @return 현재 세대 (무효화된 적 없으면 "0", Redis 장애 시 null - 세대를 모르면 쓰지 않는다)
+     */
+    private String readGeneration(RoomId roomId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(buildGenerationKey(roomId));
+            return generation != null ? generation : "0";
+        } catch (Exception e) {
+            log.warn("Redis membership generation get failed, skipping cache write. roomId={}, error={}",
+                    roomId.toStringValue(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToRedis(ChatRoomMembership membership, String generation) {
+        try {
+            Long stored = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    STORE_SCRIPT, ReturnType.INTEGER, 2,
+                    bytes(buildKey(membership.roomId())), bytes(buildGenerationKey(membership.roomId())),
+                    bytes(generation), bytes(encode(membership)), bytes(ttl.toSeconds())));
+            if (stored != null && stored == 0L) {
+                log.debug("Membership invalidated during load, not cached: roomId={}",
+                        membership.roomId().toStringValue());
+            }
+        } catch (Exception e) {
+            log.warn("Redis membership set failed. roomId={}, error={}",
+                    membership.roomId().toStringValue(), e.getMessage());
+        }
+    }
+
+    /**
+     * {@code {type}|{status}|{userId},{userId},...}
+     */
+    private String encode(ChatRoomMembership membership) {
+        String participantIds = membership.participantIds().stream()
+                .map(userId -> String.valueOf(userId.getValue()))
+                .collect(Collectors.joining(ID_DELIMITER));
+        return membership.type().name() + FIELD_DELIMITER + membership.status().name() + FIELD_DELIMITER + participantIds;
+    }
+
+    private ChatRoomMembership decode(RoomId roomId, String value) {
+        String[] fields = value.split("\\" + FIELD_DELIMITER, -1);
+        List<UserId> participantIds = fields[2].isEmpty()
+                ? List.of()
+                : Arrays.stream(fields[2].split(ID_DELIMITER))
+                        .map(id -> UserId.of(Long.parseLong(id)))
+                        .toList();
+        return new ChatRoomMembership(
+                roomId,
+                ChatRoomType.valueOf(fields[0]),
+                ChatRoomStatus.valueOf(fields[1]),
+                participantIds
+        );
+    }
+
+    private void recordResult(String result) {
+        meterRegistry.counter(METRIC_CACHE_RESULT, "result", result).increment();
+    }
+
+    private String buildKey(RoomId roomId) {
+        return KEY_PREFIX + roomId.toStringValue();
+    }
+
+    private String buildGenerationKey(RoomId roomId) {
+        return GENERATION_KEY_PREFIX + roomId.toStringValue();
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,370 @@
+package com.teambind.co.kr.chatdding.infrastructure.cache.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teambind.co.kr.chatdding.application.port.out.MessageTailCachePort;
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.Message;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 최근 메시지 2단계 캐시 Adapter (Near Cache + Redis)
+ *
+ * <p>Redis List {@code room:tail:{roomId}}에 최신 메시지 capacity개를 JSON으로 보관하는 Ring Buffer.
+ * 새 메시지는 LPUSHX + LTRIM으로 앞에 추가하므로 적재되지 않은 채팅방에는 쓰지 않는다</p>
+ * <p>조회 순서: 노드 로컬 Caffeine → Redis. 어느 단계든 최신 메시지가 채팅방의 마지막 메시지와 다르면
+ * 오래된 캐시로 보고 버린다 (다른 노드에서 추가된 메시지는 이 검사로 감지)</p>
+ * <p>보관 개수가 capacity보다 적으면 채팅방의 전체 메시지로 간주한다</p>
+ * <p>무효화: Redis 키를 삭제하고 {@code room:tail:invalidate} 채널로 발행해 모든 노드의 Near Cache에서 제거한다</p>
+ * <p>오래된 값 재적재 방지: 무효화마다 채팅방별 세대 {@code room:tail:gen:{roomId}}를 증가시키고,
+ * 적재는 저장소 조회 전에 읽은 세대가 그대로일 때만 쓴다. 삭제와 겹친 조회가 삭제 전 deletedBy를 읽었더라도
+ * 캐시에 남지 않는다. Near Cache도 적재 중 이 노드에서 무효화가 있었으면 저장하지 않는다</p>
+ * <p>Graceful Degradation: Redis 장애 시 캐시 미스로 처리해 MongoDB 조회로 대체</p>
+ * <p>Metrics: {@code chat.cache.message-tail{result=near|hit|miss|stale|error}}</p>
+ */
+@Slf4j
+@Timed("chat.cache")
+public class MessageTailCacheAdapter implements MessageTailCachePort, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "room:tail:invalidate";
+
+    private static final String KEY_PREFIX = "room:tail:";
+    private static final String GENERATION_KEY_PREFIX = "room:tail:gen:";
+    private static final String METRIC_CACHE_RESULT = "chat.cache.message-tail";
+
+    /**
+     * KEYS[1]=list, ARGV[1]=entry, ARGV[2]=capacity, ARGV[3]=ttl
+     */
+    private static final byte[] APPEND_SCRIPT = bytes("""
+            if redis.call('LPUSHX', KEYS[1], ARGV[1]) == 0 then
+              return 0
+            end
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """);
+
+    /**
+     * KEYS[1]=list, KEYS[2]=generation, ARGV[1]=적재 전 세대, ARGV[2]=ttl, ARGV[3..]=entries (최신순)
+     * <p>적재 이후 무효화되었으면(세대 변경) 쓰지 않고 0 반환</p>
+     */
+    private static final byte[] STORE_SCRIPT = bytes("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+              return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV do
+              redis.call('RPUSH', KEYS[1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """);
+
+    /**
+     * KEYS[1]=list, KEYS[2]=generation, ARGV[1]=ttl
+     */
+    private static final byte[] EVICT_SCRIPT = bytes("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final Duration ttl;
+    private final Cache<RoomId, List<TailEntry>> nearCache;
+
+    /**
+     * 이 노드가 처리한 무효화 수 (적재 중 무효화가 있었는지 판단)
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MessageTailCacheAdapter(StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   int capacity,
+                                   Duration ttl,
+                                   Duration nearTtl,
+                                   long nearMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.ttl = ttl;
+        this.nearCache = Caffeine.newBuilder()
+                .expireAfterWrite(nearTtl)
+                .maximumSize(nearMaxSize)
+                .build();
+    }
+
+    @Override
+    public Optional<List<Message>> findLatest(RoomId roomId, MessageId headId, int limit) {
+        List<TailEntry> cached = nearCache.getIfPresent(roomId);
+        if (cached != null) {
+            if (isCurrent(cached, headId)) {
+                return serve(roomId, cached, limit, "near");
+            }
+            nearCache.invalidate(roomId);
+        }
+
+        List<TailEntry> entries = findInRedis(roomId);
+        if (entries == null) {
+            return Optional.empty();
+        }
+        if (!isCurrent(entries, headId)) {
+            recordResult("stale");
+            return Optional.empty();
+        }
+        nearCache.put(roomId, entries);
+        return serve(roomId, entries, limit, "hit");
+    }
+
+    @Override
+    public long generation(RoomId roomId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(buildGenerationKey(roomId));
+            return generation != null ? Long.parseLong(generation) : 0L;
+        } catch (Exception e) {
+            log.warn("Redis message tail generation get failed, skipping cache write. roomId={}, error={}",
+                    roomId.toStringValue(), e.getMessage());
+            return UNKNOWN_GENERATION;
+        }
+    }
+
+    @Override
+    public void store(RoomId roomId, long generation, List<Message> messages) {
+        if (messages.isEmpty() || generation == UNKNOWN_GENERATION) {
+            return;
+        }
+        long observedInvalidations = invalidations.get();
+        List<TailEntry> entries = messages.stream()
+                .limit(capacity)
+                .map(TailEntry::from)
+                .toList();
+
+        try {
+            List<byte[]> args = new ArrayList<>(entries.size() + 2);
+            args.add(bytes(generation));
+            args.add(bytes(ttl.toSeconds()));
+            for (TailEntry entry : entries) {
+                args.add(objectMapper.writeValueAsBytes(entry));
+            }
+            Long stored = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    STORE_SCRIPT, ReturnType.INTEGER, 2,
+                    prepend(bytes(buildKey(roomId)), bytes(buildGenerationKey(roomId)), args)));
+            if (stored == null || stored == 0L) {
+                log.debug("Message tail invalidated during load, not cached: roomId={}", roomId.toStringValue());
+                return;
+            }
+            if (invalidations.get() == observedInvalidations) {
+                nearCache.put(roomId, entries);
+            }
+            log.debug("Message tail stored: roomId={}, size={}", roomId.toStringValue(), entries.size());
+        } catch (Exception e) {
+            log.warn("Redis message tail store failed. roomId={}, error={}", roomId.toStringValue(), e.getMessage());
+        }
+    }
+
+    /**
+     * 추가에 실패하면 캐시를 무효화한다. 실패한 메시지가 빠진 채 다음 추가가 성공하면
+     * 최신 메시지 검사를 통과해 누락이 보이지 않으므로, 다음 조회가 저장소에서 다시 적재하도록 한다
+     */
+    @Override
+    public void append(Message message) {
+        RoomId roomId = message.getRoomId();
+        nearCache.invalidate(roomId);
+        try {
+            byte[] entry = objectMapper.writeValueAsBytes(TailEntry.from(message));
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                    APPEND_SCRIPT, ReturnType.INTEGER, 1,
+                    bytes(buildKey(roomId)), entry, bytes(capacity), bytes(ttl.toSeconds())));
+        } catch (Exception e) {
+            log.warn("Redis message tail append failed, evicting. roomId={}, error={}",
+                    roomId.toStringValue(), e.getMessage());
+            evict(roomId);
+        }
+    }
+
+    /**
+     * 삭제가 커밋된 뒤 호출해야 한다 (커밋 전에 지우면 그 사이의 조회가 삭제 전 상태를 다시 적재한다)
+     */
+    @Override
+    public void evict(RoomId roomId) {
+        invalidateNear(roomId);
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                    EVICT_SCRIPT, ReturnType.INTEGER, 2,
+                    bytes(buildKey(roomId)), bytes(buildGenerationKey(roomId)), bytes(ttl.toSeconds())));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, roomId.toStringValue());
+            log.debug("Message tail evicted: roomId={}", roomId.toStringValue());
+        } catch (Exception e) {
+            log.warn("Redis message tail evict failed. roomId={}, error={}", roomId.toStringValue(), e.getMessage());
+        }
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 다른 노드의 무효화 발행 수신 - Near Cache에서만 제거
+     */
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        try {
+            invalidateNear(RoomId.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            log.warn("Invalid message tail invalidation message. error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 최신순으로 정렬, 중복 제거한 목록 (키가 없거나 Redis 장애 시 null)
+     */
+    private List<TailEntry> findInRedis(RoomId roomId) {
+        try {
+            List<String> values = redisTemplate.opsForList().range(buildKey(roomId), 0, -1);
+            if (values == null || values.isEmpty()) {
+                recordResult("miss");
+                return null;
+            }
+
+            Set<Long> seen = new HashSet<>();
+            List<TailEntry> entries = new ArrayList<>(values.size());
+            for (String value : values) {
+                TailEntry entry = objectMapper.readValue(value, TailEntry.class);
+                if (seen.add(entry.id())) {
+                    entries.add(entry);
+                }
+            }
+            // 적재와 추가가 경합하면 삽입 순서가 어긋날 수 있어 ID(Snowflake) 기준으로 재정렬
+            entries.sort(Comparator.comparingLong(TailEntry::id).reversed());
+            return List.copyOf(entries);
+        } catch (Exception e) {
+            log.warn("Redis message tail get failed, falling back to DB. roomId={}, error={}",
+                    roomId.toStringValue(), e.getMessage());
+            recordResult("error");
+            return null;
+        }
+    }
+
+    private void invalidateNear(RoomId roomId) {
+        invalidations.incrementAndGet();
+        nearCache.invalidate(roomId);
+    }
+
+    private Optional<List<Message>> serve(RoomId roomId, List<TailEntry> entries, int limit, String result) {
+        // capacity만큼 보관 중인데 limit보다 적으면 더 오래된 메시지가 저장소에 남아 있다
+        if (entries.size() < limit && entries.size() >= capacity) {
+            recordResult("miss");
+            return Optional.empty();
+        }
+        recordResult(result);
+        return Optional.of(entries.stream()
+                .limit(limit)
+                .map(entry -> entry.toMessage(roomId))
+                .toList());
+    }
+
+    private boolean isCurrent(List<TailEntry> entries, MessageId headId) {
+        return !entries.isEmpty() && entries.get(0).id() == headId.getValue();
+    }
+
+    private void recordResult(String result) {
+        meterRegistry.counter(METRIC_CACHE_RESULT, "result", result).increment();
+    }
+
+    private String buildKey(RoomId roomId) {
+        return KEY_PREFIX + roomId.toStringValue();
+    }
+
+    private String buildGenerationKey(RoomId roomId) {
+        return GENERATION_KEY_PREFIX + roomId.toStringValue();
+    }
+
+    private static byte[][] prepend(byte[] key, byte[] generationKey, List<byte[]> args) {
+        byte[][] keysAndArgs = new byte[args.size() + 2][];
+        keysAndArgs[0] = key;
+        keysAndArgs[1] = generationKey;
+        for (int i = 0; i < args.size(); i++) {
+            keysAndArgs[i + 2] = args.get(i);
+        }
+        return keysAndArgs;
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 캐시 항목 - roomId는 키에 포함되므로 저장하지 않는다
+     */
+    record TailEntry(
+            long id,
+            long senderId,
+            String content,
+            Map<Long, LocalDateTime> readBy,
+            Set<Long> deletedBy,
+            LocalDateTime createdAt
+    ) {
+
+        static TailEntry from(Message message) {
+            return new TailEntry(
+                    message.getId().getValue(),
+                    message.getSenderId().getValue(),
+                    message.getContent(),
+                    message.getReadBy().entrySet().stream()
+                            .collect(Collectors.toMap(e -> e.getKey().getValue(), Map.Entry::getValue)),
+                    message.getDeletedBy().stream()
+                            .map(UserId::getValue)
+                            .collect(Collectors.toSet()),
+                    message.getCreatedAt()
+            );
+        }
+
+        /**
+         * 조회마다 새 Message를 만들어 캐시 항목이 도메인 변경에 노출되지 않도록 한다
+         */
+        Message toMessage(RoomId roomId) {
+            return Message.restore(
+                    MessageId.of(id),
+                    roomId,
+                    UserId.of(senderId),
+                    content,
+                    readBy.entrySet().stream()
+                            .collect(Collectors.toMap(e -> UserId.of(e.getKey()), Map.Entry::getValue)),
+                    deletedBy.stream()
+                            .map(UserId::of)
+                            .collect(Collectors.toSet()),
+                    createdAt
+            );
+        }
+    }
+}
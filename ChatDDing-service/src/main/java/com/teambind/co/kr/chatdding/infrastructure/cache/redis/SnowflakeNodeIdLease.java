@@ -0,0 +1,195 @@
+package com.teambind.co.kr.chatdding.infrastructure.cache.redis;
+
+import com.teambind.co.kr.chatdding.common.util.generator.Snowflake;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 Snowflake nodeId Lease
+ *
+ * <p>키 {@code snowflake:node:{nodeId}} 를 SET NX로 선점하여 인스턴스 간 nodeId 충돌을 방지한다</p>
+ * <p>주기적으로 TTL을 연장하며, 종료 시 반납한다. 비정상 종료 시 TTL 경과 후 다른 인스턴스가 재사용할 수 있다</p>
+ * <p>ID 중복은 데이터 손상이므로 다른 Redis Adapter와 달리 획득 실패 시 기동을 중단한다</p>
+ * <p>연결된 {@link Snowflake}에는 Redis TTL보다 짧은 유효 기한을 전달한다 (요청 직전 시각 기준, TTL의 10%를 여유로 둔다).
+ * 다른 인스턴스에 Lease를 빼앗기면 즉시, Redis 장애로 연장하지 못하면 기한이 지난 시점에 ID 발급이 멈추고,
+ * 다음 연장 주기에 새 nodeId를 선점하면 발급을 재개한다</p>
+ * <p>연장은 공용 {@code @Scheduled} 스레드가 아닌 이 컴포넌트의 전용 daemon 스레드에서 실행한다.
+ * 다른 주기 작업이 공용 스레드를 오래 붙잡아도 Lease가 만료되어 ID 발급이 멈추지 않는다</p>
+ */
+@Slf4j
+public class SnowflakeNodeIdLease {
+
+    private static final String KEY_PREFIX = "snowflake:node:";
+
+    private static final long RENEWED = 1L;
+    private static final long REACQUIRED = 2L;
+
+    /**
+     * KEYS[1]=node, ARGV[1]=owner, ARGV[2]=ttl(ms)
+     * <p>보유 중이면 연장(1), 만료되어 비어 있으면 재선점(2), 다른 인스턴스가 보유 중이면 0</p>
+     */
+    private static final byte[] RENEW_SCRIPT = """
+            local holder = redis.call('GET', KEYS[1])
+            if holder == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              return 1
+            end
+            if not holder then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+              return 2
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration renewInterval;
+    private final long validForNanos;
+    private final String owner = UUID.randomUUID().toString();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("snowflake-lease").daemon().factory());
+
+    private volatile long leasedNodeId = -1L;
+    private volatile long leaseDeadlineNanos;
+    private volatile Snowflake snowflake;
+
+    public SnowflakeNodeIdLease(StringRedisTemplate redisTemplate, Duration ttl, Duration renewInterval) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.renewInterval = renewInterval;
+        this.validForNanos = ttl.minus(ttl.dividedBy(10)).toNanos();
+    }
+
+    /**
+     * 비어 있는 nodeId 선점 (무작위 시작점부터 순회하여 동시 기동 시 경합 최소화)
+     */
+    public long acquire() {
+        long nodeCount = Snowflake.MAX_NODE_ID + 1;
+        long offset = ThreadLocalRandom.current().nextLong(nodeCount);
+
+        for (long i = 0; i < nodeCount; i++) {
+            long candidate = (offset + i) % nodeCount;
+            long requestedAt = System.nanoTime();
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(buildKey(candidate), owner, ttl))) {
+                leasedNodeId = candidate;
+                extend(requestedAt);
+                log.info("Snowflake nodeId leased: nodeId={}, owner={}", candidate, owner);
+                return candidate;
+            }
+        }
+
+        throw new IllegalStateException("No Snowflake nodeId available (all " + nodeCount + " leased)");
+    }
+
+    /**
+     * Lease 유효 기한을 따르도록 Snowflake 연결 (선점한 nodeId로 생성한 인스턴스)
+     */
+    public void bind(Snowflake snowflake) {
+        this.snowflake = snowflake;
+        snowflake.lease(leasedNodeId, leaseDeadlineNanos);
+    }
+
+    /**
+     * 전용 스레드에서 renew-interval 간격으로 연장 시작 (renew()는 예외를 밖으로 던지지 않아 주기가 끊기지 않는다)
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::renew,
+                renewInterval.toMillis(), renewInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void renew() {
+        long nodeId = leasedNodeId;
+        if (nodeId < 0) {
+            if (snowflake != null) {
+                reacquire();
+            }
+            return;
+        }
+
+        long requestedAt = System.nanoTime();
+        try {
+            Long result = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    RENEW_SCRIPT, ReturnType.INTEGER, 1,
+                    bytes(buildKey(nodeId)), bytes(owner), bytes(ttl.toMillis())));
+
+            if (result != null && result == RENEWED) {
+                extend(requestedAt);
+            } else if (result != null && result == REACQUIRED) {
+                extend(requestedAt);
+                log.warn("Snowflake nodeId lease expired and re-acquired: nodeId={}", nodeId);
+            } else {
+                log.error("Snowflake nodeId lease lost to another instance, suspending id issuance: nodeId={}", nodeId);
+                leasedNodeId = -1L;
+                if (snowflake != null) {
+                    snowflake.revokeLease();
+                }
+                reacquire();
+            }
+        } catch (Exception e) {
+            log.warn("Redis Snowflake lease renew failed, id issuance stops when the lease expires. nodeId={}, error={}",
+                    nodeId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        scheduler.shutdownNow();
+        long nodeId = leasedNodeId;
+        if (nodeId < 0) {
+            return;
+        }
+
+        try {
+            String key = buildKey(nodeId);
+            if (owner.equals(redisTemplate.opsForValue().get(key))) {
+                redisTemplate.delete(key);
+            }
+            leasedNodeId = -1L;
+        } catch (Exception e) {
+            log.warn("Redis Snowflake lease release failed. nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+
+    public long getLeasedNodeId() {
+        return leasedNodeId;
+    }
+
+    private void reacquire() {
+        try {
+            long nodeId = acquire();
+            log.warn("Snowflake id issuance resumed with a new nodeId: nodeId={}", nodeId);
+        } catch (Exception e) {
+            log.error("Snowflake nodeId re-acquire failed, id issuance stays suspended. error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param requestedAt 선점/연장 요청 직전 시각 - Redis TTL은 이보다 늦게 시작하므로 로컬 기한이 먼저 끝난다
+     */
+    private void extend(long requestedAt) {
+        leaseDeadlineNanos = requestedAt + validForNanos;
+        Snowflake bound = snowflake;
+        if (bound != null) {
+            bound.lease(leasedNodeId, leaseDeadlineNanos);
+        }
+    }
+
+    private String buildKey(long nodeId) {
+        return KEY_PREFIX + nodeId;
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
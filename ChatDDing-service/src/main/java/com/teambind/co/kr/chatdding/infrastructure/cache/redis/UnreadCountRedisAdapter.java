@@ -3,11 +3,18 @@ package com.teambind.co.kr.chatdding.infrastructure.cache.redis;
 import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,29 +24,134 @@ import java.util.concurrent.TimeUnit;
 /**
  * Redis 기반 안읽은 메시지 수 캐시 Adapter
  *
+ * <p>사용자별 Hash {@code unread:{userId}} 에 field=roomId, value=안읽은 수로 저장하고,
+ * {@code total} field에 전체 합계(앱 뱃지)를 함께 유지한다</p>
+ * <p>{@code total}이 존재하면 사용자의 모든 활성 채팅방이 반영된 완전한 Hash로 보고 field가 없는 채팅방은 0으로 간주한다.
+ * {@code total}이 없으면 field가 없는 채팅방은 캐시 미스이며, 값을 모르는 채팅방은 증가시키지 않는다 (다음 조회 시 DB 재계산)</p>
+ * <p>채팅방 값과 total 변경은 Lua 스크립트로 원자적으로 수행한다</p>
+ * <p>TTL은 Hash를 만들 때만 설정하고 증가/설정 시 연장하지 않는다. 누락된 갱신으로 total이 어긋나도
+ * 활발한 사용자의 Hash가 계속 살아남지 않고, 늦어도 TTL 경과 후 DB에서 재계산된다</p>
  * <p>Cache-Aside 패턴 적용</p>
  * <p>Graceful Degradation: Redis 장애 시 Optional.empty() 반환하여 DB 조회 유도</p>
+ * <p>Metrics: {@code chat.cache.unread{result=hit|miss|error}} 채팅방 단위 카운터</p>
  */
 @Slf4j
 @Component
+@Timed("chat.cache")
 @RequiredArgsConstructor
 public class UnreadCountRedisAdapter implements UnreadCountCachePort {
 
     private static final String KEY_PREFIX = "unread:";
-    private static final long TTL_HOURS = 24;
+    private static final String TOTAL_FIELD = "total";
+    private static final long TTL_SECONDS = TimeUnit.HOURS.toSeconds(24);
+    private static final String METRIC_CACHE_RESULT = "chat.cache.unread";
+
+    /**
+     * KEYS[1]=hash, ARGV[1]=roomId
+     * <p>이미 있는 Hash만 변경하므로 TTL을 건드리지 않는다</p>
+     */
+    private static final byte[] INCREMENT_SCRIPT = bytes("""
+            if redis.call('HEXISTS', KEYS[1], 'total') == 1 then
+              redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+              redis.call('HINCRBY', KEYS[1], 'total', 1)
+            elseif redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+              redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            else
+              return 0
+            end
+            return 1
+            """);
+
+    /**
+     * KEYS[1]=hash, ARGV[1]=roomId, ARGV[2]=count, ARGV[3]=ttl
+     * <p>이 호출로 Hash가 새로 만들어진 경우(TTL 없음)에만 TTL을 설정한다</p>
+     */
+    private static final byte[] SET_SCRIPT = bytes("""
+            local count = tonumber(ARGV[2])
+            local old = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            if redis.call('HEXISTS', KEYS[1], 'total') == 1 then
+              redis.call('HINCRBY', KEYS[1], 'total', count - old)
+              if count == 0 then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+              else
+                redis.call('HSET', KEYS[1], ARGV[1], count)
+              end
+            else
+              redis.call('HSET', KEYS[1], ARGV[1], count)
+            end
+            if redis.call('TTL', KEYS[1]) == -1 then
+              redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            return old
+            """);
+
+    /**
+     * KEYS[1]=hash, ARGV[1]=ttl, ARGV[2..]=roomId, count 쌍 (0인 채팅방은 생략)
+     */
+    private static final byte[] REPLACE_SCRIPT = bytes("""
+            redis.call('DEL', KEYS[1])
+            local total = 0
+            for i = 2, #ARGV, 2 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+              total = total + tonumber(ARGV[i + 1])
+            end
+            redis.call('HSET', KEYS[1], 'total', total)
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return total
+            """);
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public Optional<Integer> getUnreadCount(RoomId roomId, UserId userId) {
+        return Optional.ofNullable(getUnreadCounts(List.of(roomId), userId).get(roomId));
+    }
+
+    @Override
+    public Map<RoomId, Integer> getUnreadCounts(List<RoomId> roomIds, UserId userId) {
+        Map<RoomId, Integer> result = new HashMap<>();
+        if (roomIds.isEmpty()) {
+            return result;
+        }
+
+        try {
+            List<Object> fields = new ArrayList<>(roomIds.size() + 1);
+            roomIds.forEach(roomId -> fields.add(roomId.toStringValue()));
+            fields.add(TOTAL_FIELD);
+
+            List<Object> values = redisTemplate.opsForHash().multiGet(buildKey(userId), fields);
+            boolean complete = values.get(roomIds.size()) != null;
+
+            for (int i = 0; i < roomIds.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    result.put(roomIds.get(i), ((Number) value).intValue());
+                } else if (complete) {
+                    result.put(roomIds.get(i), 0);
+                }
+            }
+
+            recordResult(result.size(), roomIds.size() - result.size());
+            log.debug("Cache HMGET: {} rooms requested, {} hits, complete={}", roomIds.size(), result.size(), complete);
+        } catch (Exception e) {
+            log.warn("Redis getUnreadCounts failed, returning empty map. userId={}, error={}",
+                    userId.getValue(), e.getMessage());
+            recordError(roomIds.size());
+        }
+
+        return result;
+    }
+
+    @Override
+    public Optional<Integer> getTotalUnreadCount(UserId userId) {
         try {
-            String key = buildKey(roomId, userId);
-            Object value = redisTemplate.opsForValue().get(key);
+            Object value = redisTemplate.opsForHash().get(buildKey(userId), TOTAL_FIELD);
             return Optional.ofNullable(value)
                     .map(v -> ((Number) v).intValue());
         } catch (Exception e) {
-            log.warn("Redis getUnreadCount failed, returning empty. key=unread:{}:{}, error={}",
-                    roomId.toStringValue(), userId.getValue(), e.getMessage());
+            log.warn("Redis getTotalUnreadCount failed, returning empty. userId={}, error={}",
+                    userId.getValue(), e.getMessage());
             return Optional.empty();
         }
     }
@@ -47,70 +159,107 @@ public class UnreadCountRedisAdapter implements UnreadCountCachePort {
     @Override
     public void setUnreadCount(RoomId roomId, UserId userId, int count) {
         try {
-            String key = buildKey(roomId, userId);
-            redisTemplate.opsForValue().set(key, count, TTL_HOURS, TimeUnit.HOURS);
-            log.debug("Cache set: {}={}", key, count);
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                    SET_SCRIPT, ReturnType.INTEGER, 1,
+                    bytes(buildKey(userId)), bytes(roomId.toStringValue()), bytes(count), bytes(TTL_SECONDS)));
+            log.debug("Cache set: {}[{}]={}", buildKey(userId), roomId.toStringValue(), count);
         } catch (Exception e) {
-            log.warn("Redis setUnreadCount failed. key=unread:{}:{}, count={}, error={}",
-                    roomId.toStringValue(), userId.getValue(), count, e.getMessage());
+            log.warn("Redis setUnreadCount failed. key=unread:{}[{}], count={}, error={}",
+                    userId.getValue(), roomId.toStringValue(), count, e.getMessage());
         }
     }
 
     @Override
-    public void incrementUnreadCount(RoomId roomId, UserId userId) {
+    public void setUnreadCounts(UserId userId, Map<RoomId, Integer> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        byte[] key = bytes(buildKey(userId));
+        byte[] ttl = bytes(TTL_SECONDS);
+
         try {
-            String key = buildKey(roomId, userId);
-            Long newValue = redisTemplate.opsForValue().increment(key);
-            redisTemplate.expire(key, TTL_HOURS, TimeUnit.HOURS);
-            log.debug("Cache incremented: {}={}", key, newValue);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                counts.forEach((roomId, count) -> connection.scriptingCommands().eval(
+                        SET_SCRIPT, ReturnType.INTEGER, 1, key, bytes(roomId.toStringValue()), bytes(count), ttl));
+                return null;
+            });
+            log.debug("Cache set: {} rooms={}", buildKey(userId), counts.size());
         } catch (Exception e) {
-            log.warn("Redis incrementUnreadCount failed. key=unread:{}:{}, error={}",
-                    roomId.toStringValue(), userId.getValue(), e.getMessage());
+            log.warn("Redis setUnreadCounts failed. userId={}, rooms={}, error={}",
+                    userId.getValue(), counts.size(), e.getMessage());
         }
     }
 
     @Override
-    public void resetUnreadCount(RoomId roomId, UserId userId) {
+    public void replaceUnreadCounts(UserId userId, Map<RoomId, Integer> counts) {
+        List<byte[]> keysAndArgs = new ArrayList<>(counts.size() * 2 + 2);
+        keysAndArgs.add(bytes(buildKey(userId)));
+        keysAndArgs.add(bytes(TTL_SECONDS));
+        counts.forEach((roomId, count) -> {
+            if (count > 0) {
+                keysAndArgs.add(bytes(roomId.toStringValue()));
+                keysAndArgs.add(bytes(count));
+            }
+        });
+
         try {
-            String key = buildKey(roomId, userId);
-            redisTemplate.opsForValue().set(key, 0, TTL_HOURS, TimeUnit.HOURS);
-            log.debug("Cache reset: {}=0", key);
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                    REPLACE_SCRIPT, ReturnType.INTEGER, 1, keysAndArgs.toArray(byte[][]::new)));
+            log.debug("Cache replaced: {} rooms={}", buildKey(userId), counts.size());
         } catch (Exception e) {
-            log.warn("Redis resetUnreadCount failed. key=unread:{}:{}, error={}",
-                    roomId.toStringValue(), userId.getValue(), e.getMessage());
+            log.warn("Redis replaceUnreadCounts failed. userId={}, rooms={}, error={}",
+                    userId.getValue(), counts.size(), e.getMessage());
         }
     }
 
     @Override
-    public Map<RoomId, Integer> getUnreadCounts(List<RoomId> roomIds, UserId userId) {
-        Map<RoomId, Integer> result = new HashMap<>();
+    public void incrementUnreadCount(RoomId roomId, UserId userId) {
+        incrementUnreadCounts(roomId, List.of(userId));
+    }
+
+    @Override
+    public void incrementUnreadCounts(RoomId roomId, Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        byte[] field = bytes(roomId.toStringValue());
 
         try {
-            List<String> keys = roomIds.stream()
-                    .map(roomId -> buildKey(roomId, userId))
-                    .toList();
-
-            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
-
-            if (values != null) {
-                for (int i = 0; i < roomIds.size(); i++) {
-                    Object value = values.get(i);
-                    if (value != null) {
-                        result.put(roomIds.get(i), ((Number) value).intValue());
-                    }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (UserId userId : userIds) {
+                    connection.scriptingCommands().eval(
+                            INCREMENT_SCRIPT, ReturnType.INTEGER, 1, bytes(buildKey(userId)), field);
                 }
-            }
-
-            log.debug("Cache multiGet: {} keys requested, {} hits", roomIds.size(), result.size());
+                return null;
+            });
+            log.debug("Cache incremented: roomId={}, users={}", roomId.toStringValue(), userIds.size());
         } catch (Exception e) {
-            log.warn("Redis getUnreadCounts failed, returning empty map. userId={}, error={}",
-                    userId.getValue(), e.getMessage());
+            log.warn("Redis incrementUnreadCounts failed. roomId={}, users={}, error={}",
+                    roomId.toStringValue(), userIds.size(), e.getMessage());
         }
+    }
 
-        return result;
+    @Override
+    public void resetUnreadCount(RoomId roomId, UserId userId) {
+        setUnreadCount(roomId, userId, 0);
+    }
+
+    private void recordResult(int hits, int misses) {
+        meterRegistry.counter(METRIC_CACHE_RESULT, "result", "hit").increment(hits);
+        meterRegistry.counter(METRIC_CACHE_RESULT, "result", "miss").increment(misses);
+    }
+
+    private void recordError(int keys) {
+        meterRegistry.counter(METRIC_CACHE_RESULT, "result", "error").increment(keys);
+    }
+
+    private String buildKey(UserId userId) {
+        return KEY_PREFIX + userId.getValue();
     }
 
-    private String buildKey(RoomId roomId, UserId userId) {
-        return KEY_PREFIX + roomId.toStringValue() + ":" + userId.getValue();
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
     }
 }
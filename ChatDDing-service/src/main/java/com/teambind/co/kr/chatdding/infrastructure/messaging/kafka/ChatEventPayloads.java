@@ -0,0 +1,41 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.co.kr.chatdding.domain.event.ChatEvent;
+
+import java.io.IOException;
+
+/**
+ * 도메인 이벤트의 Kafka 값(payload) 인코딩
+ *
+ * <p>현재 형식은 원본 JSON byte[]이며, 이전 버전은 JSON 문자열을 한 번 더 JSON 문자열 리터럴로 감싸 보냈다
+ * ({@code "{\"roomId\":...}"}). 롤링 배포 동안 두 형식이 토픽에 섞이므로 읽을 때는 둘 다 받는다</p>
+ * <p>{@code chat.kafka.producer.legacy-string-payload=true}이면 이전 형식으로 보내 아직 교체되지 않은 Consumer도 읽을 수 있게 한다</p>
+ * <p>직접 발행({@link KafkaEventPublisher})과 Outbox 적재가 같은 규칙을 사용한다</p>
+ */
+public final class ChatEventPayloads {
+
+    private ChatEventPayloads() {
+    }
+
+    public static byte[] encode(ObjectMapper objectMapper, ChatEvent event, boolean legacyStringPayload)
+            throws JsonProcessingException {
+        if (legacyStringPayload) {
+            return objectMapper.writeValueAsBytes(objectMapper.writeValueAsString(event));
+        }
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    /**
+     * 원본 JSON과 이전 형식(JSON 문자열 리터럴) 모두 읽는다
+     */
+    public static <T> T decode(ObjectMapper objectMapper, byte[] payload, Class<T> type) throws IOException {
+        JsonNode node = objectMapper.readTree(payload);
+        if (node != null && node.isTextual()) {
+            return objectMapper.readValue(node.textValue(), type);
+        }
+        return objectMapper.treeToValue(node, type);
+    }
+}
@@ -0,0 +1,53 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.kafka;
+
+import com.teambind.co.kr.chatdding.domain.event.ChatEvent;
+import com.teambind.co.kr.chatdding.domain.event.MessageDeletedEvent;
+import com.teambind.co.kr.chatdding.domain.event.MessageReadEvent;
+import com.teambind.co.kr.chatdding.domain.event.MessageSentEvent;
+import com.teambind.co.kr.chatdding.domain.event.SupportAgentAssignedEvent;
+import com.teambind.co.kr.chatdding.domain.event.SupportChatClosedEvent;
+import com.teambind.co.kr.chatdding.domain.event.SupportRequestCreatedEvent;
+
+/**
+ * 도메인 이벤트의 Kafka 토픽 / 메시지 키 매핑
+ *
+ * <p>메시지 키는 roomId로 지정하여 같은 채팅방의 이벤트가 같은 파티션에 순서대로 쌓이도록 한다</p>
+ * <p>직접 발행({@link KafkaEventPublisher})과 Outbox 적재가 같은 규칙을 사용한다</p>
+ */
+public final class ChatEventRoutes {
+
+    private static final String TOPIC_MESSAGE_SENT = "chat-message-sent";
+    private static final String TOPIC_MESSAGE_READ = "chat-message-read";
+    private static final String TOPIC_MESSAGE_DELETED = "chat-message-deleted";
+    private static final String TOPIC_SUPPORT_REQUESTED = "support-requested";
+    private static final String TOPIC_SUPPORT_AGENT_ASSIGNED = "support-agent-assigned";
+    private static final String TOPIC_SUPPORT_CLOSED = "support-closed";
+    private static final String TOPIC_DEFAULT = "chat-events";
+
+    private ChatEventRoutes() {
+    }
+
+    public static String topicOf(ChatEvent event) {
+        return switch (event) {
+            case MessageSentEvent ignored -> TOPIC_MESSAGE_SENT;
+            case MessageReadEvent ignored -> TOPIC_MESSAGE_READ;
+            case MessageDeletedEvent ignored -> TOPIC_MESSAGE_DELETED;
+            case SupportRequestCreatedEvent ignored -> TOPIC_SUPPORT_REQUESTED;
+            case SupportAgentAssignedEvent ignored -> TOPIC_SUPPORT_AGENT_ASSIGNED;
+            case SupportChatClosedEvent ignored -> TOPIC_SUPPORT_CLOSED;
+            default -> TOPIC_DEFAULT;
+        };
+    }
+
+    public static String keyOf(ChatEvent event) {
+        return switch (event) {
+            case MessageSentEvent e -> e.roomId();
+            case MessageReadEvent e -> e.roomId();
+            case MessageDeletedEvent e -> e.roomId();
+            case SupportRequestCreatedEvent e -> e.roomId();
+            case SupportAgentAssignedEvent e -> e.roomId();
+            case SupportChatClosedEvent e -> e.roomId();
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.kafka;
+
+import com.teambind.co.kr.chatdding.application.port.out.DeadLetterReplayPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Kafka DLT 재처리 Adapter
+ *
+ * <p>{@code {topic}.DLT}의 모든 파티션을 전용 Consumer 그룹으로 읽어 원본 토픽에 같은 키로 재발행한다.
+ * 재발행 ack를 받은 레코드까지만 DLT offset을 커밋하므로, 실패하거나 limit에 걸리면 다음 호출이 이어서 처리한다</p>
+ * <p>원본 Consumer는 워터마크를 $max로 반영하므로 같은 이벤트가 다시 처리되어도 안전하다</p>
+ * <p>Metrics: {@code chat.kafka.dlt.replayed{topic}}</p>
+ */
+@Slf4j
+public class KafkaDeadLetterReplayAdapter implements DeadLetterReplayPort {
+
+    public static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+    private static final String METRIC_REPLAYED = "chat.kafka.dlt.replayed";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> replayableTopics;
+    private final String groupId;
+    private final Duration sendTimeout;
+    private final ReentrantLock replayLock = new ReentrantLock();
+
+    public KafkaDeadLetterReplayAdapter(ConsumerFactory<String, byte[]> consumerFactory,
+                                        KafkaTemplate<String, byte[]> kafkaTemplate,
+                                        MeterRegistry meterRegistry,
+                                        Set<String> replayableTopics,
+                                        String groupId,
+                                        Duration sendTimeout) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.replayableTopics = Set.copyOf(replayableTopics);
+        this.groupId = groupId;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public boolean isReplayable(String topic) {
+        return replayableTopics.contains(topic);
+    }
+
+    /**
+     * 동시에 두 번 실행되면 같은 레코드를 중복 재발행하므로 인스턴스 내에서는 직렬화한다
+     *
+     * <p>poll/send 대기 중 Virtual Thread가 carrier에 고정되지 않도록 synchronized 대신 ReentrantLock을 사용한다</p>
+     */
+    @Override
+    public int replay(String topic, int limit) {
+        replayLock.lock();
+        try {
+            return replayExclusively(topic, limit);
+        } finally {
+            replayLock.unlock();
+        }
+    }
+
+    private int replayExclusively(String topic, int limit) {
+        String deadLetterTopic = topic + DEAD_LETTER_SUFFIX;
+
+        int replayed = 0;
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(groupId, null)) {
+            List<PartitionInfo> partitionInfos = consumer.partitionsFor(deadLetterTopic);
+            if (partitionInfos == null || partitionInfos.isEmpty()) {
+                return 0;
+            }
+            consumer.assign(partitionInfos.stream()
+                    .map(info -> new TopicPartition(deadLetterTopic, info.partition()))
+                    .toList());
+
+            while (replayed < limit) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                Map<TopicPartition, OffsetAndMetadata> replayedOffsets = new HashMap<>();
+                try {
+                    for (ConsumerRecord<String, byte[]> record : records) {
+                        if (replayed >= limit) {
+                            break;
+                        }
+                        kafkaTemplate.send(topic, record.key(), record.value())
+                                .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                        replayedOffsets.put(new TopicPartition(record.topic(), record.partition()),
+                                new OffsetAndMetadata(record.offset() + 1));
+                        replayed++;
+                    }
+                } finally {
+                    if (!replayedOffsets.isEmpty()) {
+                        consumer.commitSync(replayedOffsets);
+                    }
+                }
+            }
+            return replayed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dead letter replay interrupted: " + deadLetterTopic, e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Dead letter replay failed: " + deadLetterTopic, e);
+        } finally {
+            meterRegistry.counter(METRIC_REPLAYED, "topic", topic).increment(replayed);
+        }
+    }
+}
@@ -4,51 +4,53 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher;
 import com.teambind.co.kr.chatdding.domain.event.ChatEvent;
-import com.teambind.co.kr.chatdding.domain.event.InquiryCreatedEvent;
-import com.teambind.co.kr.chatdding.domain.event.MessageDeletedEvent;
-import com.teambind.co.kr.chatdding.domain.event.MessageReadEvent;
-import com.teambind.co.kr.chatdding.domain.event.MessageSentEvent;
-import com.teambind.co.kr.chatdding.domain.event.SupportAgentAssignedEvent;
-import com.teambind.co.kr.chatdding.domain.event.SupportChatClosedEvent;
-import com.teambind.co.kr.chatdding.domain.event.SupportRequestCreatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Kafka 이벤트 발행 Adapter
+ *
+ * <p>요청 스레드에서 바로 전송하는 fire-and-forget 발행. {@code chat.outbox.enabled=true}이면 Outbox 발행으로 대체된다</p>
+ * <p>이벤트는 JSON byte[]로 한 번만 직렬화하여 그대로 전송한다 (롤링 배포 중에는 이전 형식 선택 가능, {@link ChatEventPayloads})</p>
+ * <p>Metrics: {@code chat.kafka.publish{topic, outcome}} 전송 요청부터 브로커 ack까지의 지연</p>
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "chat.outbox", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class KafkaEventPublisher implements EventPublisher {
 
-    private static final String TOPIC_MESSAGE_SENT = "chat-message-sent";
-    private static final String TOPIC_MESSAGE_READ = "chat-message-read";
-    private static final String TOPIC_MESSAGE_DELETED = "chat-message-deleted";
-    private static final String TOPIC_SUPPORT_REQUESTED = "support-requested";
-    private static final String TOPIC_SUPPORT_AGENT_ASSIGNED = "support-agent-assigned";
-    private static final String TOPIC_SUPPORT_CLOSED = "support-closed";
-    private static final String TOPIC_DEFAULT = "chat-events";
+    private static final String METRIC_PUBLISH = "chat.kafka.publish";
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.kafka.producer.legacy-string-payload:false}")
+    private boolean legacyStringPayload;
 
     @Override
     public void publish(ChatEvent event) {
-        String topic = resolveTopicFor(event);
+        String topic = ChatEventRoutes.topicOf(event);
         publish(topic, event);
     }
 
     @Override
     public void publish(String topic, ChatEvent event) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            String payload = objectMapper.writeValueAsString(event);
-            String key = extractKeyFrom(event);
+            byte[] payload = ChatEventPayloads.encode(objectMapper, event, legacyStringPayload);
+            String key = ChatEventRoutes.keyOf(event);
 
             kafkaTemplate.send(topic, key, payload)
                     .whenComplete((result, ex) -> {
+                        sample.stop(publishTimer(topic, ex == null ? "success" : "failure"));
                         if (ex != null) {
                             log.error("Failed to publish event to topic {}: {}", topic, event.getEventType(), ex);
                         } else {
@@ -58,31 +60,15 @@ public class KafkaEventPublisher implements EventPublisher {
                     });
 
         } catch (JsonProcessingException e) {
+            sample.stop(publishTimer(topic, "serialization_failure"));
             log.error("Failed to serialize event: {}", event.getEventType(), e);
         }
     }
 
-    private String resolveTopicFor(ChatEvent event) {
-        return switch (event) {
-            case MessageSentEvent ignored -> TOPIC_MESSAGE_SENT;
-            case MessageReadEvent ignored -> TOPIC_MESSAGE_READ;
-            case MessageDeletedEvent ignored -> TOPIC_MESSAGE_DELETED;
-            case SupportRequestCreatedEvent ignored -> TOPIC_SUPPORT_REQUESTED;
-            case SupportAgentAssignedEvent ignored -> TOPIC_SUPPORT_AGENT_ASSIGNED;
-            case SupportChatClosedEvent ignored -> TOPIC_SUPPORT_CLOSED;
-            default -> TOPIC_DEFAULT;
-        };
-    }
-
-    private String extractKeyFrom(ChatEvent event) {
-        return switch (event) {
-            case MessageSentEvent e -> e.roomId();
-            case MessageReadEvent e -> e.roomId();
-            case MessageDeletedEvent e -> e.roomId();
-            case SupportRequestCreatedEvent e -> e.roomId();
-            case SupportAgentAssignedEvent e -> e.roomId();
-            case SupportChatClosedEvent e -> e.roomId();
-            default -> null;
-        };
+    private Timer publishTimer(String topic, String outcome) {
+        return Timer.builder(METRIC_PUBLISH)
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 }
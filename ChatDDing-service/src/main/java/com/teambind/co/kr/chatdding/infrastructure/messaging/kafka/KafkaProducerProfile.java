@@ -0,0 +1,80 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.kafka;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Kafka Producer 튜닝 프로파일
+ *
+ * <p>이벤트 발행(직접 발행 / Outbox Relay)에 적용되는 처리량 관련 Producer 설정 묶음</p>
+ * <p>idempotence를 켜면 브로커 재시도로 인한 중복/순서 역전이 없도록 acks=all, in-flight 5 이하를 강제한다</p>
+ * <p>브로커에 닿지 않을 때 {@code send()}가 메타데이터/버퍼를 기다리며 호출 스레드를 막는 시간(max.block.ms, Kafka 기본 60초)과
+ * 레코드 전달을 포기하는 시간(delivery.timeout.ms, Kafka 기본 120초)을 제한한다</p>
+ *
+ * @param acks                ack 수준 (all / 1 / 0)
+ * @param idempotence         멱등 Producer 사용 여부
+ * @param compressionType     압축 방식 (none / lz4 / zstd / snappy / gzip)
+ * @param lingerMs            배치를 채우기 위해 대기하는 최대 시간
+ * @param batchSizeBytes      파티션별 배치 최대 크기
+ * @param bufferMemoryBytes   전송 대기 버퍼 전체 크기
+ * @param maxInFlightRequests 커넥션당 ack 대기 요청 수
+ * @param maxBlockMs          send() 호출이 메타데이터/버퍼를 기다리며 블로킹하는 최대 시간
+ * @param requestTimeoutMs    브로커 요청 하나의 응답 대기 시간
+ * @param deliveryTimeoutMs   send() 이후 전달 성공/실패가 확정되기까지의 최대 시간 (linger + request timeout 이상)
+ */
+public record KafkaProducerProfile(
+        String acks,
+        boolean idempotence,
+        String compressionType,
+        int lingerMs,
+        int batchSizeBytes,
+        long bufferMemoryBytes,
+        int maxInFlightRequests,
+        long maxBlockMs,
+        int requestTimeoutMs,
+        int deliveryTimeoutMs
+) {
+
+    private static final Set<String> COMPRESSION_TYPES = Set.of("none", "lz4", "zstd", "snappy", "gzip");
+    private static final int MAX_IN_FLIGHT_FOR_IDEMPOTENCE = 5;
+
+    public KafkaProducerProfile {
+        if (!COMPRESSION_TYPES.contains(compressionType)) {
+            throw new IllegalArgumentException("Unsupported compression type: " + compressionType);
+        }
+        if (lingerMs < 0 || batchSizeBytes <= 0 || bufferMemoryBytes <= 0 || maxInFlightRequests <= 0) {
+            throw new IllegalArgumentException("Producer sizes must be positive");
+        }
+        if (maxBlockMs <= 0 || requestTimeoutMs <= 0 || deliveryTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Producer timeouts must be positive");
+        }
+        if (deliveryTimeoutMs < (long) lingerMs + requestTimeoutMs) {
+            throw new IllegalArgumentException("delivery timeout must be at least linger + request timeout");
+        }
+        if (idempotence && !"all".equals(acks)) {
+            throw new IllegalArgumentException("Idempotent producer requires acks=all");
+        }
+        if (idempotence && maxInFlightRequests > MAX_IN_FLIGHT_FOR_IDEMPOTENCE) {
+            throw new IllegalArgumentException("Idempotent producer allows at most "
+                    + MAX_IN_FLIGHT_FOR_IDEMPOTENCE + " in-flight requests");
+        }
+    }
+
+    public Map<String, Object> toProducerProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ProducerConfig.ACKS_CONFIG, acks);
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotence);
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSizeBytes);
+        properties.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemoryBytes);
+        properties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlightRequests);
+        properties.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        properties.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, requestTimeoutMs);
+        properties.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
+        return properties;
+    }
+}
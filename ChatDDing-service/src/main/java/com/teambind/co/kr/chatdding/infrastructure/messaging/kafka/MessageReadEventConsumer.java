@@ -1,21 +1,40 @@
 package com.teambind.co.kr.chatdding.infrastructure.messaging.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
+import com.teambind.co.kr.chatdding.domain.chatroom.ReadWatermark;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
 import com.teambind.co.kr.chatdding.domain.event.MessageReadEvent;
+import com.teambind.co.kr.chatdding.domain.message.Message;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
- * 메시지 읽음 이벤트 Kafka Consumer
+ * 메시지 읽음 이벤트 Kafka Consumer (Batch Listener)
  *
- * <p>비동기로 MongoDB bulk update 수행</p>
+ * <p>poll 단위로 받은 이벤트를 (roomId, userId)별로 합쳐 가장 앞선 워터마크만 남기고,
+ * 한 번의 bulkWrite로 참여자 읽음 워터마크를 전진시킨다.
+ * 스크롤 중 반복 발행되는 자동 읽음 이벤트가 참여자당 1건의 갱신으로 줄어든다</p>
+ * <p>실패 처리: 반영 실패는 {@code KafkaConfig}의 에러 핸들러가 지수 백오프로 재시도한 뒤 {@code chat-message-read.DLT}로 보내고,
+ * 파싱할 수 없는 이벤트는 재시도 없이 해당 레코드만 DLT로 보낸다</p>
+ * <p>원본 JSON과 이전 버전의 JSON 문자열 리터럴 형식을 모두 읽는다 ({@link ChatEventPayloads})</p>
+ * <p>{@code chat.read-receipt.legacy-read-by-enabled=true}이면 레거시 readBy도 함께 갱신 (호환 모드)</p>
+ * <p>Metrics: {@code chat.kafka.read-events{stage=received|invalid|applied}}</p>
  */
 @Slf4j
 @Component
@@ -24,31 +43,107 @@ public class MessageReadEventConsumer {
 
     private static final String TOPIC = "chat-message-read";
     private static final String GROUP_ID = "chatdding-message-read-group";
+    private static final String METRIC_READ_EVENTS = "chat.kafka.read-events";
 
     private final MessageRepository messageRepository;
+    private final ChatRoomRepository chatRoomRepository;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
-    @KafkaListener(topics = TOPIC, groupId = GROUP_ID)
-    public void consume(String payload) {
+    @Value("${chat.read-receipt.legacy-read-by-enabled:false}")
+    private boolean legacyReadByEnabled;
+
+    /**
+     * 파티션 수 이내에서 {@code chat.kafka.read-consumer.concurrency}개의 Consumer 스레드로 소비한다
+     */
+    @KafkaListener(
+            topics = TOPIC,
+            groupId = GROUP_ID,
+            batch = "true",
+            concurrency = "${chat.kafka.read-consumer.concurrency:3}",
+            properties = "max.poll.records:${chat.kafka.read-consumer.max-poll-records:500}"
+    )
+    public void consume(List<ConsumerRecord<String, byte[]>> records) {
+        List<ReadWatermark> received = new ArrayList<>(records.size());
+        for (int index = 0; index < records.size(); index++) {
+            ConsumerRecord<String, byte[]> record = records.get(index);
+            recordEvents("received", 1);
+            try {
+                received.add(parse(record.value()));
+            } catch (IllegalArgumentException e) {
+                recordEvents("invalid", 1);
+                log.error("Invalid MessageReadEvent: partition={}, offset={}", record.partition(), record.offset(), e);
+                // 앞선 이벤트는 반영한 뒤 실패 위치를 알려 해당 레코드만 DLT로 보내고 나머지는 다시 받는다
+                apply(received);
+                throw new BatchListenerFailedException(e.getMessage(), e, index);
+            }
+        }
+        apply(received);
+    }
+
+    /**
+     * 반영 실패는 그대로 던져 에러 핸들러가 배치 전체를 백오프 재시도하도록 한다 (워터마크 $max로 멱등)
+     */
+    private void apply(List<ReadWatermark> received) {
+        if (received.isEmpty()) {
+            return;
+        }
+
+        List<ReadWatermark> watermarks = resolveLatestMessageIds(ReadWatermark.coalesce(received));
+        chatRoomRepository.updateParticipantReadWatermarks(watermarks);
+
+        if (legacyReadByEnabled) {
+            watermarks.forEach(this::markLegacyReadBy);
+        }
+
+        recordEvents("applied", watermarks.size());
+        log.debug("Read watermarks advanced: received={}, applied={}", received.size(), watermarks.size());
+    }
+
+    /**
+     * @throws IllegalArgumentException 파싱할 수 없는 이벤트 (재시도해도 실패하므로 에러 핸들러가 바로 DLT로 보낸다)
+     */
+    private ReadWatermark parse(byte[] payload) {
         try {
-            MessageReadEvent event = objectMapper.readValue(payload, MessageReadEvent.class);
-            processEvent(event);
+            MessageReadEvent event = ChatEventPayloads.decode(objectMapper, payload, MessageReadEvent.class);
+            return ReadWatermark.of(
+                    RoomId.fromString(event.roomId()),
+                    UserId.of(event.userId()),
+                    event.lastReadMessageId() != null ? MessageId.fromString(event.lastReadMessageId()) : null,
+                    event.occurredAt()
+            );
         } catch (Exception e) {
-            log.error("Failed to process MessageReadEvent: {}", payload, e);
+            throw new IllegalArgumentException("Invalid MessageReadEvent payload", e);
         }
     }
 
-    private void processEvent(MessageReadEvent event) {
-        log.debug("Processing MessageReadEvent: roomId={}, userId={}",
-                event.roomId(), event.userId());
-
-        RoomId roomId = RoomId.fromString(event.roomId());
-        UserId userId = UserId.of(event.userId());
-        LocalDateTime readAt = event.occurredAt();
+    /**
+     * 메시지 ID가 없는 워터마크를 채팅방 최신 메시지로 채운다 (채팅방당 1회 조회)
+     */
+    private List<ReadWatermark> resolveLatestMessageIds(List<ReadWatermark> watermarks) {
+        Map<RoomId, Optional<MessageId>> latestByRoom = new HashMap<>();
+        return watermarks.stream()
+                .map(watermark -> watermark.lastReadMessageId() != null
+                        ? watermark
+                        : ReadWatermark.of(
+                                watermark.roomId(),
+                                watermark.userId(),
+                                latestByRoom.computeIfAbsent(watermark.roomId(), roomId ->
+                                        messageRepository.findLatestByRoomId(roomId).map(Message::getId)
+                                ).orElse(null),
+                                watermark.readAt()
+                        ))
+                .toList();
+    }
 
-        int count = messageRepository.bulkMarkAsRead(roomId, userId, readAt);
+    private void markLegacyReadBy(ReadWatermark watermark) {
+        int count = messageRepository.markAsReadUpTo(
+                watermark.roomId(), watermark.userId(), watermark.lastReadMessageId(), watermark.readAt());
+        log.debug("Legacy readBy marked {} messages: roomId={}, userId={}",
+                count, watermark.roomId(), watermark.userId());
+    }
 
-        log.info("Bulk marked {} messages as read: roomId={}, userId={}",
-                count, event.roomId(), event.userId());
+    private void recordEvents(String stage, int count) {
+        meterRegistry.counter(METRIC_READ_EVENTS, "stage", stage).increment(count);
     }
 }
@@ -0,0 +1,59 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.co.kr.chatdding.application.port.out.EventPublisher;
+import com.teambind.co.kr.chatdding.common.util.generator.PrimaryKeyGenerator;
+import com.teambind.co.kr.chatdding.domain.event.ChatEvent;
+import com.teambind.co.kr.chatdding.infrastructure.messaging.kafka.ChatEventPayloads;
+import com.teambind.co.kr.chatdding.infrastructure.messaging.kafka.ChatEventRoutes;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.OutboxEventDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository.OutboxEventMongoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional Outbox 이벤트 발행 Adapter
+ *
+ * <p>Kafka로 바로 보내지 않고 {@code outbox_events} 컬렉션에 적재한다.
+ * 호출한 UseCase의 MongoDB 트랜잭션에 참여하므로 도메인 변경이 커밋될 때만 이벤트가 남는다</p>
+ * <p>실제 전송은 {@link OutboxRelay}가 배치로 수행하며, 요청 지연이 브로커 지연과 분리된다</p>
+ * <p>적재 실패는 예외로 전파되어 트랜잭션 전체가 롤백된다</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxEventPublisher implements EventPublisher {
+
+    private final OutboxEventMongoRepository outboxRepository;
+    private final PrimaryKeyGenerator primaryKeyGenerator;
+    private final ObjectMapper objectMapper;
+    private final boolean legacyStringPayload;
+
+    @Override
+    public void publish(ChatEvent event) {
+        publish(ChatEventRoutes.topicOf(event), event);
+    }
+
+    @Override
+    public void publish(String topic, ChatEvent event) {
+        byte[] payload;
+        try {
+            payload = ChatEventPayloads.encode(objectMapper, event, legacyStringPayload);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize event: {}", event.getEventType(), e);
+            return;
+        }
+
+        outboxRepository.insert(OutboxEventDocument.builder()
+                .id(primaryKeyGenerator.generateLongKey())
+                .topic(topic)
+                .messageKey(ChatEventRoutes.keyOf(event))
+                .payload(payload)
+                .eventType(event.getEventType())
+                .createdAt(LocalDateTime.now())
+                .build());
+        log.debug("Event stored to outbox: topic={}, type={}", topic, event.getEventType());
+    }
+}
@@ -0,0 +1,252 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.outbox;
+
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.OutboxEventDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository.OutboxEventMongoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox → Kafka 배치 Relay
+ *
+ * <p>{@code outbox_events}를 _id 오름차순으로 batch-size개씩 읽어 한꺼번에 전송한 뒤 ack를 기다린다.
+ * 배치 전체가 Producer 버퍼에 쌓이므로 linger/압축이 배치 단위로 적용된다</p>
+ * <p>ack를 받은 이벤트만 삭제하고 실패한 이벤트는 다음 주기에 재전송한다 (at-least-once, Consumer는 멱등 처리)</p>
+ * <p>인스턴스 중 하나만 Relay하도록 Redis 키 {@code outbox:relay:leader}를 TTL로 선점한다.
+ * 리더가 비정상 종료되면 TTL 경과 후 다른 인스턴스가 이어받는다</p>
+ * <p>리더 연장은 소유자 확인과 PEXPIRE를 한 스크립트로 실행해, 만료 직후 다른 인스턴스가 선점한 Lease를 연장하지 않는다.
+ * 한 번의 실행이 leader-ttl보다 길어질 수 있으므로 배치마다 연장하고, 연장에 실패하면 그 자리에서 멈춘다
+ * (배치 하나는 send-timeout 안에 끝나므로 leader-ttl은 send-timeout보다 길어야 한다)</p>
+ * <p>공용 {@code @Scheduled} 스레드를 쓰지 않고 전용 스레드 하나에서 실행한다. 브로커 장애로 전송이 지연되어도
+ * nodeId Lease 연장, Presence heartbeat 등 다른 주기 작업을 막지 않는다</p>
+ * <p>배치 도중 {@code send()}가 바로 실패하면(브로커에 닿지 않아 max.block.ms 초과) 남은 이벤트는 보내지 않고 다음 주기로 미룬다</p>
+ * <p>Metrics: {@code chat.kafka.publish{topic, outcome}} 전송 ~ ack 지연, {@code chat.outbox.lag} 적재 ~ ack 지연</p>
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private static final String LEADER_KEY = "outbox:relay:leader";
+    private static final String METRIC_PUBLISH = "chat.kafka.publish";
+    private static final String METRIC_LAG = "chat.outbox.lag";
+
+    /**
+     * KEYS[1]=leader, ARGV[1]=owner, ARGV[2]=ttl(ms)
+     */
+    private static final byte[] RENEW_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final OutboxEventMongoRepository outboxRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration sendTimeout;
+    private final Duration leaderTtl;
+    private final Duration relayInterval;
+    private final String owner = UUID.randomUUID().toString();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("outbox-relay").daemon().factory());
+
+    public OutboxRelay(OutboxEventMongoRepository outboxRepository,
+                       KafkaTemplate<String, byte[]> kafkaTemplate,
+                       StringRedisTemplate redisTemplate,
+                       MeterRegistry meterRegistry,
+                       int batchSize,
+                       int maxBatchesPerRun,
+                       Duration sendTimeout,
+                       Duration leaderTtl,
+                       Duration relayInterval) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.sendTimeout = sendTimeout;
+        this.leaderTtl = leaderTtl;
+        this.relayInterval = relayInterval;
+    }
+
+    /**
+     * 전용 스레드에서 relay-interval 간격으로 실행 시작
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::relaySafely,
+                relayInterval.toMillis(), relayInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 리더일 때 적체분을 최대 max-batches-per-run 배치까지 비운다 (배치마다 리더 연장)
+     */
+    public void relay() {
+        if (!acquireLeadership()) {
+            return;
+        }
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (i > 0 && !holdLeadership()) {
+                return;
+            }
+            if (!relayBatch()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 예외가 나면 ScheduledExecutorService가 이후 실행을 멈추므로 로그만 남긴다
+     */
+    private void relaySafely() {
+        try {
+            relay();
+        } catch (Exception e) {
+            log.error("Outbox relay run failed, will retry. error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 배치 하나를 전송하고 ack된 이벤트를 삭제
+     *
+     * @return 가득 찬 배치가 모두 전송되어 바로 다음 배치를 이어갈 수 있으면 true
+     */
+    boolean relayBatch() {
+        List<OutboxEventDocument> batch = outboxRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        List<CompletableFuture<?>> futures = new ArrayList<>(batch.size());
+        for (OutboxEventDocument outboxEvent : batch) {
+            CompletableFuture<?> future = send(outboxEvent);
+            futures.add(future);
+            if (future.isCompletedExceptionally()) {
+                // 브로커에 닿지 않으면 남은 이벤트도 각각 max.block.ms씩 막히므로 다음 주기로 미룬다
+                break;
+            }
+        }
+
+        List<Long> relayedIds = new ArrayList<>(futures.size());
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int i = 0; i < futures.size(); i++) {
+            if (awaitAck(futures.get(i), deadline)) {
+                OutboxEventDocument relayed = batch.get(i);
+                relayedIds.add(relayed.getId());
+                meterRegistry.timer(METRIC_LAG).record(Duration.between(relayed.getCreatedAt(), LocalDateTime.now()));
+            }
+        }
+
+        if (!relayedIds.isEmpty()) {
+            outboxRepository.deleteAllById(relayedIds);
+        }
+
+        if (relayedIds.size() < batch.size()) {
+            log.warn("Outbox relay partially failed, will retry. relayed={}, failed={}",
+                    relayedIds.size(), batch.size() - relayedIds.size());
+            return false;
+        }
+        log.debug("Outbox relayed: {} events", relayedIds.size());
+        return batch.size() == batchSize;
+    }
+
+    private CompletableFuture<?> send(OutboxEventDocument outboxEvent) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return kafkaTemplate.send(outboxEvent.getTopic(), outboxEvent.getMessageKey(), outboxEvent.getPayload())
+                    .whenComplete((result, ex) -> {
+                        sample.stop(publishTimer(outboxEvent.getTopic(), ex == null ? "success" : "failure"));
+                        if (ex != null) {
+                            log.error("Failed to relay outbox event {} to topic {}",
+                                    outboxEvent.getId(), outboxEvent.getTopic(), ex);
+                        }
+                    });
+        } catch (Exception e) {
+            sample.stop(publishTimer(outboxEvent.getTopic(), "failure"));
+            log.error("Failed to relay outbox event {} to topic {}", outboxEvent.getId(), outboxEvent.getTopic(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean awaitAck(CompletableFuture<?> future, long deadline) {
+        try {
+            future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean acquireLeadership() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEADER_KEY, owner, leaderTtl))) {
+                log.info("Outbox relay leadership acquired: owner={}", owner);
+                return true;
+            }
+            return renewLeadership();
+        } catch (Exception e) {
+            log.warn("Redis outbox leader check failed, skipping relay. error={}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 배치 사이 리더 연장 - 실패하면 다른 인스턴스가 이어받았을 수 있으므로 더 보내지 않는다
+     */
+    private boolean holdLeadership() {
+        try {
+            if (renewLeadership()) {
+                return true;
+            }
+            log.warn("Outbox relay leadership lost, stopping this run. owner={}", owner);
+            return false;
+        } catch (Exception e) {
+            log.warn("Redis outbox leader renew failed, stopping this run. error={}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean renewLeadership() {
+        Long renewed = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                RENEW_SCRIPT, ReturnType.INTEGER, 1,
+                LEADER_KEY.getBytes(StandardCharsets.UTF_8),
+                owner.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(leaderTtl.toMillis()).getBytes(StandardCharsets.UTF_8)));
+        return renewed != null && renewed == 1L;
+    }
+
+    private Timer publishTimer(String topic, String outcome) {
+        return Timer.builder(METRIC_PUBLISH)
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -1,17 +1,28 @@
 package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.adapter;
 
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomCursor;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType;
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage;
+import com.teambind.co.kr.chatdding.domain.chatroom.Participant;
+import com.teambind.co.kr.chatdding.domain.chatroom.ReadWatermark;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
 import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.ChatRoomDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.LastMessageDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.ParticipantDocument;
 import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository.ChatRoomMongoRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,6 +31,7 @@ import java.util.Optional;
  * <p>도메인 Repository 인터페이스를 MongoDB로 구현</p>
  */
 @Repository
+@Timed("chat.repository")
 @RequiredArgsConstructor
 public class ChatRoomRepositoryAdapter implements ChatRoomRepository {
 
@@ -55,6 +67,17 @@ public class ChatRoomRepositoryAdapter implements ChatRoomRepository {
                 .toList();
     }
 
+    @Override
+    public Map<RoomId, MessageId> findActiveReadWatermarksByParticipantUserId(UserId userId) {
+        Map<RoomId, MessageId> watermarks = new LinkedHashMap<>();
+        for (ChatRoomDocument document : mongoRepository.findActiveReadWatermarks(userId.getValue())) {
+            Long lastReadMessageId = document.getParticipants().get(0).getLastReadMessageId();
+            watermarks.put(RoomId.of(document.getId()),
+                    lastReadMessageId != null ? MessageId.of(lastReadMessageId) : null);
+        }
+        return watermarks;
+    }
+
     @Override
     public List<ChatRoom> findActiveByParticipantUserIdAndTypeOrderByLastMessageAtDesc(UserId userId, ChatRoomType type) {
         return mongoRepository.findByParticipantIdsContainingAndStatusAndTypeOrderByLastMessageAtDesc(
@@ -64,6 +87,20 @@ public class ChatRoomRepositoryAdapter implements ChatRoomRepository {
                 .toList();
     }
 
+    @Override
+    public List<ChatRoom> findActiveByParticipantUserIdBeforeCursor(UserId userId, ChatRoomType type,
+                                                                    ChatRoomCursor cursor, int limit) {
+        return mongoRepository.findActiveByParticipantBeforeCursor(
+                        userId.getValue(),
+                        type,
+                        cursor != null ? cursor.lastMessageAt() : null,
+                        cursor != null ? cursor.roomId().getValue() : null,
+                        limit)
+                .stream()
+                .map(ChatRoomDocument::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<ChatRoom> findDmByParticipantIds(List<Long> participantIds) {
         return mongoRepository.findByTypeAndSortedParticipantIds(ChatRoomType.DM, participantIds)
@@ -88,16 +125,14 @@ public class ChatRoomRepositoryAdapter implements ChatRoomRepository {
     }
 
     @Override
-    public List<ChatRoom> findPlaceInquiriesByHostId(UserId hostId, Long placeId) {
-        if (placeId != null) {
-            return mongoRepository.findByTypeAndOwnerIdAndContext_ContextIdOrderByLastMessageAtDesc(
-                            ChatRoomType.PLACE_INQUIRY, hostId.getValue(), placeId)
-                    .stream()
-                    .map(ChatRoomDocument::toDomain)
-                    .toList();
-        }
-        return mongoRepository.findByTypeAndOwnerIdOrderByLastMessageAtDesc(
-                        ChatRoomType.PLACE_INQUIRY, hostId.getValue())
+    public List<ChatRoom> findPlaceInquiriesByHostIdBeforeCursor(UserId hostId, Long placeId,
+                                                                 ChatRoomCursor cursor, int limit) {
+        return mongoRepository.findPlaceInquiriesBeforeCursor(
+                        hostId.getValue(),
+                        placeId,
+                        cursor != null ? cursor.lastMessageAt() : null,
+                        cursor != null ? cursor.roomId().getValue() : null,
+                        limit)
                 .stream()
                 .map(ChatRoomDocument::toDomain)
                 .toList();
@@ -115,4 +150,44 @@ public class ChatRoomRepositoryAdapter implements ChatRoomRepository {
     public long countPendingSupportRooms() {
         return mongoRepository.countPendingSupportRooms();
     }
+
+    @Override
+    public void updateParticipantReadWatermark(RoomId roomId, UserId userId, MessageId lastReadMessageId,
+                                               LocalDateTime readAt) {
+        mongoRepository.updateParticipantReadWatermark(
+                roomId.getValue(),
+                userId.getValue(),
+                lastReadMessageId != null ? lastReadMessageId.getValue() : null,
+                readAt
+        );
+    }
+
+    @Override
+    public void updateParticipantReadWatermarks(List<ReadWatermark> watermarks) {
+        mongoRepository.updateParticipantReadWatermarks(watermarks);
+    }
+
+    @Override
+    public void updateLastMessage(RoomId roomId, LastMessage lastMessage) {
+        mongoRepository.updateLastMessage(roomId.getValue(), LastMessageDocument.from(lastMessage));
+    }
+
+    @Override
+    public void replaceLastMessage(RoomId roomId, MessageId expectedMessageId, LastMessage replacement) {
+        mongoRepository.replaceLastMessage(
+                roomId.getValue(),
+                expectedMessageId.getValue(),
+                LastMessageDocument.from(replacement)
+        );
+    }
+
+    @Override
+    public boolean addParticipant(RoomId roomId, Participant participant, int maxParticipants) {
+        return mongoRepository.addParticipant(roomId.getValue(), ParticipantDocument.from(participant), maxParticipants);
+    }
+
+    @Override
+    public boolean updateStatus(RoomId roomId, ChatRoomStatus expected, ChatRoomStatus status) {
+        return mongoRepository.updateStatus(roomId.getValue(), expected, status);
+    }
 }
@@ -1,5 +1,6 @@
 package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.adapter;
 
+import com.teambind.co.kr.chatdding.common.util.generator.Snowflake;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
 import com.teambind.co.kr.chatdding.domain.message.Message;
@@ -7,18 +8,25 @@ import com.teambind.co.kr.chatdding.domain.message.MessageId;
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository;
 import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.MessageDocument;
 import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository.MessageMongoRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -27,15 +35,22 @@ import java.util.Optional;
  * <p>도메인 Repository 인터페이스를 MongoDB로 구현</p>
  */
 @Repository
+@Timed("chat.repository")
 @RequiredArgsConstructor
 public class MessageRepositoryAdapter implements MessageRepository {
 
     private final MessageMongoRepository mongoRepository;
     private final MongoTemplate mongoTemplate;
 
+    /**
+     * v2(compact) 스키마로 저장 여부. v2를 읽지 못하는 인스턴스가 남은 롤링 배포 중에만 false
+     */
+    @Value("${chat.message-schema.compact-writes:true}")
+    private boolean compactWrites;
+
     @Override
     public Message save(Message message) {
-        MessageDocument document = MessageDocument.from(message);
+        MessageDocument document = compactWrites ? MessageDocument.from(message) : MessageDocument.legacyFrom(message);
         MessageDocument saved = mongoRepository.save(document);
         return saved.toDomain();
     }
@@ -49,7 +64,7 @@ public class MessageRepositoryAdapter implements MessageRepository {
     @Override
     public List<Message> findByRoomIdOrderByCreatedAtDesc(RoomId roomId, int limit, int offset) {
         Pageable pageable = PageRequest.of(offset / limit, limit);
-        return mongoRepository.findByRoomIdOrderByCreatedAtDesc(roomId.getValue(), pageable)
+        return mongoRepository.findByRoomIdOrderByIdDesc(roomId.getValue(), pageable)
                 .stream()
                 .map(MessageDocument::toDomain)
                 .toList();
@@ -57,34 +72,119 @@ public class MessageRepositoryAdapter implements MessageRepository {
 
     @Override
     public List<Message> findByRoomIdBeforeCursor(RoomId roomId, MessageId cursorId, int limit) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return mongoRepository.findByRoomIdAndIdLessThanOrderByCreatedAtDesc(
+        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "_id"));
+        return mongoRepository.findByRoomIdAndIdLessThanOrderByIdDesc(
                         roomId.getValue(), cursorId.getValue(), pageable)
                 .stream()
                 .map(MessageDocument::toDomain)
                 .toList();
     }
 
+    /**
+     * idx_roomId_id 인덱스 범위를 그대로 읽는다
+     */
+    @Override
+    public List<Message> findByRoomIdAfterId(RoomId roomId, MessageId sinceId, int limit) {
+        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "_id"));
+        return mongoRepository.findByRoomIdAndIdGreaterThanOrderByIdAsc(
+                        roomId.getValue(), sinceId.getValue(), pageable)
+                .stream()
+                .map(MessageDocument::toDomain)
+                .toList();
+    }
+
+    /**
+     * createdAt을 저장하지 않으므로 시각을 Snowflake ID 하한으로 바꿔 idx_roomId_id 범위를 읽는다
+     */
     @Override
     public List<Message> findByRoomIdAndCreatedAtAfter(RoomId roomId, LocalDateTime after) {
-        return mongoRepository.findByRoomIdAndCreatedAtAfterOrderByCreatedAtAsc(
-                        roomId.getValue(), after)
+        long afterMillis = after.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return mongoRepository.findByRoomIdAndIdGreaterThanEqualOrderByIdAsc(
+                        roomId.getValue(), Snowflake.minIdAt(afterMillis + 1))
                 .stream()
                 .map(MessageDocument::toDomain)
                 .toList();
     }
 
     @Override
-    public long countUnreadByRoomIdAndUserId(RoomId roomId, UserId userId) {
+    public long countUnread(RoomId roomId, UserId userId, MessageId lastReadMessageId) {
+        return mongoTemplate.count(unreadQuery(roomId, userId, lastReadMessageId, null), MessageDocument.class);
+    }
+
+    @Override
+    public Map<RoomId, Long> countUnreadByRoomIds(UserId userId, Map<RoomId, MessageId> lastReadMessageIds) {
+        Map<RoomId, Long> counts = new HashMap<>();
+        if (lastReadMessageIds.isEmpty()) {
+            return counts;
+        }
+        lastReadMessageIds.keySet().forEach(roomId -> counts.put(roomId, 0L));
+
+        // 채팅방별 워터마크 조건을 $or로 묶어 한 번의 $match/$group으로 집계 (분기마다 idx_roomId_id 사용)
+        Criteria[] perRoom = lastReadMessageIds.entrySet().stream()
+                .map(entry -> roomUnreadCriteria(entry.getKey(), userId, entry.getValue()))
+                .toArray(Criteria[]::new);
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(new Criteria().andOperator(
+                        Criteria.where("senderId").ne(userId.getValue()),
+                        Criteria.where("legacySenderId").ne(userId.getValue()),
+                        new Criteria().orOperator(perRoom)
+                )),
+                Aggregation.group("roomId").count().as("count")
+        );
+
+        mongoTemplate.aggregate(aggregation, MessageDocument.class, Document.class)
+                .getMappedResults()
+                .forEach(result -> counts.put(
+                        RoomId.of(result.get("_id", Number.class).longValue()),
+                        result.get("count", Number.class).longValue()
+                ));
+        return counts;
+    }
+
+    @Override
+    public long countUnreadUpTo(RoomId roomId, UserId userId, MessageId lastReadMessageId, MessageId upToId) {
+        return mongoTemplate.count(unreadQuery(roomId, userId, lastReadMessageId, upToId), MessageDocument.class);
+    }
+
+    private Query unreadQuery(RoomId roomId, UserId userId, MessageId lastReadMessageId, MessageId upToId) {
         Query query = new Query();
         query.addCriteria(Criteria.where("roomId").is(roomId.getValue()));
-        query.addCriteria(Criteria.where("readBy." + userId.getValue()).exists(false));
-        return mongoTemplate.count(query, MessageDocument.class);
+        query.addCriteria(Criteria.where("senderId").ne(userId.getValue()));
+        // v1 문서는 발신자가 senderId 키에 있다 (v2 문서에는 키가 없어 항상 만족)
+        query.addCriteria(Criteria.where("legacySenderId").ne(userId.getValue()));
+
+        if (lastReadMessageId == null) {
+            // 워터마크 백필 이전 참여자 호환
+            query.addCriteria(Criteria.where("readBy." + userId.getValue()).exists(false));
+        }
+
+        // 워터마크 이후 ID 범위 (idx_roomId_id)
+        if (lastReadMessageId != null || upToId != null) {
+            Criteria idRange = Criteria.where("_id");
+            if (lastReadMessageId != null) {
+                idRange.gt(lastReadMessageId.getValue());
+            }
+            if (upToId != null) {
+                idRange.lte(upToId.getValue());
+            }
+            query.addCriteria(idRange);
+        }
+        return query;
+    }
+
+    private Criteria roomUnreadCriteria(RoomId roomId, UserId userId, MessageId lastReadMessageId) {
+        Criteria criteria = Criteria.where("roomId").is(roomId.getValue());
+        if (lastReadMessageId == null) {
+            // 워터마크 백필 이전 참여자 호환
+            return criteria.and("readBy." + userId.getValue()).exists(false);
+        }
+        return criteria.and("_id").gt(lastReadMessageId.getValue());
     }
 
     @Override
     public Optional<Message> findLatestByRoomId(RoomId roomId) {
-        return mongoRepository.findFirstByRoomIdOrderByCreatedAtDesc(roomId.getValue())
+        return mongoRepository.findFirstByRoomIdOrderByIdDesc(roomId.getValue())
                 .map(MessageDocument::toDomain);
     }
 
@@ -100,9 +200,17 @@ public class MessageRepositoryAdapter implements MessageRepository {
 
     @Override
     public int bulkMarkAsRead(RoomId roomId, UserId userId, LocalDateTime readAt) {
+        return markAsReadUpTo(roomId, userId, null, readAt);
+    }
+
+    @Override
+    public int markAsReadUpTo(RoomId roomId, UserId userId, MessageId upToId, LocalDateTime readAt) {
         Query query = new Query();
         query.addCriteria(Criteria.where("roomId").is(roomId.getValue()));
         query.addCriteria(Criteria.where("readBy." + userId.getValue()).exists(false));
+        if (upToId != null) {
+            query.addCriteria(Criteria.where("_id").lte(upToId.getValue()));
+        }
 
         Update update = new Update();
         update.set("readBy." + userId.getValue(), readAt);
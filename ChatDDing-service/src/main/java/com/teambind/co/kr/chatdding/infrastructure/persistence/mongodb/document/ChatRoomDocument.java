@@ -4,6 +4,7 @@ import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomContext;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType;
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage;
 import com.teambind.co.kr.chatdding.domain.chatroom.Participant;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
@@ -26,7 +27,11 @@ import java.util.List;
 @Document(collection = "chat_rooms")
 @CompoundIndexes({
         @CompoundIndex(name = "idx_type_participantIds", def = "{'type': 1, 'sortedParticipantIds': 1}"),
-        @CompoundIndex(name = "idx_participantIds_lastMessageAt", def = "{'participantIds': 1, 'lastMessageAt': -1}")
+        @CompoundIndex(name = "idx_participantIds_lastMessageAt_id", def = "{'participantIds': 1, 'lastMessageAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "idx_type_ownerId_contextId_lastMessageAt",
+                def = "{'type': 1, 'ownerId': 1, 'context.contextId': 1, 'lastMessageAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "idx_type_ownerId_lastMessageAt",
+                def = "{'type': 1, 'ownerId': 1, 'lastMessageAt': -1, '_id': -1}")
 })
 @Getter
 @Builder
@@ -59,6 +64,8 @@ public class ChatRoomDocument {
 
     private ChatRoomContextDocument context;
 
+    private LastMessageDocument lastMessage;
+
     public static ChatRoomDocument from(ChatRoom chatRoom) {
         List<ParticipantDocument> participantDocs = chatRoom.getParticipants().stream()
                 .map(ParticipantDocument::from)
@@ -80,6 +87,7 @@ public class ChatRoomDocument {
                 .createdAt(chatRoom.getCreatedAt())
                 .lastMessageAt(chatRoom.getLastMessageAt())
                 .context(ChatRoomContextDocument.from(chatRoom.getContext()))
+                .lastMessage(LastMessageDocument.from(chatRoom.getLastMessage()))
                 .build();
     }
 
@@ -89,6 +97,7 @@ public class ChatRoomDocument {
                 .toList();
 
         ChatRoomContext domainContext = context != null ? context.toDomain() : null;
+        LastMessage domainLastMessage = lastMessage != null ? lastMessage.toDomain() : null;
 
         return ChatRoom.restore(
                 RoomId.of(id),
@@ -99,7 +108,8 @@ public class ChatRoomDocument {
                 status,
                 createdAt,
                 lastMessageAt,
-                domainContext
+                domainContext,
+                domainLastMessage
         );
     }
 }
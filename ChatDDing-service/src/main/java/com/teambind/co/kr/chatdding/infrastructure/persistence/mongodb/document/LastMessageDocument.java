@@ -0,0 +1,47 @@
+package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document;
+
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage;
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 마지막 메시지 스냅샷 MongoDB Embedded Document
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LastMessageDocument {
+
+    private Long messageId;
+    private Long senderId;
+    private String preview;
+    private LocalDateTime createdAt;
+
+    public static LastMessageDocument from(LastMessage lastMessage) {
+        if (lastMessage == null) {
+            return null;
+        }
+        return LastMessageDocument.builder()
+                .messageId(lastMessage.messageId().getValue())
+                .senderId(lastMessage.senderId().getValue())
+                .preview(lastMessage.preview())
+                .createdAt(lastMessage.createdAt())
+                .build();
+    }
+
+    public LastMessage toDomain() {
+        return new LastMessage(
+                MessageId.of(messageId),
+                UserId.of(senderId),
+                preview,
+                createdAt
+        );
+    }
+}
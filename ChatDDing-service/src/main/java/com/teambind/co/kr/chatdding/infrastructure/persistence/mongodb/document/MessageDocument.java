@@ -1,5 +1,6 @@
 package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document;
 
+import com.teambind.co.kr.chatdding.common.util.generator.Snowflake;
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
 import com.teambind.co.kr.chatdding.domain.message.Message;
@@ -9,12 +10,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -23,10 +28,20 @@ import java.util.stream.Collectors;
 
 /**
  * 메시지 MongoDB Document
+ *
+ * <p>스키마 버전 ({@code v})</p>
+ * <ul>
+ *     <li>v1 (필드 없음): senderId, content, deletedBy, createdAt</li>
+ *     <li>v2: s, c, d(비어 있으면 생략). createdAt은 저장하지 않고 Snowflake ID의 발급 시각으로 복원한다</li>
+ * </ul>
+ * <p>roomId는 인덱스/샤드 키이므로 이름을 유지한다 (키 이름은 인덱스 크기에 영향이 없고,
+ * 바꾸면 마이그레이션 동안 모든 채팅방 조회가 두 키를 함께 조회해야 한다)</p>
+ * <p>조회는 두 버전을 모두 읽으며 {@code MessageCompactionJob}이 v1 문서를 v2로 변환한다</p>
  */
 @Document(collection = "messages")
+@TypeAlias(MessageDocument.TYPE_ALIAS)
 @CompoundIndexes({
-        @CompoundIndex(name = "idx_roomId_createdAt", def = "{'roomId': 1, 'createdAt': -1}")
+        @CompoundIndex(name = "idx_roomId_id", def = "{'roomId': 1, '_id': -1}")
 })
 @Getter
 @Builder
@@ -34,42 +49,82 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 public class MessageDocument {
 
+    public static final int COMPACT_SCHEMA_VERSION = 2;
+
+    /**
+     * _class 값 (기본값인 전체 클래스명 대신 짧은 별칭)
+     */
+    public static final String TYPE_ALIAS = "msg";
+
     @Id
     private Long id;
 
     @Indexed
     private Long roomId;
 
+    /**
+     * 스키마 버전 (v1 문서에는 없음)
+     */
+    @Field("v")
+    private Integer schemaVersion;
+
+    @Field("s")
     private Long senderId;
 
+    @Field("c")
     private String content;
 
+    /**
+     * 레거시 읽음 정보 (워터마크 도입 이전 데이터 호환용, 비어 있으면 저장하지 않음)
+     */
     private Map<Long, LocalDateTime> readBy;
 
+    @Field("d")
     private Set<Long> deletedBy;
 
-    @Indexed
-    private LocalDateTime createdAt;
+    // ===== v1 호환 필드 (마이그레이션 완료 후 제거) =====
 
-    public static MessageDocument from(Message message) {
-        Map<Long, LocalDateTime> readByMap = message.getReadBy().entrySet().stream()
-                .collect(Collectors.toMap(
-                        entry -> entry.getKey().getValue(),
-                        Map.Entry::getValue
-                ));
+    @Field("senderId")
+    private Long legacySenderId;
 
-        Set<Long> deletedBySet = message.getDeletedBy().stream()
-                .map(UserId::getValue)
-                .collect(Collectors.toSet());
+    @Field("content")
+    private String legacyContent;
+
+    @Field("deletedBy")
+    private Set<Long> legacyDeletedBy;
+
+    @Field("createdAt")
+    private LocalDateTime legacyCreatedAt;
+
+    /**
+     * v2 (compact) 문서 생성
+     */
+    public static MessageDocument from(Message message) {
+        Set<Long> deletedBySet = toDeletedBy(message);
 
         return MessageDocument.builder()
                 .id(message.getId().getValue())
                 .roomId(message.getRoomId().getValue())
+                .schemaVersion(COMPACT_SCHEMA_VERSION)
                 .senderId(message.getSenderId().getValue())
                 .content(message.getContent())
-                .readBy(readByMap)
-                .deletedBy(deletedBySet)
-                .createdAt(message.getCreatedAt())
+                .readBy(toReadBy(message))
+                .deletedBy(deletedBySet.isEmpty() ? null : deletedBySet)
+                .build();
+    }
+
+    /**
+     * v1 문서 생성 (v2를 읽지 못하는 인스턴스가 남아 있는 롤링 배포 중에만 사용)
+     */
+    public static MessageDocument legacyFrom(Message message) {
+        return MessageDocument.builder()
+                .id(message.getId().getValue())
+                .roomId(message.getRoomId().getValue())
+                .legacySenderId(message.getSenderId().getValue())
+                .legacyContent(message.getContent())
+                .readBy(toReadBy(message))
+                .legacyDeletedBy(toDeletedBy(message))
+                .legacyCreatedAt(message.getCreatedAt())
                 .build();
     }
 
@@ -81,19 +136,39 @@ public class MessageDocument {
         }
 
         Set<UserId> domainDeletedBy = new HashSet<>();
-        if (deletedBy != null) {
-            deletedBy.forEach(userId ->
+        Set<Long> storedDeletedBy = deletedBy != null ? deletedBy : legacyDeletedBy;
+        if (storedDeletedBy != null) {
+            storedDeletedBy.forEach(userId ->
                     domainDeletedBy.add(UserId.of(userId)));
         }
 
         return Message.restore(
                 MessageId.of(id),
                 RoomId.of(roomId),
-                UserId.of(senderId),
-                content,
+                UserId.of(senderId != null ? senderId : legacySenderId),
+                content != null ? content : legacyContent,
                 domainReadBy,
                 domainDeletedBy,
-                createdAt
+                legacyCreatedAt != null ? legacyCreatedAt : createdAtOf(id)
         );
     }
+
+    private static Map<Long, LocalDateTime> toReadBy(Message message) {
+        Map<Long, LocalDateTime> readByMap = message.getReadBy().entrySet().stream()
+                .collect(Collectors.toMap(
+                        entry -> entry.getKey().getValue(),
+                        Map.Entry::getValue
+                ));
+        return readByMap.isEmpty() ? null : readByMap;
+    }
+
+    private static Set<Long> toDeletedBy(Message message) {
+        return message.getDeletedBy().stream()
+                .map(UserId::getValue)
+                .collect(Collectors.toSet());
+    }
+
+    private static LocalDateTime createdAtOf(long id) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Snowflake.timestampOf(id)), ZoneId.systemDefault());
+    }
 }
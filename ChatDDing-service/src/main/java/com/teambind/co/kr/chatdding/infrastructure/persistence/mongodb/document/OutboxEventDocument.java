@@ -0,0 +1,43 @@
+package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kafka 발행 대기 이벤트 (Transactional Outbox) MongoDB Document
+ *
+ * <p>도메인 변경과 같은 트랜잭션에서 저장되며, Relay가 Kafka ack를 받은 뒤 삭제한다</p>
+ * <p>_id는 Snowflake ID이므로 _id 오름차순이 적재 순서다 (별도 인덱스 불필요)</p>
+ */
+@Document(collection = "outbox_events")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventDocument {
+
+    @Id
+    private Long id;
+
+    private String topic;
+
+    /**
+     * Kafka 메시지 키 (nullable)
+     */
+    private String messageKey;
+
+    /**
+     * 직렬화된 이벤트 JSON (UTF-8 byte[], Kafka로 그대로 전송)
+     */
+    private byte[] payload;
+
+    private String eventType;
+
+    private LocalDateTime createdAt;
+}
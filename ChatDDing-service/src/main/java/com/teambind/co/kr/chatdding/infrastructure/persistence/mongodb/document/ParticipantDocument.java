@@ -2,6 +2,7 @@ package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document
 
 import com.teambind.co.kr.chatdding.domain.chatroom.Participant;
 import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.message.MessageId;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,6 +22,7 @@ public class ParticipantDocument {
     private Long userId;
     private boolean notificationEnabled;
     private LocalDateTime lastReadAt;
+    private Long lastReadMessageId;
     private LocalDateTime joinedAt;
 
     public static ParticipantDocument from(Participant participant) {
@@ -28,6 +30,9 @@ public class ParticipantDocument {
                 .userId(participant.getUserId().getValue())
                 .notificationEnabled(participant.isNotificationEnabled())
                 .lastReadAt(participant.getLastReadAt())
+                .lastReadMessageId(participant.getLastReadMessageId() != null
+                        ? participant.getLastReadMessageId().getValue()
+                        : null)
                 .joinedAt(participant.getJoinedAt())
                 .build();
     }
@@ -37,6 +42,7 @@ public class ParticipantDocument {
                 UserId.of(userId),
                 notificationEnabled,
                 lastReadAt,
+                lastReadMessageId != null ? MessageId.of(lastReadMessageId) : null,
                 joinedAt
         );
     }
@@ -0,0 +1,96 @@
+package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.migration;
+
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.ChatRoomDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.LastMessageDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.MessageDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository.ChatRoomMongoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 채팅방 마지막 메시지 스냅샷 Backfill 작업
+ *
+ * <p>lastMessage 필드가 없는 기존 채팅방에 대해 최신 메시지를 찾아 스냅샷을 채운다</p>
+ * <p>채팅방을 _id 오름차순 배치로 순회하며, 배치당 한 번의 aggregation으로 최신 메시지를 조회</p>
+ * <p>{@code chat.migration.last-message-backfill.enabled=true}일 때만 기동 시 1회 실행</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.migration.last-message-backfill.enabled", havingValue = "true")
+public class LastMessageBackfillJob implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatRoomMongoRepository chatRoomMongoRepository;
+
+    @Value("${chat.migration.last-message-backfill.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Last message backfill started: batchSize={}", batchSize);
+
+        long lastRoomId = Long.MIN_VALUE;
+        long updated = 0;
+
+        while (true) {
+            List<Long> roomIds = findRoomIdsWithoutLastMessage(lastRoomId);
+            if (roomIds.isEmpty()) {
+                break;
+            }
+
+            updated += backfill(roomIds);
+            lastRoomId = roomIds.get(roomIds.size() - 1);
+        }
+
+        log.info("Last message backfill finished: {} rooms updated", updated);
+    }
+
+    private List<Long> findRoomIdsWithoutLastMessage(long afterRoomId) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("_id").gt(afterRoomId));
+        query.addCriteria(Criteria.where("lastMessage").exists(false));
+        query.fields().include("_id");
+        query.with(Sort.by(Sort.Direction.ASC, "_id"));
+        query.limit(batchSize);
+
+        return mongoTemplate.find(query, ChatRoomDocument.class).stream()
+                .map(ChatRoomDocument::getId)
+                .toList();
+    }
+
+    private int backfill(List<Long> roomIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("roomId").in(roomIds)),
+                Aggregation.sort(Sort.Direction.DESC, "_id"),
+                Aggregation.group("roomId").first(Aggregation.ROOT).as("latest")
+        );
+
+        List<Document> results = mongoTemplate.aggregate(aggregation, MessageDocument.class, Document.class)
+                .getMappedResults();
+
+        for (Document result : results) {
+            MessageDocument latest = mongoTemplate.getConverter()
+                    .read(MessageDocument.class, result.get("latest", Document.class));
+            LastMessage lastMessage = LastMessage.from(latest.toDomain());
+
+            chatRoomMongoRepository.updateLastMessage(latest.getRoomId(), LastMessageDocument.from(lastMessage));
+        }
+
+        return results.size();
+    }
+}
@@ -0,0 +1,143 @@
+package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.migration;
+
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.MessageDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 메시지 문서 v1 → v2(compact) 변환 작업
+ *
+ * <p>v1 문서(스키마 버전 필드 없음)를 _id 오름차순 배치로 순회하며, 배치당 한 번의 파이프라인 updateMulti로
+ * senderId/content/deletedBy를 s/c/d로 옮기고 createdAt을 제거한다 (createdAt은 Snowflake ID로 복원)</p>
+ * <p>조회 경로가 두 버전을 모두 읽으므로 서비스 중에 백그라운드 스레드로 실행하며, 배치 사이에 pause-ms만큼 쉬어
+ * 운영 트래픽과 경합을 줄인다. 중단되어도 다음 실행에서 남은 v1 문서부터 이어서 변환한다</p>
+ * <p>v1 문서가 남지 않으면 createdAt 인덱스(idx_roomId_createdAt, createdAt)를 제거한다</p>
+ * <p>{@code chat.migration.message-compaction.enabled=true}일 때만 기동 시 1회 실행.
+ * 모든 인스턴스가 v2를 읽을 수 있게 배포된 뒤에 켠다</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.migration.message-compaction.enabled", havingValue = "true")
+public class MessageCompactionJob implements ApplicationRunner {
+
+    private static final String COLLECTION = "messages";
+    private static final List<String> LEGACY_FIELDS = List.of("senderId", "content", "deletedBy", "createdAt");
+    private static final List<String> LEGACY_INDEXES = List.of("idx_roomId_createdAt", "createdAt");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${chat.migration.message-compaction.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${chat.migration.message-compaction.pause-ms:50}")
+    private long pauseMs;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread.ofPlatform()
+                .name("message-compaction")
+                .daemon(true)
+                .start(this::compactAll);
+    }
+
+    void compactAll() {
+        log.info("Message compaction started: batchSize={}, pauseMs={}", batchSize, pauseMs);
+
+        long lastId = Long.MIN_VALUE;
+        long compacted = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> ids = findLegacyIds(lastId);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            compacted += compact(ids);
+            lastId = ids.get(ids.size() - 1);
+            pause();
+        }
+
+        log.info("Message compaction finished: {} messages compacted", compacted);
+
+        if (!mongoTemplate.exists(legacyQuery(), COLLECTION)) {
+            dropLegacyIndexes();
+        }
+    }
+
+    private List<Long> findLegacyIds(long afterId) {
+        Query query = legacyQuery();
+        query.addCriteria(Criteria.where("_id").gt(afterId));
+        query.fields().include("_id");
+        query.with(Sort.by(Sort.Direction.ASC, "_id"));
+        query.limit(batchSize);
+
+        return mongoTemplate.find(query, Document.class, COLLECTION).stream()
+                .map(document -> document.getLong("_id"))
+                .toList();
+    }
+
+    /**
+     * 필드 이름을 그대로 쓰도록 타입 매핑 없이 컬렉션 이름으로 갱신한다
+     */
+    private long compact(List<Long> ids) {
+        Query query = legacyQuery();
+        query.addCriteria(Criteria.where("_id").in(ids));
+
+        Document nonEmptyDeletedBy = new Document("$gt", List.of(
+                new Document("$size", new Document("$ifNull", List.of("$deletedBy", List.of()))), 0));
+
+        AggregationUpdate update = AggregationUpdate.from(List.of(
+                context -> new Document("$set", new Document("v", MessageDocument.COMPACT_SCHEMA_VERSION)
+                        .append("_class", MessageDocument.TYPE_ALIAS)
+                        .append("s", "$senderId")
+                        .append("c", "$content")
+                        .append("d", new Document("$cond", List.of(nonEmptyDeletedBy, "$deletedBy", "$$REMOVE")))),
+                context -> new Document("$unset", LEGACY_FIELDS)
+        ));
+
+        return mongoTemplate.updateMulti(query, update, COLLECTION).getModifiedCount();
+    }
+
+    private void dropLegacyIndexes() {
+        List<String> existing = mongoTemplate.indexOps(COLLECTION).getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .toList();
+
+        LEGACY_INDEXES.stream()
+                .filter(existing::contains)
+                .forEach(name -> {
+                    mongoTemplate.indexOps(COLLECTION).dropIndex(name);
+                    log.info("Legacy message index dropped: {}", name);
+                });
+    }
+
+    private Query legacyQuery() {
+        return new Query(Criteria.where("v").exists(false));
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
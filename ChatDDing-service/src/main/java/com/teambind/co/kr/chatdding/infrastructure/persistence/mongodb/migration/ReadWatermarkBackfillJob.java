@@ -0,0 +1,123 @@
+package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.migration;
+
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.ChatRoomDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.MessageDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 참여자 읽음 워터마크 Backfill 작업
+ *
+ * <p>메시지별 readBy 맵으로 관리하던 읽음 정보를 참여자별 lastReadMessageId로 옮긴다</p>
+ * <p>채팅방을 _id 오름차순 배치로 순회하며, 배치당 한 번의 aggregation으로
+ * (채팅방, 사용자)별 readBy에 기록된 가장 큰 메시지 ID를 구해 positional $max로 반영</p>
+ * <p>{@code drop-read-by=true}이면 반영 후 해당 배치 메시지의 readBy 필드를 제거한다.
+ * 레거시 readBy 호환 모드를 사용하는 인스턴스가 없을 때만 켠다</p>
+ * <p>{@code chat.migration.read-watermark-backfill.enabled=true}일 때만 기동 시 1회 실행</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.migration.read-watermark-backfill.enabled", havingValue = "true")
+public class ReadWatermarkBackfillJob implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${chat.migration.read-watermark-backfill.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.migration.read-watermark-backfill.drop-read-by:false}")
+    private boolean dropReadBy;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Read watermark backfill started: batchSize={}, dropReadBy={}", batchSize, dropReadBy);
+
+        long lastRoomId = Long.MIN_VALUE;
+        long updated = 0;
+
+        while (true) {
+            List<Long> roomIds = findRoomIds(lastRoomId);
+            if (roomIds.isEmpty()) {
+                break;
+            }
+
+            updated += backfill(roomIds);
+            if (dropReadBy) {
+                dropReadBy(roomIds);
+            }
+            lastRoomId = roomIds.get(roomIds.size() - 1);
+        }
+
+        log.info("Read watermark backfill finished: {} participants updated", updated);
+    }
+
+    private List<Long> findRoomIds(long afterRoomId) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("_id").gt(afterRoomId));
+        query.fields().include("_id");
+        query.with(Sort.by(Sort.Direction.ASC, "_id"));
+        query.limit(batchSize);
+
+        return mongoTemplate.find(query, ChatRoomDocument.class).stream()
+                .map(ChatRoomDocument::getId)
+                .toList();
+    }
+
+    private int backfill(List<Long> roomIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(new Criteria().andOperator(
+                        Criteria.where("roomId").in(roomIds),
+                        Criteria.where("readBy").exists(true)
+                )),
+                context -> new Document("$project", new Document("roomId", 1)
+                        .append("readers", new Document("$objectToArray", "$readBy"))),
+                context -> new Document("$unwind", "$readers"),
+                context -> new Document("$group", new Document("_id",
+                        new Document("roomId", "$roomId").append("userId", "$readers.k"))
+                        .append("lastReadMessageId", new Document("$max", "$_id")))
+        );
+
+        List<Document> results = mongoTemplate.aggregate(aggregation, MessageDocument.class, Document.class)
+                .getMappedResults();
+        if (results.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoomDocument.class);
+        for (Document result : results) {
+            Document key = result.get("_id", Document.class);
+            Query query = new Query();
+            query.addCriteria(Criteria.where("_id").is(key.getLong("roomId")));
+            query.addCriteria(Criteria.where("participants.userId").is(Long.parseLong(key.getString("userId"))));
+
+            bulkOps.updateOne(query, new Update().max("participants.$.lastReadMessageId",
+                    result.getLong("lastReadMessageId")));
+        }
+
+        return bulkOps.execute().getModifiedCount();
+    }
+
+    private void dropReadBy(List<Long> roomIds) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("roomId").in(roomIds));
+        query.addCriteria(Criteria.where("readBy").exists(true));
+
+        mongoTemplate.updateMulti(query, new Update().unset("readBy"), MessageDocument.class);
+    }
+}
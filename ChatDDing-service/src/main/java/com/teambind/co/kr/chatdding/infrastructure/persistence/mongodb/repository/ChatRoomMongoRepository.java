@@ -30,16 +30,4 @@ public interface ChatRoomMongoRepository extends MongoRepository<ChatRoomDocumen
     Optional<ChatRoomDocument> findByTypeAndContext_ContextIdAndParticipantIdsContaining(
             ChatRoomType type, Long contextId, Long participantId);
 
-    /**
-     * 호스트의 공간 문의 목록 조회
-     */
-    List<ChatRoomDocument> findByTypeAndOwnerIdOrderByLastMessageAtDesc(
-            ChatRoomType type, Long ownerId);
-
-    /**
-     * 호스트의 특정 공간 문의 목록 조회
-     */
-    List<ChatRoomDocument> findByTypeAndOwnerIdAndContext_ContextIdOrderByLastMessageAtDesc(
-            ChatRoomType type, Long ownerId, Long contextId);
-
 }
@@ -1,7 +1,13 @@
 package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository;
 
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus;
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType;
+import com.teambind.co.kr.chatdding.domain.chatroom.ReadWatermark;
 import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.ChatRoomDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.LastMessageDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.ParticipantDocument;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -11,6 +17,49 @@ import java.util.List;
  */
 public interface ChatRoomMongoRepositoryCustom {
 
+    /**
+     * 참여중인 활성 채팅방 Keyset 페이지 조회
+     *
+     * <p>idx_participantIds_lastMessageAt_id 인덱스 순서 그대로 읽는다</p>
+     *
+     * @param userId              참여자 ID
+     * @param type                채팅방 타입 (null이면 전체)
+     * @param cursorLastMessageAt 커서 lastMessageAt (null이면 처음부터)
+     * @param cursorRoomId        커서 roomId (cursorLastMessageAt과 함께 지정)
+     * @param limit               조회 개수
+     * @return 채팅방 목록 (lastMessageAt, _id 내림차순)
+     */
+    List<ChatRoomDocument> findActiveByParticipantBeforeCursor(Long userId, ChatRoomType type,
+                                                               LocalDateTime cursorLastMessageAt, Long cursorRoomId,
+                                                               int limit);
+
+    /**
+     * 참여중인 활성 채팅방의 읽음 워터마크 조회
+     *
+     * <p>_id와 해당 참여자 항목($elemMatch)만 읽는다 (idx_participantIds_lastMessageAt_id)</p>
+     *
+     * @param userId 참여자 ID
+     * @return id와 participants(해당 참여자 1명)만 채워진 채팅방 목록
+     */
+    List<ChatRoomDocument> findActiveReadWatermarks(Long userId);
+
+    /**
+     * 호스트의 공간 문의 Keyset 페이지 조회
+     *
+     * <p>idx_type_ownerId_contextId_lastMessageAt (공간 필터) /
+     * idx_type_ownerId_lastMessageAt (전체) 인덱스 순서 그대로 읽는다</p>
+     *
+     * @param ownerId             호스트 ID
+     * @param contextId           공간 ID (null이면 전체)
+     * @param cursorLastMessageAt 커서 lastMessageAt (null이면 처음부터)
+     * @param cursorRoomId        커서 roomId (cursorLastMessageAt과 함께 지정)
+     * @param limit               조회 개수
+     * @return 문의 채팅방 목록 (lastMessageAt, _id 내림차순)
+     */
+    List<ChatRoomDocument> findPlaceInquiriesBeforeCursor(Long ownerId, Long contextId,
+                                                          LocalDateTime cursorLastMessageAt, Long cursorRoomId,
+                                                          int limit);
+
     /**
      * 상담원 미배정 상담 대기열 조회
      *
@@ -26,4 +75,58 @@ public interface ChatRoomMongoRepositoryCustom {
      * @return 대기 중인 상담 수
      */
     long countPendingSupportRooms();
+
+    /**
+     * 참여자 읽음 워터마크 갱신 (positional $max)
+     *
+     * @param roomId            채팅방 ID
+     * @param userId            참여자 ID
+     * @param lastReadMessageId 마지막으로 읽은 메시지 ID (null이면 lastReadAt만 갱신)
+     * @param readAt            읽은 시각
+     */
+    void updateParticipantReadWatermark(Long roomId, Long userId, Long lastReadMessageId, LocalDateTime readAt);
+
+    /**
+     * 참여자 읽음 워터마크 일괄 갱신 (UNORDERED bulkWrite, 항목별 positional $max)
+     *
+     * @param watermarks 갱신할 워터마크 목록
+     */
+    void updateParticipantReadWatermarks(List<ReadWatermark> watermarks);
+
+    /**
+     * 마지막 메시지 스냅샷 조건부 갱신 ($set + $max)
+     *
+     * @param roomId      채팅방 ID
+     * @param lastMessage 새 스냅샷 (기존 스냅샷보다 messageId가 클 때만 반영)
+     */
+    void updateLastMessage(Long roomId, LastMessageDocument lastMessage);
+
+    /**
+     * 마지막 메시지 스냅샷 조건부 교체
+     *
+     * @param roomId            채팅방 ID
+     * @param expectedMessageId 현재 스냅샷의 messageId
+     * @param replacement       대체 스냅샷 (null이면 $unset)
+     */
+    void replaceLastMessage(Long roomId, Long expectedMessageId, LastMessageDocument replacement);
+
+    /**
+     * 참여자 조건부 추가 ($push)
+     *
+     * @param roomId          채팅방 ID
+     * @param participant     추가할 참여자
+     * @param maxParticipants 최대 참여자 수 (참여자 수가 이보다 적을 때만 추가)
+     * @return 추가 여부
+     */
+    boolean addParticipant(Long roomId, ParticipantDocument participant, int maxParticipants);
+
+    /**
+     * 채팅방 상태 조건부 변경 ($set)
+     *
+     * @param roomId   채팅방 ID
+     * @param expected 현재 상태
+     * @param status   변경할 상태
+     * @return 변경 여부
+     */
+    boolean updateStatus(Long roomId, ChatRoomStatus expected, ChatRoomStatus status);
 }
@@ -2,14 +2,20 @@ package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.reposito
 
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus;
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType;
+import com.teambind.co.kr.chatdding.domain.chatroom.ReadWatermark;
 import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.ChatRoomDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.LastMessageDocument;
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.ParticipantDocument;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -23,6 +29,47 @@ public class ChatRoomMongoRepositoryCustomImpl implements ChatRoomMongoRepositor
 
     private final MongoTemplate mongoTemplate;
 
+    @Override
+    public List<ChatRoomDocument> findActiveByParticipantBeforeCursor(Long userId, ChatRoomType type,
+                                                                      LocalDateTime cursorLastMessageAt,
+                                                                      Long cursorRoomId, int limit) {
+        Query query = new Query();
+
+        query.addCriteria(Criteria.where("participantIds").is(userId));
+        query.addCriteria(Criteria.where("status").is(ChatRoomStatus.ACTIVE));
+        if (type != null) {
+            query.addCriteria(Criteria.where("type").is(type));
+        }
+
+        return findPageBeforeCursor(query, cursorLastMessageAt, cursorRoomId, limit);
+    }
+
+    @Override
+    public List<ChatRoomDocument> findActiveReadWatermarks(Long userId) {
+        Query query = new Query();
+
+        query.addCriteria(Criteria.where("participantIds").is(userId));
+        query.addCriteria(Criteria.where("status").is(ChatRoomStatus.ACTIVE));
+        query.fields().include("_id").elemMatch("participants", Criteria.where("userId").is(userId));
+
+        return mongoTemplate.find(query, ChatRoomDocument.class);
+    }
+
+    @Override
+    public List<ChatRoomDocument> findPlaceInquiriesBeforeCursor(Long ownerId, Long contextId,
+                                                                 LocalDateTime cursorLastMessageAt,
+                                                                 Long cursorRoomId, int limit) {
+        Query query = new Query();
+
+        query.addCriteria(Criteria.where("type").is(ChatRoomType.PLACE_INQUIRY));
+        query.addCriteria(Criteria.where("ownerId").is(ownerId));
+        if (contextId != null) {
+            query.addCriteria(Criteria.where("context.contextId").is(contextId));
+        }
+
+        return findPageBeforeCursor(query, cursorLastMessageAt, cursorRoomId, limit);
+    }
+
     @Override
     public List<ChatRoomDocument> findPendingSupportRooms(String cursor, int limit) {
         Query query = new Query();
@@ -55,4 +102,132 @@ public class ChatRoomMongoRepositoryCustomImpl implements ChatRoomMongoRepositor
 
         return mongoTemplate.count(query, ChatRoomDocument.class);
     }
+
+    @Override
+    public void updateParticipantReadWatermark(Long roomId, Long userId, Long lastReadMessageId,
+                                               LocalDateTime readAt) {
+        mongoTemplate.updateFirst(
+                participantQuery(roomId, userId),
+                readWatermarkUpdate(lastReadMessageId, readAt),
+                ChatRoomDocument.class
+        );
+    }
+
+    @Override
+    public void updateParticipantReadWatermarks(List<ReadWatermark> watermarks) {
+        if (watermarks.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoomDocument.class);
+        for (ReadWatermark watermark : watermarks) {
+            bulkOps.updateOne(
+                    participantQuery(watermark.roomId().getValue(), watermark.userId().getValue()),
+                    readWatermarkUpdate(
+                            watermark.lastReadMessageId() != null ? watermark.lastReadMessageId().getValue() : null,
+                            watermark.readAt()
+                    )
+            );
+        }
+        bulkOps.execute();
+    }
+
+    private Query participantQuery(Long roomId, Long userId) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("_id").is(roomId));
+        query.addCriteria(Criteria.where("participants.userId").is(userId));
+        return query;
+    }
+
+    /**
+     * positional $max - 워터마크는 역행하지 않는다
+     */
+    private Update readWatermarkUpdate(Long lastReadMessageId, LocalDateTime readAt) {
+        Update update = new Update().max("participants.$.lastReadAt", readAt);
+        if (lastReadMessageId != null) {
+            update.max("participants.$.lastReadMessageId", lastReadMessageId);
+        }
+        return update;
+    }
+
+    @Override
+    public void updateLastMessage(Long roomId, LastMessageDocument lastMessage) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("_id").is(roomId));
+
+        // 더 최신 메시지일 때만 스냅샷 교체 (동시 전송 시 역행 방지)
+        query.addCriteria(new Criteria().orOperator(
+                Criteria.where("lastMessage.messageId").exists(false),
+                Criteria.where("lastMessage.messageId").lt(lastMessage.getMessageId())
+        ));
+
+        Update update = new Update()
+                .set("lastMessage", lastMessage)
+                .max("lastMessageAt", lastMessage.getCreatedAt());
+
+        mongoTemplate.updateFirst(query, update, ChatRoomDocument.class);
+    }
+
+    @Override
+    public void replaceLastMessage(Long roomId, Long expectedMessageId, LastMessageDocument replacement) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("_id").is(roomId));
+        query.addCriteria(Criteria.where("lastMessage.messageId").is(expectedMessageId));
+
+        Update update = replacement != null
+                ? new Update().set("lastMessage", replacement)
+                : new Update().unset("lastMessage");
+
+        mongoTemplate.updateFirst(query, update, ChatRoomDocument.class);
+    }
+
+    @Override
+    public boolean addParticipant(Long roomId, ParticipantDocument participant, int maxParticipants) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("_id").is(roomId));
+        query.addCriteria(Criteria.where("status").is(ChatRoomStatus.ACTIVE));
+        // 중복 참여 방지 + 참여자 수 상한 (participantIds[maxParticipants - 1]이 없으면 maxParticipants명 미만)
+        query.addCriteria(Criteria.where("participantIds").ne(participant.getUserId())
+                .and("participantIds." + (maxParticipants - 1)).exists(false));
+
+        Update update = new Update()
+                .push("participants", participant)
+                .push("participantIds", participant.getUserId());
+        update.push("sortedParticipantIds").sort(Sort.Direction.ASC).each(participant.getUserId());
+
+        return mongoTemplate.updateFirst(query, update, ChatRoomDocument.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean updateStatus(Long roomId, ChatRoomStatus expected, ChatRoomStatus status) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("_id").is(roomId));
+        query.addCriteria(Criteria.where("status").is(expected));
+
+        Update update = new Update().set("status", status);
+
+        return mongoTemplate.updateFirst(query, update, ChatRoomDocument.class).getModifiedCount() > 0;
+    }
+
+    /**
+     * (lastMessageAt, _id) 내림차순 Keyset 페이지 조회
+     */
+    private List<ChatRoomDocument> findPageBeforeCursor(Query query, LocalDateTime cursorLastMessageAt,
+                                                        Long cursorRoomId, int limit) {
+        // Keyset 페이지네이션: (lastMessageAt, _id) < (cursorLastMessageAt, cursorRoomId)
+        if (cursorLastMessageAt != null) {
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("lastMessageAt").lt(cursorLastMessageAt),
+                    new Criteria().andOperator(
+                            Criteria.where("lastMessageAt").is(cursorLastMessageAt),
+                            Criteria.where("_id").lt(cursorRoomId)
+                    )
+            ));
+        }
+
+        query.with(Sort.by(Sort.Direction.DESC, "lastMessageAt", "_id"));
+        query.limit(limit);
+
+        return mongoTemplate.find(query, ChatRoomDocument.class);
+    }
 }
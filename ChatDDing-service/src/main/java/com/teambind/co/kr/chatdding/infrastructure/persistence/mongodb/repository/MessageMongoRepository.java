@@ -5,7 +5,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,19 +13,23 @@ import java.util.Optional;
  */
 public interface MessageMongoRepository extends MongoRepository<MessageDocument, Long> {
 
-    List<MessageDocument> findByRoomIdOrderByCreatedAtDesc(Long roomId, Pageable pageable);
+    List<MessageDocument> findByRoomIdOrderByIdDesc(Long roomId, Pageable pageable);
 
     @Query("{ 'roomId': ?0, '_id': { $lt: ?1 } }")
-    List<MessageDocument> findByRoomIdAndIdLessThanOrderByCreatedAtDesc(
+    List<MessageDocument> findByRoomIdAndIdLessThanOrderByIdDesc(
             Long roomId, Long cursorId, Pageable pageable);
 
-    List<MessageDocument> findByRoomIdAndCreatedAtAfterOrderByCreatedAtAsc(
-            Long roomId, LocalDateTime after);
+    @Query("{ 'roomId': ?0, '_id': { $gt: ?1 } }")
+    List<MessageDocument> findByRoomIdAndIdGreaterThanOrderByIdAsc(
+            Long roomId, Long sinceId, Pageable pageable);
+
+    @Query(value = "{ 'roomId': ?0, '_id': { $gte: ?1 } }", sort = "{ '_id': 1 }")
+    List<MessageDocument> findByRoomIdAndIdGreaterThanEqualOrderByIdAsc(Long roomId, Long minId);
 
     @Query(value = "{ 'roomId': ?0, 'readBy.?1': { $exists: false } }", count = true)
     long countByRoomIdAndUserIdNotInReadBy(Long roomId, Long userId);
 
-    Optional<MessageDocument> findFirstByRoomIdOrderByCreatedAtDesc(Long roomId);
+    Optional<MessageDocument> findFirstByRoomIdOrderByIdDesc(Long roomId);
 
     void deleteAllByRoomId(Long roomId);
 }
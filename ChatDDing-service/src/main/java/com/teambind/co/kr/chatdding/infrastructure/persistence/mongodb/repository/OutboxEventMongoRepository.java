@@ -0,0 +1,18 @@
+package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository;
+
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.OutboxEventDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+/**
+ * Outbox 이벤트 Spring Data MongoDB Repository
+ */
+public interface OutboxEventMongoRepository extends MongoRepository<OutboxEventDocument, Long> {
+
+    /**
+     * 적재 순서(_id 오름차순)대로 발행 대기 이벤트 조회
+     */
+    List<OutboxEventDocument> findAllByOrderByIdAsc(Pageable pageable);
+}
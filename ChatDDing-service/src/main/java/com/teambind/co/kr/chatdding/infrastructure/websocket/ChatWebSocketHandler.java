@@ -0,0 +1,56 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.PresenceRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * 채팅 실시간 Push WebSocket Handler
+ *
+ * <p>서버 → 클라이언트 단방향 Push 채널. 메시지 전송/읽음은 기존 REST API를 사용한다</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final PresenceRegistry presenceRegistry;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        UserId userId = userIdOf(session);
+        sessionRegistry.register(userId, session);
+        presenceRegistry.markOnline(userId);
+        log.debug("WebSocket connected: userId={}, sessionId={}", userId.getValue(), session.getId());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        // Push 전용 채널 - 클라이언트 메시지는 무시 (heartbeat 등)
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("WebSocket transport error: sessionId={}, error={}", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        UserId userId = userIdOf(session);
+        sessionRegistry.unregister(userId, session);
+        if (!sessionRegistry.isConnected(userId)) {
+            presenceRegistry.markOffline(userId);
+        }
+        log.debug("WebSocket closed: userId={}, sessionId={}, status={}",
+                userId.getValue(), session.getId(), status);
+    }
+
+    private UserId userIdOf(WebSocketSession session) {
+        return (UserId) session.getAttributes().get(UserIdHandshakeInterceptor.USER_ID_ATTRIBUTE);
+    }
+}
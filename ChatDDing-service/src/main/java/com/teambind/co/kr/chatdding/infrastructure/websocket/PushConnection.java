@@ -0,0 +1,159 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 연결별 Push 송신기
+ *
+ * <p>연결마다 고정 크기 송신 큐를 두고, 전송은 공용 Executor에서 연결당 하나의 drain 작업으로 수행한다</p>
+ * <p>큐가 가득 차면 느린 클라이언트로 보고 연결을 종료한다 (재접속 후 REST로 재동기화).
+ * 느린 연결 하나가 다른 수신자 전송이나 요청 스레드를 막지 않도록 하기 위함</p>
+ * <p>대부분의 연결은 대기 메시지가 없으므로 용량만큼 배열을 미리 잡지 않는 연결 리스트 큐에 대기 수만 따로 센다
+ * (노드당 수만 개 연결 유지 시 유휴 연결 메모리 절감)</p>
+ * <p>전송 한 건이 송신 제한 시간(sendTimeLimit)을 넘겨 멈추면 역시 느린 연결로 보고 종료한다.
+ * 다음 적재 시점과 주기 점검({@link WebSocketSessionRegistry#closeStalledConnections()})에서 감지하며,
+ * Tomcat 세션은 블로킹 전송 자체에도 같은 제한 시간을 걸어 drain 스레드가 그 이상 묶이지 않게 한다</p>
+ */
+@Slf4j
+public class PushConnection {
+
+    private static final String BLOCKING_SEND_TIMEOUT_PROPERTY = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    @Getter
+    private final UserId userId;
+    @Getter
+    private final WebSocketSession session;
+    private final Queue<TextMessage> sendQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final int queueCapacity;
+    private final Executor executor;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final long sendTimeLimitNanos;
+
+    private volatile boolean sending;
+    private volatile long sendStartedNanos;
+
+    public PushConnection(UserId userId, WebSocketSession session, int queueCapacity, Duration sendTimeLimit,
+                          Executor executor) {
+        this.userId = userId;
+        this.session = session;
+        this.queueCapacity = queueCapacity;
+        this.sendTimeLimitNanos = sendTimeLimit.toNanos();
+        this.executor = executor;
+        limitBlockingSend(session, sendTimeLimit);
+    }
+
+    /**
+     * 송신 큐에 메시지 적재 (non-blocking)
+     *
+     * @return 적재 성공 여부 (연결 종료 또는 큐 초과 시 false)
+     */
+    public boolean offer(TextMessage message) {
+        if (!session.isOpen() || closeIfStalled()) {
+            return false;
+        }
+        if (pending.incrementAndGet() > queueCapacity) {
+            pending.decrementAndGet();
+            log.warn("WebSocket send queue overflow, closing slow connection. userId={}, sessionId={}",
+                    userId.getValue(), session.getId());
+            close(CloseStatus.SESSION_NOT_RELIABLE);
+            return false;
+        }
+        sendQueue.offer(message);
+        scheduleDrain();
+        return true;
+    }
+
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * 진행 중인 전송이 송신 제한 시간을 넘겼으면 연결 종료
+     *
+     * @return 종료 여부
+     */
+    public boolean closeIfStalled() {
+        if (!sending || System.nanoTime() - sendStartedNanos <= sendTimeLimitNanos) {
+            return false;
+        }
+        log.warn("WebSocket send stalled, closing slow connection. userId={}, sessionId={}, sendTimeLimitMs={}",
+                userId.getValue(), session.getId(), Duration.ofNanos(sendTimeLimitNanos).toMillis());
+        close(CloseStatus.SESSION_NOT_RELIABLE);
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            log.warn("WebSocket push executor rejected drain. userId={}, sessionId={}",
+                    userId.getValue(), session.getId());
+            close(CloseStatus.SERVICE_OVERLOAD);
+        }
+    }
+
+    private void drain() {
+        try {
+            TextMessage message;
+            while ((message = sendQueue.poll()) != null) {
+                pending.decrementAndGet();
+                sendStartedNanos = System.nanoTime();
+                sending = true;
+                session.sendMessage(message);
+                sending = false;
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("WebSocket send failed. userId={}, sessionId={}, error={}",
+                    userId.getValue(), session.getId(), e.getMessage());
+            close(CloseStatus.SERVER_ERROR);
+        } finally {
+            sending = false;
+            draining.set(false);
+            if (!sendQueue.isEmpty() && session.isOpen()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    /**
+     * Tomcat 블로킹 전송 제한 시간(기본 20초)을 송신 제한 시간으로 낮춘다 - 초과 시 전송이 IOException으로 끝난다
+     */
+    private static void limitBlockingSend(WebSocketSession session, Duration sendTimeLimit) {
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            jakarta.websocket.Session standardSession = nativeSession.getNativeSession(jakarta.websocket.Session.class);
+            if (standardSession != null) {
+                standardSession.getUserProperties().put(BLOCKING_SEND_TIMEOUT_PROPERTY, sendTimeLimit.toMillis());
+            }
+        }
+    }
+
+    private void close(CloseStatus status) {
+        sendQueue.clear();
+        pending.set(0);
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("WebSocket close failed. sessionId={}, error={}", session.getId(), e.getMessage());
+        }
+    }
+}
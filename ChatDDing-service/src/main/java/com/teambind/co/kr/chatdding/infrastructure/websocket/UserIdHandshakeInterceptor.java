@@ -0,0 +1,44 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * WebSocket Handshake 시 사용자 식별
+ *
+ * <p>REST API와 동일하게 Gateway가 주입한 X-User-Id 헤더로 사용자를 식별한다</p>
+ */
+public class UserIdHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USER_ID_ATTRIBUTE = "userId";
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String header = request.getHeaders().getFirst(USER_ID_HEADER);
+        if (header == null || header.isBlank()) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+
+        try {
+            attributes.put(USER_ID_ATTRIBUTE, UserId.of(Long.parseLong(header.trim())));
+            return true;
+        } catch (IllegalArgumentException e) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
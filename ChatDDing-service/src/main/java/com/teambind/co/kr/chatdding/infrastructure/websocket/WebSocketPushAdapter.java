@@ -0,0 +1,97 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.co.kr.chatdding.application.port.out.RealtimePushPort;
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.domain.event.ChatEvent;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.NodeMessageBus;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.PresenceRegistry;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * WebSocket 실시간 Push Adapter
+ *
+ * <p>이벤트를 한 번만 직렬화하여 수신자의 로컬 연결 송신 큐에 적재하고,
+ * 다른 노드에 접속한 수신자는 Presence로 노드를 찾아 노드당 한 번씩 전달한다</p>
+ * <p>Presence 조회 실패 시 로컬 전달만 수행</p>
+ */
+@Slf4j
+@Component
+@Timed("chat.push")
+@RequiredArgsConstructor
+public class WebSocketPushAdapter implements RealtimePushPort {
+
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final PresenceRegistry presenceRegistry;
+    private final NodeMessageBus nodeMessageBus;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void push(Collection<UserId> recipientIds, ChatEvent event) {
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<UserId>> remoteRecipients = groupByRemoteNode(recipientIds);
+        if (remoteRecipients.isEmpty() && !sessionRegistry.hasAnyConnection(recipientIds)) {
+            return;
+        }
+
+        TextMessage message = serialize(event);
+        if (message == null) {
+            return;
+        }
+
+        sessionRegistry.deliver(recipientIds, message);
+        remoteRecipients.forEach((nodeId, userIds) ->
+                nodeMessageBus.forward(nodeId, userIds, message.getPayload()));
+    }
+
+    private Map<String, List<UserId>> groupByRemoteNode(Collection<UserId> recipientIds) {
+        String localNodeId = presenceRegistry.localNodeId();
+        Map<String, List<UserId>> result = new HashMap<>();
+
+        for (Map.Entry<UserId, Set<String>> entry : presenceRegistry.findNodes(recipientIds).entrySet()) {
+            for (String nodeId : entry.getValue()) {
+                if (!nodeId.equals(localNodeId)) {
+                    result.computeIfAbsent(nodeId, key -> new ArrayList<>()).add(entry.getKey());
+                }
+            }
+        }
+        return result;
+    }
+
+    private TextMessage serialize(ChatEvent event) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(PushFrame.of(event)));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize push frame: {}", event.getEventType(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 클라이언트로 전송되는 Push 프레임
+     *
+     * @param type    이벤트 타입 (MESSAGE_SENT, MESSAGE_READ, MESSAGE_DELETED)
+     * @param payload 이벤트 본문
+     */
+    public record PushFrame(String type, ChatEvent payload) {
+
+        public static PushFrame of(ChatEvent event) {
+            return new PushFrame(event.getEventType(), event);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * 로컬 노드의 사용자별 WebSocket 연결 저장소
+ *
+ * <p>한 사용자가 여러 기기로 동시에 접속할 수 있으므로 사용자당 연결 목록을 관리</p>
+ */
+public class WebSocketSessionRegistry {
+
+    private final Map<UserId, List<PushConnection>> connections = new ConcurrentHashMap<>();
+    private final int sendQueueCapacity;
+    private final Duration sendTimeLimit;
+    private final Executor pushExecutor;
+
+    public WebSocketSessionRegistry(int sendQueueCapacity, Duration sendTimeLimit, Executor pushExecutor) {
+        this.sendQueueCapacity = sendQueueCapacity;
+        this.sendTimeLimit = sendTimeLimit;
+        this.pushExecutor = pushExecutor;
+    }
+
+    public PushConnection register(UserId userId, WebSocketSession session) {
+        PushConnection connection = new PushConnection(userId, session, sendQueueCapacity, sendTimeLimit, pushExecutor);
+        connections.computeIfAbsent(userId, key -> new CopyOnWriteArrayList<>()).add(connection);
+        return connection;
+    }
+
+    public void unregister(UserId userId, WebSocketSession session) {
+        connections.computeIfPresent(userId, (key, list) -> {
+            list.removeIf(connection -> connection.getSession().getId().equals(session.getId()));
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    public List<PushConnection> connectionsOf(UserId userId) {
+        return connections.getOrDefault(userId, List.of());
+    }
+
+    /**
+     * 수신자 중 로컬에 접속한 사용자의 모든 연결로 프레임 적재
+     *
+     * @return 프레임을 적재한 연결 수
+     */
+    public int deliver(Collection<UserId> recipientIds, TextMessage message) {
+        int delivered = 0;
+        for (UserId recipientId : recipientIds) {
+            for (PushConnection connection : connectionsOf(recipientId)) {
+                if (connection.offer(message)) {
+                    delivered++;
+                }
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * 전송이 송신 제한 시간을 넘겨 멈춘 연결 종료 (새 메시지가 없어 적재 시점에 감지되지 않는 연결 대상)
+     *
+     * @return 종료한 연결 수
+     */
+    @Scheduled(fixedDelayString = "${chat.websocket.stall-check-interval-ms:1000}")
+    public int closeStalledConnections() {
+        int closed = 0;
+        for (List<PushConnection> userConnections : connections.values()) {
+            for (PushConnection connection : userConnections) {
+                if (connection.closeIfStalled()) {
+                    closed++;
+                }
+            }
+        }
+        return closed;
+    }
+
+    public boolean hasAnyConnection(Collection<UserId> userIds) {
+        return userIds.stream().anyMatch(this::isConnected);
+    }
+
+    public Set<UserId> connectedUserIds() {
+        return Set.copyOf(connections.keySet());
+    }
+
+    public boolean isConnected(UserId userId) {
+        return connections.containsKey(userId);
+    }
+
+    public int connectedUserCount() {
+        return connections.size();
+    }
+}
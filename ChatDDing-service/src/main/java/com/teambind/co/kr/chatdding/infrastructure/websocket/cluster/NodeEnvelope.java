@@ -0,0 +1,15 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket.cluster;
+
+import java.util.List;
+
+/**
+ * 노드 간 전달 메시지
+ *
+ * @param recipientIds 수신 노드에서 전달할 사용자 ID
+ * @param frame        직렬화된 Push 프레임 (수신 노드에서 재직렬화하지 않음)
+ */
+public record NodeEnvelope(
+        List<Long> recipientIds,
+        String frame
+) {
+}
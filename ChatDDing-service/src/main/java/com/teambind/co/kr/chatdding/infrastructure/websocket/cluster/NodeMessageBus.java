@@ -0,0 +1,20 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket.cluster;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+
+import java.util.Collection;
+
+/**
+ * 노드 간 Push 프레임 전달 버스
+ */
+public interface NodeMessageBus {
+
+    /**
+     * 대상 노드로 직렬화된 Push 프레임 전달
+     *
+     * @param nodeId       대상 노드 ID
+     * @param recipientIds 대상 노드에 접속한 수신자
+     * @param frame        직렬화된 Push 프레임
+     */
+    void forward(String nodeId, Collection<UserId> recipientIds, String frame);
+}
@@ -0,0 +1,22 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket.cluster;
+
+import com.teambind.co.kr.chatdding.infrastructure.websocket.WebSocketSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 로컬 접속 사용자의 Presence 주기 갱신
+ *
+ * <p>Presence TTL보다 짧은 주기로 실행하여, 갱신이 멈춘 노드(비정상 종료)만 자연 만료되도록 한다</p>
+ */
+@RequiredArgsConstructor
+public class PresenceHeartbeat {
+
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final PresenceRegistry presenceRegistry;
+
+    @Scheduled(fixedDelayString = "${chat.cluster.presence-heartbeat-interval-ms:20000}")
+    public void beat() {
+        presenceRegistry.refresh(sessionRegistry.connectedUserIds());
+    }
+}
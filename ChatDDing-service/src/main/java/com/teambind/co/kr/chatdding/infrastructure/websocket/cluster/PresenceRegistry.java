@@ -0,0 +1,42 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket.cluster;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 → 접속 노드 Presence 레지스트리
+ *
+ * <p>여러 인스턴스에 분산된 WebSocket 연결을 라우팅하기 위해 사용자가 어느 노드에 접속해 있는지 기록한다</p>
+ */
+public interface PresenceRegistry {
+
+    /**
+     * 현재 노드 ID
+     */
+    String localNodeId();
+
+    /**
+     * 현재 노드에 사용자가 접속했음을 기록
+     */
+    void markOnline(UserId userId);
+
+    /**
+     * 현재 노드에서 사용자의 마지막 연결이 종료되었음을 기록
+     */
+    void markOffline(UserId userId);
+
+    /**
+     * 현재 노드에 접속한 사용자들의 Presence 갱신 (Heartbeat)
+     */
+    void refresh(Collection<UserId> userIds);
+
+    /**
+     * 사용자별 접속 노드 조회 (만료된 노드 제외)
+     *
+     * @return 접속 노드가 있는 사용자만 포함
+     */
+    Map<UserId, Set<String>> findNodes(Collection<UserId> userIds);
+}
@@ -0,0 +1,62 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import com.teambind.co.kr.chatdding.infrastructure.websocket.WebSocketSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis Pub/Sub 기반 노드 간 Push 전달 버스
+ *
+ * <p>노드마다 전용 채널 {@code ws:node:{nodeId}} 를 구독하고, 수신자가 접속한 노드의 채널로만 발행한다</p>
+ * <p>전달은 best-effort: 수신 노드가 없거나 Redis 장애 시 유실되며 클라이언트는 REST 조회로 복구한다</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisNodeMessageBus implements NodeMessageBus, MessageListener {
+
+    private static final String CHANNEL_PREFIX = "ws:node:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final WebSocketSessionRegistry sessionRegistry;
+
+    public static String channelOf(String nodeId) {
+        return CHANNEL_PREFIX + nodeId;
+    }
+
+    @Override
+    public void forward(String nodeId, Collection<UserId> recipientIds, String frame) {
+        try {
+            List<Long> ids = recipientIds.stream()
+                    .map(UserId::getValue)
+                    .toList();
+            String payload = objectMapper.writeValueAsString(new NodeEnvelope(ids, frame));
+            redisTemplate.convertAndSend(channelOf(nodeId), payload);
+        } catch (Exception e) {
+            log.warn("Redis node forward failed. nodeId={}, recipients={}, error={}",
+                    nodeId, recipientIds.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NodeEnvelope envelope = objectMapper.readValue(message.getBody(), NodeEnvelope.class);
+            List<UserId> recipientIds = envelope.recipientIds().stream()
+                    .map(UserId::of)
+                    .toList();
+            sessionRegistry.deliver(recipientIds, new TextMessage(envelope.frame()));
+        } catch (Exception e) {
+            log.error("Failed to process node envelope", e);
+        }
+    }
+}
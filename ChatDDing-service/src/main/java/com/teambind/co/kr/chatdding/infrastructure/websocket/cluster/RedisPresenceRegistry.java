@@ -0,0 +1,131 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket.cluster;
+
+import com.teambind.co.kr.chatdding.domain.common.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 기반 Presence 레지스트리
+ *
+ * <p>키 {@code presence:{userId}} 는 노드 ID를 member, 마지막 Heartbeat 시각(ms)을 score로 갖는 Sorted Set</p>
+ * <p>노드가 비정상 종료되어 markOffline이 호출되지 않아도 score가 TTL보다 오래된 노드는 조회에서 제외된다</p>
+ * <p>Graceful Degradation: Redis 장애 시 빈 결과를 반환하여 로컬 전달만 수행</p>
+ */
+@Slf4j
+public class RedisPresenceRegistry implements PresenceRegistry {
+
+    private static final String KEY_PREFIX = "presence:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId;
+    private final Duration ttl;
+
+    public RedisPresenceRegistry(StringRedisTemplate redisTemplate, String nodeId, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public String localNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void markOnline(UserId userId) {
+        try {
+            String key = buildKey(userId);
+            redisTemplate.opsForZSet().add(key, nodeId, System.currentTimeMillis());
+            redisTemplate.expire(key, ttl);
+        } catch (Exception e) {
+            log.warn("Redis presence markOnline failed. userId={}, nodeId={}, error={}",
+                    userId.getValue(), nodeId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void markOffline(UserId userId) {
+        try {
+            redisTemplate.opsForZSet().remove(buildKey(userId), nodeId);
+        } catch (Exception e) {
+            log.warn("Redis presence markOffline failed. userId={}, nodeId={}, error={}",
+                    userId.getValue(), nodeId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void refresh(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        byte[] member = nodeId.getBytes(StandardCharsets.UTF_8);
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (UserId userId : userIds) {
+                    byte[] key = rawKey(userId);
+                    connection.zSetCommands().zAdd(key, now, member);
+                    connection.zSetCommands().zRemRangeByScore(key, Double.NEGATIVE_INFINITY, now - ttl.toMillis());
+                    connection.keyCommands().expire(key, ttl.toSeconds());
+                }
+                return null;
+            });
+            log.debug("Presence refreshed: nodeId={}, users={}", nodeId, userIds.size());
+        } catch (Exception e) {
+            log.warn("Redis presence refresh failed. nodeId={}, users={}, error={}",
+                    nodeId, userIds.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<UserId, Set<String>> findNodes(Collection<UserId> userIds) {
+        Map<UserId, Set<String>> result = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
+
+        List<UserId> targets = List.copyOf(userIds);
+        double minScore = System.currentTimeMillis() - ttl.toMillis();
+
+        try {
+            List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (UserId userId : targets) {
+                    connection.zSetCommands().zRangeByScore(rawKey(userId), minScore, Double.POSITIVE_INFINITY);
+                }
+                return null;
+            });
+
+            for (int i = 0; i < targets.size(); i++) {
+                Set<String> nodeIds = (Set<String>) values.get(i);
+                if (nodeIds != null && !nodeIds.isEmpty()) {
+                    result.put(targets.get(i), nodeIds);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Redis presence lookup failed, returning empty map. users={}, error={}",
+                    targets.size(), e.getMessage());
+        }
+
+        return result;
+    }
+
+    private byte[] rawKey(UserId userId) {
+        return buildKey(userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String buildKey(UserId userId) {
+        return KEY_PREFIX + userId.getValue();
+    }
+}
@@ -3,12 +3,17 @@ package com.teambind.co.kr.chatdding.adapter.in.web.controller
 import com.teambind.co.kr.chatdding.adapter.in.web.GlobalExceptionHandler
 import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomDetailResult
 import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomDetailUseCase
+import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomsQuery
 import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomsResult
 import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomsUseCase
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeQuery
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeResult
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeUseCase
 import com.teambind.co.kr.chatdding.application.port.in.CreateDmUseCase
 import com.teambind.co.kr.chatdding.application.port.in.CreateGroupUseCase
 import com.teambind.co.kr.chatdding.common.exception.ChatException
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomCursor
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType
 import org.springframework.test.web.servlet.MockMvc
@@ -28,6 +33,7 @@ class ChatRoomControllerSpec extends Specification {
     GetChatRoomDetailUseCase getChatRoomDetailUseCase = Mock()
     CreateDmUseCase createDmUseCase = Mock()
     CreateGroupUseCase createGroupUseCase = Mock()
+    GetUnreadBadgeUseCase getUnreadBadgeUseCase = Mock()
 
     @Subject
     ChatRoomController chatRoomController
@@ -35,7 +41,7 @@ class ChatRoomControllerSpec extends Specification {
     MockMvc mockMvc
 
     def setup() {
-        chatRoomController = new ChatRoomController(getChatRoomsUseCase, getChatRoomDetailUseCase, createDmUseCase, createGroupUseCase)
+        chatRoomController = new ChatRoomController(getChatRoomsUseCase, getChatRoomDetailUseCase, createDmUseCase, createGroupUseCase, getUnreadBadgeUseCase)
         mockMvc = MockMvcBuilders.standaloneSetup(chatRoomController)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build()
@@ -66,7 +72,7 @@ class ChatRoomControllerSpec extends Specification {
                         null
                 )
         ]
-        def result = new GetChatRoomsResult(chatRooms)
+        def result = new GetChatRoomsResult(chatRooms, "1705280400000_1002", true)
 
         when:
         def response = mockMvc.perform(get("/api/v1/rooms")
@@ -83,12 +89,43 @@ class ChatRoomControllerSpec extends Specification {
                 .andExpect(jsonPath('$.data.chatRooms[0].roomId').value("1001"))
                 .andExpect(jsonPath('$.data.chatRooms[0].type').value("DM"))
                 .andExpect(jsonPath('$.data.chatRooms[0].unreadCount').value(3))
+                .andExpect(jsonPath('$.data.nextCursor').value("1705280400000_1002"))
+                .andExpect(jsonPath('$.data.hasMore').value(true))
+    }
+
+    def "채팅방 목록 조회 시 커서와 limit을 Query로 전달한다"() {
+        when:
+        def response = mockMvc.perform(get("/api/v1/rooms")
+                .header("X-User-Id", 100L)
+                .param("cursor", "1705280400000_1002")
+                .param("limit", "50"))
+
+        then:
+        1 * getChatRoomsUseCase.execute({ GetChatRoomsQuery q ->
+            q.cursor() == ChatRoomCursor.fromString("1705280400000_1002") && q.limit() == 50
+        }) >> new GetChatRoomsResult([], null, false)
+
+        and:
+        response.andExpect(status().isOk())
+    }
+
+    def "채팅방 목록 조회 시 잘못된 커서면 400 응답"() {
+        when:
+        def response = mockMvc.perform(get("/api/v1/rooms")
+                .header("X-User-Id", 100L)
+                .param("cursor", "invalid"))
+
+        then:
+        0 * getChatRoomsUseCase.execute(_)
+
+        and:
+        response.andExpect(status().isBadRequest())
     }
 
     def "채팅방 목록이 비어있는 경우"() {
         given:
         def userId = 100L
-        def result = new GetChatRoomsResult([])
+        def result = new GetChatRoomsResult([], null, false)
 
         when:
         def response = mockMvc.perform(get("/api/v1/rooms")
@@ -264,4 +301,16 @@ class ChatRoomControllerSpec extends Specification {
                 .andExpect(jsonPath('$.data.type').value("SUPPORT"))
                 .andExpect(jsonPath('$.data.ownerId').value(500))
     }
+
+    def "전체 안읽은 메시지 수(앱 뱃지) 조회 성공"() {
+        when:
+        def result = mockMvc.perform(get("/api/v1/rooms/unread-count")
+                .header("X-User-Id", "100"))
+
+        then:
+        1 * getUnreadBadgeUseCase.execute(GetUnreadBadgeQuery.of(100L)) >> new GetUnreadBadgeResult(42L)
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath('$.success').value(true))
+                .andExpect(jsonPath('$.data.totalUnreadCount').value(42))
+    }
 }
@@ -0,0 +1,80 @@
+package com.teambind.co.kr.chatdding.adapter.in.web.controller
+
+import com.teambind.co.kr.chatdding.adapter.in.web.GlobalExceptionHandler
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterCommand
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterResult
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterUseCase
+import com.teambind.co.kr.chatdding.common.exception.ChatException
+import com.teambind.co.kr.chatdding.common.exception.ErrorCode
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.setup.MockMvcBuilders
+import spock.lang.Specification
+import spock.lang.Subject
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+
+class DeadLetterControllerSpec extends Specification {
+
+    ReplayDeadLetterUseCase replayDeadLetterUseCase = Mock()
+
+    @Subject
+    DeadLetterController deadLetterController
+
+    MockMvc mockMvc
+
+    def setup() {
+        deadLetterController = new DeadLetterController(replayDeadLetterUseCase)
+        mockMvc = MockMvcBuilders.standaloneSetup(deadLetterController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build()
+    }
+
+    def "DLT 재처리 성공 시 재발행 건수를 반환한다"() {
+        when:
+        def response = mockMvc.perform(post("/api/v1/chat/admin/dead-letters/chat-message-read/replay")
+                .param("limit", "50"))
+
+        then:
+        1 * replayDeadLetterUseCase.execute(new ReplayDeadLetterCommand("chat-message-read", 50)) >>
+                ReplayDeadLetterResult.of("chat-message-read", 12)
+
+        and:
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath('$.success').value(true))
+                .andExpect(jsonPath('$.data.topic').value("chat-message-read"))
+                .andExpect(jsonPath('$.data.replayed').value(12))
+    }
+
+    def "limit 기본값은 100이다"() {
+        when:
+        mockMvc.perform(post("/api/v1/chat/admin/dead-letters/chat-message-read/replay"))
+
+        then:
+        1 * replayDeadLetterUseCase.execute({ ReplayDeadLetterCommand command -> command.limit() == 100 }) >>
+                ReplayDeadLetterResult.of("chat-message-read", 0)
+    }
+
+    def "limit이 범위를 벗어나면 400 Bad Request 반환"() {
+        when:
+        def response = mockMvc.perform(post("/api/v1/chat/admin/dead-letters/chat-message-read/replay")
+                .param("limit", "0"))
+
+        then:
+        0 * replayDeadLetterUseCase.execute(_)
+        response.andExpect(status().isBadRequest())
+    }
+
+    def "재처리를 지원하지 않는 토픽이면 400 Bad Request 반환"() {
+        when:
+        def response = mockMvc.perform(post("/api/v1/chat/admin/dead-letters/chat-message-sent/replay"))
+
+        then:
+        1 * replayDeadLetterUseCase.execute(_) >> { throw ChatException.of(ErrorCode.DEAD_LETTER_NOT_REPLAYABLE) }
+
+        and:
+        response.andExpect(status().isBadRequest())
+                .andExpect(jsonPath('$.error.code').value("CHAT_015"))
+    }
+}
@@ -221,7 +221,7 @@ class InquiryControllerSpec extends Specification {
         when:
         def response = mockMvc.perform(get("/api/v1/chat/inquiry/host")
                 .header("X-User-Id", hostId)
-                .param("cursor", "abc123")
+                .param("cursor", "1705312200000_1234567890123456788")
                 .param("limit", "10"))
 
         then:
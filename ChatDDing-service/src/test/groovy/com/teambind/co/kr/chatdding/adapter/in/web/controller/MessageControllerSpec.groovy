@@ -3,6 +3,7 @@ package com.teambind.co.kr.chatdding.adapter.in.web.controller
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.teambind.co.kr.chatdding.adapter.in.web.GlobalExceptionHandler
 import com.teambind.co.kr.chatdding.application.port.in.DeleteMessageUseCase
+import com.teambind.co.kr.chatdding.application.port.in.GetMessagesQuery
 import com.teambind.co.kr.chatdding.application.port.in.GetMessagesResult
 import com.teambind.co.kr.chatdding.application.port.in.GetMessagesUseCase
 import com.teambind.co.kr.chatdding.application.port.in.MarkAsReadResult
@@ -11,6 +12,7 @@ import com.teambind.co.kr.chatdding.application.port.in.SendMessageResult
 import com.teambind.co.kr.chatdding.application.port.in.SendMessageUseCase
 import com.teambind.co.kr.chatdding.common.exception.ChatException
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode
+import com.teambind.co.kr.chatdding.domain.message.MessageId
 import org.springframework.http.MediaType
 import org.springframework.test.web.servlet.MockMvc
 import org.springframework.test.web.servlet.setup.MockMvcBuilders
@@ -147,7 +149,7 @@ class MessageControllerSpec extends Specification {
                 new GetMessagesResult.MessageItem("msg1", roomId, userId, "메시지1", 1, false, LocalDateTime.now()),
                 new GetMessagesResult.MessageItem("msg2", roomId, userId, "메시지2", 2, false, LocalDateTime.now())
         ]
-        def result = new GetMessagesResult(messages, "msg1", true)
+        def result = new GetMessagesResult(messages, "msg1", true, false)
 
         when:
         def response = mockMvc.perform(get("/api/v1/rooms/{roomId}/messages", roomId)
@@ -169,7 +171,7 @@ class MessageControllerSpec extends Specification {
         given:
         def roomId = "123"
         def userId = 100L
-        def result = new GetMessagesResult([], null, false)
+        def result = new GetMessagesResult([], null, false, false)
 
         getMessagesUseCase.execute(_) >> result
 
@@ -183,11 +185,44 @@ class MessageControllerSpec extends Specification {
         noExceptionThrown()
     }
 
+    def "since 파라미터로 델타 동기화 조회"() {
+        given:
+        def roomId = "123"
+        def userId = 100L
+
+        when:
+        def response = mockMvc.perform(get("/api/v1/rooms/{roomId}/messages", roomId)
+                .header("X-User-Id", userId)
+                .param("since", "500"))
+
+        then:
+        1 * getMessagesUseCase.execute({ GetMessagesQuery q ->
+            q.isDeltaSync() && q.sinceId() == MessageId.of(500L) && !q.hasCursor()
+        }) >> GetMessagesResult.resync()
+
+        and:
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath('$.data.messages').isEmpty())
+                .andExpect(jsonPath('$.data.resyncRequired').value(true))
+    }
+
+    def "cursor와 since를 함께 지정하면 400"() {
+        when:
+        def response = mockMvc.perform(get("/api/v1/rooms/{roomId}/messages", "123")
+                .header("X-User-Id", 100L)
+                .param("cursor", "10")
+                .param("since", "500"))
+
+        then:
+        0 * getMessagesUseCase.execute(_)
+        response.andExpect(status().isBadRequest())
+    }
+
     def "빈 메시지 목록 조회"() {
         given:
         def roomId = "123"
         def userId = 100L
-        def result = new GetMessagesResult([], null, false)
+        def result = new GetMessagesResult([], null, false, false)
 
         when:
         def response = mockMvc.perform(get("/api/v1/rooms/{roomId}/messages", roomId)
@@ -1,11 +1,13 @@
 package com.teambind.co.kr.chatdding.application.service
 
 import com.teambind.co.kr.chatdding.application.port.in.AssignSupportAgentCommand
+import com.teambind.co.kr.chatdding.application.port.out.ChatRoomMembershipPort
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher
 import com.teambind.co.kr.chatdding.common.exception.ChatException
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository
+import com.teambind.co.kr.chatdding.domain.chatroom.Participant
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
 import com.teambind.co.kr.chatdding.domain.event.SupportAgentAssignedEvent
@@ -16,12 +18,13 @@ class AssignSupportAgentServiceSpec extends Specification {
 
     ChatRoomRepository chatRoomRepository = Mock()
     EventPublisher eventPublisher = Mock()
+    ChatRoomMembershipPort chatRoomMembershipPort = Mock()
 
     @Subject
     AssignSupportAgentService service
 
     def setup() {
-        service = new AssignSupportAgentService(chatRoomRepository, eventPublisher)
+        service = new AssignSupportAgentService(chatRoomRepository, eventPublisher, chatRoomMembershipPort)
     }
 
     def "상담원을 성공적으로 배정한다"() {
@@ -30,7 +33,7 @@ class AssignSupportAgentServiceSpec extends Specification {
         def chatRoom = ChatRoom.createSupport(RoomId.of(1L), UserId.of(100L))
 
         chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
-        chatRoomRepository.save(_) >> { ChatRoom room -> room }
+        chatRoomRepository.addParticipant(RoomId.of(1L), _ as Participant, 2) >> true
 
         when:
         def result = service.execute(command)
@@ -44,6 +47,42 @@ class AssignSupportAgentServiceSpec extends Specification {
         1 * eventPublisher.publish(_ as SupportAgentAssignedEvent)
     }
 
+    def "상담원 배정 후 채팅방 멤버십 캐시를 무효화한다"() {
+        given:
+        def command = AssignSupportAgentCommand.of("1", 999L)
+        def chatRoom = ChatRoom.createSupport(RoomId.of(1L), UserId.of(100L))
+
+        chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
+
+        when:
+        service.execute(command)
+
+        then:
+        1 * chatRoomRepository.addParticipant(RoomId.of(1L), { Participant p -> p.userId == UserId.of(999L) }, 2) >> true
+        0 * chatRoomRepository.save(_)
+
+        then:
+        1 * chatRoomMembershipPort.evict(RoomId.of(1L))
+    }
+
+    def "동시 배정에 밀려 참여자 추가에 실패하면 예외가 발생하고 이벤트를 발행하지 않는다"() {
+        given:
+        def command = AssignSupportAgentCommand.of("1", 999L)
+        def chatRoom = ChatRoom.createSupport(RoomId.of(1L), UserId.of(100L))
+
+        chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
+        chatRoomRepository.addParticipant(RoomId.of(1L), _ as Participant, 2) >> false
+
+        when:
+        service.execute(command)
+
+        then:
+        def ex = thrown(ChatException)
+        ex.errorCode == ErrorCode.AGENT_ALREADY_ASSIGNED
+        0 * eventPublisher.publish(_)
+        0 * chatRoomMembershipPort.evict(_)
+    }
+
     def "존재하지 않는 채팅방이면 예외가 발생한다"() {
         given:
         def command = AssignSupportAgentCommand.of("999", 100L)
@@ -1,7 +1,9 @@
 package com.teambind.co.kr.chatdding.application.service
 
 import com.teambind.co.kr.chatdding.application.port.in.CloseSupportChatCommand
+import com.teambind.co.kr.chatdding.application.port.out.ChatRoomMembershipPort
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher
+import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort
 import com.teambind.co.kr.chatdding.common.exception.ChatException
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom
@@ -17,12 +19,14 @@ class CloseSupportChatServiceSpec extends Specification {
 
     ChatRoomRepository chatRoomRepository = Mock()
     EventPublisher eventPublisher = Mock()
+    ChatRoomMembershipPort chatRoomMembershipPort = Mock()
+    UnreadCountCachePort unreadCountCachePort = Mock()
 
     @Subject
     CloseSupportChatService service
 
     def setup() {
-        service = new CloseSupportChatService(chatRoomRepository, eventPublisher)
+        service = new CloseSupportChatService(chatRoomRepository, eventPublisher, chatRoomMembershipPort, unreadCountCachePort)
     }
 
     def "사용자가 상담을 종료할 수 있다"() {
@@ -31,7 +35,7 @@ class CloseSupportChatServiceSpec extends Specification {
         def chatRoom = ChatRoom.createSupport(RoomId.of(1L), UserId.of(100L))
 
         chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
-        chatRoomRepository.save(_) >> { ChatRoom room -> room }
+        chatRoomRepository.updateStatus(RoomId.of(1L), ChatRoomStatus.ACTIVE, ChatRoomStatus.CLOSED) >> true
 
         when:
         def result = service.execute(command)
@@ -51,7 +55,7 @@ class CloseSupportChatServiceSpec extends Specification {
         def command = CloseSupportChatCommand.of("1", 999L)
 
         chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
-        chatRoomRepository.save(_) >> { ChatRoom room -> room }
+        chatRoomRepository.updateStatus(RoomId.of(1L), ChatRoomStatus.ACTIVE, ChatRoomStatus.CLOSED) >> true
 
         when:
         def result = service.execute(command)
@@ -64,6 +68,62 @@ class CloseSupportChatServiceSpec extends Specification {
         1 * eventPublisher.publish(_ as SupportChatClosedEvent)
     }
 
+    def "상담 종료 시 참여자 전원의 안읽은 수 캐시를 초기화한다"() {
+        given:
+        def roomId = RoomId.of(1L)
+        def chatRoom = ChatRoom.createSupport(roomId, UserId.of(100L))
+        chatRoom.assignAgent(UserId.of(999L))
+        def command = CloseSupportChatCommand.of("1", 100L)
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        chatRoomRepository.updateStatus(RoomId.of(1L), ChatRoomStatus.ACTIVE, ChatRoomStatus.CLOSED) >> true
+
+        when:
+        service.execute(command)
+
+        then:
+        1 * unreadCountCachePort.resetUnreadCount(roomId, UserId.of(100L))
+        1 * unreadCountCachePort.resetUnreadCount(roomId, UserId.of(999L))
+    }
+
+    def "상담 종료 후 채팅방 멤버십 캐시를 무효화한다"() {
+        given:
+        def roomId = RoomId.of(1L)
+        def chatRoom = ChatRoom.createSupport(roomId, UserId.of(100L))
+        def command = CloseSupportChatCommand.of("1", 100L)
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+
+        when:
+        service.execute(command)
+
+        then:
+        1 * chatRoomRepository.updateStatus(roomId, ChatRoomStatus.ACTIVE, ChatRoomStatus.CLOSED) >> true
+        0 * chatRoomRepository.save(_)
+
+        then:
+        1 * chatRoomMembershipPort.evict(roomId)
+    }
+
+    def "동시 종료 요청에 밀려 상태 변경에 실패하면 예외가 발생하고 이벤트를 발행하지 않는다"() {
+        given:
+        def roomId = RoomId.of(1L)
+        def chatRoom = ChatRoom.createSupport(roomId, UserId.of(100L))
+        def command = CloseSupportChatCommand.of("1", 100L)
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        chatRoomRepository.updateStatus(roomId, ChatRoomStatus.ACTIVE, ChatRoomStatus.CLOSED) >> false
+
+        when:
+        service.execute(command)
+
+        then:
+        def ex = thrown(ChatException)
+        ex.errorCode == ErrorCode.ROOM_ALREADY_CLOSED
+        0 * eventPublisher.publish(_)
+        0 * chatRoomMembershipPort.evict(_)
+    }
+
     def "존재하지 않는 채팅방이면 예외가 발생한다"() {
         given:
         def command = CloseSupportChatCommand.of("999", 100L)
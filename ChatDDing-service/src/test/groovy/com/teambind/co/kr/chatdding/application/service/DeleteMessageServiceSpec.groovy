@@ -1,31 +1,71 @@
 package com.teambind.co.kr.chatdding.application.service
 
 import com.teambind.co.kr.chatdding.application.port.in.DeleteMessageCommand
+import com.teambind.co.kr.chatdding.application.port.out.ChatRoomMembershipPort
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher
+import com.teambind.co.kr.chatdding.application.port.out.MessageTailCachePort
+import com.teambind.co.kr.chatdding.application.port.out.RealtimePushPort
 import com.teambind.co.kr.chatdding.common.exception.ChatException
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomMembership
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
 import com.teambind.co.kr.chatdding.domain.event.MessageDeletedEvent
 import com.teambind.co.kr.chatdding.domain.message.Message
 import com.teambind.co.kr.chatdding.domain.message.MessageId
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository
+import org.springframework.transaction.support.TransactionSynchronizationManager
 import spock.lang.Specification
 import spock.lang.Subject
 
 class DeleteMessageServiceSpec extends Specification {
 
     ChatRoomRepository chatRoomRepository = Mock()
+    ChatRoomMembershipPort chatRoomMembershipPort = Mock()
     MessageRepository messageRepository = Mock()
+    MessageTailCachePort messageTailCachePort = Mock()
     EventPublisher eventPublisher = Mock()
+    RealtimePushPort realtimePushPort = Mock()
 
     @Subject
     DeleteMessageService service
 
     def setup() {
-        service = new DeleteMessageService(chatRoomRepository, messageRepository, eventPublisher)
+        service = new DeleteMessageService(chatRoomRepository, chatRoomMembershipPort, messageRepository, messageTailCachePort,
+                eventPublisher, realtimePushPort)
+    }
+
+    def cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    def "트랜잭션 안에서는 최근 메시지 캐시를 커밋 이후에 무효화한다"() {
+        given:
+        def command = DeleteMessageCommand.of("1", "100", 10L)
+        def chatRoom = ChatRoom.createDm(RoomId.of(1L), UserId.of(10L), UserId.of(20L))
+        def message = Message.create(MessageId.of(100L), RoomId.of(1L), UserId.of(10L), "테스트")
+
+        chatRoomMembershipPort.findMembership(RoomId.of(1L)) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        messageRepository.findById(MessageId.of(100L)) >> Optional.of(message)
+        TransactionSynchronizationManager.initSynchronization()
+
+        when:
+        service.execute(command)
+
+        then:
+        1 * messageRepository.save(_)
+        0 * messageTailCachePort.evict(_)
+
+        when:
+        TransactionSynchronizationManager.synchronizations.each { it.afterCommit() }
+
+        then:
+        1 * messageTailCachePort.evict(RoomId.of(1L))
     }
 
     def "메시지 Soft Delete 성공 (발신자만 삭제)"() {
@@ -34,7 +74,7 @@ class DeleteMessageServiceSpec extends Specification {
         def chatRoom = ChatRoom.createDm(RoomId.of(1L), UserId.of(10L), UserId.of(20L))
         def message = Message.create(MessageId.of(100L), RoomId.of(1L), UserId.of(10L), "테스트")
 
-        chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(RoomId.of(1L)) >> Optional.of(ChatRoomMembership.from(chatRoom))
         messageRepository.findById(MessageId.of(100L)) >> Optional.of(message)
         messageRepository.save(_) >> { Message m -> m }
 
@@ -49,9 +89,11 @@ class DeleteMessageServiceSpec extends Specification {
         and:
         1 * messageRepository.save(_)
         0 * messageRepository.deleteById(_)
+        1 * messageTailCachePort.evict(RoomId.of(1L))
         1 * eventPublisher.publish({ MessageDeletedEvent e ->
             e.hardDeleted() == false
         })
+        1 * realtimePushPort.push([UserId.of(10L)], _ as MessageDeletedEvent)
     }
 
     def "메시지 Hard Delete 성공 (DM에서 양측 모두 삭제)"() {
@@ -61,6 +103,7 @@ class DeleteMessageServiceSpec extends Specification {
         def message = Message.create(MessageId.of(100L), RoomId.of(1L), UserId.of(10L), "테스트")
         message.deleteFor(UserId.of(10L)) // 발신자가 이미 삭제함
 
+        chatRoomMembershipPort.findMembership(RoomId.of(1L)) >> Optional.of(ChatRoomMembership.from(chatRoom))
         chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
         messageRepository.findById(MessageId.of(100L)) >> Optional.of(message)
 
@@ -74,16 +117,18 @@ class DeleteMessageServiceSpec extends Specification {
         and:
         0 * messageRepository.save(_)
         1 * messageRepository.deleteById(MessageId.of(100L))
+        1 * messageTailCachePort.evict(RoomId.of(1L))
         1 * eventPublisher.publish({ MessageDeletedEvent e ->
             e.hardDeleted() == true
         })
+        1 * realtimePushPort.push([UserId.of(10L), UserId.of(20L)], _ as MessageDeletedEvent)
     }
 
     def "존재하지 않는 채팅방이면 예외 발생"() {
         given:
         def command = DeleteMessageCommand.of("999", "100", 10L)
 
-        chatRoomRepository.findById(RoomId.of(999L)) >> Optional.empty()
+        chatRoomMembershipPort.findMembership(RoomId.of(999L)) >> Optional.empty()
 
         when:
         service.execute(command)
@@ -98,7 +143,7 @@ class DeleteMessageServiceSpec extends Specification {
         def command = DeleteMessageCommand.of("1", "100", 999L)
         def chatRoom = ChatRoom.createDm(RoomId.of(1L), UserId.of(10L), UserId.of(20L))
 
-        chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(RoomId.of(1L)) >> Optional.of(ChatRoomMembership.from(chatRoom))
 
         when:
         service.execute(command)
@@ -113,7 +158,7 @@ class DeleteMessageServiceSpec extends Specification {
         def command = DeleteMessageCommand.of("1", "999", 10L)
         def chatRoom = ChatRoom.createDm(RoomId.of(1L), UserId.of(10L), UserId.of(20L))
 
-        chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(RoomId.of(1L)) >> Optional.of(ChatRoomMembership.from(chatRoom))
         messageRepository.findById(MessageId.of(999L)) >> Optional.empty()
 
         when:
@@ -130,7 +175,7 @@ class DeleteMessageServiceSpec extends Specification {
         def chatRoom = ChatRoom.createDm(RoomId.of(1L), UserId.of(10L), UserId.of(20L))
         def message = Message.create(MessageId.of(100L), RoomId.of(999L), UserId.of(10L), "테스트")
 
-        chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(RoomId.of(1L)) >> Optional.of(ChatRoomMembership.from(chatRoom))
         messageRepository.findById(MessageId.of(100L)) >> Optional.of(message)
 
         when:
@@ -147,7 +192,7 @@ class DeleteMessageServiceSpec extends Specification {
         def chatRoom = ChatRoom.createGroup(RoomId.of(1L), UserId.of(10L), [UserId.of(20L), UserId.of(30L)], "그룹")
         def message = Message.create(MessageId.of(100L), RoomId.of(1L), UserId.of(10L), "테스트")
 
-        chatRoomRepository.findById(RoomId.of(1L)) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(RoomId.of(1L)) >> Optional.of(ChatRoomMembership.from(chatRoom))
         messageRepository.findById(MessageId.of(100L)) >> Optional.of(message)
         messageRepository.save(_) >> { Message m -> m }
 
@@ -159,4 +204,50 @@ class DeleteMessageServiceSpec extends Specification {
         1 * messageRepository.save(_)
         0 * messageRepository.deleteById(_)
     }
+
+    def "마지막 메시지가 Hard Delete되면 다음 최신 메시지로 스냅샷을 교체한다"() {
+        given:
+        def roomId = RoomId.of(1L)
+        def command = DeleteMessageCommand.of("1", "100", 20L)
+        def chatRoom = ChatRoom.createDm(roomId, UserId.of(10L), UserId.of(20L))
+        def message = Message.create(MessageId.of(100L), roomId, UserId.of(10L), "마지막")
+        def previous = Message.create(MessageId.of(99L), roomId, UserId.of(20L), "이전 메시지")
+        message.deleteFor(UserId.of(10L))
+        chatRoom.updateLastMessage(LastMessage.from(message))
+
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        messageRepository.findById(MessageId.of(100L)) >> Optional.of(message)
+        messageRepository.findLatestByRoomId(roomId) >> Optional.of(previous)
+
+        when:
+        service.execute(command)
+
+        then:
+        1 * chatRoomRepository.replaceLastMessage(roomId, MessageId.of(100L), { LastMessage lm ->
+            lm.messageId() == MessageId.of(99L) && lm.preview() == "이전 메시지"
+        })
+    }
+
+    def "마지막 메시지가 아닌 메시지를 Hard Delete하면 스냅샷을 건드리지 않는다"() {
+        given:
+        def roomId = RoomId.of(1L)
+        def command = DeleteMessageCommand.of("1", "100", 20L)
+        def chatRoom = ChatRoom.createDm(roomId, UserId.of(10L), UserId.of(20L))
+        def message = Message.create(MessageId.of(100L), roomId, UserId.of(10L), "예전 메시지")
+        def latest = Message.create(MessageId.of(200L), roomId, UserId.of(20L), "최신 메시지")
+        message.deleteFor(UserId.of(10L))
+        chatRoom.updateLastMessage(LastMessage.from(latest))
+
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        messageRepository.findById(MessageId.of(100L)) >> Optional.of(message)
+
+        when:
+        service.execute(command)
+
+        then:
+        0 * chatRoomRepository.replaceLastMessage(_, _, _)
+        0 * messageRepository.findLatestByRoomId(_)
+    }
 }
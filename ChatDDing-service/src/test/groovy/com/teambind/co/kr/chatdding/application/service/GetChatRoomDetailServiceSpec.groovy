@@ -32,7 +32,7 @@ class GetChatRoomDetailServiceSpec extends Specification {
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
-        messageRepository.countUnreadByRoomIdAndUserId(roomId, userId) >> 0
+        messageRepository.countUnread(roomId, userId, _) >> 0
 
         when:
         def result = getChatRoomDetailService.execute(query)
@@ -48,7 +48,7 @@ class GetChatRoomDetailServiceSpec extends Specification {
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
-        messageRepository.countUnreadByRoomIdAndUserId(roomId, userId) >> 10
+        messageRepository.countUnread(roomId, userId, _) >> 10
 
         when:
         def result = getChatRoomDetailService.execute(query)
@@ -65,7 +65,7 @@ class GetChatRoomDetailServiceSpec extends Specification {
         def query = new GetChatRoomDetailQuery(groupRoomId, ownerId)
 
         chatRoomRepository.findById(groupRoomId) >> Optional.of(chatRoom)
-        messageRepository.countUnreadByRoomIdAndUserId(groupRoomId, ownerId) >> 0
+        messageRepository.countUnread(groupRoomId, ownerId, _) >> 0
 
         when:
         def result = getChatRoomDetailService.execute(query)
@@ -111,7 +111,7 @@ class GetChatRoomDetailServiceSpec extends Specification {
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
-        messageRepository.countUnreadByRoomIdAndUserId(roomId, userId) >> 0
+        messageRepository.countUnread(roomId, userId, _) >> 0
 
         when:
         def result = getChatRoomDetailService.execute(query)
@@ -126,7 +126,7 @@ class GetChatRoomDetailServiceSpec extends Specification {
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
-        messageRepository.countUnreadByRoomIdAndUserId(roomId, userId) >> 0
+        messageRepository.countUnread(roomId, userId, _) >> 0
 
         when:
         def result = getChatRoomDetailService.execute(query)
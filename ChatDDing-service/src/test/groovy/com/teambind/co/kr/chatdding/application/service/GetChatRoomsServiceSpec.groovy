@@ -3,7 +3,12 @@ package com.teambind.co.kr.chatdding.application.service
 import com.teambind.co.kr.chatdding.application.port.in.GetChatRoomsQuery
 import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomCursor
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage
+import com.teambind.co.kr.chatdding.domain.chatroom.Participant
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
 import com.teambind.co.kr.chatdding.domain.message.Message
@@ -11,6 +16,9 @@ import com.teambind.co.kr.chatdding.domain.message.MessageId
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository
 import spock.lang.Specification
 import spock.lang.Subject
+import spock.lang.Unroll
+
+import java.time.LocalDateTime
 
 class GetChatRoomsServiceSpec extends Specification {
 
@@ -37,9 +45,8 @@ class GetChatRoomsServiceSpec extends Specification {
         def chatRoom1 = ChatRoom.createDm(RoomId.of(1L), userId, UserId.of(200L))
         def chatRoom2 = ChatRoom.createDm(RoomId.of(2L), userId, UserId.of(300L))
 
-        chatRoomRepository.findActiveByParticipantUserIdOrderByLastMessageAtDesc(userId) >> [chatRoom1, chatRoom2]
-        messageRepository.findLatestByRoomId(_) >> Optional.empty()
-        messageRepository.countUnreadByRoomIdAndUserId(_, userId) >> 0
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 21) >> [chatRoom1, chatRoom2]
+        messageRepository.countUnreadByRoomIds(userId, _) >> [:]
 
         when:
         def result = getChatRoomsService.execute(query)
@@ -51,7 +58,7 @@ class GetChatRoomsServiceSpec extends Specification {
     def "빈 채팅방 목록을 조회할 수 있다"() {
         given:
         def query = GetChatRoomsQuery.of(userId.getValue())
-        chatRoomRepository.findActiveByParticipantUserIdOrderByLastMessageAtDesc(userId) >> []
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 21) >> []
 
         when:
         def result = getChatRoomsService.execute(query)
@@ -66,10 +73,10 @@ class GetChatRoomsServiceSpec extends Specification {
         def roomId = RoomId.of(1L)
         def chatRoom = ChatRoom.createDm(roomId, userId, UserId.of(200L))
         def lastMessage = Message.create(MessageId.of(1L), roomId, UserId.of(200L), "마지막 메시지")
+        chatRoom.updateLastMessage(LastMessage.from(lastMessage))
 
-        chatRoomRepository.findActiveByParticipantUserIdOrderByLastMessageAtDesc(userId) >> [chatRoom]
-        messageRepository.findLatestByRoomId(roomId) >> Optional.of(lastMessage)
-        messageRepository.countUnreadByRoomIdAndUserId(roomId, userId) >> 0
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 21) >> [chatRoom]
+        messageRepository.countUnreadByRoomIds(userId, _) >> [(roomId): 0L]
 
         when:
         def result = getChatRoomsService.execute(query)
@@ -84,9 +91,8 @@ class GetChatRoomsServiceSpec extends Specification {
         def roomId = RoomId.of(1L)
         def chatRoom = ChatRoom.createDm(roomId, userId, UserId.of(200L))
 
-        chatRoomRepository.findActiveByParticipantUserIdOrderByLastMessageAtDesc(userId) >> [chatRoom]
-        messageRepository.findLatestByRoomId(roomId) >> Optional.empty()
-        messageRepository.countUnreadByRoomIdAndUserId(roomId, userId) >> 5
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 21) >> [chatRoom]
+        messageRepository.countUnreadByRoomIds(userId, _) >> [(roomId): 5L]
 
         when:
         def result = getChatRoomsService.execute(query)
@@ -101,11 +107,8 @@ class GetChatRoomsServiceSpec extends Specification {
         def room1 = ChatRoom.createDm(RoomId.of(1L), userId, UserId.of(200L))
         def room2 = ChatRoom.createDm(RoomId.of(2L), userId, UserId.of(300L))
 
-        chatRoomRepository.findActiveByParticipantUserIdOrderByLastMessageAtDesc(userId) >> [room1, room2]
-        messageRepository.findLatestByRoomId(RoomId.of(1L)) >> Optional.empty()
-        messageRepository.findLatestByRoomId(RoomId.of(2L)) >> Optional.empty()
-        messageRepository.countUnreadByRoomIdAndUserId(RoomId.of(1L), userId) >> 3
-        messageRepository.countUnreadByRoomIdAndUserId(RoomId.of(2L), userId) >> 7
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 21) >> [room1, room2]
+        messageRepository.countUnreadByRoomIds(userId, _) >> [(RoomId.of(1L)): 3L, (RoomId.of(2L)): 7L]
 
         when:
         def result = getChatRoomsService.execute(query)
@@ -120,9 +123,8 @@ class GetChatRoomsServiceSpec extends Specification {
         def query = GetChatRoomsQuery.of(userId.getValue())
         def chatRoom = ChatRoom.createDm(RoomId.of(1L), userId, UserId.of(200L))
 
-        chatRoomRepository.findActiveByParticipantUserIdOrderByLastMessageAtDesc(userId) >> [chatRoom]
-        messageRepository.findLatestByRoomId(_) >> Optional.empty()
-        messageRepository.countUnreadByRoomIdAndUserId(_, userId) >> 0
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 21) >> [chatRoom]
+        messageRepository.countUnreadByRoomIds(userId, _) >> [:]
 
         when:
         def result = getChatRoomsService.execute(query)
@@ -130,4 +132,155 @@ class GetChatRoomsServiceSpec extends Specification {
         then:
         result.chatRooms()[0].lastMessage() == null
     }
+
+    @Unroll
+    def "채팅방 #roomCount개 조회 시에도 메시지 컬렉션 조회 없이 단일 쿼리로 처리된다"() {
+        given:
+        def query = new GetChatRoomsQuery(userId, null, null, 100)
+        def chatRooms = (1..roomCount).collect { i ->
+            def room = ChatRoom.createDm(RoomId.of(i as Long), userId, UserId.of(1000L + i))
+            room.updateLastMessage(LastMessage.from(
+                    Message.create(MessageId.of(i as Long), room.id, userId, "메시지 " + i)))
+            room
+        }
+
+        when:
+        def result = getChatRoomsService.execute(query)
+
+        then:
+        1 * unreadCountCachePort.getUnreadCounts(_, userId) >> chatRooms.collectEntries { [(it.id): 0] }
+        1 * chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 101) >> chatRooms
+        0 * messageRepository._
+        result.chatRooms().size() == roomCount
+        result.chatRooms()[roomCount - 1].lastMessage() == "메시지 " + roomCount
+
+        where:
+        roomCount << [1, 50, 100]
+    }
+
+    def "전체 목록 조회 시 캐시 미스가 있으면 전체 값으로 사용자 캐시를 교체한다"() {
+        given:
+        def query = GetChatRoomsQuery.of(userId.getValue())
+        def room1 = ChatRoom.createDm(RoomId.of(1L), userId, UserId.of(200L))
+        def room2 = ChatRoom.createDm(RoomId.of(2L), userId, UserId.of(300L))
+
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 21) >> [room1, room2]
+        messageRepository.countUnreadByRoomIds(userId, [(RoomId.of(2L)): null]) >> [(RoomId.of(2L)): 7L]
+
+        when:
+        getChatRoomsService.execute(query)
+
+        then:
+        1 * unreadCountCachePort.getUnreadCounts(_, userId) >> [(RoomId.of(1L)): 3]
+        1 * unreadCountCachePort.replaceUnreadCounts(userId, [(RoomId.of(1L)): 3, (RoomId.of(2L)): 7])
+        0 * unreadCountCachePort.setUnreadCounts(_, _)
+    }
+
+    def "유형 필터 조회 시에는 미스난 채팅방만 개별 저장한다"() {
+        given:
+        def query = GetChatRoomsQuery.of(userId.getValue(), ChatRoomType.DM)
+        def room = ChatRoom.createDm(RoomId.of(1L), userId, UserId.of(200L))
+
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, ChatRoomType.DM, null, 21) >> [room]
+        messageRepository.countUnreadByRoomIds(userId, _) >> [(RoomId.of(1L)): 4L]
+
+        when:
+        getChatRoomsService.execute(query)
+
+        then:
+        1 * unreadCountCachePort.setUnreadCounts(userId, [(RoomId.of(1L)): 4])
+        0 * unreadCountCachePort.replaceUnreadCounts(_, _)
+    }
+
+    def "캐시가 모두 히트하면 캐시를 쓰지 않는다"() {
+        given:
+        def query = GetChatRoomsQuery.of(userId.getValue())
+        def room = ChatRoom.createDm(RoomId.of(1L), userId, UserId.of(200L))
+
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 21) >> [room]
+
+        when:
+        getChatRoomsService.execute(query)
+
+        then:
+        1 * unreadCountCachePort.getUnreadCounts(_, userId) >> [(RoomId.of(1L)): 2]
+        0 * unreadCountCachePort.replaceUnreadCounts(_, _)
+        0 * unreadCountCachePort.setUnreadCounts(_, _)
+    }
+
+    def "limit보다 많은 채팅방이 있으면 한 페이지만 반환하고 다음 커서를 만든다"() {
+        given:
+        def query = new GetChatRoomsQuery(userId, null, null, 2)
+        def lastMessageAt = LocalDateTime.of(2024, 1, 15, 10, 0)
+        def rooms = (3L..1L).collect { i ->
+            ChatRoom.restore(RoomId.of(i), ChatRoomType.DM, null,
+                    [Participant.create(userId), Participant.create(UserId.of(1000L + i))],
+                    userId, ChatRoomStatus.ACTIVE, lastMessageAt, lastMessageAt.minusMinutes(i), null)
+        }
+        messageRepository.countUnreadByRoomIds(userId, _) >> [:]
+
+        when:
+        def result = getChatRoomsService.execute(query)
+
+        then:
+        1 * chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 3) >> rooms
+        result.chatRooms()*.roomId() == ["3", "2"]
+        result.hasMore()
+        result.nextCursor() == new ChatRoomCursor(lastMessageAt.minusMinutes(2), RoomId.of(2L)).toString()
+    }
+
+    def "마지막 페이지이면 다음 커서가 없다"() {
+        given:
+        def cursor = new ChatRoomCursor(LocalDateTime.of(2024, 1, 15, 10, 0), RoomId.of(5L))
+        def query = new GetChatRoomsQuery(userId, null, cursor, 20)
+        def room = ChatRoom.createDm(RoomId.of(1L), userId, UserId.of(200L))
+        messageRepository.countUnreadByRoomIds(userId, _) >> [:]
+
+        when:
+        def result = getChatRoomsService.execute(query)
+
+        then:
+        1 * chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, cursor, 21) >> [room]
+        result.chatRooms().size() == 1
+        !result.hasMore()
+        result.nextCursor() == null
+    }
+
+    def "다음 페이지 조회 시에는 캐시를 교체하지 않고 미스난 채팅방만 개별 저장한다"() {
+        given:
+        def cursor = new ChatRoomCursor(LocalDateTime.of(2024, 1, 15, 10, 0), RoomId.of(5L))
+        def query = new GetChatRoomsQuery(userId, null, cursor, 20)
+        def room = ChatRoom.createDm(RoomId.of(1L), userId, UserId.of(200L))
+
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, cursor, 21) >> [room]
+        messageRepository.countUnreadByRoomIds(userId, _) >> [(RoomId.of(1L)): 2L]
+
+        when:
+        getChatRoomsService.execute(query)
+
+        then:
+        1 * unreadCountCachePort.setUnreadCounts(userId, [(RoomId.of(1L)): 2])
+        0 * unreadCountCachePort.replaceUnreadCounts(_, _)
+    }
+
+    def "캐시 미스된 채팅방만 워터마크와 함께 한 번의 집계로 계산한다"() {
+        given:
+        def query = GetChatRoomsQuery.of(userId.getValue())
+        def room1 = ChatRoom.createDm(RoomId.of(1L), userId, UserId.of(200L))
+        def room2 = ChatRoom.createDm(RoomId.of(2L), userId, UserId.of(300L))
+        def room3 = ChatRoom.createDm(RoomId.of(3L), userId, UserId.of(400L))
+        room3.findParticipant(userId).get().advanceReadWatermark(MessageId.of(30L), LocalDateTime.now())
+
+        chatRoomRepository.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 21) >> [room1, room2, room3]
+
+        when:
+        def result = getChatRoomsService.execute(query)
+
+        then:
+        1 * unreadCountCachePort.getUnreadCounts(_, userId) >> [(RoomId.of(1L)): 1]
+        1 * messageRepository.countUnreadByRoomIds(userId, [(RoomId.of(2L)): null, (RoomId.of(3L)): MessageId.of(30L)]) >>
+                [(RoomId.of(2L)): 0L, (RoomId.of(3L)): 9L]
+        0 * messageRepository.countUnread(_, _, _)
+        result.chatRooms()*.unreadCount() == [1L, 0L, 9L]
+    }
 }
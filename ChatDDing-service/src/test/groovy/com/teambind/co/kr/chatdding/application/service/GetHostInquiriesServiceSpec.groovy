@@ -1,8 +1,10 @@
 package com.teambind.co.kr.chatdding.application.service
 
 import com.teambind.co.kr.chatdding.application.port.in.GetHostInquiriesQuery
+import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomContext
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomCursor
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
@@ -10,16 +12,20 @@ import com.teambind.co.kr.chatdding.domain.message.MessageRepository
 import spock.lang.Specification
 import spock.lang.Subject
 
+import java.time.LocalDateTime
+
 class GetHostInquiriesServiceSpec extends Specification {
 
     ChatRoomRepository chatRoomRepository = Mock()
     MessageRepository messageRepository = Mock()
+    UnreadCountCachePort unreadCountCachePort = Mock()
 
     @Subject
     GetHostInquiriesService service
 
     def setup() {
-        service = new GetHostInquiriesService(chatRoomRepository, messageRepository)
+        service = new GetHostInquiriesService(chatRoomRepository, messageRepository, unreadCountCachePort)
+        unreadCountCachePort.getUnreadCounts(_, _) >> [:]
     }
 
     def "호스트의 문의 목록을 조회한다"() {
@@ -32,8 +38,8 @@ class GetHostInquiriesServiceSpec extends Specification {
                 ChatRoomContext.forPlace(12345L, "강남 스터디룸 A")
         )
 
-        chatRoomRepository.findPlaceInquiriesByHostId(UserId.of(200L), null) >> [chatRoom]
-        messageRepository.countUnreadByRoomIdAndUserId(_, _) >> 3L
+        chatRoomRepository.findPlaceInquiriesByHostIdBeforeCursor(UserId.of(200L), null, null, 21) >> [chatRoom]
+        messageRepository.countUnreadByRoomIds(_, _) >> [(RoomId.of(1L)): 3L]
 
         when:
         def result = service.execute(query)
@@ -55,8 +61,8 @@ class GetHostInquiriesServiceSpec extends Specification {
                 ChatRoomContext.forPlace(12345L, "강남 스터디룸 A")
         )
 
-        chatRoomRepository.findPlaceInquiriesByHostId(UserId.of(200L), 12345L) >> [chatRoom]
-        messageRepository.countUnreadByRoomIdAndUserId(_, _) >> 0L
+        chatRoomRepository.findPlaceInquiriesByHostIdBeforeCursor(UserId.of(200L), 12345L, null, 21) >> [chatRoom]
+        messageRepository.countUnreadByRoomIds(_, _) >> [:]
 
         when:
         def result = service.execute(query)
@@ -70,7 +76,7 @@ class GetHostInquiriesServiceSpec extends Specification {
         given:
         def query = GetHostInquiriesQuery.of(200L)
 
-        chatRoomRepository.findPlaceInquiriesByHostId(UserId.of(200L), null) >> []
+        chatRoomRepository.findPlaceInquiriesByHostIdBeforeCursor(UserId.of(200L), null, null, 21) >> []
 
         when:
         def result = service.execute(query)
@@ -97,8 +103,8 @@ class GetHostInquiriesServiceSpec extends Specification {
                 ChatRoomContext.forPlace(12346L, "스터디룸 B")
         )
 
-        chatRoomRepository.findPlaceInquiriesByHostId(UserId.of(200L), null) >> [chatRoom1, chatRoom2]
-        messageRepository.countUnreadByRoomIdAndUserId(_, _) >> 0L
+        chatRoomRepository.findPlaceInquiriesByHostIdBeforeCursor(UserId.of(200L), null, null, 2) >> [chatRoom1, chatRoom2]
+        messageRepository.countUnreadByRoomIds(_, _) >> [:]
 
         when:
         def result = service.execute(query)
@@ -106,7 +112,44 @@ class GetHostInquiriesServiceSpec extends Specification {
         then:
         result.inquiries().size() == 1
         result.hasMore() == true
-        result.nextCursor() != null
+        result.nextCursor() == ChatRoomCursor.from(chatRoom1).toString()
+    }
+
+    def "커서를 Mongo 조회 조건으로 전달한다"() {
+        given:
+        def cursor = new ChatRoomCursor(LocalDateTime.of(2024, 1, 15, 10, 0), RoomId.of(5L))
+        def query = GetHostInquiriesQuery.of(200L, null, cursor.toString(), 20)
+
+        when:
+        def result = service.execute(query)
+
+        then:
+        1 * chatRoomRepository.findPlaceInquiriesByHostIdBeforeCursor(UserId.of(200L), null, cursor, 21) >> []
+        result.inquiries().isEmpty()
+    }
+
+    def "반환할 페이지의 안읽은 수만 캐시에서 일괄 조회하고 미스만 계산한다"() {
+        given:
+        def query = GetHostInquiriesQuery.of(200L, null, null, 2)
+        def rooms = (1L..3L).collect {
+            ChatRoom.createPlaceInquiry(
+                    RoomId.of(it),
+                    UserId.of(100L + it),
+                    UserId.of(200L),
+                    ChatRoomContext.forPlace(12345L, "스터디룸")
+            )
+        }
+        chatRoomRepository.findPlaceInquiriesByHostIdBeforeCursor(UserId.of(200L), null, null, 3) >> rooms
+
+        when:
+        def result = service.execute(query)
+
+        then:
+        1 * unreadCountCachePort.getUnreadCounts([RoomId.of(1L), RoomId.of(2L)], UserId.of(200L)) >> [(RoomId.of(1L)): 4]
+        1 * messageRepository.countUnreadByRoomIds(UserId.of(200L), [(RoomId.of(2L)): null]) >> [(RoomId.of(2L)): 6L]
+        0 * messageRepository.countUnread(_, _, _)
+        1 * unreadCountCachePort.setUnreadCounts(UserId.of(200L), [(RoomId.of(2L)): 6])
+        result.inquiries()*.unreadCount() == [4, 6]
     }
 
     def "hostId가 null이면 예외가 발생한다"() {
@@ -2,11 +2,14 @@ package com.teambind.co.kr.chatdding.application.service
 
 import com.teambind.co.kr.chatdding.application.port.in.GetMessagesQuery
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher
+import com.teambind.co.kr.chatdding.application.port.out.MessageTailCachePort
+import com.teambind.co.kr.chatdding.application.port.out.RealtimePushPort
 import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort
 import com.teambind.co.kr.chatdding.common.exception.ChatException
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
 import com.teambind.co.kr.chatdding.domain.event.MessageReadEvent
@@ -20,15 +23,19 @@ class GetMessagesServiceSpec extends Specification {
 
     ChatRoomRepository chatRoomRepository = Mock()
     MessageRepository messageRepository = Mock()
+    MessageTailCachePort messageTailCachePort = Mock()
     UnreadCountCachePort unreadCountCachePort = Mock()
     EventPublisher eventPublisher = Mock()
+    RealtimePushPort realtimePushPort = Mock()
 
     @Subject
     GetMessagesService getMessagesService = new GetMessagesService(
             chatRoomRepository,
             messageRepository,
+            messageTailCachePort,
             unreadCountCachePort,
-            eventPublisher
+            eventPublisher,
+            realtimePushPort
     )
 
     def roomId = RoomId.of(1L)
@@ -37,7 +44,7 @@ class GetMessagesServiceSpec extends Specification {
 
     def "메시지 목록을 조회할 수 있다"() {
         given:
-        def query = new GetMessagesQuery(roomId, userId, null, 20)
+        def query = new GetMessagesQuery(roomId, userId, null, null, 20)
         unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
         def messages = [
@@ -58,7 +65,7 @@ class GetMessagesServiceSpec extends Specification {
     def "커서 기반 페이지네이션으로 메시지를 조회할 수 있다"() {
         given:
         def cursorId = MessageId.of(10L)
-        def query = new GetMessagesQuery(roomId, userId, cursorId, 20)
+        def query = new GetMessagesQuery(roomId, userId, cursorId, null, 20)
         unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
         def messages = [
@@ -77,7 +84,7 @@ class GetMessagesServiceSpec extends Specification {
 
     def "빈 메시지 목록을 조회할 수 있다"() {
         given:
-        def query = new GetMessagesQuery(roomId, userId, null, 20)
+        def query = new GetMessagesQuery(roomId, userId, null, null, 20)
         unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
 
@@ -94,7 +101,7 @@ class GetMessagesServiceSpec extends Specification {
 
     def "삭제된 메시지는 마스킹되어 표시된다"() {
         given:
-        def query = new GetMessagesQuery(roomId, userId, null, 20)
+        def query = new GetMessagesQuery(roomId, userId, null, null, 20)
         unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
 
@@ -120,7 +127,7 @@ class GetMessagesServiceSpec extends Specification {
 
     def "존재하지 않는 채팅방이면 예외가 발생한다"() {
         given:
-        def query = new GetMessagesQuery(roomId, userId, null, 20)
+        def query = new GetMessagesQuery(roomId, userId, null, null, 20)
         chatRoomRepository.findById(roomId) >> Optional.empty()
 
         when:
@@ -134,7 +141,7 @@ class GetMessagesServiceSpec extends Specification {
     def "참여하지 않은 사용자는 접근이 거부된다"() {
         given:
         def nonParticipant = UserId.of(999L)
-        def query = new GetMessagesQuery(roomId, nonParticipant, null, 20)
+        def query = new GetMessagesQuery(roomId, nonParticipant, null, null, 20)
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
@@ -149,7 +156,7 @@ class GetMessagesServiceSpec extends Specification {
 
     def "limit 개수만큼 조회하고 hasMore를 계산한다"() {
         given:
-        def query = new GetMessagesQuery(roomId, userId, null, 2)
+        def query = new GetMessagesQuery(roomId, userId, null, null, 2)
         unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
         def messages = [
@@ -170,7 +177,7 @@ class GetMessagesServiceSpec extends Specification {
 
     def "커서가 없으면 findByRoomIdOrderByCreatedAtDesc를 호출한다"() {
         given:
-        def query = new GetMessagesQuery(roomId, userId, null, 20)
+        def query = new GetMessagesQuery(roomId, userId, null, null, 20)
         unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
 
@@ -187,7 +194,7 @@ class GetMessagesServiceSpec extends Specification {
     def "커서가 있으면 findByRoomIdBeforeCursor를 호출한다"() {
         given:
         def cursorId = MessageId.of(10L)
-        def query = new GetMessagesQuery(roomId, userId, cursorId, 20)
+        def query = new GetMessagesQuery(roomId, userId, cursorId, null, 20)
         unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
 
@@ -205,7 +212,7 @@ class GetMessagesServiceSpec extends Specification {
         given:
         def testRoomId = RoomId.of(999L)
         def testUserId = UserId.of(888L)
-        def query = new GetMessagesQuery(testRoomId, testUserId, null, 20)
+        def query = new GetMessagesQuery(testRoomId, testUserId, null, null, 20)
         def chatRoom = ChatRoom.createDm(testRoomId, testUserId, recipientId)
 
         chatRoomRepository.findById(testRoomId) >> Optional.of(chatRoom)
@@ -218,11 +225,12 @@ class GetMessagesServiceSpec extends Specification {
         then:
         1 * unreadCountCachePort.resetUnreadCount(testRoomId, testUserId)
         1 * eventPublisher.publish(_ as MessageReadEvent)
+        1 * realtimePushPort.push([testUserId, recipientId], _ as MessageReadEvent)
     }
 
     def "메시지 조회 시 unreadCount가 0이면 읽음 처리를 스킵한다"() {
         given:
-        def query = new GetMessagesQuery(roomId, userId, null, 20)
+        def query = new GetMessagesQuery(roomId, userId, null, null, 20)
         unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
         def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
 
@@ -235,13 +243,14 @@ class GetMessagesServiceSpec extends Specification {
         then:
         0 * unreadCountCachePort.resetUnreadCount(_, _)
         0 * eventPublisher.publish(_)
+        0 * realtimePushPort.push(_, _)
     }
 
     def "메시지 조회 시 캐시 미스이면 읽음 처리가 트리거된다"() {
         given:
         def testRoomId = RoomId.of(777L)
         def testUserId = UserId.of(666L)
-        def query = new GetMessagesQuery(testRoomId, testUserId, null, 20)
+        def query = new GetMessagesQuery(testRoomId, testUserId, null, null, 20)
         def chatRoom = ChatRoom.createDm(testRoomId, testUserId, recipientId)
 
         chatRoomRepository.findById(testRoomId) >> Optional.of(chatRoom)
@@ -255,4 +264,139 @@ class GetMessagesServiceSpec extends Specification {
         1 * unreadCountCachePort.resetUnreadCount(testRoomId, testUserId)
         1 * eventPublisher.publish(_ as MessageReadEvent)
     }
+
+    def "첫 페이지는 최근 메시지 캐시에서 조회하고 저장소를 조회하지 않는다"() {
+        given:
+        def query = new GetMessagesQuery(roomId, userId, null, null, 20)
+        unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
+        def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
+        def latest = Message.create(MessageId.of(2L), roomId, recipientId, "메시지2")
+        chatRoom.updateLastMessage(LastMessage.from(latest))
+        def deleted = Message.create(MessageId.of(1L), roomId, userId, "메시지1")
+        deleted.deleteFor(userId)
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+
+        when:
+        def result = getMessagesService.execute(query)
+
+        then:
+        1 * messageTailCachePort.findLatest(roomId, MessageId.of(2L), 20) >> Optional.of([latest, deleted])
+        0 * messageRepository.findByRoomIdOrderByCreatedAtDesc(_, _, _)
+        0 * messageTailCachePort.store(_, _, _)
+        result.messages()*.messageId() == ["2", "1"]
+        result.messages()[1].deleted()
+    }
+
+    def "최근 메시지 캐시 미스 시 세대를 읽고 캐시 용량만큼 적재해 저장하고 limit만큼 반환한다"() {
+        given:
+        def query = new GetMessagesQuery(roomId, userId, null, null, 2)
+        unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
+        def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
+        def messages = [
+                Message.create(MessageId.of(3L), roomId, userId, "메시지3"),
+                Message.create(MessageId.of(2L), roomId, recipientId, "메시지2"),
+                Message.create(MessageId.of(1L), roomId, userId, "메시지1")
+        ]
+        chatRoom.updateLastMessage(LastMessage.from(messages[0]))
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        messageTailCachePort.findLatest(roomId, MessageId.of(3L), 2) >> Optional.empty()
+        messageTailCachePort.capacity() >> 100
+
+        when:
+        def result = getMessagesService.execute(query)
+
+        then: "적재 전에 세대를 읽는다"
+        1 * messageTailCachePort.generation(roomId) >> 4L
+
+        then:
+        1 * messageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, 100, 0) >> messages
+
+        then:
+        1 * messageTailCachePort.store(roomId, 4L, messages)
+        result.messages()*.messageId() == ["3", "2"]
+        result.hasMore()
+    }
+
+    def "커서 조회는 최근 메시지 캐시를 사용하지 않는다"() {
+        given:
+        def cursorId = MessageId.of(10L)
+        def query = new GetMessagesQuery(roomId, userId, cursorId, null, 20)
+        unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
+        def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
+        chatRoom.updateLastMessage(LastMessage.from(Message.create(MessageId.of(11L), roomId, userId, "최신")))
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        messageRepository.findByRoomIdBeforeCursor(roomId, cursorId, 20) >> []
+
+        when:
+        getMessagesService.execute(query)
+
+        then:
+        0 * messageTailCachePort.findLatest(_, _, _)
+        0 * messageTailCachePort.store(_, _, _)
+    }
+
+    def "since 조회는 기준 메시지 이후를 오름차순으로 반환한다"() {
+        given:
+        def query = new GetMessagesQuery(roomId, userId, null, MessageId.of(10L), 20)
+        unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
+        def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
+        def messages = [
+                Message.create(MessageId.of(11L), roomId, recipientId, "새 메시지1"),
+                Message.create(MessageId.of(12L), roomId, recipientId, "새 메시지2")
+        ]
+        chatRoom.updateLastMessage(LastMessage.from(messages[1]))
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+
+        when:
+        def result = getMessagesService.execute(query)
+
+        then:
+        1 * messageRepository.findByRoomIdAfterId(roomId, MessageId.of(10L), 21) >> messages
+        0 * messageRepository.findByRoomIdOrderByCreatedAtDesc(_, _, _)
+        0 * messageTailCachePort.findLatest(_, _, _)
+        result.messages()*.messageId() == ["11", "12"]
+        !result.hasMore()
+        !result.resyncRequired()
+    }
+
+    def "since 이후 메시지가 limit을 넘으면 메시지 없이 재동기화 신호를 반환한다"() {
+        given:
+        def query = new GetMessagesQuery(roomId, userId, null, MessageId.of(10L), 2)
+        unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
+        def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
+        def messages = (11L..13L).collect { Message.create(MessageId.of(it), roomId, recipientId, "메시지" + it) }
+        chatRoom.updateLastMessage(LastMessage.from(messages[2]))
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        messageRepository.findByRoomIdAfterId(roomId, MessageId.of(10L), 3) >> messages
+
+        when:
+        def result = getMessagesService.execute(query)
+
+        then:
+        result.resyncRequired()
+        result.messages().isEmpty()
+    }
+
+    def "마지막 메시지가 since 이하이면 저장소를 조회하지 않는다"() {
+        given:
+        def query = new GetMessagesQuery(roomId, userId, null, MessageId.of(12L), 20)
+        unreadCountCachePort.getUnreadCount(_, _) >> Optional.of(0)
+        def chatRoom = ChatRoom.createDm(roomId, userId, recipientId)
+        chatRoom.updateLastMessage(LastMessage.from(Message.create(MessageId.of(12L), roomId, userId, "마지막")))
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+
+        when:
+        def result = getMessagesService.execute(query)
+
+        then:
+        0 * messageRepository.findByRoomIdAfterId(_, _, _)
+        result.messages().isEmpty()
+        !result.resyncRequired()
+    }
 }
@@ -0,0 +1,106 @@
+package com.teambind.co.kr.chatdding.application.service
+
+import com.teambind.co.kr.chatdding.application.port.in.GetUnreadBadgeQuery
+import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.domain.message.MessageId
+import com.teambind.co.kr.chatdding.domain.message.MessageRepository
+import spock.lang.Specification
+import spock.lang.Subject
+
+class GetUnreadBadgeServiceSpec extends Specification {
+
+    ChatRoomRepository chatRoomRepository = Mock()
+    MessageRepository messageRepository = Mock()
+    UnreadCountCachePort unreadCountCachePort = Mock()
+
+    @Subject
+    GetUnreadBadgeService service = new GetUnreadBadgeService(
+            chatRoomRepository,
+            messageRepository,
+            unreadCountCachePort
+    )
+
+    def userId = UserId.of(100L)
+
+    def "캐시된 total이 있으면 채팅방 조회 없이 반환한다"() {
+        when:
+        def result = service.execute(GetUnreadBadgeQuery.of(100L))
+
+        then:
+        1 * unreadCountCachePort.getTotalUnreadCount(userId) >> Optional.of(15)
+        0 * chatRoomRepository._
+        0 * messageRepository._
+        result.totalUnreadCount() == 15
+    }
+
+    def "캐시 미스 시 모든 활성 채팅방의 워터마크만 읽어 합산하고 사용자 캐시를 초기화한다"() {
+        given:
+        unreadCountCachePort.getTotalUnreadCount(userId) >> Optional.empty()
+        chatRoomRepository.findActiveReadWatermarksByParticipantUserId(userId) >>
+                [(RoomId.of(1L)): MessageId.of(10L), (RoomId.of(2L)): null]
+        unreadCountCachePort.getUnreadCounts(_, userId) >> [(RoomId.of(1L)): 4]
+
+        when:
+        def result = service.execute(GetUnreadBadgeQuery.of(100L))
+
+        then:
+        0 * chatRoomRepository.findActiveByParticipantUserIdOrderByLastMessageAtDesc(_)
+        1 * messageRepository.countUnreadByRoomIds(userId, [(RoomId.of(2L)): null]) >> [(RoomId.of(2L)): 6L]
+        1 * unreadCountCachePort.replaceUnreadCounts(userId, [(RoomId.of(1L)): 4, (RoomId.of(2L)): 6])
+        result.totalUnreadCount() == 10
+    }
+
+    def "활성 채팅방이 없으면 0을 캐시하고 반환한다"() {
+        given:
+        unreadCountCachePort.getTotalUnreadCount(userId) >> Optional.empty()
+        chatRoomRepository.findActiveReadWatermarksByParticipantUserId(userId) >> [:]
+
+        when:
+        def result = service.execute(GetUnreadBadgeQuery.of(100L))
+
+        then:
+        0 * unreadCountCachePort.getUnreadCounts(_, _)
+        0 * messageRepository.countUnreadByRoomIds(_, _)
+        1 * unreadCountCachePort.replaceUnreadCounts(userId, [:])
+        result.totalUnreadCount() == 0
+    }
+
+    def "채팅방이 많으면 캐시 조회와 안읽은 수 집계를 정해진 개수씩 나누어 실행한다"() {
+        given:
+        def chunkSize = GetUnreadBadgeService.COUNT_CHUNK_SIZE
+        def watermarks = new LinkedHashMap<RoomId, MessageId>()
+        (1..(chunkSize * 2 + 1)).each { watermarks[RoomId.of(it as long)] = MessageId.of(it as long) }
+
+        unreadCountCachePort.getTotalUnreadCount(userId) >> Optional.empty()
+        chatRoomRepository.findActiveReadWatermarksByParticipantUserId(userId) >> watermarks
+        def cacheChunkSizes = []
+        def countChunkSizes = []
+
+        when:
+        def result = service.execute(GetUnreadBadgeQuery.of(100L))
+
+        then:
+        3 * unreadCountCachePort.getUnreadCounts(_, userId) >> { List<RoomId> roomIds, UserId user ->
+            cacheChunkSizes << roomIds.size()
+            [:]
+        }
+        3 * messageRepository.countUnreadByRoomIds(userId, _) >> { UserId user, Map<RoomId, MessageId> missed ->
+            countChunkSizes << missed.size()
+            missed.collectEntries { roomId, watermark -> [(roomId): 1L] }
+        }
+        cacheChunkSizes == [chunkSize, chunkSize, 1]
+        countChunkSizes == [chunkSize, chunkSize, 1]
+        result.totalUnreadCount() == chunkSize * 2 + 1
+    }
+
+    def "userId가 null이면 예외가 발생한다"() {
+        when:
+        new GetUnreadBadgeQuery(null)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -1,30 +1,40 @@
 package com.teambind.co.kr.chatdding.application.service
 
 import com.teambind.co.kr.chatdding.application.port.in.MarkAsReadCommand
+import com.teambind.co.kr.chatdding.application.port.out.RealtimePushPort
 import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort
 import com.teambind.co.kr.chatdding.common.exception.ChatException
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage
+import com.teambind.co.kr.chatdding.domain.chatroom.Participant
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.domain.event.MessageReadEvent
 import com.teambind.co.kr.chatdding.domain.message.Message
 import com.teambind.co.kr.chatdding.domain.message.MessageId
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository
 import spock.lang.Specification
 import spock.lang.Subject
 
+import java.time.LocalDateTime
+
 class MarkAsReadServiceSpec extends Specification {
 
     ChatRoomRepository chatRoomRepository = Mock()
     MessageRepository messageRepository = Mock()
     UnreadCountCachePort unreadCountCachePort = Mock()
+    RealtimePushPort realtimePushPort = Mock()
 
     @Subject
     MarkAsReadService markAsReadService = new MarkAsReadService(
             chatRoomRepository,
             messageRepository,
-            unreadCountCachePort
+            unreadCountCachePort,
+            realtimePushPort
     )
 
     def roomId = RoomId.of(1L)
@@ -35,11 +45,10 @@ class MarkAsReadServiceSpec extends Specification {
         given:
         def command = new MarkAsReadCommand(roomId, userId, null)
         def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
-        def unreadMessage = Message.create(MessageId.of(1L), roomId, senderId, "안읽은 메시지")
+        chatRoom.updateLastMessage(new LastMessage(MessageId.of(5L), senderId, "마지막", LocalDateTime.now()))
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
-        messageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, 100, 0) >> [unreadMessage]
-        messageRepository.save(_) >> { Message msg -> msg }
+        messageRepository.countUnreadUpTo(roomId, userId, null, MessageId.of(5L)) >> 1
 
         when:
         def result = markAsReadService.execute(command)
@@ -51,78 +60,112 @@ class MarkAsReadServiceSpec extends Specification {
         result.readAt() != null
     }
 
-    def "이미 읽은 메시지는 count에 포함되지 않는다"() {
+    def "이미 워터마크가 마지막 메시지 이상이면 readCount는 0이다"() {
         given:
         def command = new MarkAsReadCommand(roomId, userId, null)
-        def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
-        def alreadyReadMessage = Message.create(MessageId.of(1L), roomId, senderId, "이미 읽은 메시지")
-        alreadyReadMessage.markAsRead(userId)
+        def chatRoom = ChatRoom.restore(
+                roomId, ChatRoomType.DM, null,
+                [Participant.of(userId, true, LocalDateTime.now(), MessageId.of(5L), LocalDateTime.now()),
+                 Participant.create(senderId)],
+                null, ChatRoomStatus.ACTIVE, LocalDateTime.now(), null, null,
+                new LastMessage(MessageId.of(5L), senderId, "마지막", LocalDateTime.now())
+        )
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
-        messageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, 100, 0) >> [alreadyReadMessage]
 
         when:
         def result = markAsReadService.execute(command)
 
         then:
         result.readCount() == 0
-        0 * messageRepository.save(_)
+        0 * messageRepository.countUnreadUpTo(_, _, _, _)
     }
 
-    def "여러 메시지를 한번에 읽음 처리할 수 있다"() {
+    def "메시지 문서를 갱신하지 않고 참여자 워터마크만 전진시킨다"() {
         given:
         def command = new MarkAsReadCommand(roomId, userId, null)
         def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
-        def messages = [
-                Message.create(MessageId.of(1L), roomId, senderId, "메시지1"),
-                Message.create(MessageId.of(2L), roomId, senderId, "메시지2"),
-                Message.create(MessageId.of(3L), roomId, senderId, "메시지3")
-        ]
+        chatRoom.updateLastMessage(new LastMessage(MessageId.of(5L), senderId, "마지막", LocalDateTime.now()))
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
-        messageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, 100, 0) >> messages
-        messageRepository.save(_) >> { Message msg -> msg }
 
         when:
-        def result = markAsReadService.execute(command)
+        markAsReadService.execute(command)
 
         then:
-        result.readCount() == 3
-        3 * messageRepository.save(_)
+        1 * chatRoomRepository.updateParticipantReadWatermark(roomId, userId, MessageId.of(5L), _ as LocalDateTime)
+        0 * chatRoomRepository.save(_)
+        0 * messageRepository.markAsReadUpTo(_, _, _, _)
+        0 * messageRepository.save(_)
     }
 
-    def "lastMessageId가 지정되면 해당 메시지 이후의 메시지만 조회한다"() {
+    def "lastMessageId가 지정되면 해당 메시지까지 워터마크를 전진시킨다"() {
         given:
-        def lastMessageId = MessageId.of(5L)
+        def lastMessageId = MessageId.of(3L)
         def command = new MarkAsReadCommand(roomId, userId, lastMessageId)
         def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
-        def lastMessage = Message.create(lastMessageId, roomId, senderId, "마지막 메시지")
-        def newerMessage = Message.create(MessageId.of(6L), roomId, senderId, "새 메시지")
+        chatRoom.updateLastMessage(new LastMessage(MessageId.of(5L), senderId, "마지막", LocalDateTime.now()))
+        def lastMessage = Message.create(lastMessageId, roomId, senderId, "읽은 메시지")
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
         messageRepository.findById(lastMessageId) >> Optional.of(lastMessage)
-        messageRepository.save(_) >> { Message msg -> msg }
 
         when:
         markAsReadService.execute(command)
 
         then:
-        1 * messageRepository.findByRoomIdAndCreatedAtAfter(roomId, _) >> [newerMessage]
+        1 * messageRepository.countUnreadUpTo(roomId, userId, null, lastMessageId) >> 2
+        1 * chatRoomRepository.updateParticipantReadWatermark(roomId, userId, lastMessageId, _ as LocalDateTime)
     }
 
-    def "참여자의 lastReadAt이 업데이트된다"() {
+    def "마지막 메시지 스냅샷이 없으면 최신 메시지를 조회하여 워터마크로 사용한다"() {
         given:
         def command = new MarkAsReadCommand(roomId, userId, null)
         def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
+        def latest = Message.create(MessageId.of(9L), roomId, senderId, "최신")
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
-        messageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, 100, 0) >> []
+        messageRepository.findLatestByRoomId(roomId) >> Optional.of(latest)
 
         when:
         markAsReadService.execute(command)
 
         then:
-        1 * chatRoomRepository.save(_)
+        1 * chatRoomRepository.updateParticipantReadWatermark(roomId, userId, MessageId.of(9L), _ as LocalDateTime)
+    }
+
+    def "호환 모드에서는 레거시 readBy도 같은 범위로 갱신한다"() {
+        given:
+        markAsReadService.legacyReadByEnabled = true
+        def command = new MarkAsReadCommand(roomId, userId, null)
+        def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
+        chatRoom.updateLastMessage(new LastMessage(MessageId.of(5L), senderId, "마지막", LocalDateTime.now()))
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+
+        when:
+        markAsReadService.execute(command)
+
+        then:
+        1 * messageRepository.markAsReadUpTo(roomId, userId, MessageId.of(5L), _ as LocalDateTime)
+    }
+
+    def "읽음 처리 후 참여자에게 읽음 워터마크를 실시간 Push한다"() {
+        given:
+        def command = new MarkAsReadCommand(roomId, userId, null)
+        def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
+        chatRoom.updateLastMessage(new LastMessage(MessageId.of(5L), senderId, "마지막", LocalDateTime.now()))
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        messageRepository.countUnreadUpTo(roomId, userId, null, MessageId.of(5L)) >> 2
+
+        when:
+        markAsReadService.execute(command)
+
+        then:
+        1 * realtimePushPort.push([userId, senderId], { MessageReadEvent e ->
+            e.userId() == userId.value && e.lastReadMessageId() == "5" && e.readCount() == 2
+        })
     }
 
     def "존재하지 않는 채팅방이면 예외가 발생한다"() {
@@ -169,23 +212,77 @@ class MarkAsReadServiceSpec extends Specification {
         then:
         def ex = thrown(ChatException)
         ex.errorCode == ErrorCode.MESSAGE_NOT_FOUND
+        0 * chatRoomRepository.updateParticipantReadWatermark(_, _, _, _)
     }
 
-    def "읽음 처리 시 메시지의 readBy가 업데이트된다"() {
+    def "다른 채팅방의 lastMessageId면 예외가 발생한다"() {
+        given:
+        def otherRoomMessageId = MessageId.of(7L)
+        def command = new MarkAsReadCommand(roomId, userId, otherRoomMessageId)
+        def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
+        def otherRoomMessage = Message.create(otherRoomMessageId, RoomId.of(2L), senderId, "다른 방")
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        messageRepository.findById(otherRoomMessageId) >> Optional.of(otherRoomMessage)
+
+        when:
+        markAsReadService.execute(command)
+
+        then:
+        def ex = thrown(ChatException)
+        ex.errorCode == ErrorCode.MESSAGE_NOT_FOUND
+    }
+
+    def "읽음 처리 후 안읽은 메시지 캐시를 초기화한다"() {
         given:
         def command = new MarkAsReadCommand(roomId, userId, null)
         def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
-        def message = Message.create(MessageId.of(1L), roomId, senderId, "메시지")
-        Message savedMessage = null
 
         chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
-        messageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, 100, 0) >> [message]
-        messageRepository.save(_) >> { Message msg -> savedMessage = msg; msg }
+        messageRepository.findLatestByRoomId(roomId) >> Optional.empty()
+
+        when:
+        markAsReadService.execute(command)
+
+        then:
+        1 * unreadCountCachePort.resetUnreadCount(roomId, userId)
+    }
+
+    def "마지막 메시지 이전까지만 읽으면 안읽은 메시지 캐시를 남은 수로 맞춘다"() {
+        given:
+        def lastMessageId = MessageId.of(3L)
+        def command = new MarkAsReadCommand(roomId, userId, lastMessageId)
+        def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
+        chatRoom.updateLastMessage(new LastMessage(MessageId.of(5L), senderId, "마지막", LocalDateTime.now()))
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        messageRepository.findById(lastMessageId) >> Optional.of(Message.create(lastMessageId, roomId, senderId, "읽은 메시지"))
+
+        when:
+        markAsReadService.execute(command)
+
+        then:
+        1 * messageRepository.countUnread(roomId, userId, lastMessageId) >> 2
+        1 * unreadCountCachePort.setUnreadCount(roomId, userId, 2)
+        0 * unreadCountCachePort.resetUnreadCount(_, _)
+    }
+
+    def "지정한 메시지가 마지막 메시지이면 안읽은 메시지 캐시를 0으로 초기화한다"() {
+        given:
+        def lastMessageId = MessageId.of(5L)
+        def command = new MarkAsReadCommand(roomId, userId, lastMessageId)
+        def chatRoom = ChatRoom.createDm(roomId, userId, senderId)
+        chatRoom.updateLastMessage(new LastMessage(lastMessageId, senderId, "마지막", LocalDateTime.now()))
+
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        messageRepository.findById(lastMessageId) >> Optional.of(Message.create(lastMessageId, roomId, senderId, "마지막"))
 
         when:
         markAsReadService.execute(command)
 
         then:
-        savedMessage.isReadBy(userId) == true
+        1 * unreadCountCachePort.resetUnreadCount(roomId, userId)
+        0 * messageRepository.countUnread(_, _, _)
+        0 * unreadCountCachePort.setUnreadCount(_, _, _)
     }
 }
@@ -0,0 +1,42 @@
+package com.teambind.co.kr.chatdding.application.service
+
+import com.teambind.co.kr.chatdding.application.port.in.ReplayDeadLetterCommand
+import com.teambind.co.kr.chatdding.application.port.out.DeadLetterReplayPort
+import com.teambind.co.kr.chatdding.common.exception.ChatException
+import com.teambind.co.kr.chatdding.common.exception.ErrorCode
+import spock.lang.Specification
+import spock.lang.Subject
+
+class ReplayDeadLetterServiceSpec extends Specification {
+
+    DeadLetterReplayPort deadLetterReplayPort = Mock()
+
+    @Subject
+    ReplayDeadLetterService service = new ReplayDeadLetterService(deadLetterReplayPort)
+
+    def "재처리 가능한 토픽이면 DLT 이벤트를 재발행한다"() {
+        given:
+        deadLetterReplayPort.isReplayable("chat-message-read") >> true
+
+        when:
+        def result = service.execute(ReplayDeadLetterCommand.of("chat-message-read", 100))
+
+        then:
+        1 * deadLetterReplayPort.replay("chat-message-read", 100) >> 7
+        result.topic() == "chat-message-read"
+        result.replayed() == 7
+    }
+
+    def "재처리를 지원하지 않는 토픽이면 예외가 발생한다"() {
+        given:
+        deadLetterReplayPort.isReplayable("chat-message-sent") >> false
+
+        when:
+        service.execute(ReplayDeadLetterCommand.of("chat-message-sent", 100))
+
+        then:
+        def e = thrown(ChatException)
+        e.errorCode == ErrorCode.DEAD_LETTER_NOT_REPLAYABLE
+        0 * deadLetterReplayPort.replay(_, _)
+    }
+}
@@ -1,49 +1,74 @@
 package com.teambind.co.kr.chatdding.application.service
 
 import com.teambind.co.kr.chatdding.application.port.in.SendMessageCommand
+import com.teambind.co.kr.chatdding.application.port.out.ChatRoomMembershipPort
 import com.teambind.co.kr.chatdding.application.port.out.EventPublisher
+import com.teambind.co.kr.chatdding.application.port.out.MessageTailCachePort
+import com.teambind.co.kr.chatdding.application.port.out.RealtimePushPort
 import com.teambind.co.kr.chatdding.application.port.out.UnreadCountCachePort
 import com.teambind.co.kr.chatdding.common.exception.ChatException
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode
+import com.teambind.co.kr.chatdding.common.util.concurrent.ParallelFanOut
 import com.teambind.co.kr.chatdding.common.util.generator.PrimaryKeyGenerator
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomMembership
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
 import com.teambind.co.kr.chatdding.domain.event.MessageSentEvent
 import com.teambind.co.kr.chatdding.domain.message.Message
+import com.teambind.co.kr.chatdding.domain.message.MessageId
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.transaction.support.TransactionSynchronizationManager
 import spock.lang.Specification
 import spock.lang.Subject
 
+import java.time.Duration
+import java.util.concurrent.Executor
+
 class SendMessageServiceSpec extends Specification {
 
     ChatRoomRepository chatRoomRepository = Mock()
+    ChatRoomMembershipPort chatRoomMembershipPort = Mock()
     MessageRepository messageRepository = Mock()
+    MessageTailCachePort messageTailCachePort = Mock()
     PrimaryKeyGenerator primaryKeyGenerator = Mock()
     EventPublisher eventPublisher = Mock()
     UnreadCountCachePort unreadCountCachePort = Mock()
+    RealtimePushPort realtimePushPort = Mock()
 
     @Subject
     SendMessageService sendMessageService = new SendMessageService(
             chatRoomRepository,
+            chatRoomMembershipPort,
             messageRepository,
+            messageTailCachePort,
             primaryKeyGenerator,
             eventPublisher,
-            unreadCountCachePort
+            unreadCountCachePort,
+            realtimePushPort,
+            new ParallelFanOut({ Runnable task -> task.run() } as Executor, Duration.ofSeconds(1), new SimpleMeterRegistry())
     )
 
     def roomId = RoomId.of(1L)
     def senderId = UserId.of(100L)
     def recipientId = UserId.of(200L)
 
+    def cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
     def "메시지 전송이 성공하면 결과를 반환한다"() {
         given:
         def command = new SendMessageCommand(roomId, senderId, "안녕하세요!")
         def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
 
-        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
         primaryKeyGenerator.generateLongKey() >> 999L
         messageRepository.save(_) >> { Message msg -> msg }
 
@@ -57,12 +82,28 @@ class SendMessageServiceSpec extends Specification {
         result.content() == "안녕하세요!"
     }
 
-    def "메시지 전송 시 채팅방을 저장하고 이벤트를 발행한다"() {
+    def "메시지 전송 시 채팅방 문서를 조회하지 않고 캐시된 멤버십으로 권한을 검사한다"() {
+        given:
+        def command = new SendMessageCommand(roomId, senderId, "테스트")
+        def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
+
+        primaryKeyGenerator.generateLongKey() >> 999L
+        messageRepository.save(_) >> { Message msg -> msg }
+
+        when:
+        sendMessageService.execute(command)
+
+        then:
+        1 * chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        0 * chatRoomRepository.findById(_)
+    }
+
+    def "메시지 전송 시 채팅방 마지막 메시지를 갱신하고 이벤트를 발행한다"() {
         given:
         def command = new SendMessageCommand(roomId, senderId, "테스트 메시지")
         def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
 
-        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
         primaryKeyGenerator.generateLongKey() >> 999L
         messageRepository.save(_) >> { Message msg -> msg }
 
@@ -70,17 +111,35 @@ class SendMessageServiceSpec extends Specification {
         sendMessageService.execute(command)
 
         then:
-        1 * chatRoomRepository.save(_)
+        1 * chatRoomRepository.updateLastMessage(roomId, _ as LastMessage)
+        0 * chatRoomRepository.save(_)
         1 * eventPublisher.publish(_ as MessageSentEvent)
     }
 
+    def "메시지 전송 시 마지막 메시지 갱신과 함께 최근 메시지 캐시에 추가한다"() {
+        given:
+        def command = new SendMessageCommand(roomId, senderId, "테스트 메시지")
+        def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
+
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        primaryKeyGenerator.generateLongKey() >> 999L
+        messageRepository.save(_) >> { Message msg -> msg }
+
+        when:
+        sendMessageService.execute(command)
+
+        then:
+        1 * chatRoomRepository.updateLastMessage(roomId, _ as LastMessage)
+        1 * messageTailCachePort.append({ Message m -> m.id == MessageId.of(999L) && m.content == "테스트 메시지" })
+    }
+
     def "이벤트에 수신자 목록이 포함된다 (발신자 제외)"() {
         given:
         def command = new SendMessageCommand(roomId, senderId, "테스트")
         def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
         MessageSentEvent capturedEvent = null
 
-        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
         primaryKeyGenerator.generateLongKey() >> 999L
         messageRepository.save(_) >> { Message msg -> msg }
         eventPublisher.publish(_) >> { MessageSentEvent event -> capturedEvent = event }
@@ -94,10 +153,28 @@ class SendMessageServiceSpec extends Specification {
         !capturedEvent.recipientIds().contains(senderId.getValue())
     }
 
+    def "메시지 전송 시 발신자를 포함한 참여자 전원에게 실시간 Push한다"() {
+        given:
+        def command = new SendMessageCommand(roomId, senderId, "실시간")
+        def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
+
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        primaryKeyGenerator.generateLongKey() >> 999L
+        messageRepository.save(_) >> { Message msg -> msg }
+
+        when:
+        sendMessageService.execute(command)
+
+        then:
+        1 * realtimePushPort.push([senderId, recipientId], { MessageSentEvent e ->
+            e.messageId() == "999" && e.content() == "실시간"
+        })
+    }
+
     def "존재하지 않는 채팅방이면 예외가 발생한다"() {
         given:
         def command = new SendMessageCommand(roomId, senderId, "테스트")
-        chatRoomRepository.findById(roomId) >> Optional.empty()
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.empty()
 
         when:
         sendMessageService.execute(command)
@@ -113,7 +190,7 @@ class SendMessageServiceSpec extends Specification {
         def command = new SendMessageCommand(roomId, nonParticipant, "테스트")
         def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
 
-        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
 
         when:
         sendMessageService.execute(command)
@@ -129,7 +206,7 @@ class SendMessageServiceSpec extends Specification {
         def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
         chatRoom.close()
 
-        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
 
         when:
         sendMessageService.execute(command)
@@ -139,23 +216,116 @@ class SendMessageServiceSpec extends Specification {
         ex.errorCode == ErrorCode.CHAT_ROOM_ACCESS_DENIED
     }
 
-    def "메시지 전송 후 채팅방의 lastMessageAt이 업데이트된다"() {
+    def "메시지 전송 후 채팅방의 마지막 메시지 스냅샷이 업데이트된다"() {
+        given:
+        def command = new SendMessageCommand(roomId, senderId, "테스트")
+        def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
+        LastMessage snapshot = null
+
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        primaryKeyGenerator.generateLongKey() >> 999L
+        messageRepository.save(_) >> { Message msg -> msg }
+        chatRoomRepository.updateLastMessage(roomId, _) >> { RoomId id, LastMessage lastMessage -> snapshot = lastMessage }
+
+        when:
+        sendMessageService.execute(command)
+
+        then:
+        snapshot.messageId() == MessageId.of(999L)
+        snapshot.senderId() == senderId
+        snapshot.preview() == "테스트"
+    }
+
+    def "채팅방 갱신과 이벤트 발행을 마친 뒤에 Redis 부수 작업을 시작한다"() {
+        given:
+        def command = new SendMessageCommand(roomId, senderId, "테스트")
+        def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
+
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        primaryKeyGenerator.generateLongKey() >> 999L
+        messageRepository.save(_) >> { Message msg -> msg }
+
+        when:
+        sendMessageService.execute(command)
+
+        then:
+        1 * chatRoomRepository.updateLastMessage(roomId, _ as LastMessage)
+
+        then:
+        1 * eventPublisher.publish(_ as MessageSentEvent)
+
+        then:
+        1 * messageTailCachePort.append(_)
+        1 * unreadCountCachePort.incrementUnreadCounts(roomId, [recipientId])
+        1 * realtimePushPort.push(_, _ as MessageSentEvent)
+    }
+
+    def "이벤트 발행이 실패하면 Redis 부수 작업을 시작하지 않는다"() {
         given:
         def command = new SendMessageCommand(roomId, senderId, "테스트")
         def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
-        def originalLastMessageAt = chatRoom.lastMessageAt
-        ChatRoom savedChatRoom = null
 
-        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
         primaryKeyGenerator.generateLongKey() >> 999L
         messageRepository.save(_) >> { Message msg -> msg }
-        chatRoomRepository.save(_) >> { ChatRoom room -> savedChatRoom = room; room }
+        eventPublisher.publish(_) >> { throw new IllegalStateException("outbox insert failed") }
 
         when:
         sendMessageService.execute(command)
 
         then:
-        savedChatRoom.lastMessageAt != null
+        thrown(IllegalStateException)
+        0 * messageTailCachePort.append(_)
+        0 * unreadCountCachePort.incrementUnreadCounts(_, _)
+        0 * realtimePushPort.push(_, _)
+    }
+
+    def "트랜잭션 안에서는 Redis 부수 작업을 커밋 이후에 실행한다"() {
+        given:
+        def command = new SendMessageCommand(roomId, senderId, "테스트")
+        def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
+
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        primaryKeyGenerator.generateLongKey() >> 999L
+        messageRepository.save(_) >> { Message msg -> msg }
+        TransactionSynchronizationManager.initSynchronization()
+
+        when:
+        sendMessageService.execute(command)
+
+        then:
+        1 * chatRoomRepository.updateLastMessage(roomId, _ as LastMessage)
+        1 * eventPublisher.publish(_ as MessageSentEvent)
+        0 * messageTailCachePort.append(_)
+        0 * realtimePushPort.push(_, _)
+
+        when:
+        TransactionSynchronizationManager.synchronizations.each { it.afterCommit() }
+
+        then:
+        1 * messageTailCachePort.append(_)
+        1 * unreadCountCachePort.incrementUnreadCounts(roomId, [recipientId])
+        1 * realtimePushPort.push(_, _ as MessageSentEvent)
+    }
+
+    def "캐시 갱신이 실패해도 채팅방 갱신과 이벤트 발행을 마치고 결과를 반환한다"() {
+        given:
+        def command = new SendMessageCommand(roomId, senderId, "테스트")
+        def chatRoom = ChatRoom.createDm(roomId, senderId, recipientId)
+
+        chatRoomMembershipPort.findMembership(roomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        primaryKeyGenerator.generateLongKey() >> 999L
+        messageRepository.save(_) >> { Message msg -> msg }
+        unreadCountCachePort.incrementUnreadCounts(_, _) >> { throw new IllegalStateException("redis down") }
+
+        when:
+        def result = sendMessageService.execute(command)
+
+        then:
+        result.messageId() == "999"
+        1 * chatRoomRepository.updateLastMessage(roomId, _ as LastMessage)
+        1 * eventPublisher.publish(_ as MessageSentEvent)
+        1 * realtimePushPort.push(_, _ as MessageSentEvent)
     }
 
     def "그룹 채팅방에서 모든 다른 참여자에게 이벤트가 전달된다"() {
@@ -168,7 +338,7 @@ class SendMessageServiceSpec extends Specification {
         def command = new SendMessageCommand(groupRoomId, ownerId, "그룹 메시지")
         MessageSentEvent capturedEvent = null
 
-        chatRoomRepository.findById(groupRoomId) >> Optional.of(chatRoom)
+        chatRoomMembershipPort.findMembership(groupRoomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
         primaryKeyGenerator.generateLongKey() >> 999L
         messageRepository.save(_) >> { Message msg -> msg }
         eventPublisher.publish(_) >> { MessageSentEvent event -> capturedEvent = event }
@@ -181,4 +351,24 @@ class SendMessageServiceSpec extends Specification {
         capturedEvent.recipientIds().containsAll([member1.getValue(), member2.getValue()])
         !capturedEvent.recipientIds().contains(ownerId.getValue())
     }
+
+    def "그룹 채팅방의 수신자 안읽은 수는 한 번의 일괄 호출로 증가시킨다"() {
+        given:
+        def groupRoomId = RoomId.of(2L)
+        def ownerId = UserId.of(1L)
+        def members = (2L..100L).collect { UserId.of(it) }
+        def chatRoom = ChatRoom.createGroup(groupRoomId, ownerId, members, "그룹")
+        def command = new SendMessageCommand(groupRoomId, ownerId, "그룹 메시지")
+
+        chatRoomMembershipPort.findMembership(groupRoomId) >> Optional.of(ChatRoomMembership.from(chatRoom))
+        primaryKeyGenerator.generateLongKey() >> 999L
+        messageRepository.save(_) >> { Message msg -> msg }
+
+        when:
+        sendMessageService.execute(command)
+
+        then:
+        1 * unreadCountCachePort.incrementUnreadCounts(groupRoomId, { it as Set == members as Set })
+        0 * unreadCountCachePort.incrementUnreadCount(_, _)
+    }
 }
@@ -0,0 +1,92 @@
+package com.teambind.co.kr.chatdding.common.util.concurrent
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+class ParallelFanOutSpec extends Specification {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    def "작업을 동시에 실행한다"() {
+        given:
+        def executor = Executors.newFixedThreadPool(2)
+        def fanOut = new ParallelFanOut(executor, Duration.ofSeconds(5), meterRegistry)
+        def bothStarted = new CountDownLatch(2)
+        def cacheSawPush = false
+        def pushSawCache = false
+
+        when:
+        fanOut.runAll([
+                cache: { bothStarted.countDown(); cacheSawPush = bothStarted.await(5, TimeUnit.SECONDS) } as Runnable,
+                push : { bothStarted.countDown(); pushSawCache = bothStarted.await(5, TimeUnit.SECONDS) } as Runnable
+        ])
+
+        then:
+        cacheSawPush
+        pushSawCache
+        meterRegistry.counter("chat.fan-out", "task", "cache", "result", "success").count() == 1
+        meterRegistry.counter("chat.fan-out", "task", "push", "result", "success").count() == 1
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    def "제한 시간을 넘긴 작업은 기다리지 않고 반환한다"() {
+        given:
+        def executor = Executors.newSingleThreadExecutor()
+        def fanOut = new ParallelFanOut(executor, Duration.ofMillis(50), meterRegistry)
+        def release = new CountDownLatch(1)
+
+        when:
+        long started = System.nanoTime()
+        fanOut.runAll([slow: { release.await(5, TimeUnit.SECONDS) } as Runnable])
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)
+
+        then:
+        elapsedMs < 2000
+        meterRegistry.counter("chat.fan-out", "task", "slow", "result", "timeout").count() == 1
+
+        cleanup:
+        release.countDown()
+        executor.shutdownNow()
+    }
+
+    def "작업 실패는 호출자에게 전파하지 않고 다른 작업에 영향을 주지 않는다"() {
+        given:
+        def fanOut = new ParallelFanOut({ Runnable task -> task.run() } as Executor, Duration.ofSeconds(1), meterRegistry)
+        def pushed = false
+
+        when:
+        fanOut.runAll([
+                cache: { throw new IllegalStateException("redis down") } as Runnable,
+                push : { pushed = true } as Runnable
+        ])
+
+        then:
+        noExceptionThrown()
+        pushed
+        meterRegistry.counter("chat.fan-out", "task", "cache", "result", "failure").count() == 1
+        meterRegistry.counter("chat.fan-out", "task", "push", "result", "success").count() == 1
+    }
+
+    def "실행기가 작업을 거부하면 호출 스레드에서 실행한다"() {
+        given:
+        def fanOut = new ParallelFanOut({ Runnable task -> throw new RejectedExecutionException() } as Executor,
+                Duration.ofSeconds(1), meterRegistry)
+        Thread ranOn = null
+
+        when:
+        fanOut.runAll([cache: { ranOn = Thread.currentThread() } as Runnable])
+
+        then:
+        ranOn == Thread.currentThread()
+        meterRegistry.counter("chat.fan-out", "task", "cache", "result", "success").count() == 1
+    }
+}
@@ -0,0 +1,142 @@
+package com.teambind.co.kr.chatdding.common.util.generator
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class SnowflakeSpec extends Specification {
+
+    @Subject
+    Snowflake snowflake = new Snowflake(513L)
+
+    def "ID는 단조 증가하며 nodeId 비트를 포함한다"() {
+        when:
+        def ids = (1..10_000).collect { snowflake.nextId() }
+
+        then:
+        ids == ids.sort(false)
+        ids.toSet().size() == ids.size()
+        ids.every { ((it >>> 12) & 1023L) == 513L }
+    }
+
+    def "한 millisecond의 sequence를 모두 소진해도 대기 없이 다음 ID를 발급한다"() {
+        when:
+        def ids = (1..20_000).collect { snowflake.nextId() }
+
+        then:
+        ids.toSet().size() == 20_000
+        ids == ids.sort(false)
+    }
+
+    def "여러 스레드가 동시에 발급해도 ID가 중복되지 않는다"() {
+        given:
+        def threads = 16
+        def perThread = 20_000
+        def ids = ConcurrentHashMap.newKeySet()
+        def start = new CountDownLatch(1)
+        def pool = Executors.newFixedThreadPool(threads)
+
+        when:
+        threads.times {
+            pool.submit {
+                start.await()
+                perThread.times { ids << snowflake.nextId() }
+            }
+        }
+        start.countDown()
+        pool.shutdown()
+        pool.awaitTermination(30, TimeUnit.SECONDS)
+
+        then:
+        ids.size() == threads * perThread
+    }
+
+    def "ID 블록 예약은 연속된 오름차순 ID를 반환하고 이후 발급과 겹치지 않는다"() {
+        given:
+        def before = snowflake.nextId()
+
+        when:
+        def block = snowflake.nextIds(Snowflake.MAX_BLOCK_SIZE) as List
+        def after = snowflake.nextId()
+
+        then:
+        block.size() == Snowflake.MAX_BLOCK_SIZE
+        block == block.sort(false)
+        block.toSet().size() == Snowflake.MAX_BLOCK_SIZE
+        block.first() > before
+        after > block.last()
+    }
+
+    def "예약 가능 범위를 벗어난 블록 크기는 거부한다"() {
+        when:
+        snowflake.nextIds(count)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        count << [0, -1, Snowflake.MAX_BLOCK_SIZE + 1]
+    }
+
+    def "nodeId 범위를 벗어나면 생성할 수 없다"() {
+        when:
+        new Snowflake(nodeId)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        nodeId << [-1L, Snowflake.MAX_NODE_ID + 1]
+    }
+
+    def "ID에서 발급 시각을 복원하고 시각으로 ID 하한을 구한다"() {
+        given:
+        long before = System.currentTimeMillis()
+        def id = snowflake.nextId()
+        long after = System.currentTimeMillis()
+
+        expect:
+        Snowflake.timestampOf(id) in before..(after + 1)
+        Snowflake.minIdAt(Snowflake.timestampOf(id)) <= id
+        Snowflake.minIdAt(Snowflake.timestampOf(id) + 1) > id
+    }
+
+    def "Lease가 만료되거나 상실되면 ID를 발급하지 않고, 새 Lease를 받으면 단조 증가를 이어간다"() {
+        given:
+        def leased = new Snowflake(7L)
+        leased.lease(7L, System.nanoTime() + TimeUnit.SECONDS.toNanos(30))
+        def before = leased.nextId()
+
+        when:
+        leased.revokeLease()
+        leased.nextId()
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        leased.nextIds(2)
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        leased.lease(8L, System.nanoTime() + TimeUnit.SECONDS.toNanos(30))
+        def after = leased.nextId()
+
+        then:
+        after > before
+        ((after >>> 12) & 1023L) == 8L
+
+        when:
+        leased.lease(8L, System.nanoTime() - 1)
+        leased.nextId()
+
+        then:
+        thrown(IllegalStateException)
+    }
+}
@@ -0,0 +1,70 @@
+package com.teambind.co.kr.chatdding.common.util.transaction
+
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+
+class AfterCommitSpec extends Specification {
+
+    def cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    def "트랜잭션이 없으면 바로 실행한다"() {
+        given:
+        def ran = false
+
+        when:
+        AfterCommit.run { ran = true }
+
+        then:
+        ran
+    }
+
+    def "트랜잭션 안에서는 커밋 이후에 실행한다"() {
+        given:
+        TransactionSynchronizationManager.initSynchronization()
+        def ran = false
+
+        when:
+        AfterCommit.run { ran = true }
+
+        then:
+        !ran
+
+        when:
+        TransactionSynchronizationManager.synchronizations.each { it.afterCommit() }
+
+        then:
+        ran
+    }
+
+    def "롤백되면 실행하지 않는다"() {
+        given:
+        TransactionSynchronizationManager.initSynchronization()
+        def ran = false
+
+        when:
+        AfterCommit.run { ran = true }
+        TransactionSynchronizationManager.synchronizations.each {
+            it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK)
+        }
+
+        then:
+        !ran
+    }
+
+    def "커밋 이후 작업의 실패는 전파하지 않는다"() {
+        given:
+        TransactionSynchronizationManager.initSynchronization()
+        AfterCommit.run { throw new IllegalStateException("redis down") }
+
+        when:
+        TransactionSynchronizationManager.synchronizations.each { it.afterCommit() }
+
+        then:
+        noExceptionThrown()
+    }
+}
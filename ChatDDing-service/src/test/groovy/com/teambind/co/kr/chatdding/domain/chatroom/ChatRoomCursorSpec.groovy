@@ -0,0 +1,61 @@
+package com.teambind.co.kr.chatdding.domain.chatroom
+
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.LocalDateTime
+
+class ChatRoomCursorSpec extends Specification {
+
+    def "커서를 문자열로 변환하고 다시 파싱하면 같은 값이 된다"() {
+        given:
+        def cursor = new ChatRoomCursor(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_000_000), RoomId.of(987654321L))
+
+        when:
+        def parsed = ChatRoomCursor.fromString(cursor.toString())
+
+        then:
+        parsed == cursor
+    }
+
+    def "커서 문자열은 epoch millis와 roomId로 구성된다"() {
+        given:
+        def cursor = new ChatRoomCursor(LocalDateTime.of(1970, 1, 1, 0, 0, 1), RoomId.of(42L))
+
+        expect:
+        cursor.toString() == "1000_42"
+    }
+
+    def "채팅방의 lastMessageAt과 ID로 커서를 생성한다"() {
+        given:
+        def chatRoom = ChatRoom.createDm(RoomId.of(1L), UserId.of(100L), UserId.of(200L))
+
+        when:
+        def cursor = ChatRoomCursor.from(chatRoom)
+
+        then:
+        cursor.lastMessageAt() == chatRoom.lastMessageAt
+        cursor.roomId() == chatRoom.id
+    }
+
+    @Unroll
+    def "잘못된 커서 문자열(#value)이면 IllegalArgumentException 발생"() {
+        when:
+        ChatRoomCursor.fromString(value)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        value << [null, "", "abc", "_1", "1000_", "abc_1", "1000_abc", "1000_0"]
+    }
+
+    def "lastMessageAt이 null이면 IllegalArgumentException 발생"() {
+        when:
+        new ChatRoomCursor(null, RoomId.of(1L))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
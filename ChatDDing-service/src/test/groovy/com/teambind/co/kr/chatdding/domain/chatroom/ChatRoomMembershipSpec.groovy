@@ -0,0 +1,55 @@
+package com.teambind.co.kr.chatdding.domain.chatroom
+
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import spock.lang.Specification
+
+class ChatRoomMembershipSpec extends Specification {
+
+    def "채팅방의 타입, 상태, 참여자 목록으로 멤버십을 생성한다"() {
+        given:
+        def chatRoom = ChatRoom.createGroup(RoomId.of(1L), UserId.of(10L), [UserId.of(20L), UserId.of(30L)], "그룹")
+
+        when:
+        def membership = ChatRoomMembership.from(chatRoom)
+
+        then:
+        membership.roomId() == RoomId.of(1L)
+        membership.type() == ChatRoomType.GROUP
+        membership.status() == ChatRoomStatus.ACTIVE
+        membership.participantIds() == [UserId.of(10L), UserId.of(20L), UserId.of(30L)]
+    }
+
+    def "참여자 여부와 활성 상태를 판단한다"() {
+        given:
+        def chatRoom = ChatRoom.createSupport(RoomId.of(1L), UserId.of(100L))
+        chatRoom.close()
+
+        when:
+        def membership = ChatRoomMembership.from(chatRoom)
+
+        then:
+        membership.isParticipant(UserId.of(100L))
+        !membership.isParticipant(UserId.of(999L))
+        !membership.isActive()
+    }
+
+    def "참여자 목록은 생성 이후 변경되지 않는다"() {
+        given:
+        def participantIds = [UserId.of(1L)]
+        def membership = new ChatRoomMembership(RoomId.of(1L), ChatRoomType.DM, ChatRoomStatus.ACTIVE, participantIds)
+
+        when:
+        participantIds << UserId.of(2L)
+
+        then:
+        membership.participantIds() == [UserId.of(1L)]
+    }
+
+    def "필수 값이 없으면 예외가 발생한다"() {
+        when:
+        new ChatRoomMembership(RoomId.of(1L), null, ChatRoomStatus.ACTIVE, [])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -3,6 +3,8 @@ package com.teambind.co.kr.chatdding.domain.chatroom
 import com.teambind.co.kr.chatdding.common.exception.ChatException
 import com.teambind.co.kr.chatdding.common.exception.ErrorCode
 import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.domain.message.Message
+import com.teambind.co.kr.chatdding.domain.message.MessageId
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -228,6 +230,57 @@ class ChatRoomSpec extends Specification {
         chatRoom.lastMessageAt == originalTime
     }
 
+    def "updateLastMessage()로 마지막 메시지 스냅샷과 시간을 함께 갱신한다"() {
+        given:
+        def chatRoom = ChatRoom.createDm(RoomId.of(1L), UserId.of(100L), UserId.of(200L))
+        def createdAt = chatRoom.lastMessageAt.plusMinutes(1)
+        def lastMessage = new LastMessage(MessageId.of(10L), UserId.of(100L), "안녕", createdAt)
+
+        when:
+        chatRoom.updateLastMessage(lastMessage)
+
+        then:
+        chatRoom.lastMessage == lastMessage
+        chatRoom.lastMessageAt == createdAt
+    }
+
+    def "updateLastMessage()는 더 오래된 메시지로 스냅샷을 되돌리지 않는다"() {
+        given:
+        def chatRoom = ChatRoom.createDm(RoomId.of(1L), UserId.of(100L), UserId.of(200L))
+        def now = LocalDateTime.now()
+        def newer = new LastMessage(MessageId.of(20L), UserId.of(100L), "최신", now)
+        def older = new LastMessage(MessageId.of(10L), UserId.of(200L), "이전", now.minusSeconds(1))
+        chatRoom.updateLastMessage(newer)
+
+        when:
+        chatRoom.updateLastMessage(older)
+
+        then:
+        chatRoom.lastMessage == newer
+    }
+
+    def "countReadersOf()는 발신자, 워터마크, 레거시 readBy 기준으로 읽은 참여자를 센다"() {
+        given:
+        def owner = UserId.of(1L)
+        def watermarkReader = UserId.of(2L)
+        def legacyReader = UserId.of(3L)
+        def unread = UserId.of(4L)
+        def now = LocalDateTime.now()
+        def chatRoom = ChatRoom.restore(RoomId.of(1L), ChatRoomType.GROUP, "그룹", [
+                Participant.of(owner, true, now, null, now),
+                Participant.of(watermarkReader, true, now, MessageId.of(20L), now),
+                Participant.of(legacyReader, true, now, null, now),
+                Participant.of(unread, true, now, MessageId.of(5L), now)
+        ], owner, ChatRoomStatus.ACTIVE, now, null, null)
+        def message = Message.restore(MessageId.of(10L), RoomId.of(1L), owner, "안녕",
+                [(legacyReader): now], [] as Set, now)
+
+        expect:
+        chatRoom.countReadersOf(message) == 3
+        chatRoom.findLastReadMessageId(watermarkReader) == MessageId.of(20L)
+        chatRoom.findLastReadMessageId(owner) == null
+    }
+
     def "close()로 채팅방을 종료할 수 있다"() {
         given:
         def chatRoom = ChatRoom.createDm(RoomId.of(1L), UserId.of(100L), UserId.of(200L))
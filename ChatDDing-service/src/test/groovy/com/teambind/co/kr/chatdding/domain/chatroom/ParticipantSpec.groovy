@@ -1,6 +1,7 @@
 package com.teambind.co.kr.chatdding.domain.chatroom
 
 import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.domain.message.MessageId
 import spock.lang.Specification
 
 import java.time.LocalDateTime
@@ -142,4 +143,24 @@ class ParticipantSpec extends Specification {
         expect:
         participant.hasUnreadMessages(sameTime) == false
     }
+
+    def "advanceReadWatermark()는 워터마크를 앞으로만 전진시킨다"() {
+        given:
+        def participant = Participant.create(UserId.of(1L))
+
+        when:
+        participant.advanceReadWatermark(MessageId.of(10L), LocalDateTime.now())
+        participant.advanceReadWatermark(MessageId.of(5L), LocalDateTime.now())
+
+        then:
+        participant.lastReadMessageId == MessageId.of(10L)
+        participant.hasRead(MessageId.of(10L))
+        participant.hasRead(MessageId.of(3L))
+        !participant.hasRead(MessageId.of(11L))
+    }
+
+    def "워터마크가 없으면 어떤 메시지도 읽지 않은 것으로 본다"() {
+        expect:
+        !Participant.create(UserId.of(1L)).hasRead(MessageId.of(1L))
+    }
 }
@@ -0,0 +1,80 @@
+package com.teambind.co.kr.chatdding.domain.chatroom
+
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.domain.message.MessageId
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+
+class ReadWatermarkSpec extends Specification {
+
+    def "같은 참여자의 워터마크를 합치면 메시지 ID와 읽은 시각의 큰 값을 취한다"() {
+        given:
+        def now = LocalDateTime.now()
+        def earlier = ReadWatermark.of(RoomId.of(1L), UserId.of(10L), MessageId.of(50L), now)
+        def later = ReadWatermark.of(RoomId.of(1L), UserId.of(10L), MessageId.of(30L), now.plusSeconds(5))
+
+        when:
+        def merged = earlier.merge(later)
+
+        then:
+        merged.lastReadMessageId() == MessageId.of(50L)
+        merged.readAt() == now.plusSeconds(5)
+    }
+
+    def "한쪽이 최신 메시지(null)를 가리키면 합친 결과도 null이다"() {
+        given:
+        def now = LocalDateTime.now()
+        def explicit = ReadWatermark.of(RoomId.of(1L), UserId.of(10L), MessageId.of(50L), now)
+        def latest = ReadWatermark.of(RoomId.of(1L), UserId.of(10L), null, now)
+
+        expect:
+        explicit.merge(latest).lastReadMessageId() == null
+        latest.merge(explicit).lastReadMessageId() == null
+    }
+
+    def "다른 참여자의 워터마크는 합칠 수 없다"() {
+        given:
+        def now = LocalDateTime.now()
+        def a = ReadWatermark.of(RoomId.of(1L), UserId.of(10L), MessageId.of(50L), now)
+        def b = ReadWatermark.of(RoomId.of(1L), UserId.of(20L), MessageId.of(50L), now)
+
+        when:
+        a.merge(b)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "coalesce는 (roomId, userId)별로 하나만 남기고 첫 등장 순서를 유지한다"() {
+        given:
+        def now = LocalDateTime.now()
+        def watermarks = [
+                ReadWatermark.of(RoomId.of(1L), UserId.of(10L), MessageId.of(1L), now),
+                ReadWatermark.of(RoomId.of(2L), UserId.of(10L), MessageId.of(5L), now),
+                ReadWatermark.of(RoomId.of(1L), UserId.of(10L), MessageId.of(3L), now.plusSeconds(1)),
+                ReadWatermark.of(RoomId.of(1L), UserId.of(20L), MessageId.of(2L), now),
+                ReadWatermark.of(RoomId.of(1L), UserId.of(10L), MessageId.of(2L), now.plusSeconds(2))
+        ]
+
+        when:
+        def coalesced = ReadWatermark.coalesce(watermarks)
+
+        then:
+        coalesced.size() == 3
+        coalesced[0].roomId() == RoomId.of(1L)
+        coalesced[0].userId() == UserId.of(10L)
+        coalesced[0].lastReadMessageId() == MessageId.of(3L)
+        coalesced[0].readAt() == now.plusSeconds(2)
+        coalesced[1].roomId() == RoomId.of(2L)
+        coalesced[2].userId() == UserId.of(20L)
+    }
+
+    def "필수 값이 없으면 예외가 발생한다"() {
+        when:
+        ReadWatermark.of(RoomId.of(1L), null, null, LocalDateTime.now())
+
+        then:
+        thrown(NullPointerException)
+    }
+}
@@ -0,0 +1,223 @@
+package com.teambind.co.kr.chatdding.infrastructure.cache.redis
+
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomMembership
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.data.redis.connection.DefaultMessage
+import org.springframework.data.redis.connection.RedisConnection
+import org.springframework.data.redis.connection.RedisScriptingCommands
+import org.springframework.data.redis.connection.ReturnType
+import org.springframework.data.redis.core.RedisCallback
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class ChatRoomMembershipCacheAdapterSpec extends Specification {
+
+    StringRedisTemplate redisTemplate = Mock()
+    ValueOperations<String, String> valueOperations = Mock()
+    RedisConnection connection = Mock()
+    RedisScriptingCommands scriptingCommands = Mock()
+    ChatRoomRepository chatRoomRepository = Mock()
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    @Subject
+    ChatRoomMembershipCacheAdapter adapter = new ChatRoomMembershipCacheAdapter(
+            redisTemplate, chatRoomRepository, meterRegistry, Duration.ofMinutes(30), Duration.ofSeconds(30), 100)
+
+    def roomId = RoomId.of(123L)
+    def expectedKey = "room:membership:123"
+    def generationKey = "room:membership:gen:123"
+
+    def setup() {
+        redisTemplate.opsForValue() >> valueOperations
+        connection.scriptingCommands() >> scriptingCommands
+    }
+
+    def "Redis 히트 시 채팅방을 조회하지 않고 멤버십을 복원한다"() {
+        when:
+        def result = adapter.findMembership(roomId)
+
+        then:
+        1 * valueOperations.get(expectedKey) >> "GROUP|ACTIVE|10,20,30"
+        0 * chatRoomRepository.findById(_)
+        result.get() == new ChatRoomMembership(roomId, ChatRoomType.GROUP, ChatRoomStatus.ACTIVE,
+                [UserId.of(10L), UserId.of(20L), UserId.of(30L)])
+        meterRegistry.counter("chat.cache.membership", "result", "hit").count() == 1
+    }
+
+    def "Redis 미스 시 세대를 먼저 읽고 채팅방을 적재해 같은 세대일 때만 TTL과 함께 저장한다"() {
+        given:
+        def chatRoom = ChatRoom.createDm(roomId, UserId.of(10L), UserId.of(20L))
+        def captured = []
+
+        when:
+        def result = adapter.findMembership(roomId)
+
+        then:
+        1 * valueOperations.get(expectedKey) >> null
+
+        then:
+        1 * valueOperations.get(generationKey) >> "4"
+
+        then:
+        1 * chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+
+        then:
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 2, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured.addAll(keysAndArgs.collect { new String(it, StandardCharsets.UTF_8) })
+            1L
+        }
+        captured == [expectedKey, generationKey, "4", "DM|ACTIVE|10,20", "1800"]
+        0 * valueOperations.set(_, _, _)
+        result.get().participantIds() == [UserId.of(10L), UserId.of(20L)]
+        meterRegistry.counter("chat.cache.membership", "result", "miss").count() == 1
+    }
+
+    def "한 번 조회한 멤버십은 Near Cache에서 반환한다"() {
+        given:
+        valueOperations.get(expectedKey) >> "SUPPORT|CLOSED|100"
+
+        when:
+        adapter.findMembership(roomId)
+        def result = adapter.findMembership(roomId)
+
+        then:
+        !result.get().isActive()
+        meterRegistry.counter("chat.cache.membership", "result", "near").count() == 1
+        meterRegistry.counter("chat.cache.membership", "result", "hit").count() == 1
+    }
+
+    def "존재하지 않는 채팅방은 캐시하지 않는다"() {
+        given:
+        valueOperations.get(expectedKey) >> null
+        chatRoomRepository.findById(roomId) >> Optional.empty()
+
+        when:
+        def result = adapter.findMembership(roomId)
+
+        then:
+        result.isEmpty()
+        0 * redisTemplate.execute(_)
+    }
+
+    def "Redis 장애 시 채팅방 조회로 대체한다 (Graceful Degradation)"() {
+        given:
+        def chatRoom = ChatRoom.createDm(roomId, UserId.of(10L), UserId.of(20L))
+        valueOperations.get(_) >> { throw new RuntimeException("Redis connection failed") }
+        chatRoomRepository.findById(roomId) >> Optional.of(chatRoom)
+
+        when:
+        def result = adapter.findMembership(roomId)
+
+        then:
+        result.get().isParticipant(UserId.of(10L))
+        noExceptionThrown()
+        0 * redisTemplate.execute(_)
+        meterRegistry.counter("chat.cache.membership", "result", "error").count() == 1
+    }
+
+    def "evict - Near Cache와 Redis 키를 지우고 세대를 올린 뒤 무효화 채널로 발행한다"() {
+        given:
+        valueOperations.get(expectedKey) >>> ["DM|ACTIVE|10,20", "SUPPORT|ACTIVE|10,20"]
+        adapter.findMembership(roomId)
+        def captured = []
+
+        when:
+        adapter.evict(roomId)
+        def result = adapter.findMembership(roomId)
+
+        then:
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 2, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured.addAll(keysAndArgs.collect { new String(it, StandardCharsets.UTF_8) })
+            1L
+        }
+        captured == [expectedKey, generationKey, "1800"]
+        0 * redisTemplate.delete(_)
+        1 * redisTemplate.convertAndSend("room:membership:invalidate", "123")
+        result.get().type() == ChatRoomType.SUPPORT
+    }
+
+    def "evict와 동시에 진행된 미스 조회는 변경 전 멤버십을 Redis와 Near Cache에 다시 쓰지 않는다"() {
+        given: "EVICT/STORE 스크립트를 원자적으로 흉내내는 Redis"
+        Map<String, String> redis = new ConcurrentHashMap<>()
+        valueOperations.get(_) >> { String key -> redis[key] }
+        redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        scriptingCommands.eval(_, ReturnType.INTEGER, 2, _) >> { byte[] script, type, numKeys, byte[][] keysAndArgs ->
+            def args = keysAndArgs.collect { new String(it, StandardCharsets.UTF_8) }
+            synchronized (redis) {
+                if (new String(script, StandardCharsets.UTF_8).contains("INCR")) {
+                    redis[args[1]] = String.valueOf(Long.parseLong(redis.getOrDefault(args[1], "0")) + 1)
+                    redis.remove(args[0])
+                    return 1L
+                }
+                if (redis.getOrDefault(args[1], "0") != args[2]) {
+                    return 0L
+                }
+                redis[args[0]] = args[3]
+                return 1L
+            }
+        }
+
+        and: "조회 스레드가 종료 전 문서를 읽은 상태에서 멈춘다"
+        def openRoom = ChatRoom.createDm(roomId, UserId.of(10L), UserId.of(20L))
+        def closedRoom = ChatRoom.createDm(roomId, UserId.of(10L), UserId.of(20L))
+        closedRoom.close()
+        def loaded = new CountDownLatch(1)
+        def resume = new CountDownLatch(1)
+        chatRoomRepository.findById(roomId) >> {
+            loaded.countDown()
+            resume.await(5, TimeUnit.SECONDS)
+            Optional.of(openRoom)
+        }
+
+        when: "조회 도중 종료가 커밋되고 evict된다"
+        def staleRead = CompletableFuture.supplyAsync { adapter.findMembership(roomId) }
+        loaded.await(5, TimeUnit.SECONDS)
+        adapter.evict(roomId)
+        resume.countDown()
+        def staleResult = staleRead.get(5, TimeUnit.SECONDS)
+
+        then: "진행 중이던 조회는 읽은 값을 반환하지만 캐시에는 남기지 않는다"
+        staleResult.get().isActive()
+        !redis.containsKey(expectedKey)
+        redis[generationKey] == "1"
+
+        when: "이후 조회는 저장소의 최신 상태를 적재한다"
+        def result = adapter.findMembership(roomId)
+
+        then:
+        1 * chatRoomRepository.findById(roomId) >> Optional.of(closedRoom)
+        !result.get().isActive()
+        redis[expectedKey] == "DM|CLOSED|10,20"
+    }
+
+    def "onMessage - 다른 노드의 무효화를 받으면 Near Cache에서만 제거한다"() {
+        given:
+        valueOperations.get(expectedKey) >>> ["DM|ACTIVE|10,20", "DM|CLOSED|10,20"]
+        adapter.findMembership(roomId)
+
+        when:
+        adapter.onMessage(new DefaultMessage("room:membership:invalidate".bytes, "123".bytes), null)
+        def result = adapter.findMembership(roomId)
+
+        then:
+        0 * redisTemplate.delete(_)
+        !result.get().isActive()
+    }
+}
@@ -0,0 +1,351 @@
+package com.teambind.co.kr.chatdding.infrastructure.cache.redis
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.domain.message.Message
+import com.teambind.co.kr.chatdding.domain.message.MessageId
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.data.redis.connection.DefaultMessage
+import org.springframework.data.redis.connection.RedisConnection
+import org.springframework.data.redis.connection.RedisScriptingCommands
+import org.springframework.data.redis.connection.ReturnType
+import org.springframework.data.redis.core.ListOperations
+import org.springframework.data.redis.core.RedisCallback
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+
+class MessageTailCacheAdapterSpec extends Specification {
+
+    StringRedisTemplate redisTemplate = Mock()
+    ListOperations<String, String> listOperations = Mock()
+    ValueOperations<String, String> valueOperations = Mock()
+    RedisConnection connection = Mock()
+    RedisScriptingCommands scriptingCommands = Mock()
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    @Subject
+    MessageTailCacheAdapter adapter = new MessageTailCacheAdapter(
+            redisTemplate, new ObjectMapper().findAndRegisterModules(), meterRegistry,
+            3, Duration.ofHours(1), Duration.ofSeconds(5), 100)
+
+    def roomId = RoomId.of(123L)
+    def expectedKey = "room:tail:123"
+    def generationKey = "room:tail:gen:123"
+    def entry3 = '{"id":3,"senderId":10,"content":"세번째","readBy":{},"deletedBy":[20],"createdAt":"2026-01-01T10:03:00"}'
+    def entry2 = '{"id":2,"senderId":20,"content":"두번째","readBy":{},"deletedBy":[],"createdAt":"2026-01-01T10:02:00"}'
+    def entry1 = '{"id":1,"senderId":10,"content":"첫번째","readBy":{"20":"2026-01-01T10:05:00"},"deletedBy":[],"createdAt":"2026-01-01T10:01:00"}'
+
+    def setup() {
+        redisTemplate.opsForList() >> listOperations
+        redisTemplate.opsForValue() >> valueOperations
+        connection.scriptingCommands() >> scriptingCommands
+    }
+
+    def "Redis 히트 시 최신순으로 limit만큼 메시지를 복원한다 (deletedBy 포함)"() {
+        given:
+        listOperations.range(expectedKey, 0, -1) >> [entry3, entry2, entry1]
+
+        when:
+        def result = adapter.findLatest(roomId, MessageId.of(3L), 2)
+
+        then:
+        result.get()*.id == [MessageId.of(3L), MessageId.of(2L)]
+        result.get()[0].roomId == roomId
+        result.get()[0].isDeletedFor(UserId.of(20L))
+        !result.get()[1].isDeletedFor(UserId.of(20L))
+        meterRegistry.counter("chat.cache.message-tail", "result", "hit").count() == 1
+    }
+
+    def "적재와 추가가 경합해 순서가 어긋나거나 중복된 항목은 ID 기준으로 정리한다"() {
+        given:
+        listOperations.range(expectedKey, 0, -1) >> [entry2, entry3, entry2, entry1]
+
+        when:
+        def result = adapter.findLatest(roomId, MessageId.of(3L), 3)
+
+        then:
+        result.get()*.id == [MessageId.of(3L), MessageId.of(2L), MessageId.of(1L)]
+        result.get()[2].isReadBy(UserId.of(20L))
+    }
+
+    def "최신 메시지가 채팅방의 마지막 메시지와 다르면 stale로 보고 미스 처리한다"() {
+        given:
+        listOperations.range(expectedKey, 0, -1) >> [entry2, entry1]
+
+        when:
+        def result = adapter.findLatest(roomId, MessageId.of(3L), 2)
+
+        then:
+        result.isEmpty()
+        meterRegistry.counter("chat.cache.message-tail", "result", "stale").count() == 1
+    }
+
+    def "capacity만큼 보관 중이면 limit을 채울 수 없을 때 미스 처리한다"() {
+        given:
+        listOperations.range(expectedKey, 0, -1) >> [entry3, entry2, entry1]
+
+        when:
+        def result = adapter.findLatest(roomId, MessageId.of(3L), 20)
+
+        then:
+        result.isEmpty()
+        meterRegistry.counter("chat.cache.message-tail", "result", "miss").count() == 1
+    }
+
+    def "capacity보다 적게 보관 중이면 채팅방 전체 메시지로 보고 반환한다"() {
+        given:
+        listOperations.range(expectedKey, 0, -1) >> [entry3, entry2]
+
+        when:
+        def result = adapter.findLatest(roomId, MessageId.of(3L), 20)
+
+        then:
+        result.get().size() == 2
+    }
+
+    def "한 번 조회한 목록은 Near Cache에서 반환하고 매번 새 Message로 복원한다"() {
+        when:
+        def first = adapter.findLatest(roomId, MessageId.of(3L), 2)
+        first.get()[1].deleteFor(UserId.of(10L))
+        def second = adapter.findLatest(roomId, MessageId.of(3L), 2)
+
+        then:
+        1 * listOperations.range(expectedKey, 0, -1) >> [entry3, entry2, entry1]
+        !second.get()[1].isDeletedFor(UserId.of(10L))
+        meterRegistry.counter("chat.cache.message-tail", "result", "near").count() == 1
+    }
+
+    def "Near Cache가 오래되었으면 Redis에서 다시 조회한다"() {
+        given:
+        listOperations.range(expectedKey, 0, -1) >>> [[entry2, entry1], [entry3, entry2, entry1]]
+        adapter.findLatest(roomId, MessageId.of(2L), 2)
+
+        when:
+        def result = adapter.findLatest(roomId, MessageId.of(3L), 2)
+
+        then:
+        result.get()[0].id == MessageId.of(3L)
+        meterRegistry.counter("chat.cache.message-tail", "result", "hit").count() == 2
+    }
+
+    def "Redis 장애 시 예외 없이 미스 처리한다"() {
+        given:
+        listOperations.range(expectedKey, 0, -1) >> { throw new RuntimeException("Redis down") }
+
+        when:
+        def result = adapter.findLatest(roomId, MessageId.of(3L), 2)
+
+        then:
+        result.isEmpty()
+        meterRegistry.counter("chat.cache.message-tail", "result", "error").count() == 1
+    }
+
+    def "generation - 세대 키가 없으면 0, Redis 장애 시 UNKNOWN_GENERATION을 반환한다"() {
+        given:
+        valueOperations.get(generationKey) >>> ["7", null] >> { throw new RuntimeException("Redis connection failed") }
+
+        expect:
+        adapter.generation(roomId) == 7L
+        adapter.generation(roomId) == 0L
+        adapter.generation(roomId) == MessageTailCacheAdapter.UNKNOWN_GENERATION
+    }
+
+    def "store - capacity만큼 잘라 적재 전 세대와 함께 Lua 스크립트로 목록을 교체한다"() {
+        given:
+        def messages = (4L..1L).collect { Message.create(MessageId.of(it), roomId, UserId.of(10L), "메시지" + it) }
+        def captured = []
+
+        when:
+        adapter.store(roomId, 2L, messages)
+
+        then:
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 2, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured.addAll(keysAndArgs.collect { new String(it, StandardCharsets.UTF_8) })
+            1L
+        }
+        captured.size() == 7
+        captured[0..3] == [expectedKey, generationKey, "2", "3600"]
+        captured[4].contains('"id":4')
+        captured[6].contains('"id":2')
+    }
+
+    def "store - 세대를 모르면 쓰지 않는다"() {
+        when:
+        adapter.store(roomId, MessageTailCacheAdapter.UNKNOWN_GENERATION,
+                [Message.create(MessageId.of(5L), roomId, UserId.of(10L), "최신")])
+
+        then:
+        0 * redisTemplate.execute(_)
+    }
+
+    def "store - 적재 중 세대가 바뀌어 스크립트가 거부하면 Near Cache에도 저장하지 않는다"() {
+        given:
+        redisTemplate.execute(_ as RedisCallback) >> 0L
+
+        when:
+        adapter.store(roomId, 0L, [Message.create(MessageId.of(5L), roomId, UserId.of(10L), "삭제 전")])
+        def result = adapter.findLatest(roomId, MessageId.of(5L), 20)
+
+        then:
+        1 * listOperations.range(expectedKey, 0, -1) >> []
+        result.isEmpty()
+    }
+
+    def "evict와 겹친 적재는 삭제 전 deletedBy를 Redis와 Near Cache에 다시 쓰지 않는다"() {
+        given: "EVICT/STORE 스크립트를 원자적으로 흉내내는 Redis"
+        Map<String, String> redis = [:]
+        valueOperations.get(_) >> { String key -> redis[key] }
+        redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        scriptingCommands.eval(_, ReturnType.INTEGER, 2, _) >> { byte[] script, type, numKeys, byte[][] keysAndArgs ->
+            def args = keysAndArgs.collect { new String(it, StandardCharsets.UTF_8) }
+            if (new String(script, StandardCharsets.UTF_8).contains("INCR")) {
+                redis[args[1]] = String.valueOf(Long.parseLong(redis.getOrDefault(args[1], "0")) + 1)
+                redis.remove(args[0])
+                return 1L
+            }
+            if (redis.getOrDefault(args[1], "0") != args[2]) {
+                return 0L
+            }
+            redis[args[0]] = args[4]
+            return 1L
+        }
+        listOperations.range(expectedKey, 0, -1) >> { redis.containsKey(expectedKey) ? [redis[expectedKey]] : [] }
+
+        and: "조회 스레드가 삭제 전 메시지를 읽었다"
+        def generation = adapter.generation(roomId)
+        def beforeDelete = Message.create(MessageId.of(5L), roomId, UserId.of(10L), "삭제 전")
+
+        when: "그 사이 삭제가 커밋되어 evict된 뒤 적재가 끝난다"
+        adapter.evict(roomId)
+        adapter.store(roomId, generation, [beforeDelete])
+        def result = adapter.findLatest(roomId, MessageId.of(5L), 20)
+
+        then:
+        redis[generationKey] == "1"
+        !redis.containsKey(expectedKey)
+        result.isEmpty()
+        meterRegistry.counter("chat.cache.message-tail", "result", "near").count() == 0
+    }
+
+    def "store 후에는 Redis 조회 없이 Near Cache에서 반환한다"() {
+        given:
+        def messages = [Message.create(MessageId.of(5L), roomId, UserId.of(10L), "최신")]
+        redisTemplate.execute(_ as RedisCallback) >> 1L
+
+        when:
+        adapter.store(roomId, 0L, messages)
+        def result = adapter.findLatest(roomId, MessageId.of(5L), 20)
+
+        then:
+        0 * listOperations.range(_, _, _)
+        result.get()*.content == ["최신"]
+    }
+
+    def "append - 적재된 목록에만 추가하도록 LPUSHX 스크립트를 실행하고 Near Cache를 비운다"() {
+        given:
+        adapter.store(roomId, 0L, [Message.create(MessageId.of(5L), roomId, UserId.of(10L), "이전")])
+        def message = Message.create(MessageId.of(6L), roomId, UserId.of(10L), "새 메시지")
+        def captured = []
+
+        when:
+        adapter.append(message)
+        adapter.findLatest(roomId, MessageId.of(6L), 20)
+
+        then:
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 1, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured.addAll(keysAndArgs.collect { new String(it, StandardCharsets.UTF_8) })
+            1L
+        }
+        captured[0] == expectedKey
+        captured[1].contains('"content":"새 메시지"')
+        captured[2..3] == ["3", "3600"]
+        1 * listOperations.range(expectedKey, 0, -1) >> []
+    }
+
+    def "append - Redis 장애 시 예외 전파 없음"() {
+        given:
+        redisTemplate.execute(_ as RedisCallback) >> { throw new RuntimeException("Redis write failed") }
+
+        when:
+        adapter.append(Message.create(MessageId.of(6L), roomId, UserId.of(10L), "새 메시지"))
+
+        then:
+        noExceptionThrown()
+    }
+
+    def "append - 실패하면 캐시를 무효화해, 이어서 성공한 추가가 누락을 가리지 않는다"() {
+        given: "APPEND/EVICT 스크립트를 흉내내는 Redis - 첫 APPEND는 타임아웃"
+        Map<String, List<String>> lists = [(expectedKey): [entry3]]
+        Map<String, Long> generations = [:]
+        def appendFailures = 1
+        redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        scriptingCommands.eval(_, ReturnType.INTEGER, _, _) >> { byte[] script, type, numKeys, byte[][] keysAndArgs ->
+            def args = keysAndArgs.collect { new String(it, StandardCharsets.UTF_8) }
+            if (new String(script, StandardCharsets.UTF_8).contains("INCR")) {
+                generations[args[1]] = generations.getOrDefault(args[1], 0L) + 1
+                lists.remove(args[0])
+                return 1L
+            }
+            if (appendFailures-- > 0) {
+                throw new RuntimeException("Redis command timed out")
+            }
+            if (!lists.containsKey(args[0])) {
+                return 0L
+            }
+            lists[args[0]].add(0, args[1])
+            return 1L
+        }
+        listOperations.range(expectedKey, 0, -1) >> { lists.getOrDefault(expectedKey, []) }
+
+        when: "메시지 4의 추가가 실패한 뒤 메시지 5의 추가가 실행된다"
+        adapter.append(Message.create(MessageId.of(4L), roomId, UserId.of(10L), "네번째"))
+        adapter.append(Message.create(MessageId.of(5L), roomId, UserId.of(10L), "다섯번째"))
+        def result = adapter.findLatest(roomId, MessageId.of(5L), 20)
+
+        then: "메시지 4가 빠진 목록 대신 미스로 처리해 저장소에서 다시 적재한다"
+        generations[generationKey] == 1L
+        !lists.containsKey(expectedKey)
+        result.isEmpty()
+        1 * redisTemplate.convertAndSend(MessageTailCacheAdapter.INVALIDATION_CHANNEL, "123")
+    }
+
+    def "evict - 세대를 올리고 Redis 키를 삭제한 뒤 무효화 채널로 발행한다"() {
+        given:
+        def captured = []
+
+        when:
+        adapter.evict(roomId)
+
+        then:
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 2, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured.addAll(keysAndArgs.collect { new String(it, StandardCharsets.UTF_8) })
+            1L
+        }
+        captured == [expectedKey, generationKey, "3600"]
+        0 * redisTemplate.delete(_)
+        1 * redisTemplate.convertAndSend(MessageTailCacheAdapter.INVALIDATION_CHANNEL, "123")
+    }
+
+    def "무효화 메시지 수신 시 Near Cache에서 제거한다"() {
+        given:
+        listOperations.range(expectedKey, 0, -1) >> [entry3, entry2]
+        adapter.findLatest(roomId, MessageId.of(3L), 2)
+
+        when:
+        adapter.onMessage(new DefaultMessage(MessageTailCacheAdapter.INVALIDATION_CHANNEL.bytes, "123".bytes), null)
+        adapter.findLatest(roomId, MessageId.of(3L), 2)
+
+        then:
+        meterRegistry.counter("chat.cache.message-tail", "result", "hit").count() == 2
+        meterRegistry.counter("chat.cache.message-tail", "result", "near").count() == 0
+    }
+}
@@ -0,0 +1,196 @@
+package com.teambind.co.kr.chatdding.infrastructure.cache.redis
+
+import com.teambind.co.kr.chatdding.common.util.generator.Snowflake
+import org.springframework.data.redis.connection.RedisConnection
+import org.springframework.data.redis.connection.RedisScriptingCommands
+import org.springframework.data.redis.connection.ReturnType
+import org.springframework.data.redis.core.RedisCallback
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class SnowflakeNodeIdLeaseSpec extends Specification {
+
+    StringRedisTemplate redisTemplate = Mock()
+    ValueOperations<String, String> valueOperations = Mock()
+    RedisConnection connection = Mock()
+    RedisScriptingCommands scriptingCommands = Mock()
+
+    @Subject
+    SnowflakeNodeIdLease lease = new SnowflakeNodeIdLease(redisTemplate, Duration.ofSeconds(30), Duration.ofSeconds(10))
+
+    def setup() {
+        redisTemplate.opsForValue() >> valueOperations
+        connection.scriptingCommands() >> scriptingCommands
+    }
+
+    def "비어 있는 nodeId를 선점한다"() {
+        given:
+        def attempts = []
+        valueOperations.setIfAbsent(_, _, Duration.ofSeconds(30)) >> { String key, String owner, Duration ttl ->
+            attempts << key
+            attempts.size() == 3
+        }
+
+        when:
+        def nodeId = lease.acquire()
+
+        then:
+        attempts.size() == 3
+        attempts.last() == "snowflake:node:" + nodeId
+        lease.leasedNodeId == nodeId
+    }
+
+    def "모든 nodeId가 선점되어 있으면 예외가 발생한다"() {
+        given:
+        valueOperations.setIfAbsent(_, _, _ as Duration) >> false
+
+        when:
+        lease.acquire()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "renew - 자신이 보유한 Lease의 TTL을 소유자 확인과 함께 한 스크립트로 연장한다"() {
+        given:
+        valueOperations.setIfAbsent(_, _, _ as Duration) >> true
+        def nodeId = lease.acquire()
+        def captured = []
+
+        when:
+        lease.renew()
+
+        then:
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 1, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured.addAll(keysAndArgs.collect { new String(it, StandardCharsets.UTF_8) })
+            1L
+        }
+        captured[0] == "snowflake:node:" + nodeId
+        captured[2] == "30000"
+        0 * redisTemplate.expire(_, _)
+    }
+
+    def "renew - 다른 인스턴스에 Lease를 빼앗기면 새 nodeId를 받을 때까지 ID 발급을 멈춘다"() {
+        given:
+        def available = true
+        valueOperations.setIfAbsent(_, _, _ as Duration) >> { available }
+        def snowflake = new Snowflake(lease.acquire())
+        lease.bind(snowflake)
+        available = false
+
+        when:
+        lease.renew()
+        snowflake.nextId()
+
+        then:
+        1 * redisTemplate.execute(_ as RedisCallback) >> 0L
+        lease.leasedNodeId == -1L
+        thrown(IllegalStateException)
+
+        when:
+        available = true
+        lease.renew()
+
+        then:
+        lease.leasedNodeId >= 0
+        snowflake.nodeId == lease.leasedNodeId
+        ((snowflake.nextId() >>> 12) & Snowflake.MAX_NODE_ID) == lease.leasedNodeId
+    }
+
+    def "renew - Redis 장애로 TTL 안에 연장하지 못하면 ID 발급을 멈춘다"() {
+        given:
+        def shortLease = new SnowflakeNodeIdLease(redisTemplate, Duration.ofMillis(100), Duration.ofSeconds(10))
+        valueOperations.setIfAbsent(_, _, _ as Duration) >> true
+        def snowflake = new Snowflake(shortLease.acquire())
+        shortLease.bind(snowflake)
+        redisTemplate.execute(_ as RedisCallback) >> { throw new RuntimeException("Redis connection failed") }
+
+        when:
+        shortLease.renew()
+        snowflake.nextId()
+
+        then:
+        noExceptionThrown()
+
+        when:
+        Thread.sleep(150)
+        shortLease.renew()
+        snowflake.nextId()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "start - 공용 스케줄러 스레드가 막혀 있어도 전용 스레드에서 연장되어 Lease가 만료되지 않는다"() {
+        given:
+        def shortLease = new SnowflakeNodeIdLease(redisTemplate, Duration.ofMillis(300), Duration.ofMillis(50))
+        valueOperations.setIfAbsent(_, _, _ as Duration) >> true
+        def snowflake = new Snowflake(shortLease.acquire())
+        shortLease.bind(snowflake)
+
+        and: "공용 스케줄러 스레드는 다른 주기 작업에 막혀 있다"
+        def sharedScheduler = Executors.newSingleThreadScheduledExecutor()
+        def unblock = new CountDownLatch(1)
+        sharedScheduler.execute { unblock.await() }
+
+        and:
+        def renewThreads = new CopyOnWriteArrayList<String>()
+        redisTemplate.execute(_ as RedisCallback) >> {
+            renewThreads << Thread.currentThread().name
+            1L
+        }
+
+        when:
+        shortLease.start()
+        Thread.sleep(600)
+        snowflake.nextId()
+
+        then:
+        noExceptionThrown()
+        renewThreads.size() >= 2
+        renewThreads.toSet() == ["snowflake-lease"] as Set
+
+        cleanup:
+        unblock.countDown()
+        sharedScheduler.shutdownNow()
+        shortLease.release()
+    }
+
+    def "renew/release - 선점 전에는 Redis를 호출하지 않는다"() {
+        when:
+        lease.renew()
+        lease.release()
+
+        then:
+        0 * valueOperations._
+        0 * redisTemplate.delete(_)
+    }
+
+    def "release - 자신이 보유한 Lease만 반납한다"() {
+        given:
+        String owner = null
+        valueOperations.setIfAbsent(_, _, _ as Duration) >> { String key, String value, Duration ttl ->
+            owner = value
+            true
+        }
+        def nodeId = lease.acquire()
+        valueOperations.get("snowflake:node:" + nodeId) >> { owner }
+
+        when:
+        lease.release()
+
+        then:
+        1 * redisTemplate.delete("snowflake:node:" + nodeId)
+        lease.leasedNodeId == -1L
+    }
+}
@@ -2,30 +2,39 @@ package com.teambind.co.kr.chatdding.infrastructure.cache.redis
 
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.data.redis.connection.RedisConnection
+import org.springframework.data.redis.connection.RedisScriptingCommands
+import org.springframework.data.redis.connection.ReturnType
+import org.springframework.data.redis.core.HashOperations
+import org.springframework.data.redis.core.RedisCallback
 import org.springframework.data.redis.core.RedisTemplate
-import org.springframework.data.redis.core.ValueOperations
 import spock.lang.Specification
 import spock.lang.Subject
 
 class UnreadCountRedisAdapterSpec extends Specification {
 
     RedisTemplate<String, Object> redisTemplate = Mock()
-    ValueOperations<String, Object> valueOperations = Mock()
+    HashOperations<String, Object, Object> hashOperations = Mock()
+    RedisConnection connection = Mock()
+    RedisScriptingCommands scriptingCommands = Mock()
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
 
     @Subject
-    UnreadCountRedisAdapter adapter = new UnreadCountRedisAdapter(redisTemplate)
+    UnreadCountRedisAdapter adapter = new UnreadCountRedisAdapter(redisTemplate, meterRegistry)
 
     def roomId = RoomId.of(123L)
     def userId = UserId.of(456L)
-    def expectedKey = "unread:123:456"
+    def expectedKey = "unread:456"
 
     def setup() {
-        redisTemplate.opsForValue() >> valueOperations
+        redisTemplate.opsForHash() >> hashOperations
+        connection.scriptingCommands() >> scriptingCommands
     }
 
     def "getUnreadCount - 캐시 히트 시 값 반환"() {
         given:
-        valueOperations.get(expectedKey) >> 5
+        hashOperations.multiGet(expectedKey, ["123", "total"]) >> [5, null]
 
         when:
         def result = adapter.getUnreadCount(roomId, userId)
@@ -35,9 +44,9 @@ class UnreadCountRedisAdapterSpec extends Specification {
         result.get() == 5
     }
 
-    def "getUnreadCount - 캐시 미스 시 Optional.empty 반환"() {
+    def "getUnreadCount - field와 total이 모두 없으면 캐시 미스"() {
         given:
-        valueOperations.get(expectedKey) >> null
+        hashOperations.multiGet(expectedKey, ["123", "total"]) >> [null, null]
 
         when:
         def result = adapter.getUnreadCount(roomId, userId)
@@ -46,9 +55,20 @@ class UnreadCountRedisAdapterSpec extends Specification {
         result.isEmpty()
     }
 
+    def "getUnreadCount - total이 있는 완전한 Hash에서 field가 없으면 0 반환"() {
+        given:
+        hashOperations.multiGet(expectedKey, ["123", "total"]) >> [null, 7]
+
+        when:
+        def result = adapter.getUnreadCount(roomId, userId)
+
+        then:
+        result.get() == 0
+    }
+
     def "getUnreadCount - Redis 장애 시 Optional.empty 반환 (Graceful Degradation)"() {
         given:
-        valueOperations.get(expectedKey) >> { throw new RuntimeException("Redis connection failed") }
+        hashOperations.multiGet(_, _) >> { throw new RuntimeException("Redis connection failed") }
 
         when:
         def result = adapter.getUnreadCount(roomId, userId)
@@ -58,17 +78,108 @@ class UnreadCountRedisAdapterSpec extends Specification {
         noExceptionThrown()
     }
 
-    def "setUnreadCount - 값 저장 및 TTL 설정"() {
+    def "getUnreadCounts - 사용자 Hash 하나를 HMGET으로 일괄 조회"() {
+        given:
+        def roomId1 = RoomId.of(1L)
+        def roomId2 = RoomId.of(2L)
+        def roomId3 = RoomId.of(3L)
+
+        when:
+        def result = adapter.getUnreadCounts([roomId1, roomId2, roomId3], userId)
+
+        then:
+        1 * hashOperations.multiGet(expectedKey, ["1", "2", "3", "total"]) >> [5, null, 10, null]
+        result.size() == 2
+        result.get(roomId1) == 5
+        result.get(roomId3) == 10
+        !result.containsKey(roomId2)
+    }
+
+    def "getUnreadCounts - 채팅방 단위 hit/miss 카운터를 기록한다"() {
+        given:
+        hashOperations.multiGet(_, _) >> [5, null, 10, null]
+
+        when:
+        adapter.getUnreadCounts([RoomId.of(1L), RoomId.of(2L), RoomId.of(3L)], userId)
+
+        then:
+        meterRegistry.counter("chat.cache.unread", "result", "hit").count() == 2
+        meterRegistry.counter("chat.cache.unread", "result", "miss").count() == 1
+    }
+
+    def "getUnreadCounts - Redis 장애 시 빈 맵 반환"() {
+        given:
+        hashOperations.multiGet(_, _) >> { throw new RuntimeException("Redis multiGet failed") }
+
+        when:
+        def result = adapter.getUnreadCounts([RoomId.of(1L), RoomId.of(2L)], userId)
+
+        then:
+        result.isEmpty()
+        noExceptionThrown()
+        meterRegistry.counter("chat.cache.unread", "result", "error").count() == 2
+    }
+
+    def "getUnreadCounts - 빈 목록이면 Redis를 호출하지 않는다"() {
+        when:
+        def result = adapter.getUnreadCounts([], userId)
+
+        then:
+        result.isEmpty()
+        0 * hashOperations.multiGet(_, _)
+    }
+
+    def "getTotalUnreadCount - total field를 단일 조회한다"() {
+        when:
+        def result = adapter.getTotalUnreadCount(userId)
+
+        then:
+        1 * hashOperations.get(expectedKey, "total") >> 12
+        result.get() == 12
+    }
+
+    def "getTotalUnreadCount - total이 없으면 캐시 미스"() {
+        given:
+        hashOperations.get(expectedKey, "total") >> null
+
+        when:
+        def result = adapter.getTotalUnreadCount(userId)
+
+        then:
+        result.isEmpty()
+    }
+
+    def "getTotalUnreadCount - Redis 장애 시 Optional.empty 반환"() {
+        given:
+        hashOperations.get(_, _) >> { throw new RuntimeException("Redis connection failed") }
+
+        when:
+        def result = adapter.getTotalUnreadCount(userId)
+
+        then:
+        result.isEmpty()
+        noExceptionThrown()
+    }
+
+    def "setUnreadCount - Lua 스크립트로 field와 total을 함께 갱신"() {
+        given:
+        def captured = []
+
         when:
         adapter.setUnreadCount(roomId, userId, 10)
 
         then:
-        1 * valueOperations.set(expectedKey, 10, 24, _)
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 1, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured.addAll(keysAndArgs.collect { new String(it) })
+            0L
+        }
+        captured == [expectedKey, "123", "10", "86400"]
     }
 
     def "setUnreadCount - Redis 장애 시 예외 전파 없음"() {
         given:
-        valueOperations.set(_, _, _, _) >> { throw new RuntimeException("Redis write failed") }
+        redisTemplate.execute(_ as RedisCallback) >> { throw new RuntimeException("Redis write failed") }
 
         when:
         adapter.setUnreadCount(roomId, userId, 10)
@@ -77,63 +188,165 @@ class UnreadCountRedisAdapterSpec extends Specification {
         noExceptionThrown()
     }
 
-    def "incrementUnreadCount - 값 1 증가"() {
+    def "setUnreadCounts - 채팅방별 설정 스크립트를 하나의 파이프라인으로 실행"() {
+        given:
+        def captured = []
+
         when:
-        adapter.incrementUnreadCount(roomId, userId)
+        adapter.setUnreadCounts(userId, [(RoomId.of(1L)): 3, (RoomId.of(2L)): 0])
+
+        then:
+        1 * redisTemplate.executePipelined(_ as RedisCallback) >> { RedisCallback callback ->
+            callback.doInRedis(connection)
+            []
+        }
+        2 * scriptingCommands.eval(_, ReturnType.INTEGER, 1, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured << keysAndArgs.collect { new String(it) }
+            null
+        }
+        captured as Set == [[expectedKey, "1", "3", "86400"], [expectedKey, "2", "0", "86400"]] as Set
+    }
+
+    def "setUnreadCounts - 대상이 없으면 Redis를 호출하지 않는다"() {
+        when:
+        adapter.setUnreadCounts(userId, [:])
 
         then:
-        1 * valueOperations.increment(expectedKey)
-        1 * redisTemplate.expire(expectedKey, 24, _)
+        0 * redisTemplate.executePipelined(_ as RedisCallback)
     }
 
-    def "incrementUnreadCount - Redis 장애 시 예외 전파 없음"() {
+    def "setUnreadCounts - Redis 장애 시 예외 전파 없음"() {
         given:
-        valueOperations.increment(_) >> { throw new RuntimeException("Redis increment failed") }
+        redisTemplate.executePipelined(_ as RedisCallback) >> { throw new RuntimeException("Redis pipeline failed") }
 
         when:
-        adapter.incrementUnreadCount(roomId, userId)
+        adapter.setUnreadCounts(userId, [(roomId): 1])
 
         then:
         noExceptionThrown()
     }
 
     def "resetUnreadCount - 값 0으로 설정"() {
+        given:
+        def captured = []
+
         when:
         adapter.resetUnreadCount(roomId, userId)
 
         then:
-        1 * valueOperations.set(expectedKey, 0, 24, _)
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 1, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured.addAll(keysAndArgs.collect { new String(it) })
+            5L
+        }
+        captured == [expectedKey, "123", "0", "86400"]
     }
 
-    def "getUnreadCounts - 여러 키 일괄 조회"() {
+    def "replaceUnreadCounts - 0이 아닌 채팅방만 field로 담아 Hash를 재구성"() {
         given:
-        def roomId1 = RoomId.of(1L)
-        def roomId2 = RoomId.of(2L)
-        def roomId3 = RoomId.of(3L)
-        def roomIds = [roomId1, roomId2, roomId3]
+        def captured = []
+
+        when:
+        adapter.replaceUnreadCounts(userId, [(RoomId.of(1L)): 3, (RoomId.of(2L)): 0])
 
-        valueOperations.multiGet(_) >> [5, null, 10]
+        then:
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 1, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured.addAll(keysAndArgs.collect { new String(it) })
+            3L
+        }
+        captured == [expectedKey, "86400", "1", "3"]
+    }
+
+    def "replaceUnreadCounts - Redis 장애 시 예외 전파 없음"() {
+        given:
+        redisTemplate.execute(_ as RedisCallback) >> { throw new RuntimeException("Redis write failed") }
 
         when:
-        def result = adapter.getUnreadCounts(roomIds, userId)
+        adapter.replaceUnreadCounts(userId, [(roomId): 1])
 
         then:
-        result.size() == 2
-        result.get(roomId1) == 5
-        result.get(roomId3) == 10
-        !result.containsKey(roomId2)
+        noExceptionThrown()
     }
 
-    def "getUnreadCounts - Redis 장애 시 빈 맵 반환"() {
+    def "incrementUnreadCounts - 수신자별 증가 스크립트를 하나의 파이프라인으로 실행"() {
         given:
-        def roomIds = [RoomId.of(1L), RoomId.of(2L)]
-        valueOperations.multiGet(_) >> { throw new RuntimeException("Redis multiGet failed") }
+        def capturedKeys = []
 
         when:
-        def result = adapter.getUnreadCounts(roomIds, userId)
+        adapter.incrementUnreadCounts(roomId, [UserId.of(1L), UserId.of(2L), UserId.of(3L)])
+
+        then:
+        1 * redisTemplate.executePipelined(_ as RedisCallback) >> { RedisCallback callback ->
+            callback.doInRedis(connection)
+            []
+        }
+        3 * scriptingCommands.eval(_, ReturnType.INTEGER, 1, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            capturedKeys << keysAndArgs.collect { new String(it) }
+            null
+        }
+        capturedKeys == [["unread:1", "123"], ["unread:2", "123"], ["unread:3", "123"]]
+    }
+
+    def "incrementUnreadCounts - 증가할 때마다 TTL을 연장하지 않아 어긋난 total도 TTL이 지나면 재계산된다"() {
+        given:
+        String captured = null
+
+        when:
+        adapter.incrementUnreadCounts(roomId, [userId])
+
+        then:
+        1 * redisTemplate.executePipelined(_ as RedisCallback) >> { RedisCallback callback ->
+            callback.doInRedis(connection)
+            []
+        }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 1, _) >> { byte[] script, type, numKeys, byte[][] keysAndArgs ->
+            captured = new String(script)
+            null
+        }
+        !captured.contains("EXPIRE")
+    }
+
+    def "setUnreadCount - Hash를 새로 만들 때(TTL 없음)만 TTL을 설정한다"() {
+        given:
+        String captured = null
+
+        when:
+        adapter.setUnreadCount(roomId, userId, 10)
+
+        then:
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 1, _) >> { byte[] script, type, numKeys, byte[][] keysAndArgs ->
+            captured = new String(script)
+            0L
+        }
+        captured.contains("if redis.call('TTL', KEYS[1]) == -1 then")
+    }
+
+    def "incrementUnreadCounts - 대상이 없으면 Redis를 호출하지 않는다"() {
+        when:
+        adapter.incrementUnreadCounts(roomId, [])
+
+        then:
+        0 * redisTemplate.executePipelined(_ as RedisCallback)
+    }
+
+    def "incrementUnreadCounts - Redis 장애 시 예외 전파 없음"() {
+        given:
+        redisTemplate.executePipelined(_ as RedisCallback) >> { throw new RuntimeException("Redis pipeline failed") }
+
+        when:
+        adapter.incrementUnreadCounts(roomId, [userId])
 
         then:
-        result.isEmpty()
         noExceptionThrown()
     }
+
+    def "incrementUnreadCount - 단건도 파이프라인 경로로 위임"() {
+        when:
+        adapter.incrementUnreadCount(roomId, userId)
+
+        then:
+        1 * redisTemplate.executePipelined(_ as RedisCallback) >> []
+    }
 }
@@ -0,0 +1,107 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.kafka
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.apache.kafka.clients.consumer.Consumer
+import org.apache.kafka.clients.consumer.ConsumerRecord
+import org.apache.kafka.clients.consumer.ConsumerRecords
+import org.apache.kafka.clients.consumer.OffsetAndMetadata
+import org.apache.kafka.common.PartitionInfo
+import org.apache.kafka.common.TopicPartition
+import org.springframework.kafka.core.ConsumerFactory
+import org.springframework.kafka.core.KafkaTemplate
+import org.springframework.kafka.support.SendResult
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+
+class KafkaDeadLetterReplayAdapterSpec extends Specification {
+
+    ConsumerFactory<String, byte[]> consumerFactory = Mock()
+    Consumer<String, byte[]> consumer = Mock()
+    KafkaTemplate<String, byte[]> kafkaTemplate = Mock()
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    @Subject
+    KafkaDeadLetterReplayAdapter adapter = new KafkaDeadLetterReplayAdapter(consumerFactory, kafkaTemplate,
+            meterRegistry, ["chat-message-read"] as Set, "replay-group", Duration.ofSeconds(1))
+
+    def setup() {
+        consumerFactory.createConsumer("replay-group", null) >> consumer
+        consumer.partitionsFor("chat-message-read.DLT") >> [new PartitionInfo("chat-message-read.DLT", 0, null, null, null)]
+    }
+
+    def "설정된 토픽만 재처리할 수 있다"() {
+        expect:
+        adapter.isReplayable("chat-message-read")
+        !adapter.isReplayable("chat-message-sent")
+    }
+
+    def "DLT 레코드를 원본 토픽에 같은 키로 재발행하고 offset을 커밋한다"() {
+        given:
+        def partition = new TopicPartition("chat-message-read.DLT", 0)
+        def records = new ConsumerRecords<String, byte[]>([(partition): [
+                new ConsumerRecord<String, byte[]>("chat-message-read.DLT", 0, 10L, "1", "a".bytes),
+                new ConsumerRecord<String, byte[]>("chat-message-read.DLT", 0, 11L, "2", "b".bytes)
+        ]])
+        consumer.poll(_) >>> [records, ConsumerRecords.empty()]
+
+        when:
+        def replayed = adapter.replay("chat-message-read", 100)
+
+        then:
+        1 * kafkaTemplate.send("chat-message-read", "1", "a".bytes) >> CompletableFuture.completedFuture(Mock(SendResult))
+        1 * kafkaTemplate.send("chat-message-read", "2", "b".bytes) >> CompletableFuture.completedFuture(Mock(SendResult))
+        1 * consumer.commitSync({ Map<TopicPartition, OffsetAndMetadata> offsets -> offsets[partition].offset() == 12L })
+        replayed == 2
+        meterRegistry.counter("chat.kafka.dlt.replayed", "topic", "chat-message-read").count() == 2
+    }
+
+    def "limit까지만 재발행하고 그 위치까지만 커밋한다"() {
+        given:
+        def partition = new TopicPartition("chat-message-read.DLT", 0)
+        def records = new ConsumerRecords<String, byte[]>([(partition): [
+                new ConsumerRecord<String, byte[]>("chat-message-read.DLT", 0, 10L, "1", "a".bytes),
+                new ConsumerRecord<String, byte[]>("chat-message-read.DLT", 0, 11L, "2", "b".bytes)
+        ]])
+        consumer.poll(_) >> records
+        kafkaTemplate.send(_, _, _) >> CompletableFuture.completedFuture(Mock(SendResult))
+
+        when:
+        def replayed = adapter.replay("chat-message-read", 1)
+
+        then:
+        1 * consumer.commitSync({ Map<TopicPartition, OffsetAndMetadata> offsets -> offsets[partition].offset() == 11L })
+        replayed == 1
+    }
+
+    def "재발행에 실패하면 성공한 위치까지 커밋하고 예외를 던진다"() {
+        given:
+        def partition = new TopicPartition("chat-message-read.DLT", 0)
+        def records = new ConsumerRecords<String, byte[]>([(partition): [
+                new ConsumerRecord<String, byte[]>("chat-message-read.DLT", 0, 10L, "1", "a".bytes),
+                new ConsumerRecord<String, byte[]>("chat-message-read.DLT", 0, 11L, "2", "b".bytes)
+        ]])
+        consumer.poll(_) >> records
+        kafkaTemplate.send(_, "1", _) >> CompletableFuture.completedFuture(Mock(SendResult))
+        kafkaTemplate.send(_, "2", _) >> CompletableFuture.failedFuture(new RuntimeException("broker down"))
+
+        when:
+        adapter.replay("chat-message-read", 100)
+
+        then:
+        1 * consumer.commitSync({ Map<TopicPartition, OffsetAndMetadata> offsets -> offsets[partition].offset() == 11L })
+        thrown(IllegalStateException)
+    }
+
+    def "DLT 토픽이 없으면 0건을 반환한다"() {
+        when:
+        def replayed = adapter.replay("chat-message-read", 100)
+
+        then:
+        consumer.partitionsFor("chat-message-read.DLT") >> []
+        0 * consumer.poll(_)
+        replayed == 0
+    }
+}
@@ -6,6 +6,7 @@ import com.teambind.co.kr.chatdding.domain.event.MessageSentEvent
 import com.teambind.co.kr.chatdding.domain.event.SupportAgentAssignedEvent
 import com.teambind.co.kr.chatdding.domain.event.SupportChatClosedEvent
 import com.teambind.co.kr.chatdding.domain.event.SupportRequestCreatedEvent
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.apache.kafka.clients.consumer.ConsumerConfig
 import org.apache.kafka.clients.consumer.ConsumerRecords
 import org.apache.kafka.common.serialization.StringDeserializer
@@ -35,7 +36,7 @@ class KafkaEventPublisherSpec extends Specification {
     EmbeddedKafkaBroker embeddedKafkaBroker
 
     @Autowired
-    KafkaTemplate<String, String> kafkaTemplate
+    KafkaTemplate<String, byte[]> kafkaTemplate
 
     @Autowired
     ObjectMapper objectMapper
@@ -44,7 +45,7 @@ class KafkaEventPublisherSpec extends Specification {
     KafkaEventPublisher kafkaEventPublisher
 
     def setup() {
-        kafkaEventPublisher = new KafkaEventPublisher(kafkaTemplate, objectMapper)
+        kafkaEventPublisher = new KafkaEventPublisher(kafkaTemplate, objectMapper, new SimpleMeterRegistry())
     }
 
     def "MessageSentEvent를 chat-message-sent 토픽으로 발행한다"() {
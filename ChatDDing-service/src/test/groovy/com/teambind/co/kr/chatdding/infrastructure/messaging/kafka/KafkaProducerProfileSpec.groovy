@@ -0,0 +1,53 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.kafka
+
+import org.apache.kafka.clients.producer.ProducerConfig
+import spock.lang.Specification
+
+class KafkaProducerProfileSpec extends Specification {
+
+    def "Producer 설정 맵으로 변환한다"() {
+        given:
+        def profile = new KafkaProducerProfile("all", true, "lz4", 10, 65536, 67108864L, 5, 5000L, 10000, 30000)
+
+        when:
+        def properties = profile.toProducerProperties()
+
+        then:
+        properties[ProducerConfig.ACKS_CONFIG] == "all"
+        properties[ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG] == true
+        properties[ProducerConfig.COMPRESSION_TYPE_CONFIG] == "lz4"
+        properties[ProducerConfig.LINGER_MS_CONFIG] == 10
+        properties[ProducerConfig.BATCH_SIZE_CONFIG] == 65536
+        properties[ProducerConfig.BUFFER_MEMORY_CONFIG] == 67108864L
+        properties[ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION] == 5
+        properties[ProducerConfig.MAX_BLOCK_MS_CONFIG] == 5000L
+        properties[ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG] == 10000
+        properties[ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG] == 30000
+    }
+
+    def "멱등 Producer가 아니면 acks와 in-flight를 자유롭게 설정할 수 있다"() {
+        when:
+        def profile = new KafkaProducerProfile("1", false, "zstd", 0, 16384, 33554432L, 10, 5000L, 10000, 30000)
+
+        then:
+        profile.toProducerProperties()[ProducerConfig.ACKS_CONFIG] == "1"
+    }
+
+    def "잘못된 설정이면 예외가 발생한다"() {
+        when:
+        new KafkaProducerProfile(acks, idempotence, compressionType, 10, 65536, 67108864L, maxInFlight,
+                maxBlockMs, 10000, deliveryTimeoutMs)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        acks  | idempotence | compressionType | maxInFlight | maxBlockMs | deliveryTimeoutMs
+        "all" | true        | "brotli"        | 5           | 5000L      | 30000
+        "1"   | true        | "lz4"           | 5           | 5000L      | 30000
+        "all" | true        | "lz4"           | 6           | 5000L      | 30000
+        "all" | false       | "lz4"           | 0           | 5000L      | 30000
+        "all" | true        | "lz4"           | 5           | 0L         | 30000
+        "all" | true        | "lz4"           | 5           | 5000L      | 10000
+    }
+}
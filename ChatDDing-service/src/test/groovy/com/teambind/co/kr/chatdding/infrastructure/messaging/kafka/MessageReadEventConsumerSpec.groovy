@@ -5,10 +5,17 @@ import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.databind.SerializationFeature
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomRepository
+import com.teambind.co.kr.chatdding.domain.chatroom.ReadWatermark
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
 import com.teambind.co.kr.chatdding.domain.event.MessageReadEvent
+import com.teambind.co.kr.chatdding.domain.message.Message
+import com.teambind.co.kr.chatdding.domain.message.MessageId
 import com.teambind.co.kr.chatdding.domain.message.MessageRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.apache.kafka.clients.consumer.ConsumerRecord
+import org.springframework.kafka.listener.BatchListenerFailedException
 import spock.lang.Specification
 import spock.lang.Subject
 
@@ -17,69 +24,166 @@ import java.time.LocalDateTime
 class MessageReadEventConsumerSpec extends Specification {
 
     MessageRepository messageRepository = Mock()
+    ChatRoomRepository chatRoomRepository = Mock()
     ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .registerModule(new ParameterNamesModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
             .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
 
     @Subject
     MessageReadEventConsumer consumer = new MessageReadEventConsumer(
             messageRepository,
-            objectMapper
+            chatRoomRepository,
+            objectMapper,
+            meterRegistry
     )
 
-    def "MessageReadEvent 소비 시 bulkMarkAsRead가 호출된다"() {
+    def "MessageReadEvent 소비 시 이벤트의 메시지 ID로 워터마크를 전진시킨다"() {
         given:
-        def event = MessageReadEvent.of("123", 1L, 0)
-        def payload = objectMapper.writeValueAsString(event)
+        def event = MessageReadEvent.of("123", 1L, "55", 0)
+        def record = new ConsumerRecord<String, byte[]>("chat-message-read", 0, 0L, "123", objectMapper.writeValueAsBytes(event))
 
         when:
-        consumer.consume(payload)
+        consumer.consume([record])
 
         then:
-        1 * messageRepository.bulkMarkAsRead(
-                { RoomId roomId -> roomId.toStringValue() == "123" },
-                { UserId userId -> userId.getValue() == 1L },
-                _ as LocalDateTime
-        ) >> 5
+        1 * chatRoomRepository.updateParticipantReadWatermarks({ List<ReadWatermark> watermarks ->
+            watermarks.size() == 1 &&
+                    watermarks[0].roomId().toStringValue() == "123" &&
+                    watermarks[0].userId().getValue() == 1L &&
+                    watermarks[0].lastReadMessageId() == MessageId.of(55L) &&
+                    watermarks[0].readAt() != null
+        })
+        0 * messageRepository.markAsReadUpTo(_, _, _, _)
     }
 
-    def "잘못된 페이로드는 예외를 로깅하고 처리를 건너뛴다"() {
+    def "이전 버전이 JSON 문자열 리터럴로 감싸 보낸 이벤트와 원본 JSON 이벤트를 모두 읽는다"() {
         given:
-        def invalidPayload = "{ invalid json }"
+        def legacy = objectMapper.writeValueAsBytes(objectMapper.writeValueAsString(MessageReadEvent.of("123", 1L, "55", 0)))
+        def current = objectMapper.writeValueAsBytes(MessageReadEvent.of("123", 2L, "56", 0))
+        def records = [legacy, current].withIndex().collect { payload, offset ->
+            new ConsumerRecord<String, byte[]>("chat-message-read", 0, offset, "123", payload)
+        }
 
         when:
-        consumer.consume(invalidPayload)
+        consumer.consume(records)
 
         then:
-        0 * messageRepository.bulkMarkAsRead(_, _, _)
-        noExceptionThrown()
+        1 * chatRoomRepository.updateParticipantReadWatermarks({ List<ReadWatermark> watermarks ->
+            watermarks*.lastReadMessageId() == [MessageId.of(55L), MessageId.of(56L)]
+        })
+        meterRegistry.counter("chat.kafka.read-events", "stage", "invalid").count() == 0
     }
 
-    def "bulkMarkAsRead 결과가 0이어도 정상 처리된다"() {
+    def "한 poll 안의 같은 (roomId, userId) 이벤트는 가장 앞선 워터마크 하나로 합쳐 한 번에 반영한다"() {
         given:
-        def event = MessageReadEvent.of("456", 2L, 0)
-        def payload = objectMapper.writeValueAsString(event)
+        def now = LocalDateTime.now()
+        def records = [
+                new MessageReadEvent("123", 1L, "10", 0, now),
+                new MessageReadEvent("123", 1L, "30", 0, now.plusSeconds(2)),
+                new MessageReadEvent("123", 2L, "20", 0, now),
+                new MessageReadEvent("123", 1L, "25", 0, now.plusSeconds(1))
+        ].withIndex().collect { event, offset ->
+            new ConsumerRecord<String, byte[]>("chat-message-read", 0, offset, "123", objectMapper.writeValueAsBytes(event))
+        }
 
         when:
-        consumer.consume(payload)
+        consumer.consume(records)
 
         then:
-        1 * messageRepository.bulkMarkAsRead(_, _, _) >> 0
-        noExceptionThrown()
+        1 * chatRoomRepository.updateParticipantReadWatermarks({ List<ReadWatermark> watermarks ->
+            watermarks.size() == 2 &&
+                    watermarks[0].userId() == UserId.of(1L) &&
+                    watermarks[0].lastReadMessageId() == MessageId.of(30L) &&
+                    watermarks[0].readAt() == now.plusSeconds(2) &&
+                    watermarks[1].userId() == UserId.of(2L) &&
+                    watermarks[1].lastReadMessageId() == MessageId.of(20L)
+        })
+        meterRegistry.counter("chat.kafka.read-events", "stage", "received").count() == 4
+        meterRegistry.counter("chat.kafka.read-events", "stage", "applied").count() == 2
     }
 
-    def "이벤트의 occurredAt이 readAt으로 전달된다"() {
+    def "이벤트에 메시지 ID가 없으면 채팅방당 한 번 조회한 최신 메시지까지 워터마크를 전진시킨다"() {
         given:
-        def event = MessageReadEvent.of("789", 3L, 0)
-        def payload = objectMapper.writeValueAsString(event)
+        def records = [
+                MessageReadEvent.of("456", 2L, 0),
+                MessageReadEvent.of("456", 3L, 0)
+        ].withIndex().collect { event, offset ->
+            new ConsumerRecord<String, byte[]>("chat-message-read", 0, offset, "456", objectMapper.writeValueAsBytes(event))
+        }
+        def latest = Message.create(MessageId.of(77L), RoomId.of(456L), UserId.of(9L), "최신")
 
         when:
-        consumer.consume(payload)
+        consumer.consume(records)
 
         then:
-        1 * messageRepository.bulkMarkAsRead(_, _, { LocalDateTime readAt ->
+        1 * messageRepository.findLatestByRoomId(RoomId.of(456L)) >> Optional.of(latest)
+        1 * chatRoomRepository.updateParticipantReadWatermarks({ List<ReadWatermark> watermarks ->
+            watermarks*.lastReadMessageId() == [MessageId.of(77L), MessageId.of(77L)]
+        })
+    }
+
+    def "잘못된 페이로드를 만나면 앞선 이벤트를 반영한 뒤 실패 위치를 알린다"() {
+        given:
+        def valid = new ConsumerRecord<String, byte[]>("chat-message-read", 0, 0L, "123",
+                objectMapper.writeValueAsBytes(MessageReadEvent.of("123", 1L, "55", 0)))
+        def invalid = new ConsumerRecord<String, byte[]>("chat-message-read", 0, 1L, "123", "{ invalid json }".bytes)
+        def following = new ConsumerRecord<String, byte[]>("chat-message-read", 0, 2L, "123",
+                objectMapper.writeValueAsBytes(MessageReadEvent.of("123", 2L, "56", 0)))
+
+        when:
+        consumer.consume([valid, invalid, following])
+
+        then:
+        1 * chatRoomRepository.updateParticipantReadWatermarks({ List<ReadWatermark> watermarks ->
+            watermarks.size() == 1 && watermarks[0].userId() == UserId.of(1L)
+        })
+        def e = thrown(BatchListenerFailedException)
+        e.index == 1
+        e.cause instanceof IllegalArgumentException
+        meterRegistry.counter("chat.kafka.read-events", "stage", "invalid").count() == 1
+    }
+
+    def "첫 이벤트가 잘못되면 갱신 없이 실패 위치를 알린다"() {
+        given:
+        def invalid = new ConsumerRecord<String, byte[]>("chat-message-read", 0, 0L, "123", "{ invalid json }".bytes)
+
+        when:
+        consumer.consume([invalid])
+
+        then:
+        0 * chatRoomRepository.updateParticipantReadWatermarks(_)
+        def e = thrown(BatchListenerFailedException)
+        e.index == 0
+    }
+
+    def "워터마크 반영에 실패하면 예외를 던져 에러 핸들러가 재시도하도록 한다"() {
+        given:
+        def record = new ConsumerRecord<String, byte[]>("chat-message-read", 0, 0L, "123",
+                objectMapper.writeValueAsBytes(MessageReadEvent.of("123", 1L, "55", 0)))
+        chatRoomRepository.updateParticipantReadWatermarks(_) >> { throw new RuntimeException("mongo down") }
+
+        when:
+        consumer.consume([record])
+
+        then:
+        thrown(RuntimeException)
+    }
+
+    def "호환 모드에서는 레거시 readBy도 같은 범위로 갱신한다"() {
+        given:
+        consumer.legacyReadByEnabled = true
+        def event = MessageReadEvent.of("789", 3L, "10", 0)
+        def record = new ConsumerRecord<String, byte[]>("chat-message-read", 0, 0L, "789", objectMapper.writeValueAsBytes(event))
+
+        when:
+        consumer.consume([record])
+
+        then:
+        1 * chatRoomRepository.updateParticipantReadWatermarks(_)
+        1 * messageRepository.markAsReadUpTo(_, _, MessageId.of(10L), { LocalDateTime readAt ->
             readAt != null
         }) >> 1
     }
@@ -0,0 +1,69 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.outbox
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import com.teambind.co.kr.chatdding.common.util.generator.PrimaryKeyGenerator
+import com.teambind.co.kr.chatdding.domain.event.MessageReadEvent
+import com.teambind.co.kr.chatdding.domain.event.MessageSentEvent
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.OutboxEventDocument
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository.OutboxEventMongoRepository
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.LocalDateTime
+
+class OutboxEventPublisherSpec extends Specification {
+
+    OutboxEventMongoRepository outboxRepository = Mock()
+    PrimaryKeyGenerator primaryKeyGenerator = Mock()
+    ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+
+    @Subject
+    OutboxEventPublisher publisher = new OutboxEventPublisher(outboxRepository, primaryKeyGenerator, objectMapper, false)
+
+    def "이벤트를 Kafka 대신 토픽, roomId 키와 함께 outbox에 적재한다"() {
+        given:
+        def event = new MessageSentEvent("123", "456", 1L, "안녕", "안녕", [2L], LocalDateTime.now())
+        primaryKeyGenerator.generateLongKey() >> 1000L
+
+        when:
+        publisher.publish(event)
+
+        then:
+        1 * outboxRepository.insert({ OutboxEventDocument doc ->
+            doc.id == 1000L &&
+                    doc.topic == "chat-message-sent" &&
+                    doc.messageKey == "456" &&
+                    doc.eventType == "MESSAGE_SENT" &&
+                    objectMapper.readTree(doc.payload).get("messageId").asText() == "123" &&
+                    doc.createdAt != null
+        } as OutboxEventDocument)
+    }
+
+    def "토픽을 지정하면 지정한 토픽으로 적재한다"() {
+        given:
+        def event = MessageReadEvent.of("456", 1L, "55", 0)
+        primaryKeyGenerator.generateLongKey() >> 1001L
+
+        when:
+        publisher.publish("custom-topic", event)
+
+        then:
+        1 * outboxRepository.insert({ OutboxEventDocument doc -> doc.topic == "custom-topic" && doc.messageKey == "456" } as OutboxEventDocument)
+    }
+
+    def "적재 실패는 호출자에게 전파되어 트랜잭션을 롤백시킨다"() {
+        given:
+        def event = MessageReadEvent.of("456", 1L, "55", 0)
+        outboxRepository.insert(_ as OutboxEventDocument) >> { throw new IllegalStateException("Mongo write failed") }
+
+        when:
+        publisher.publish(event)
+
+        then:
+        thrown(IllegalStateException)
+    }
+}
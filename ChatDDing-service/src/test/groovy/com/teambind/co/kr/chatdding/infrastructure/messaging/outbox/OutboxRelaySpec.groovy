@@ -0,0 +1,213 @@
+package com.teambind.co.kr.chatdding.infrastructure.messaging.outbox
+
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document.OutboxEventDocument
+import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository.OutboxEventMongoRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.data.domain.Pageable
+import org.springframework.data.redis.connection.RedisConnection
+import org.springframework.data.redis.connection.RedisScriptingCommands
+import org.springframework.data.redis.connection.ReturnType
+import org.springframework.data.redis.core.RedisCallback
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import org.springframework.kafka.core.KafkaTemplate
+import org.springframework.kafka.support.SendResult
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.time.LocalDateTime
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class OutboxRelaySpec extends Specification {
+
+    OutboxEventMongoRepository outboxRepository = Mock()
+    KafkaTemplate<String, byte[]> kafkaTemplate = Mock()
+    StringRedisTemplate redisTemplate = Mock()
+    ValueOperations<String, String> valueOperations = Mock()
+    RedisConnection connection = Mock()
+    RedisScriptingCommands scriptingCommands = Mock()
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    @Subject
+    OutboxRelay relay = new OutboxRelay(outboxRepository, kafkaTemplate, redisTemplate, meterRegistry,
+            2, 3, Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofMillis(10))
+
+    def setup() {
+        redisTemplate.opsForValue() >> valueOperations
+        connection.scriptingCommands() >> scriptingCommands
+    }
+
+    def cleanup() {
+        relay.stop()
+    }
+
+    def "배치를 한꺼번에 전송하고 ack된 이벤트를 삭제한다"() {
+        given:
+        def events = [
+                new OutboxEventDocument(1L, "chat-message-sent", "10", "{\"a\":1}".bytes, "MESSAGE_SENT", LocalDateTime.now()),
+                new OutboxEventDocument(2L, "chat-message-read", "10", "{\"b\":2}".bytes, "MESSAGE_READ", LocalDateTime.now())
+        ]
+        outboxRepository.findAllByOrderByIdAsc({ Pageable p -> p.pageSize == 2 }) >> events
+
+        when:
+        def full = relay.relayBatch()
+
+        then:
+        1 * kafkaTemplate.send("chat-message-sent", "10", "{\"a\":1}".bytes) >> CompletableFuture.completedFuture(Mock(SendResult))
+        1 * kafkaTemplate.send("chat-message-read", "10", "{\"b\":2}".bytes) >> CompletableFuture.completedFuture(Mock(SendResult))
+        1 * outboxRepository.deleteAllById([1L, 2L])
+        full
+        meterRegistry.timer("chat.outbox.lag").count() == 2
+    }
+
+    def "전송에 실패한 이벤트는 남겨두고 다음 주기에 재전송한다"() {
+        given:
+        def events = [
+                new OutboxEventDocument(1L, "chat-message-sent", "10", "a".bytes, "MESSAGE_SENT", LocalDateTime.now()),
+                new OutboxEventDocument(2L, "chat-message-sent", "20", "b".bytes, "MESSAGE_SENT", LocalDateTime.now())
+        ]
+        outboxRepository.findAllByOrderByIdAsc(_) >> events
+        kafkaTemplate.send(_, "10", _) >> CompletableFuture.completedFuture(Mock(SendResult))
+        kafkaTemplate.send(_, "20", _) >> CompletableFuture.failedFuture(new RuntimeException("broker down"))
+
+        when:
+        def full = relay.relayBatch()
+
+        then:
+        1 * outboxRepository.deleteAllById([1L])
+        !full
+    }
+
+    def "send()가 바로 실패하면 배치의 남은 이벤트는 보내지 않고 다음 주기로 미룬다"() {
+        given:
+        def events = [
+                new OutboxEventDocument(1L, "chat-message-sent", "10", "a".bytes, "MESSAGE_SENT", LocalDateTime.now()),
+                new OutboxEventDocument(2L, "chat-message-sent", "20", "b".bytes, "MESSAGE_SENT", LocalDateTime.now())
+        ]
+        outboxRepository.findAllByOrderByIdAsc(_) >> events
+
+        when:
+        def full = relay.relayBatch()
+
+        then:
+        1 * kafkaTemplate.send(_, "10", _) >> { throw new RuntimeException("max.block.ms exceeded") }
+        0 * kafkaTemplate.send(_, "20", _)
+        0 * outboxRepository.deleteAllById(_)
+        !full
+    }
+
+    def "outbox가 비어 있으면 전송하지 않는다"() {
+        given:
+        outboxRepository.findAllByOrderByIdAsc(_) >> []
+
+        when:
+        def full = relay.relayBatch()
+
+        then:
+        !full
+        0 * kafkaTemplate.send(_, _, _)
+        0 * outboxRepository.deleteAllById(_)
+    }
+
+    def "리더이면 가득 찬 배치가 이어지는 동안 max-batches-per-run까지 비운다"() {
+        given:
+        valueOperations.setIfAbsent("outbox:relay:leader", _, Duration.ofSeconds(30)) >> true
+        redisTemplate.execute(_ as RedisCallback) >> 1L
+        outboxRepository.findAllByOrderByIdAsc(_) >> { [
+                new OutboxEventDocument(1L, "t", "k", "p".bytes, "E", LocalDateTime.now()),
+                new OutboxEventDocument(2L, "t", "k", "p".bytes, "E", LocalDateTime.now())
+        ] }
+        kafkaTemplate.send(_, _, _) >> CompletableFuture.completedFuture(Mock(SendResult))
+
+        when:
+        relay.relay()
+
+        then:
+        3 * outboxRepository.deleteAllById(_)
+    }
+
+    def "배치마다 리더를 연장하고 연장에 실패하면 남은 배치를 보내지 않는다"() {
+        given:
+        valueOperations.setIfAbsent("outbox:relay:leader", _, Duration.ofSeconds(30)) >> true
+        outboxRepository.findAllByOrderByIdAsc(_) >> { [
+                new OutboxEventDocument(1L, "t", "k", "p".bytes, "E", LocalDateTime.now()),
+                new OutboxEventDocument(2L, "t", "k", "p".bytes, "E", LocalDateTime.now())
+        ] }
+        kafkaTemplate.send(_, _, _) >> CompletableFuture.completedFuture(Mock(SendResult))
+
+        when:
+        relay.relay()
+
+        then:
+        2 * redisTemplate.execute(_ as RedisCallback) >>> [1L, 0L]
+        2 * outboxRepository.deleteAllById(_)
+    }
+
+    def "start() 후에는 공용 스케줄러가 아닌 전용 스레드에서 주기적으로 실행한다"() {
+        given:
+        def ran = new CountDownLatch(2)
+        def threadNames = new CopyOnWriteArrayList<String>()
+        valueOperations.setIfAbsent(_, _, _) >> {
+            threadNames << Thread.currentThread().name
+            ran.countDown()
+            throw new RuntimeException("Redis connection failed")
+        }
+
+        when:
+        relay.start()
+
+        then: "실행 중 예외가 나도 다음 주기가 이어진다"
+        ran.await(5, TimeUnit.SECONDS)
+        threadNames.every { it == "outbox-relay" }
+    }
+
+    def "리더이면 소유자 확인과 TTL 연장을 한 스크립트로 실행한다"() {
+        given:
+        valueOperations.setIfAbsent(_, _, _) >> false
+        def captured = []
+
+        when:
+        relay.relay()
+
+        then:
+        1 * redisTemplate.execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+        1 * scriptingCommands.eval(_, ReturnType.INTEGER, 1, _) >> { script, type, numKeys, byte[][] keysAndArgs ->
+            captured.addAll(keysAndArgs.collect { new String(it, StandardCharsets.UTF_8) })
+            1L
+        }
+        captured[0] == "outbox:relay:leader"
+        captured[2] == "30000"
+        0 * redisTemplate.expire(_, _)
+        1 * outboxRepository.findAllByOrderByIdAsc(_) >> []
+    }
+
+    def "다른 인스턴스가 리더이면 Relay하지 않는다"() {
+        given:
+        valueOperations.setIfAbsent(_, _, _) >> false
+        redisTemplate.execute(_ as RedisCallback) >> 0L
+
+        when:
+        relay.relay()
+
+        then:
+        0 * redisTemplate.expire(_, _)
+        0 * outboxRepository.findAllByOrderByIdAsc(_)
+    }
+
+    def "Redis 장애 시 Relay를 건너뛴다"() {
+        given:
+        valueOperations.setIfAbsent(_, _, _) >> { throw new RuntimeException("Redis connection failed") }
+
+        when:
+        relay.relay()
+
+        then:
+        noExceptionThrown()
+        0 * outboxRepository.findAllByOrderByIdAsc(_)
+    }
+}
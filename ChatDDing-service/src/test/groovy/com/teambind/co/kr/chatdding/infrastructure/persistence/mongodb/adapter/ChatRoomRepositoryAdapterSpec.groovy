@@ -1,10 +1,16 @@
 package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.adapter
 
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoom
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomContext
+import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomCursor
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomStatus
 import com.teambind.co.kr.chatdding.domain.chatroom.ChatRoomType
+import com.teambind.co.kr.chatdding.domain.chatroom.LastMessage
+import com.teambind.co.kr.chatdding.domain.chatroom.Participant
+import com.teambind.co.kr.chatdding.domain.chatroom.ReadWatermark
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.domain.message.MessageId
 import com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.repository.ChatRoomMongoRepository
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest
@@ -13,6 +19,8 @@ import org.springframework.test.context.ActiveProfiles
 import spock.lang.Specification
 import spock.lang.Subject
 
+import java.time.LocalDateTime
+
 @DataMongoTest
 @Import(ChatRoomRepositoryAdapter)
 @ActiveProfiles("test")
@@ -89,6 +97,27 @@ class ChatRoomRepositoryAdapterSpec extends Specification {
         rooms[0].status == ChatRoomStatus.ACTIVE
     }
 
+    def "활성 채팅방의 읽음 워터마크만 조회할 수 있다"() {
+        given:
+        def userId = UserId.of(100L)
+        def readRoom = ChatRoom.createDm(RoomId.of(1L), userId, UserId.of(200L))
+        def unreadRoom = ChatRoom.createDm(RoomId.of(2L), userId, UserId.of(300L))
+        def closedRoom = ChatRoom.createDm(RoomId.of(3L), userId, UserId.of(400L))
+        closedRoom.close()
+
+        chatRoomRepositoryAdapter.save(readRoom)
+        chatRoomRepositoryAdapter.save(unreadRoom)
+        chatRoomRepositoryAdapter.save(closedRoom)
+        chatRoomRepositoryAdapter.updateParticipantReadWatermark(RoomId.of(1L), userId, MessageId.of(30L), LocalDateTime.now())
+        chatRoomRepositoryAdapter.updateParticipantReadWatermark(RoomId.of(1L), UserId.of(200L), MessageId.of(50L), LocalDateTime.now())
+
+        when:
+        def watermarks = chatRoomRepositoryAdapter.findActiveReadWatermarksByParticipantUserId(userId)
+
+        then:
+        watermarks == [(RoomId.of(1L)): MessageId.of(30L), (RoomId.of(2L)): null]
+    }
+
     def "DM 채팅방을 참여자 ID로 조회할 수 있다"() {
         given:
         def user1 = UserId.of(100L)
@@ -244,6 +273,50 @@ class ChatRoomRepositoryAdapterSpec extends Specification {
         secondPage[0].id.value > firstPage.last().id.value
     }
 
+    def "활성 채팅방 목록을 (lastMessageAt, roomId) 커서로 페이지 조회할 수 있다"() {
+        given:
+        def userId = UserId.of(100L)
+        def sameTime = LocalDateTime.of(2024, 1, 15, 10, 0)
+        (1L..5L).each {
+            def lastMessageAt = it <= 3 ? sameTime : sameTime.minusHours(it)
+            chatRoomRepositoryAdapter.save(ChatRoom.restore(RoomId.of(it), ChatRoomType.DM, null,
+                    [Participant.create(userId), Participant.create(UserId.of(1000L + it))],
+                    userId, ChatRoomStatus.ACTIVE, sameTime.minusDays(1), lastMessageAt, null))
+        }
+
+        when:
+        def firstPage = chatRoomRepositoryAdapter.findActiveByParticipantUserIdBeforeCursor(userId, null, null, 2)
+        def secondPage = chatRoomRepositoryAdapter.findActiveByParticipantUserIdBeforeCursor(
+                userId, null, ChatRoomCursor.from(firstPage.last()), 2)
+        def thirdPage = chatRoomRepositoryAdapter.findActiveByParticipantUserIdBeforeCursor(
+                userId, null, ChatRoomCursor.from(secondPage.last()), 2)
+
+        then:
+        firstPage*.id*.value == [3L, 2L]
+        secondPage*.id*.value == [1L, 4L]
+        thirdPage*.id*.value == [5L]
+    }
+
+    def "호스트 문의 목록을 공간 필터와 커서로 페이지 조회할 수 있다"() {
+        given:
+        def hostId = UserId.of(200L)
+        (1L..4L).each {
+            def room = ChatRoom.createPlaceInquiry(RoomId.of(it), UserId.of(100L + it), hostId,
+                    ChatRoomContext.forPlace(it <= 3 ? 12345L : 99999L, "스터디룸"))
+            chatRoomRepositoryAdapter.save(room)
+        }
+
+        when:
+        def firstPage = chatRoomRepositoryAdapter.findPlaceInquiriesByHostIdBeforeCursor(hostId, 12345L, null, 2)
+        def secondPage = chatRoomRepositoryAdapter.findPlaceInquiriesByHostIdBeforeCursor(
+                hostId, 12345L, ChatRoomCursor.from(firstPage.last()), 2)
+
+        then:
+        firstPage.size() == 2
+        secondPage.size() == 1
+        (firstPage + secondPage)*.id*.value as Set == [1L, 2L, 3L] as Set
+    }
+
     def "대기 중인 상담 수를 조회할 수 있다"() {
         given:
         def pending1 = ChatRoom.createSupport(RoomId.of(1L), UserId.of(100L))
@@ -277,4 +350,123 @@ class ChatRoomRepositoryAdapterSpec extends Specification {
         then:
         count == 0L
     }
+
+    def "마지막 메시지 스냅샷은 더 최신 메시지로만 갱신된다"() {
+        given:
+        def roomId = RoomId.of(1L)
+        def chatRoom = ChatRoom.createDm(roomId, UserId.of(100L), UserId.of(200L))
+        chatRoomRepositoryAdapter.save(chatRoom)
+
+        def now = LocalDateTime.now().plusMinutes(1)
+        def newer = new LastMessage(MessageId.of(20L), UserId.of(100L), "최신", now)
+        def older = new LastMessage(MessageId.of(10L), UserId.of(200L), "이전", now.minusSeconds(5))
+
+        when:
+        chatRoomRepositoryAdapter.updateLastMessage(roomId, newer)
+        chatRoomRepositoryAdapter.updateLastMessage(roomId, older)
+        def found = chatRoomRepositoryAdapter.findById(roomId).get()
+
+        then:
+        found.lastMessage.messageId() == MessageId.of(20L)
+        found.lastMessage.preview() == "최신"
+        found.lastMessageAt.withNano(0) == now.withNano(0)
+    }
+
+    def "마지막 메시지 스냅샷은 삭제된 메시지를 가리킬 때만 교체된다"() {
+        given:
+        def roomId = RoomId.of(1L)
+        def chatRoom = ChatRoom.createDm(roomId, UserId.of(100L), UserId.of(200L))
+        chatRoomRepositoryAdapter.save(chatRoom)
+        def now = LocalDateTime.now()
+        chatRoomRepositoryAdapter.updateLastMessage(roomId,
+                new LastMessage(MessageId.of(20L), UserId.of(100L), "삭제될 메시지", now))
+
+        when:
+        chatRoomRepositoryAdapter.replaceLastMessage(roomId, MessageId.of(999L), null)
+        def untouched = chatRoomRepositoryAdapter.findById(roomId).get()
+        chatRoomRepositoryAdapter.replaceLastMessage(roomId, MessageId.of(20L), null)
+        def cleared = chatRoomRepositoryAdapter.findById(roomId).get()
+
+        then:
+        untouched.lastMessage.messageId() == MessageId.of(20L)
+        cleared.lastMessage == null
+    }
+
+    def "참여자 읽음 워터마크는 해당 참여자만 역행 없이 갱신된다"() {
+        given:
+        def roomId = RoomId.of(1L)
+        def reader = UserId.of(100L)
+        def other = UserId.of(200L)
+        def chatRoom = ChatRoom.createDm(roomId, reader, other)
+        chatRoomRepositoryAdapter.save(chatRoom)
+        def otherLastReadAt = chatRoom.findParticipant(other).get().lastReadAt
+        def readAt = LocalDateTime.now().plusMinutes(5)
+
+        when:
+        chatRoomRepositoryAdapter.updateParticipantReadWatermark(roomId, reader, MessageId.of(30L), readAt)
+        chatRoomRepositoryAdapter.updateParticipantReadWatermark(roomId, reader, MessageId.of(10L), readAt.minusMinutes(10))
+        def found = chatRoomRepositoryAdapter.findById(roomId).get()
+
+        then:
+        found.findParticipant(reader).get().lastReadMessageId == MessageId.of(30L)
+        found.findParticipant(reader).get().lastReadAt.withNano(0) == readAt.withNano(0)
+        found.findParticipant(other).get().lastReadMessageId == null
+        found.findParticipant(other).get().lastReadAt.withNano(0) == otherLastReadAt.withNano(0)
+    }
+
+    def "여러 채팅방의 읽음 워터마크를 한 번에 역행 없이 갱신한다"() {
+        given:
+        def dmId = RoomId.of(1L)
+        def groupId = RoomId.of(2L)
+        def reader = UserId.of(100L)
+        chatRoomRepositoryAdapter.save(ChatRoom.createDm(dmId, reader, UserId.of(200L)))
+        chatRoomRepositoryAdapter.save(ChatRoom.createDm(groupId, reader, UserId.of(300L)))
+        def readAt = LocalDateTime.now().plusMinutes(5)
+        chatRoomRepositoryAdapter.updateParticipantReadWatermark(dmId, reader, MessageId.of(50L), readAt)
+
+        when:
+        chatRoomRepositoryAdapter.updateParticipantReadWatermarks([
+                ReadWatermark.of(dmId, reader, MessageId.of(40L), readAt.minusMinutes(1)),
+                ReadWatermark.of(groupId, reader, MessageId.of(70L), readAt)
+        ])
+
+        then:
+        chatRoomRepositoryAdapter.findById(dmId).get().findParticipant(reader).get().lastReadMessageId == MessageId.of(50L)
+        chatRoomRepositoryAdapter.findById(groupId).get().findParticipant(reader).get().lastReadMessageId == MessageId.of(70L)
+    }
+
+    def "상담원은 다른 참여자의 읽음 워터마크를 덮어쓰지 않고 한 명만 추가된다"() {
+        given:
+        def roomId = RoomId.of(1L)
+        def customer = UserId.of(100L)
+        chatRoomRepositoryAdapter.save(ChatRoom.createSupport(roomId, customer))
+        chatRoomRepositoryAdapter.updateParticipantReadWatermark(roomId, customer, MessageId.of(30L), LocalDateTime.now())
+
+        when:
+        def first = chatRoomRepositoryAdapter.addParticipant(roomId, Participant.create(UserId.of(999L)), 2)
+        def second = chatRoomRepositoryAdapter.addParticipant(roomId, Participant.create(UserId.of(888L)), 2)
+        def found = chatRoomRepositoryAdapter.findById(roomId).get()
+
+        then:
+        first
+        !second
+        found.participantIds == [customer, UserId.of(999L)]
+        found.findParticipant(customer).get().lastReadMessageId == MessageId.of(30L)
+        chatRoomRepositoryAdapter.countPendingSupportRooms() == 0
+    }
+
+    def "채팅방 상태는 현재 상태가 일치할 때만 변경된다"() {
+        given:
+        def roomId = RoomId.of(1L)
+        chatRoomRepositoryAdapter.save(ChatRoom.createSupport(roomId, UserId.of(100L)))
+
+        when:
+        def first = chatRoomRepositoryAdapter.updateStatus(roomId, ChatRoomStatus.ACTIVE, ChatRoomStatus.CLOSED)
+        def second = chatRoomRepositoryAdapter.updateStatus(roomId, ChatRoomStatus.ACTIVE, ChatRoomStatus.CLOSED)
+
+        then:
+        first
+        !second
+        chatRoomRepositoryAdapter.findById(roomId).get().status == ChatRoomStatus.CLOSED
+    }
 }
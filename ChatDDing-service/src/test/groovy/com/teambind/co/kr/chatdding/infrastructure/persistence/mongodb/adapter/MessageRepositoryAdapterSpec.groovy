@@ -1,5 +1,6 @@
 package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.adapter
 
+import com.teambind.co.kr.chatdding.common.util.generator.Snowflake
 import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
 import com.teambind.co.kr.chatdding.domain.common.UserId
 import com.teambind.co.kr.chatdding.domain.message.Message
@@ -13,6 +14,8 @@ import org.springframework.test.context.ActiveProfiles
 import spock.lang.Specification
 import spock.lang.Subject
 
+import java.time.LocalDateTime
+
 @DataMongoTest
 @Import(MessageRepositoryAdapter)
 @ActiveProfiles("test")
@@ -89,24 +92,38 @@ class MessageRepositoryAdapterSpec extends Specification {
         messages.every { it.id.getValue() < 8L }
     }
 
+    def "특정 메시지 이후의 메시지를 ID 오름차순으로 조회할 수 있다"() {
+        given:
+        (1..10).each { i ->
+            def message = Message.create(MessageId.of(i as Long), roomId, senderId, "메시지 $i")
+            messageRepositoryAdapter.save(message)
+        }
+
+        when:
+        def messages = messageRepositoryAdapter.findByRoomIdAfterId(roomId, MessageId.of(6L), 3)
+
+        then:
+        messages*.id*.getValue() == [7L, 8L, 9L]
+    }
+
     def "특정 시간 이후의 메시지를 조회할 수 있다"() {
         given:
-        def msg1 = Message.create(MessageId.of(1L), roomId, senderId, "이전 메시지")
+        def snowflake = new Snowflake(1L)
+        def msg1 = Message.create(MessageId.of(snowflake.nextId()), roomId, senderId, "이전 메시지")
         messageRepositoryAdapter.save(msg1)
         sleep(100)
 
         def baseTime = java.time.LocalDateTime.now()
         sleep(100)
 
-        def msg2 = Message.create(MessageId.of(2L), roomId, senderId, "이후 메시지")
+        def msg2 = Message.create(MessageId.of(snowflake.nextId()), roomId, senderId, "이후 메시지")
         messageRepositoryAdapter.save(msg2)
 
         when:
         def messages = messageRepositoryAdapter.findByRoomIdAndCreatedAtAfter(roomId, baseTime)
 
         then:
-        messages.size() >= 1
-        messages.any { it.content == "이후 메시지" }
+        messages*.content == ["이후 메시지"]
     }
 
     def "읽지 않은 메시지 수를 계산할 수 있다"() {
@@ -125,12 +142,50 @@ class MessageRepositoryAdapterSpec extends Specification {
         messageRepositoryAdapter.save(readMessage)
 
         when:
-        def count = messageRepositoryAdapter.countUnreadByRoomIdAndUserId(roomId, reader)
+        def count = messageRepositoryAdapter.countUnread(roomId, reader, null)
 
         then:
         count == 3
     }
 
+    def "워터마크 이후의 다른 참여자 메시지만 읽지 않은 메시지로 센다"() {
+        given:
+        def reader = UserId.of(200L)
+        (1..5).each { i ->
+            messageRepositoryAdapter.save(Message.create(MessageId.of(i as Long), roomId, senderId, "메시지 $i"))
+        }
+        messageRepositoryAdapter.save(Message.create(MessageId.of(6L), roomId, reader, "내 메시지"))
+
+        expect:
+        messageRepositoryAdapter.countUnread(roomId, reader, MessageId.of(2L)) == 3
+        messageRepositoryAdapter.countUnreadUpTo(roomId, reader, MessageId.of(2L), MessageId.of(4L)) == 2
+        messageRepositoryAdapter.countUnread(roomId, senderId, null) == 1
+    }
+
+    def "여러 채팅방의 읽지 않은 메시지 수를 한 번에 계산할 수 있다"() {
+        given:
+        def reader = UserId.of(200L)
+        def otherRoomId = RoomId.of(2L)
+        def emptyRoomId = RoomId.of(3L)
+        (1..5).each { i ->
+            messageRepositoryAdapter.save(Message.create(MessageId.of(i as Long), roomId, senderId, "메시지 $i"))
+        }
+        (6..8).each { i ->
+            messageRepositoryAdapter.save(Message.create(MessageId.of(i as Long), otherRoomId, senderId, "메시지 $i"))
+        }
+        messageRepositoryAdapter.save(Message.create(MessageId.of(9L), otherRoomId, reader, "내 메시지"))
+
+        when:
+        def counts = messageRepositoryAdapter.countUnreadByRoomIds(reader, [
+                (roomId)     : MessageId.of(2L),
+                (otherRoomId): null,
+                (emptyRoomId): null
+        ])
+
+        then:
+        counts == [(roomId): 3L, (otherRoomId): 3L, (emptyRoomId): 0L]
+    }
+
     def "최신 메시지를 조회할 수 있다"() {
         given:
         (1..5).each { i ->
@@ -216,4 +271,21 @@ class MessageRepositoryAdapterSpec extends Specification {
         messages.size() == 1
         messages[0].roomId == roomId
     }
+
+    def "메시지 ID 범위까지 일괄 읽음 처리할 수 있다"() {
+        given:
+        def reader = UserId.of(200L)
+        (1..5).each { i ->
+            messageRepositoryAdapter.save(Message.create(MessageId.of(i as Long), roomId, senderId, "메시지 $i"))
+        }
+
+        when:
+        def updated = messageRepositoryAdapter.markAsReadUpTo(roomId, reader, MessageId.of(3L), LocalDateTime.now())
+
+        then:
+        updated == 3
+        messageRepositoryAdapter.findById(MessageId.of(3L)).get().isReadBy(reader)
+        !messageRepositoryAdapter.findById(MessageId.of(4L)).get().isReadBy(reader)
+        messageRepositoryAdapter.countUnread(roomId, reader, null) == 2
+    }
 }
@@ -0,0 +1,123 @@
+package com.teambind.co.kr.chatdding.infrastructure.persistence.mongodb.document
+
+import com.teambind.co.kr.chatdding.common.util.generator.Snowflake
+import com.teambind.co.kr.chatdding.domain.chatroom.RoomId
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.domain.message.Message
+import com.teambind.co.kr.chatdding.domain.message.MessageId
+import org.bson.Document
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver
+import org.springframework.data.mongodb.core.convert.QueryMapper
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext
+import org.springframework.data.mongodb.core.query.Criteria
+import org.springframework.data.mongodb.core.query.Query
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.time.temporal.ChronoUnit
+
+class MessageDocumentSpec extends Specification {
+
+    MongoCustomConversions conversions = new MongoCustomConversions([])
+    MongoMappingContext mappingContext = new MongoMappingContext()
+    MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext)
+
+    def setup() {
+        mappingContext.setSimpleTypeHolder(conversions.simpleTypeHolder)
+        mappingContext.afterPropertiesSet()
+        converter.setCustomConversions(conversions)
+        converter.afterPropertiesSet()
+    }
+
+    def "v2 문서는 짧은 키로 저장하고 createdAt과 빈 deletedBy를 저장하지 않는다"() {
+        given:
+        def message = Message.create(MessageId.of(new Snowflake(1L).nextId()), RoomId.of(10L), UserId.of(100L), "안녕하세요")
+        def stored = new Document()
+
+        when:
+        converter.write(MessageDocument.from(message), stored)
+
+        then:
+        stored.keySet() == ["_id", "roomId", "v", "s", "c", "_class"] as Set
+        stored.getInteger("v") == MessageDocument.COMPACT_SCHEMA_VERSION
+        stored.getString("_class") == MessageDocument.TYPE_ALIAS
+        stored.getLong("s") == 100L
+        stored.getString("c") == "안녕하세요"
+    }
+
+    def "v2 문서의 createdAt은 Snowflake ID의 발급 시각으로 복원한다"() {
+        given:
+        def before = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS)
+        def id = new Snowflake(1L).nextId()
+        def message = Message.create(MessageId.of(id), RoomId.of(10L), UserId.of(100L), "내용")
+        message.deleteFor(UserId.of(200L))
+        def stored = new Document()
+        converter.write(MessageDocument.from(message), stored)
+
+        when:
+        def restored = converter.read(MessageDocument, stored).toDomain()
+
+        then:
+        restored.id == MessageId.of(id)
+        restored.senderId == UserId.of(100L)
+        restored.content == "내용"
+        restored.deletedBy == [UserId.of(200L)] as Set
+        !restored.createdAt.isBefore(before)
+        restored.createdAt == LocalDateTime.ofInstant(
+                java.time.Instant.ofEpochMilli(Snowflake.timestampOf(id)), ZoneId.systemDefault())
+    }
+
+    def "v1 문서를 그대로 읽는다"() {
+        given:
+        def createdAt = LocalDateTime.of(2025, 3, 1, 12, 30)
+        def stored = new Document("_id", 7L)
+                .append("roomId", 10L)
+                .append("senderId", 100L)
+                .append("content", "이전 형식")
+                .append("deletedBy", [200L])
+                .append("createdAt", createdAt)
+                .append("_class", MessageDocument.name)
+
+        when:
+        def restored = converter.read(MessageDocument, stored).toDomain()
+
+        then:
+        restored.senderId == UserId.of(100L)
+        restored.content == "이전 형식"
+        restored.deletedBy == [UserId.of(200L)] as Set
+        restored.createdAt == createdAt
+    }
+
+    def "v1 형식 저장은 롤링 배포 중 이전 인스턴스가 읽을 수 있는 키를 사용한다"() {
+        given:
+        def message = Message.create(MessageId.of(7L), RoomId.of(10L), UserId.of(100L), "내용")
+        def stored = new Document()
+
+        when:
+        converter.write(MessageDocument.legacyFrom(message), stored)
+
+        then:
+        stored.keySet().containsAll(["senderId", "content", "deletedBy", "createdAt"])
+        !stored.containsKey("v")
+        !stored.containsKey("s")
+    }
+
+    def "쿼리의 발신자 조건은 v2 키로, 레거시 필드는 v1 키로 매핑된다"() {
+        given:
+        def query = new Query(new Criteria().andOperator(
+                Criteria.where("senderId").ne(100L),
+                Criteria.where("legacySenderId").ne(100L)
+        ))
+
+        when:
+        def mapped = new QueryMapper(converter)
+                .getMappedObject(query.queryObject, mappingContext.getPersistentEntity(MessageDocument))
+
+        then:
+        mapped.toJson().contains('"s"')
+        mapped.toJson().contains('"senderId"')
+    }
+}
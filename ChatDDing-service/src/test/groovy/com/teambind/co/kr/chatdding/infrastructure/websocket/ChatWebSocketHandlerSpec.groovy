@@ -0,0 +1,125 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket
+
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.PresenceRegistry
+import org.springframework.http.HttpHeaders
+import org.springframework.http.HttpStatus
+import org.springframework.http.server.ServerHttpRequest
+import org.springframework.http.server.ServerHttpResponse
+import org.springframework.web.socket.CloseStatus
+import org.springframework.web.socket.WebSocketHandler
+import org.springframework.web.socket.WebSocketSession
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+import java.util.concurrent.Executor
+
+class ChatWebSocketHandlerSpec extends Specification {
+
+    WebSocketSessionRegistry registry = new WebSocketSessionRegistry(16, Duration.ofSeconds(10), { Runnable task -> task.run() } as Executor)
+    PresenceRegistry presenceRegistry = Mock()
+
+    @Subject
+    ChatWebSocketHandler handler = new ChatWebSocketHandler(registry, presenceRegistry)
+
+    def userId = UserId.of(100L)
+
+    def "연결되면 사용자별 연결 저장소에 등록하고 종료되면 제거한다"() {
+        given:
+        WebSocketSession session = Mock()
+        session.getId() >> "s-1"
+        session.getAttributes() >> [(UserIdHandshakeInterceptor.USER_ID_ATTRIBUTE): userId]
+
+        when:
+        handler.afterConnectionEstablished(session)
+
+        then:
+        registry.isConnected(userId)
+        registry.connectionsOf(userId).size() == 1
+
+        when:
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL)
+
+        then:
+        !registry.isConnected(userId)
+    }
+
+    def "한 사용자의 여러 연결 중 하나가 종료되어도 나머지는 유지된다"() {
+        given:
+        WebSocketSession first = Mock()
+        WebSocketSession second = Mock()
+        first.getId() >> "s-1"
+        second.getId() >> "s-2"
+        first.getAttributes() >> [(UserIdHandshakeInterceptor.USER_ID_ATTRIBUTE): userId]
+        second.getAttributes() >> [(UserIdHandshakeInterceptor.USER_ID_ATTRIBUTE): userId]
+        handler.afterConnectionEstablished(first)
+        handler.afterConnectionEstablished(second)
+
+        when:
+        handler.afterConnectionClosed(first, CloseStatus.GOING_AWAY)
+
+        then:
+        registry.connectionsOf(userId)*.session == [second]
+        0 * presenceRegistry.markOffline(_)
+    }
+
+    def "연결 시 Presence를 기록하고 마지막 연결이 종료되면 제거한다"() {
+        given:
+        WebSocketSession session = Mock()
+        session.getId() >> "s-1"
+        session.getAttributes() >> [(UserIdHandshakeInterceptor.USER_ID_ATTRIBUTE): userId]
+
+        when:
+        handler.afterConnectionEstablished(session)
+
+        then:
+        1 * presenceRegistry.markOnline(userId)
+
+        when:
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL)
+
+        then:
+        1 * presenceRegistry.markOffline(userId)
+    }
+
+    def "Handshake 시 X-User-Id 헤더로 사용자를 식별한다"() {
+        given:
+        def interceptor = new UserIdHandshakeInterceptor()
+        ServerHttpRequest request = Mock()
+        ServerHttpResponse response = Mock()
+        def headers = new HttpHeaders()
+        headers.add("X-User-Id", "100")
+        request.getHeaders() >> headers
+        def attributes = [:]
+
+        when:
+        def accepted = interceptor.beforeHandshake(request, response, Mock(WebSocketHandler), attributes)
+
+        then:
+        accepted
+        attributes[UserIdHandshakeInterceptor.USER_ID_ATTRIBUTE] == userId
+    }
+
+    def "Handshake 시 X-User-Id 헤더가 없거나 잘못되면 거부한다"() {
+        given:
+        def interceptor = new UserIdHandshakeInterceptor()
+        ServerHttpRequest request = Mock()
+        ServerHttpResponse response = Mock()
+        def headers = new HttpHeaders()
+        if (header != null) {
+            headers.add("X-User-Id", header)
+        }
+        request.getHeaders() >> headers
+
+        when:
+        def accepted = interceptor.beforeHandshake(request, response, Mock(WebSocketHandler), [:])
+
+        then:
+        !accepted
+        1 * response.setStatusCode(HttpStatus.BAD_REQUEST)
+
+        where:
+        header << [null, "", "abc", "-1"]
+    }
+}
@@ -0,0 +1,179 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket
+
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import org.springframework.web.socket.CloseStatus
+import org.springframework.web.socket.TextMessage
+import org.springframework.web.socket.WebSocketSession
+import org.springframework.web.socket.adapter.NativeWebSocketSession
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+class PushConnectionSpec extends Specification {
+
+    WebSocketSession session = Mock()
+    List<Runnable> scheduled = []
+    Executor executor = { Runnable task -> scheduled << task } as Executor
+    UserId userId = UserId.of(1L)
+    Duration sendTimeLimit = Duration.ofSeconds(10)
+
+    def setup() {
+        session.isOpen() >> true
+        session.getId() >> "session-1"
+    }
+
+    def "offer()는 호출 스레드에서 전송하지 않고 drain 작업을 예약한다"() {
+        given:
+        def connection = new PushConnection(userId, session, 4, sendTimeLimit, executor)
+        def message = new TextMessage("hello")
+
+        when:
+        def accepted = connection.offer(message)
+
+        then:
+        accepted
+        0 * session.sendMessage(_)
+        scheduled.size() == 1
+        connection.pendingCount() == 1
+    }
+
+    def "drain 작업은 연결당 하나만 예약되고 큐의 메시지를 순서대로 전송한다"() {
+        given:
+        def connection = new PushConnection(userId, session, 4, sendTimeLimit, executor)
+        def first = new TextMessage("1")
+        def second = new TextMessage("2")
+
+        when:
+        connection.offer(first)
+        connection.offer(second)
+        scheduled.size() == 1
+        scheduled[0].run()
+
+        then:
+        1 * session.sendMessage(first)
+
+        then:
+        1 * session.sendMessage(second)
+        connection.pendingCount() == 0
+    }
+
+    def "송신 큐가 가득 차면 느린 연결로 보고 종료한다"() {
+        given:
+        def connection = new PushConnection(userId, session, 2, sendTimeLimit, executor)
+
+        when:
+        connection.offer(new TextMessage("1"))
+        connection.offer(new TextMessage("2"))
+        def accepted = connection.offer(new TextMessage("3"))
+
+        then:
+        !accepted
+        1 * session.close(CloseStatus.SESSION_NOT_RELIABLE)
+        connection.pendingCount() == 0
+    }
+
+    def "전송된 메시지는 대기 수에서 빠져 큐 용량을 다시 사용할 수 있다"() {
+        given:
+        def connection = new PushConnection(userId, session, 2, sendTimeLimit, executor)
+
+        when:
+        connection.offer(new TextMessage("1"))
+        connection.offer(new TextMessage("2"))
+        scheduled[0].run()
+        def accepted = [connection.offer(new TextMessage("3")), connection.offer(new TextMessage("4"))]
+
+        then:
+        accepted == [true, true]
+        0 * session.close(_)
+        connection.pendingCount() == 2
+    }
+
+    def "전송 실패 시 연결을 종료한다"() {
+        given:
+        def connection = new PushConnection(userId, session, 4, sendTimeLimit, executor)
+        session.sendMessage(_) >> { throw new IOException("broken pipe") }
+
+        when:
+        connection.offer(new TextMessage("1"))
+        scheduled[0].run()
+
+        then:
+        1 * session.close(CloseStatus.SERVER_ERROR)
+    }
+
+    def "Executor가 작업을 거부하면 연결을 종료한다"() {
+        given:
+        Executor rejecting = { Runnable task -> throw new RejectedExecutionException() } as Executor
+        def connection = new PushConnection(userId, session, 4, sendTimeLimit, rejecting)
+
+        when:
+        connection.offer(new TextMessage("1"))
+
+        then:
+        1 * session.close(CloseStatus.SERVICE_OVERLOAD)
+    }
+
+    def "닫힌 연결에는 적재하지 않는다"() {
+        given:
+        WebSocketSession closed = Mock()
+        closed.isOpen() >> false
+        def connection = new PushConnection(userId, closed, 4, sendTimeLimit, executor)
+
+        expect:
+        !connection.offer(new TextMessage("1"))
+        scheduled.isEmpty()
+    }
+
+    def "전송이 송신 제한 시간을 넘겨 멈추면 다음 적재 시점에 느린 연결로 보고 종료한다"() {
+        given:
+        def connection = new PushConnection(userId, session, 4, Duration.ofMillis(50), executor)
+        def sendStarted = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+        session.sendMessage(_) >> { sendStarted.countDown(); release.await(5, TimeUnit.SECONDS) }
+
+        connection.offer(new TextMessage("1"))
+        def drain = Thread.start { scheduled[0].run() }
+        sendStarted.await(5, TimeUnit.SECONDS)
+        Thread.sleep(100)
+
+        when:
+        def accepted = connection.offer(new TextMessage("2"))
+
+        then:
+        !accepted
+        1 * session.close(CloseStatus.SESSION_NOT_RELIABLE)
+
+        cleanup:
+        release.countDown()
+        drain?.join(5000)
+    }
+
+    def "전송이 없거나 제한 시간 안이면 주기 점검에서 종료하지 않는다"() {
+        given:
+        def connection = new PushConnection(userId, session, 4, sendTimeLimit, executor)
+        connection.offer(new TextMessage("1"))
+        scheduled[0].run()
+
+        expect:
+        !connection.closeIfStalled()
+    }
+
+    def "Tomcat 세션은 블로킹 전송 제한 시간을 송신 제한 시간으로 낮춘다"() {
+        given:
+        NativeWebSocketSession nativeSession = Mock()
+        jakarta.websocket.Session standardSession = Mock()
+        def userProperties = [:]
+        nativeSession.getNativeSession(jakarta.websocket.Session) >> standardSession
+        standardSession.getUserProperties() >> userProperties
+
+        when:
+        new PushConnection(userId, nativeSession, 4, Duration.ofSeconds(3), executor)
+
+        then:
+        userProperties["org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT"] == 3000L
+    }
+}
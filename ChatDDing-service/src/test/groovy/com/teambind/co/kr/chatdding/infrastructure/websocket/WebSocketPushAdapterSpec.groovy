@@ -0,0 +1,98 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.domain.event.MessageSentEvent
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.NodeMessageBus
+import com.teambind.co.kr.chatdding.infrastructure.websocket.cluster.PresenceRegistry
+import org.springframework.web.socket.TextMessage
+import org.springframework.web.socket.WebSocketSession
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+import java.time.LocalDateTime
+import java.util.concurrent.Executor
+
+class WebSocketPushAdapterSpec extends Specification {
+
+    List<Runnable> scheduled = []
+    Executor executor = { Runnable task -> scheduled << task } as Executor
+    WebSocketSessionRegistry registry = new WebSocketSessionRegistry(16, Duration.ofSeconds(10), executor)
+    PresenceRegistry presenceRegistry = Mock()
+    NodeMessageBus nodeMessageBus = Mock()
+    ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+
+    @Subject
+    WebSocketPushAdapter adapter = new WebSocketPushAdapter(registry, presenceRegistry, nodeMessageBus, objectMapper)
+
+    def setup() {
+        presenceRegistry.localNodeId() >> "node-a"
+    }
+
+    def event = new MessageSentEvent("10", "1", 100L, "안녕", "안녕", [200L], LocalDateTime.now())
+
+    def "접속 중인 수신자의 모든 연결에 이벤트 프레임을 전달한다"() {
+        given:
+        WebSocketSession phone = Mock()
+        WebSocketSession desktop = Mock()
+        phone.isOpen() >> true
+        phone.getId() >> "phone"
+        desktop.isOpen() >> true
+        desktop.getId() >> "desktop"
+        registry.register(UserId.of(200L), phone)
+        registry.register(UserId.of(200L), desktop)
+        presenceRegistry.findNodes(_) >> [(UserId.of(200L)): ["node-a"] as Set]
+        def sent = []
+
+        when:
+        adapter.push([UserId.of(100L), UserId.of(200L)], event)
+        scheduled*.run()
+
+        then:
+        1 * phone.sendMessage(_) >> { TextMessage m -> sent << m }
+        1 * desktop.sendMessage(_) >> { TextMessage m -> sent << m }
+        sent.size() == 2
+        def frame = objectMapper.readTree(sent[0].payload)
+        frame.get("type").asText() == "MESSAGE_SENT"
+        frame.get("payload").get("messageId").asText() == "10"
+    }
+
+    def "접속하지 않은 사용자에게는 아무것도 보내지 않는다"() {
+        given:
+        presenceRegistry.findNodes(_) >> [:]
+
+        when:
+        adapter.push([UserId.of(300L)], event)
+
+        then:
+        scheduled.isEmpty()
+        0 * nodeMessageBus.forward(_, _, _)
+        noExceptionThrown()
+    }
+
+    def "다른 노드에 접속한 수신자는 노드당 한 번씩 직렬화된 프레임을 전달한다"() {
+        given:
+        presenceRegistry.findNodes(_) >> [
+                (UserId.of(200L)): ["node-b"] as Set,
+                (UserId.of(300L)): ["node-b", "node-c"] as Set,
+                (UserId.of(400L)): ["node-a"] as Set
+        ]
+        def frames = []
+
+        when:
+        adapter.push([UserId.of(200L), UserId.of(300L), UserId.of(400L)], event)
+
+        then:
+        1 * nodeMessageBus.forward("node-b", { it as Set == [UserId.of(200L), UserId.of(300L)] as Set }, _) >> { String n, Collection ids, String f -> frames << f }
+        1 * nodeMessageBus.forward("node-c", [UserId.of(300L)], _) >> { String n, Collection ids, String f -> frames << f }
+        0 * nodeMessageBus.forward("node-a", _, _)
+        frames.size() == 2
+        frames[0] == frames[1]
+        objectMapper.readTree(frames[0]).get("type").asText() == "MESSAGE_SENT"
+    }
+}
@@ -0,0 +1,149 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket.cluster
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.domain.event.MessageSentEvent
+import com.teambind.co.kr.chatdding.infrastructure.websocket.ChatWebSocketHandler
+import com.teambind.co.kr.chatdding.infrastructure.websocket.UserIdHandshakeInterceptor
+import com.teambind.co.kr.chatdding.infrastructure.websocket.WebSocketPushAdapter
+import com.teambind.co.kr.chatdding.infrastructure.websocket.WebSocketSessionRegistry
+import org.springframework.web.socket.CloseStatus
+import org.springframework.web.socket.TextMessage
+import org.springframework.web.socket.WebSocketSession
+import spock.lang.Specification
+
+import java.time.Duration
+import java.time.LocalDateTime
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+
+/**
+ * 3개 노드를 Redis 대신 인메모리 Presence/Bus로 연결한 다중 인스턴스 Push 검증
+ */
+class MultiNodePushSpec extends Specification {
+
+    ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+    Executor directExecutor = { Runnable task -> task.run() } as Executor
+
+    Map<UserId, Set<String>> presenceStore = new ConcurrentHashMap<>()
+    Map<String, WebSocketSessionRegistry> cluster = [
+            "node-a": new WebSocketSessionRegistry(16, Duration.ofSeconds(10), directExecutor),
+            "node-b": new WebSocketSessionRegistry(16, Duration.ofSeconds(10), directExecutor),
+            "node-c": new WebSocketSessionRegistry(16, Duration.ofSeconds(10), directExecutor)
+    ]
+    InMemoryNodeMessageBus bus = new InMemoryNodeMessageBus(cluster)
+
+    Map<String, ChatWebSocketHandler> handlers = cluster.collectEntries { nodeId, registry ->
+        [(nodeId): new ChatWebSocketHandler(registry, new InMemoryPresenceRegistry(nodeId, presenceStore))]
+    }
+    Map<String, WebSocketPushAdapter> adapters = cluster.collectEntries { nodeId, registry ->
+        [(nodeId): new WebSocketPushAdapter(registry, new InMemoryPresenceRegistry(nodeId, presenceStore), bus, objectMapper)]
+    }
+
+    def event = new MessageSentEvent("10", "1", 100L, "안녕", "안녕", [200L, 300L], LocalDateTime.now())
+
+    def "어느 노드에서 Push하든 다른 노드에 접속한 수신자에게 전달된다"() {
+        given:
+        WebSocketSession desktop = Mock()
+        WebSocketSession phone = Mock()
+        WebSocketSession tablet = Mock()
+        [desktop: desktop, phone: phone, tablet: tablet].each { id, session ->
+            session.getId() >> id
+            session.isOpen() >> true
+        }
+        desktop.getAttributes() >> [(UserIdHandshakeInterceptor.USER_ID_ATTRIBUTE): UserId.of(200L)]
+        phone.getAttributes() >> [(UserIdHandshakeInterceptor.USER_ID_ATTRIBUTE): UserId.of(200L)]
+        tablet.getAttributes() >> [(UserIdHandshakeInterceptor.USER_ID_ATTRIBUTE): UserId.of(300L)]
+        handlers["node-a"].afterConnectionEstablished(desktop)
+        handlers["node-b"].afterConnectionEstablished(phone)
+        handlers["node-c"].afterConnectionEstablished(tablet)
+
+        when:
+        adapters["node-a"].push([UserId.of(100L), UserId.of(200L), UserId.of(300L)], event)
+
+        then:
+        1 * desktop.sendMessage({ TextMessage m -> m.payload.contains('"MESSAGE_SENT"') })
+        1 * phone.sendMessage({ TextMessage m -> m.payload.contains('"MESSAGE_SENT"') })
+        1 * tablet.sendMessage({ TextMessage m -> m.payload.contains('"MESSAGE_SENT"') })
+        bus.forwarded == ["node-b", "node-c"] as Set
+    }
+
+    def "연결이 종료된 노드로는 더 이상 전달하지 않는다"() {
+        given:
+        WebSocketSession tablet = Mock()
+        tablet.getId() >> "tablet"
+        tablet.isOpen() >> true
+        tablet.getAttributes() >> [(UserIdHandshakeInterceptor.USER_ID_ATTRIBUTE): UserId.of(300L)]
+        handlers["node-c"].afterConnectionEstablished(tablet)
+        handlers["node-c"].afterConnectionClosed(tablet, CloseStatus.NORMAL)
+
+        when:
+        adapters["node-a"].push([UserId.of(300L)], event)
+
+        then:
+        0 * tablet.sendMessage(_)
+        bus.forwarded.isEmpty()
+    }
+
+    /**
+     * Redis Sorted Set 대신 공유 Map을 사용하는 Presence
+     */
+    static class InMemoryPresenceRegistry implements PresenceRegistry {
+
+        final String nodeId
+        final Map<UserId, Set<String>> store
+
+        InMemoryPresenceRegistry(String nodeId, Map<UserId, Set<String>> store) {
+            this.nodeId = nodeId
+            this.store = store
+        }
+
+        @Override
+        String localNodeId() {
+            nodeId
+        }
+
+        @Override
+        void markOnline(UserId userId) {
+            store.computeIfAbsent(userId, { ConcurrentHashMap.newKeySet() }).add(nodeId)
+        }
+
+        @Override
+        void markOffline(UserId userId) {
+            store.getOrDefault(userId, [] as Set).remove(nodeId)
+        }
+
+        @Override
+        void refresh(Collection<UserId> userIds) {
+            userIds.each { markOnline(it) }
+        }
+
+        @Override
+        Map<UserId, Set<String>> findNodes(Collection<UserId> userIds) {
+            userIds.findAll { store[it] }.collectEntries { [(it): Set.copyOf(store[it])] }
+        }
+    }
+
+    /**
+     * Redis Pub/Sub 대신 대상 노드의 로컬 저장소로 직접 전달하는 Bus
+     */
+    static class InMemoryNodeMessageBus implements NodeMessageBus {
+
+        final Map<String, WebSocketSessionRegistry> nodes
+        final Set<String> forwarded = ConcurrentHashMap.newKeySet()
+
+        InMemoryNodeMessageBus(Map<String, WebSocketSessionRegistry> nodes) {
+            this.nodes = nodes
+        }
+
+        @Override
+        void forward(String nodeId, Collection<UserId> recipientIds, String frame) {
+            forwarded << nodeId
+            nodes[nodeId].deliver(recipientIds, new TextMessage(frame))
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket.cluster
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import com.teambind.co.kr.chatdding.infrastructure.websocket.WebSocketSessionRegistry
+import org.springframework.data.redis.connection.DefaultMessage
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.web.socket.TextMessage
+import org.springframework.web.socket.WebSocketSession
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+import java.util.concurrent.Executor
+
+class RedisNodeMessageBusSpec extends Specification {
+
+    StringRedisTemplate redisTemplate = Mock()
+    ObjectMapper objectMapper = new ObjectMapper()
+    WebSocketSessionRegistry sessionRegistry = new WebSocketSessionRegistry(16, Duration.ofSeconds(10), { Runnable task -> task.run() } as Executor)
+
+    @Subject
+    RedisNodeMessageBus bus = new RedisNodeMessageBus(redisTemplate, objectMapper, sessionRegistry)
+
+    def "대상 노드 전용 채널로 수신자와 프레임을 발행한다"() {
+        when:
+        bus.forward("node-b", [UserId.of(200L), UserId.of(300L)], '{"type":"MESSAGE_SENT"}')
+
+        then:
+        1 * redisTemplate.convertAndSend("ws:node:node-b", { String payload ->
+            def envelope = objectMapper.readValue(payload, NodeEnvelope)
+            envelope.recipientIds() == [200L, 300L] && envelope.frame() == '{"type":"MESSAGE_SENT"}'
+        })
+    }
+
+    def "발행 실패 시 예외를 전파하지 않는다"() {
+        given:
+        redisTemplate.convertAndSend(_, _) >> { throw new RuntimeException("Redis connection failed") }
+
+        when:
+        bus.forward("node-b", [UserId.of(200L)], "{}")
+
+        then:
+        noExceptionThrown()
+    }
+
+    def "수신한 프레임을 로컬 연결에 그대로 전달한다"() {
+        given:
+        WebSocketSession session = Mock()
+        session.isOpen() >> true
+        session.getId() >> "s-1"
+        sessionRegistry.register(UserId.of(200L), session)
+        def body = objectMapper.writeValueAsBytes(new NodeEnvelope([200L, 999L], '{"type":"MESSAGE_SENT"}'))
+
+        when:
+        bus.onMessage(new DefaultMessage("ws:node:node-b".bytes, body), null)
+
+        then:
+        1 * session.sendMessage(new TextMessage('{"type":"MESSAGE_SENT"}'))
+    }
+}
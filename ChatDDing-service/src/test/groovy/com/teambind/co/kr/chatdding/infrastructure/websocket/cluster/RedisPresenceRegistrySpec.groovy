@@ -0,0 +1,93 @@
+package com.teambind.co.kr.chatdding.infrastructure.websocket.cluster
+
+import com.teambind.co.kr.chatdding.domain.common.UserId
+import org.springframework.data.redis.core.RedisCallback
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ZSetOperations
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+
+class RedisPresenceRegistrySpec extends Specification {
+
+    StringRedisTemplate redisTemplate = Mock()
+    ZSetOperations<String, String> zSetOperations = Mock()
+
+    @Subject
+    RedisPresenceRegistry registry = new RedisPresenceRegistry(redisTemplate, "node-a", Duration.ofSeconds(60))
+
+    def userId = UserId.of(100L)
+
+    def setup() {
+        redisTemplate.opsForZSet() >> zSetOperations
+    }
+
+    def "markOnline - 노드 ID를 현재 시각 score로 기록하고 TTL을 갱신한다"() {
+        when:
+        registry.markOnline(userId)
+
+        then:
+        1 * zSetOperations.add("presence:100", "node-a", _ as Double)
+        1 * redisTemplate.expire("presence:100", Duration.ofSeconds(60))
+    }
+
+    def "markOffline - 현재 노드만 제거한다"() {
+        when:
+        registry.markOffline(userId)
+
+        then:
+        1 * zSetOperations.remove("presence:100", "node-a")
+    }
+
+    def "markOnline - Redis 장애 시 예외를 전파하지 않는다"() {
+        given:
+        zSetOperations.add(_, _, _ as Double) >> { throw new RuntimeException("Redis connection failed") }
+
+        when:
+        registry.markOnline(userId)
+
+        then:
+        noExceptionThrown()
+    }
+
+    def "findNodes - 파이프라인 결과를 사용자별 노드 집합으로 매핑한다"() {
+        given:
+        redisTemplate.executePipelined(_ as RedisCallback) >> [
+                ["node-a", "node-b"] as Set,
+                [] as Set,
+                ["node-c"] as Set
+        ]
+
+        when:
+        def result = registry.findNodes([UserId.of(1L), UserId.of(2L), UserId.of(3L)])
+
+        then:
+        result == [
+                (UserId.of(1L)): ["node-a", "node-b"] as Set,
+                (UserId.of(3L)): ["node-c"] as Set
+        ]
+    }
+
+    def "findNodes - Redis 장애 시 빈 Map 반환 (Graceful Degradation)"() {
+        given:
+        redisTemplate.executePipelined(_ as RedisCallback) >> { throw new RuntimeException("Redis connection failed") }
+
+        when:
+        def result = registry.findNodes([userId])
+
+        then:
+        result.isEmpty()
+        noExceptionThrown()
+    }
+
+    def "findNodes/refresh - 대상이 없으면 Redis를 호출하지 않는다"() {
+        when:
+        def result = registry.findNodes([])
+        registry.refresh([])
+
+        then:
+        result.isEmpty()
+        0 * redisTemplate.executePipelined(_ as RedisCallback)
+    }
+}